@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
+
+/**
+ * Replenishes the upstream of an operator with inner sequences as their items get consumed,
+ * possibly from several threads at once.
+ * <p>
+ * Consumed amounts are accumulated and requested once they reach the limit, with the calls
+ * to {@link Flow.Subscription#request(long)} serialized as required by the specification.
+ */
+final class BatchingRequester extends AtomicInteger implements LongConsumer {
+
+    private final AtomicReference<Flow.Subscription> upstream;
+
+    private final long limit;
+
+    private final AtomicLong consumed;
+
+    BatchingRequester(AtomicReference<Flow.Subscription> upstream, long prefetch) {
+        this.upstream = upstream;
+        this.limit = Math.max(1L, prefetch - (prefetch >> 2));
+        this.consumed = new AtomicLong();
+    }
+
+    @Override
+    public void accept(long n) {
+        consumed.addAndGet(n);
+        if (getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            long c = consumed.get();
+            if (c >= limit) {
+                consumed.addAndGet(-c);
+                upstream.get().request(c);
+            }
+            missed = addAndGet(-missed);
+        } while (missed != 0);
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+/**
+ * A {@link Multi} of the upstream items sharing the same key, as emitted by {@link Multi#groupBy(java.util.function.Function)}.
+ *
+ * @param <K> type of the key
+ * @param <T> type of the items
+ */
+public interface GroupedMulti<K, T> extends Multi<T> {
+
+    /**
+     * The key shared by all items of this group.
+     *
+     * @return the key
+     */
+    K key();
+}
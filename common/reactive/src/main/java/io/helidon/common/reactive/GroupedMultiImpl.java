@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Inner sequence of the {@link MultiGroupBy} and {@link MultiWindow} operators.
+ * <p>
+ * Every item handed to {@link #emit(Object)} is reported to the {@code consumed} callback exactly once:
+ * when it is delivered to the subscriber of this group, or when it is dropped because the subscriber
+ * cancelled. The parent uses this to replenish the upstream.
+ * @param <K> the key type
+ * @param <T> the item type
+ */
+final class GroupedMultiImpl<K, T> implements GroupedMulti<K, T> {
+
+    private final K key;
+
+    private final BufferedEmittingPublisher<T> emitter;
+
+    private final LongConsumer consumed;
+
+    // items emitted and not yet consumed, Long.MIN_VALUE based once cancelled
+    private final AtomicLong pending;
+
+    private final AtomicBoolean released;
+
+    GroupedMultiImpl(K key, LongConsumer consumed, Consumer<GroupedMultiImpl<K, T>> onCancel) {
+        this.key = key;
+        this.consumed = consumed;
+        this.emitter = BufferedEmittingPublisher.create();
+        this.pending = new AtomicLong();
+        this.released = new AtomicBoolean();
+
+        emitter.onEmit(item -> {
+            if (pending.decrementAndGet() >= 0L) {
+                consumed.accept(1L);
+            }
+        });
+        emitter.onAbort(throwable -> {
+            long p = pending.getAndSet(Long.MIN_VALUE);
+            if (p >= 0L) {
+                if (p > 0L) {
+                    consumed.accept(p);
+                }
+                if (release()) {
+                    onCancel.accept(this);
+                }
+            }
+        });
+    }
+
+    @Override
+    public K key() {
+        return key;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        emitter.subscribe(subscriber);
+    }
+
+    void emit(T item) {
+        if (pending.incrementAndGet() < 0L) {
+            // the subscriber cancelled, nobody will consume the item
+            consumed.accept(1L);
+        } else {
+            emitter.emit(item);
+        }
+    }
+
+    void complete() {
+        emitter.complete();
+    }
+
+    void fail(Throwable throwable) {
+        emitter.fail(throwable);
+    }
+
+    /**
+     * Mark this group as no longer receiving items from the parent.
+     *
+     * @return {@code true} if this call released the group, {@code false} if it was released already
+     */
+    boolean release() {
+        return released.compareAndSet(false, true);
+    }
+
+    @Override
+    public String toString() {
+        return "GroupedMulti{key=" + key + '}';
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Unbounded, lock-free queue for any number of producer threads and one consumer thread at a time.
+ * <p>
+ * Producers append a node with a single atomic swap of the tail, without the compare-and-set retry
+ * loop of {@link java.util.concurrent.ConcurrentLinkedQueue}. A producer that swapped the tail but did
+ * not link the node yet makes the consumer spin briefly, so the queue never reports an item as missing
+ * once {@link #offer(Object)} returned.
+ *
+ * @param <T> the element type
+ */
+final class MpscLinkedQueue<T> implements SimpleQueue<T> {
+
+    private final AtomicReference<Node<T>> producerNode;
+
+    private Node<T> consumerNode;
+
+    MpscLinkedQueue() {
+        Node<T> stub = new Node<>(null);
+        this.consumerNode = stub;
+        this.producerNode = new AtomicReference<>(stub);
+    }
+
+    @Override
+    public boolean offer(T item) {
+        Node<T> node = new Node<>(item);
+        Node<T> previous = producerNode.getAndSet(node);
+        previous.lazySet(node);
+        return true;
+    }
+
+    @Override
+    public T poll() {
+        Node<T> next = nextNode();
+        if (next == null) {
+            return null;
+        }
+        T item = next.value;
+        next.value = null;
+        consumerNode = next;
+        return item;
+    }
+
+    @Override
+    public T peek() {
+        Node<T> next = nextNode();
+        return next == null ? null : next.value;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return consumerNode == producerNode.get();
+    }
+
+    private Node<T> nextNode() {
+        Node<T> current = consumerNode;
+        Node<T> next = current.get();
+        if (next == null && current != producerNode.get()) {
+            // a producer is between swapping the tail and linking its node
+            do {
+                Thread.onSpinWait();
+                next = current.get();
+            } while (next == null);
+        }
+        return next;
+    }
+
+    private static final class Node<T> extends AtomicReference<Node<T>> {
+
+        private T value;
+
+        private Node(T value) {
+            this.value = value;
+        }
+    }
+}
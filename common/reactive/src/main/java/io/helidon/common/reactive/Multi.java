@@ -480,6 +480,45 @@ public interface Multi<T> extends Subscribable<T> {
     // Instance Operators
     // --------------------------------------------------------------------------------------------------------
 
+    /**
+     * Collect the items into lists of the given size, the last list may be shorter.
+     * <p>
+     * Each list requested by the downstream requests {@code size} items from the upstream.
+     *
+     * @param size the number of items in a list
+     * @return Multi
+     * @throws IllegalArgumentException if {@code size} is not positive
+     */
+    default Multi<List<T>> buffer(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size > 0 required");
+        }
+        return new MultiBuffer<>(this, size);
+    }
+
+    /**
+     * Collect the items into lists of the given size, or shorter lists if the time since the first
+     * item of a list elapses before it fills up.
+     * <p>
+     * At most {@code size} items are requested from the upstream and not yet emitted at any time.
+     *
+     * @param size     the maximum number of items in a list
+     * @param timeout  the maximum time to wait for a list to fill up, measured from its first item
+     * @param unit     the time unit
+     * @param executor the executor to use for measuring the timeout
+     * @return Multi
+     * @throws NullPointerException     if {@code unit} or {@code executor} is {@code null}
+     * @throws IllegalArgumentException if {@code size} is not positive
+     */
+    default Multi<List<T>> bufferTimeout(int size, long timeout, TimeUnit unit, ScheduledExecutorService executor) {
+        Objects.requireNonNull(unit, "unit is null");
+        Objects.requireNonNull(executor, "executor is null");
+        if (size <= 0) {
+            throw new IllegalArgumentException("size > 0 required");
+        }
+        return new MultiBufferTimeout<>(this, size, timeout, unit, executor);
+    }
+
     /**
      * Collect the items of this {@link Multi} instance into a {@link Single}.
      *
@@ -701,6 +740,44 @@ public interface Multi<T> extends Subscribable<T> {
         );
     }
 
+    /**
+     * Split the items into groups of items sharing the same key, using a prefetch of 32 items.
+     *
+     * @param keyMapper function returning the key of an item
+     * @param <K>       key type
+     * @return Multi of groups
+     * @throws NullPointerException if {@code keyMapper} is {@code null}
+     * @see #groupBy(Function, int)
+     */
+    default <K> Multi<GroupedMulti<K, T>> groupBy(Function<? super T, ? extends K> keyMapper) {
+        return groupBy(keyMapper, 32);
+    }
+
+    /**
+     * Split the items into groups of items sharing the same key.
+     * <p>
+     * A group is emitted when the first item with its key arrives. The upstream is replenished as
+     * the items are consumed by the subscribers of the groups, so every group has to be consumed or
+     * cancelled; a group cancelled by its subscriber is created anew if its key arrives again.
+     * Once the downstream cancels, no new groups are created and the upstream is cancelled when
+     * all the emitted groups are cancelled as well.
+     *
+     * @param keyMapper function returning the key of an item
+     * @param prefetch  the number of items to request from the upstream upfront, then 75% of this value
+     *                  as items are consumed
+     * @param <K>       key type
+     * @return Multi of groups
+     * @throws NullPointerException     if {@code keyMapper} is {@code null}
+     * @throws IllegalArgumentException if {@code prefetch} is not positive
+     */
+    default <K> Multi<GroupedMulti<K, T>> groupBy(Function<? super T, ? extends K> keyMapper, int prefetch) {
+        Objects.requireNonNull(keyMapper, "keyMapper is null");
+        if (prefetch <= 0) {
+            throw new IllegalArgumentException("prefetch > 0 required");
+        }
+        return new MultiGroupBy<>(this, keyMapper, prefetch);
+    }
+
     /**
      * Limit stream to allow only specified number of items to pass.
      *
@@ -753,6 +830,47 @@ public interface Multi<T> extends Subscribable<T> {
         return new MultiObserveOn<>(this, executor, bufferSize, delayError);
     }
 
+    /**
+     * Split this {@link Multi} into parallel rails running the stage operators on the given executor,
+     * using a prefetch of 32 items per rail.
+     *
+     * @param parallelism the number of rails
+     * @param executor    the executor to run the rails on
+     * @return ParallelMulti
+     * @throws NullPointerException     if {@code executor} is {@code null}
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     * @see #parallel(int, Executor, int)
+     */
+    default ParallelMulti<T> parallel(int parallelism, Executor executor) {
+        return parallel(parallelism, executor, 32);
+    }
+
+    /**
+     * Split this {@link Multi} into parallel rails running the stage operators on the given executor.
+     * <p>
+     * Useful for CPU-bound transformations: each rail processes one item at a time, so up to
+     * {@code parallelism} items are processed concurrently. Merge the rails back into a {@link Multi}
+     * with {@link ParallelMulti#sequential()} or, to keep the upstream order, {@link ParallelMulti#ordered()}.
+     *
+     * @param parallelism the number of rails
+     * @param executor    the executor to run the rails on
+     * @param prefetch    the number of items to request per rail upfront, then 75% of all the rails'
+     *                    items as they are emitted downstream
+     * @return ParallelMulti
+     * @throws NullPointerException     if {@code executor} is {@code null}
+     * @throws IllegalArgumentException if {@code parallelism} or {@code prefetch} is not positive
+     */
+    default ParallelMulti<T> parallel(int parallelism, Executor executor, int prefetch) {
+        Objects.requireNonNull(executor, "executor is null");
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism > 0 required");
+        }
+        if (prefetch <= 0) {
+            throw new IllegalArgumentException("prefetch > 0 required");
+        }
+        return ParallelMultiImpl.create(this, parallelism, executor, prefetch);
+    }
+
     /**
      * Executes given {@link java.lang.Runnable} when a cancel signal is received.
      *
@@ -1011,6 +1129,24 @@ public interface Multi<T> extends Subscribable<T> {
         return new MultiRetry<>(this, whenFunction);
     }
 
+    /**
+     * Periodically emit the latest item received since the previous period, if any.
+     * <p>
+     * The upstream is consumed in an unbounded manner. If the downstream has no demand for a sample,
+     * it is replaced by the next one. The latest item is emitted when the upstream completes.
+     *
+     * @param period   the sampling period
+     * @param unit     the time unit
+     * @param executor the executor to use for sampling
+     * @return Multi
+     * @throws NullPointerException if {@code unit} or {@code executor} is {@code null}
+     */
+    default Multi<T> sample(long period, TimeUnit unit, ScheduledExecutorService executor) {
+        Objects.requireNonNull(unit, "unit is null");
+        Objects.requireNonNull(executor, "executor is null");
+        return new MultiSample<>(this, period, unit, executor);
+    }
+
     /**
      * Skip first n items, all the others are emitted.
      *
@@ -1089,6 +1225,23 @@ public interface Multi<T> extends Subscribable<T> {
         return new MultiTimeout<>(this, timeout, unit, executor, fallback);
     }
 
+    /**
+     * Split the items into consecutive windows of the given size, the last window may be shorter.
+     * <p>
+     * The upstream is replenished as the items are consumed by the subscribers of the windows,
+     * so every window has to be consumed or cancelled.
+     *
+     * @param size the number of items in a window
+     * @return Multi of windows
+     * @throws IllegalArgumentException if {@code size} is not positive
+     */
+    default Multi<Multi<T>> window(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size > 0 required");
+        }
+        return new MultiWindow<>(this, size, 32);
+    }
+
     /**
      * Apply the given {@code converter} function to the current {@code Multi} instance
      * and return the value returned by this function.
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+/**
+ * Collects upstream items into lists of the given size.
+ * @param <T> the upstream item type
+ */
+final class MultiBuffer<T> implements Multi<List<T>> {
+
+    private final Multi<T> source;
+
+    private final int size;
+
+    MultiBuffer(Multi<T> source, int size) {
+        this.source = source;
+        this.size = size;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super List<T>> subscriber) {
+        source.subscribe(new BufferSubscriber<>(subscriber, size));
+    }
+
+    static final class BufferSubscriber<T> implements Flow.Subscriber<T>, Flow.Subscription {
+
+        private final Flow.Subscriber<? super List<T>> downstream;
+
+        private final int size;
+
+        private Flow.Subscription upstream;
+
+        private List<T> buffer;
+
+        BufferSubscriber(Flow.Subscriber<? super List<T>> downstream, int size) {
+            this.downstream = downstream;
+            this.size = size;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            SubscriptionHelper.validate(upstream, subscription);
+            upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (upstream == SubscriptionHelper.CANCELED) {
+                return;
+            }
+            List<T> b = buffer;
+            if (b == null) {
+                b = new ArrayList<>(size);
+                buffer = b;
+            }
+            b.add(item);
+            if (b.size() == size) {
+                buffer = null;
+                downstream.onNext(b);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (upstream != SubscriptionHelper.CANCELED) {
+                upstream = SubscriptionHelper.CANCELED;
+                buffer = null;
+                downstream.onError(throwable);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (upstream != SubscriptionHelper.CANCELED) {
+                upstream = SubscriptionHelper.CANCELED;
+                List<T> b = buffer;
+                buffer = null;
+                // the last buffer is shorter, there is always demand for it
+                if (b != null) {
+                    downstream.onNext(b);
+                }
+                downstream.onComplete();
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            // each list needs size items, saturating at unbounded; upstream reports non-positive requests
+            long items = n <= 0L ? n : (n > Long.MAX_VALUE / size ? Long.MAX_VALUE : n * size);
+            upstream.request(items);
+        }
+
+        @Override
+        public void cancel() {
+            upstream.cancel();
+            upstream = SubscriptionHelper.CANCELED;
+        }
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Collects upstream items into lists of the given size, emitting a shorter list if the
+ * time since the first item of the list elapses before it fills up.
+ * <p>
+ * At most {@code size} items are requested from the upstream and not yet emitted downstream,
+ * so lists closed by the timeout while the downstream has no demand wait for it without
+ * unbounded buffering.
+ * @param <T> the upstream item type
+ */
+final class MultiBufferTimeout<T> implements Multi<List<T>> {
+
+    private final Multi<T> source;
+
+    private final int size;
+
+    private final long timeout;
+
+    private final TimeUnit unit;
+
+    private final ScheduledExecutorService executor;
+
+    MultiBufferTimeout(Multi<T> source, int size, long timeout, TimeUnit unit, ScheduledExecutorService executor) {
+        this.source = source;
+        this.size = size;
+        this.timeout = timeout;
+        this.unit = unit;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super List<T>> subscriber) {
+        source.subscribe(new BufferTimeoutSubscriber<>(subscriber, size, timeout, unit, executor));
+    }
+
+    static final class BufferTimeoutSubscriber<T> extends AtomicInteger
+    implements Flow.Subscriber<T>, Flow.Subscription {
+
+        private final Flow.Subscriber<? super List<T>> downstream;
+
+        private final int size;
+
+        private final long timeout;
+
+        private final TimeUnit unit;
+
+        private final ScheduledExecutorService executor;
+
+        private final AtomicLong requested;
+
+        private final AtomicReference<Future<?>> timer;
+
+        private final ConcurrentLinkedQueue<List<T>> ready;
+
+        private final ReentrantLock lock;
+
+        // guarded by lock
+        private List<T> buffer;
+        private long bufferIndex;
+
+        private Flow.Subscription upstream;
+
+        private Throwable error;
+        private volatile boolean done;
+
+        private volatile boolean canceled;
+
+        private boolean started;
+
+        private long emitted;
+
+        BufferTimeoutSubscriber(Flow.Subscriber<? super List<T>> downstream, int size,
+                                long timeout, TimeUnit unit, ScheduledExecutorService executor) {
+            this.downstream = downstream;
+            this.size = size;
+            this.timeout = timeout;
+            this.unit = unit;
+            this.executor = executor;
+            this.requested = new AtomicLong();
+            this.timer = new AtomicReference<>();
+            this.ready = new ConcurrentLinkedQueue<>();
+            this.lock = new ReentrantLock();
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            SubscriptionHelper.validate(upstream, subscription);
+            upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            boolean full = false;
+            lock.lock();
+            try {
+                List<T> b = buffer;
+                if (b == null) {
+                    b = new ArrayList<>(size);
+                    buffer = b;
+                    long index = ++bufferIndex;
+                    setTimer(executor.schedule(new TimeoutTask(this, index), timeout, unit));
+                }
+                b.add(item);
+                if (b.size() == size) {
+                    buffer = null;
+                    ready.offer(b);
+                    full = true;
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (full) {
+                cancelTimer();
+                drain();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            TerminatedFuture.cancel(timer);
+            lock.lock();
+            try {
+                buffer = null;
+            } finally {
+                lock.unlock();
+            }
+            error = throwable;
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            TerminatedFuture.cancel(timer);
+            lock.lock();
+            try {
+                List<T> b = buffer;
+                if (b != null) {
+                    buffer = null;
+                    ready.offer(b);
+                }
+            } finally {
+                lock.unlock();
+            }
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0L) {
+                upstream.cancel();
+                onError(new IllegalArgumentException("Rule §3.9 violated: non-positive requests are forbidden"));
+            } else {
+                SubscriptionHelper.addRequest(requested, n);
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            canceled = true;
+            upstream.cancel();
+            TerminatedFuture.cancel(timer);
+            drain();
+        }
+
+        void timeout(long index) {
+            lock.lock();
+            try {
+                List<T> b = buffer;
+                if (index != bufferIndex || b == null) {
+                    return;
+                }
+                buffer = null;
+                ready.offer(b);
+            } finally {
+                lock.unlock();
+            }
+            drain();
+        }
+
+        void setTimer(Future<?> future) {
+            for (;;) {
+                Future<?> current = timer.get();
+                if (current == TerminatedFuture.CANCELED) {
+                    future.cancel(false);
+                    return;
+                }
+                if (timer.compareAndSet(current, future)) {
+                    return;
+                }
+            }
+        }
+
+        void cancelTimer() {
+            Future<?> current = timer.get();
+            if (current != null && current != TerminatedFuture.CANCELED && timer.compareAndSet(current, null)) {
+                current.cancel(false);
+            }
+        }
+
+        void drain() {
+            if (getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            Flow.Subscriber<? super List<T>> downstream = this.downstream;
+            long emitted = this.emitted;
+
+            for (;;) {
+                if (canceled) {
+                    ready.clear();
+                } else {
+                    long r = requested.get();
+                    if (!started && r != 0L) {
+                        // keep at most size items requested but not emitted
+                        started = true;
+                        upstream.request(size);
+                    }
+
+                    boolean d = done;
+                    Throwable ex = error;
+                    if (d && ex != null) {
+                        canceled = true;
+                        ready.clear();
+                        downstream.onError(ex);
+                        continue;
+                    }
+
+                    long consumed = 0L;
+                    while (r != emitted) {
+                        List<T> b = ready.poll();
+                        if (b == null) {
+                            break;
+                        }
+                        downstream.onNext(b);
+                        emitted++;
+                        consumed += b.size();
+                        if (canceled) {
+                            break;
+                        }
+                    }
+                    if (canceled) {
+                        continue;
+                    }
+
+                    if (d && ready.isEmpty()) {
+                        canceled = true;
+                        downstream.onComplete();
+                        continue;
+                    }
+
+                    if (consumed != 0L && !d) {
+                        upstream.request(consumed);
+                    }
+                }
+
+                this.emitted = emitted;
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        static final class TimeoutTask implements Callable<Void> {
+
+            private final BufferTimeoutSubscriber<?> parent;
+
+            private final long index;
+
+            TimeoutTask(BufferTimeoutSubscriber<?> parent, long index) {
+                this.parent = parent;
+                this.index = index;
+            }
+
+            @Override
+            public Void call() {
+                parent.timeout(index);
+                return null;
+            }
+        }
+    }
+}
@@ -16,8 +16,10 @@
 
 package io.helidon.common.reactive;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.Flow;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 final class MultiFilterPublisher<T> implements Multi<T> {
@@ -36,6 +38,23 @@ final class MultiFilterPublisher<T> implements Multi<T> {
         source.subscribe(new FilterSubscriber<>(subscriber, predicate));
     }
 
+    // consecutive predicates are tested within a single subscriber instead of a chain of them
+    @Override
+    public Multi<T> filter(Predicate<? super T> nextPredicate) {
+        Objects.requireNonNull(nextPredicate, "predicate is null");
+        Predicate<? super T> predicate = this.predicate;
+        return new MultiFilterPublisher<>(source, item -> predicate.test(item) && nextPredicate.test(item));
+    }
+
+    @Override
+    public <U> Multi<U> flatMapIterable(Function<? super T, ? extends Iterable<? extends U>> iterableMapper, int prefetch) {
+        Objects.requireNonNull(iterableMapper, "iterableMapper is null");
+        Predicate<? super T> predicate = this.predicate;
+        return new MultiFlatMapIterable<>(source,
+                                          item -> predicate.test(item) ? iterableMapper.apply(item) : List.of(),
+                                          prefetch);
+    }
+
     static final class FilterSubscriber<T> implements Flow.Subscriber<T>, Flow.Subscription {
 
         private final Flow.Subscriber<? super T> downstream;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,7 +21,6 @@ import java.util.Objects;
 import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
 
 /**
@@ -62,11 +61,7 @@ final class MultiFlatMapIterable<T, R> implements Multi<R> {
 
         private final AtomicLong requested;
 
-        private final AtomicReferenceArray<T> queue;
-
-        private final AtomicLong producerIndex;
-
-        private final AtomicLong consumerIndex;
+        private final SpscArrayQueue<T> queue;
 
         private Flow.Subscription upstream;
 
@@ -88,13 +83,7 @@ final class MultiFlatMapIterable<T, R> implements Multi<R> {
             this.mapper = mapper;
             this.prefetch = prefetch;
             this.requested = new AtomicLong();
-            this.queue = new AtomicReferenceArray<>(roundToPowerOfTwo(prefetch));
-            this.producerIndex = new AtomicLong();
-            this.consumerIndex = new AtomicLong();
-        }
-
-        static int roundToPowerOfTwo(final int value) {
-            return 1 << (32 - Integer.numberOfLeadingZeros(value - 1));
+            this.queue = new SpscArrayQueue<>(prefetch);
         }
 
         @Override
@@ -107,12 +96,23 @@ final class MultiFlatMapIterable<T, R> implements Multi<R> {
 
         @Override
         public void onNext(T item) {
-            offer(item);
+            if (upstreamDone) {
+                return;
+            }
+            if (!offer(item)) {
+                // Rule §1.1 violated, the item is not dropped silently, the sequence fails instead
+                upstream.cancel();
+                onError(new IllegalStateException("Queue is full: missing backpressure"));
+                return;
+            }
             drain();
         }
 
         @Override
         public void onError(Throwable throwable) {
+            if (upstreamDone) {
+                return;
+            }
             error = throwable;
             upstreamDone = true;
             upstream = SubscriptionHelper.CANCELED;
@@ -277,48 +277,20 @@ final class MultiFlatMapIterable<T, R> implements Multi<R> {
             }
         }
 
-        void offer(T item) {
-            AtomicReferenceArray<T> queue = this.queue;
-            AtomicLong producerIndex = this.producerIndex;
-
-            long pi = producerIndex.get();
-            int mask = queue.length() - 1;
-            int offset = (int) pi & mask;
-
-            queue.lazySet(offset, item);
-            producerIndex.lazySet(pi + 1);
+        boolean offer(T item) {
+            return queue.offer(item);
         }
 
         T poll() {
-            AtomicReferenceArray<T> queue = this.queue;
-            AtomicLong consumerIndex = this.consumerIndex;
-
-            long ci = consumerIndex.get();
-            int mask = queue.length() - 1;
-            int offset = (int) ci & mask;
-
-            T item = queue.get(offset);
-            if (item == null) {
-                return null;
-            }
-            queue.lazySet(offset, null);
-            consumerIndex.lazySet(ci + 1);
-            return item;
+            return queue.poll();
         }
 
         boolean isEmpty() {
-            AtomicLong producerIndex = this.producerIndex;
-            AtomicLong consumerIndex = this.consumerIndex;
-
-            return producerIndex.get() == consumerIndex.get();
+            return queue.isEmpty();
         }
 
         void clear() {
-            for (;;) {
-                if (poll() == null) {
-                    break;
-                }
-            }
+            queue.clear();
         }
     }
 }
@@ -16,9 +16,7 @@
 package io.helidon.common.reactive;
 
 import java.util.Objects;
-import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -84,7 +82,7 @@ final class MultiFlatMapPublisher<T, R> implements Multi<R> {
 
         private final ConcurrentMap<InnerSubscriber<R>, Object> subscribers;
 
-        private final AtomicReference<Queue<InnerSubscriber<R>>> queue;
+        private final AtomicReference<MpscLinkedQueue<InnerSubscriber<R>>> queue;
 
         private final AtomicLong requested;
 
@@ -201,7 +199,7 @@ final class MultiFlatMapPublisher<T, R> implements Multi<R> {
                 long e = emitted;
                 // is the downstream ready to receive an item
                 if (r != e) {
-                    Queue<InnerSubscriber<R>> q = queue.get();
+                    MpscLinkedQueue<InnerSubscriber<R>> q = queue.get();
                     // are there prior items queued up?
                     if (q == null || q.isEmpty()) {
                         emitted = e + 1;
@@ -254,12 +252,12 @@ final class MultiFlatMapPublisher<T, R> implements Multi<R> {
             sender.setDone();
             if (get() == 0 && compareAndSet(0, 1)) {
 
-                Queue<R> innerQueue = sender.getQueue();
+                SimpleQueue<R> innerQueue = sender.getQueue();
                 if (innerQueue == null || innerQueue.isEmpty()) {
                     subscribers.remove(sender);
 
                     boolean done = upstreamDone;
-                    Queue<InnerSubscriber<R>> mainQueue = queue.get();
+                    MpscLinkedQueue<InnerSubscriber<R>> mainQueue = queue.get();
                     boolean mainQueueEmpty = mainQueue == null || mainQueue.isEmpty();
                     boolean noMoreSubscribers = subscribers.isEmpty();
 
@@ -291,10 +289,10 @@ final class MultiFlatMapPublisher<T, R> implements Multi<R> {
             drainLoop();
         }
 
-        Queue<InnerSubscriber<R>> getOrCreateQueue() {
-            Queue<InnerSubscriber<R>> q = queue.get();
+        MpscLinkedQueue<InnerSubscriber<R>> getOrCreateQueue() {
+            MpscLinkedQueue<InnerSubscriber<R>> q = queue.get();
             if (q == null) {
-                q = new ConcurrentLinkedQueue<>();
+                q = new MpscLinkedQueue<>();
                 if (!queue.compareAndSet(null, q)) {
                     q = queue.get();
                 }
@@ -337,7 +335,7 @@ final class MultiFlatMapPublisher<T, R> implements Multi<R> {
             long e = emitted;
 
             Flow.Subscriber<? super R> downstream = this.downstream;
-            AtomicReference<Queue<InnerSubscriber<R>>> queue = this.queue;
+            AtomicReference<MpscLinkedQueue<InnerSubscriber<R>>> queue = this.queue;
             ConcurrentMap<?, ?> subscribers = this.subscribers;
 
             for (;;) {
@@ -357,7 +355,7 @@ final class MultiFlatMapPublisher<T, R> implements Multi<R> {
 
                     boolean done = upstreamDone;
                     boolean noActiveInnerSubscribers = subscribers.isEmpty();
-                    Queue<InnerSubscriber<R>> q = queue.get();
+                    MpscLinkedQueue<InnerSubscriber<R>> q = queue.get();
                     boolean noQueuedItems = q == null || q.isEmpty();
 
                     if (done && noActiveInnerSubscribers && noQueuedItems) {
@@ -375,7 +373,7 @@ final class MultiFlatMapPublisher<T, R> implements Multi<R> {
                         InnerSubscriber<R> inner = q.peek();
 
                         boolean innerDone = inner.isDone();
-                        Queue<R> innerQueue = inner.getQueue();
+                        SimpleQueue<R> innerQueue = inner.getQueue();
                         boolean innerEmpty = innerQueue == null || innerQueue.isEmpty();
 
                         if (innerDone && innerEmpty) {
@@ -416,6 +414,8 @@ final class MultiFlatMapPublisher<T, R> implements Multi<R> {
                 extends AtomicReference<Flow.Subscription>
                 implements Flow.Subscriber<R>, Flow.Subscription {
 
+            private static final long MAX_ARRAY_PREFETCH = 1 << 16;
+
             private final FlatMapSubscriber<?, R> parent;
 
             private final long prefetch;
@@ -426,7 +426,10 @@ final class MultiFlatMapPublisher<T, R> implements Multi<R> {
 
             private volatile boolean done;
 
-            private volatile Queue<R> queue;
+            private volatile SimpleQueue<R> queue;
+
+            // the inner publisher emitted more than requested, its later signals are ignored
+            private boolean overflow;
 
             InnerSubscriber(FlatMapSubscriber<?, R> parent, long prefetch) {
                 this.parent = parent;
@@ -443,17 +446,31 @@ final class MultiFlatMapPublisher<T, R> implements Multi<R> {
 
             @Override
             public void onNext(R item) {
+                if (overflow) {
+                    return;
+                }
                 parent.innerNext(item, this);
+                if (overflow) {
+                    cancel();
+                    parent.innerError(new IllegalStateException("Inner publisher emitted more items than requested,"
+                                                                        + " missing backpressure"), this);
+                }
             }
 
             @Override
             public void onError(Throwable throwable) {
+                if (overflow) {
+                    return;
+                }
                 lazySet(this);
                 parent.innerError(throwable, this);
             }
 
             @Override
             public void onComplete() {
+                if (overflow) {
+                    return;
+                }
                 lazySet(this);
                 parent.innerComplete(this);
             }
@@ -481,17 +498,23 @@ final class MultiFlatMapPublisher<T, R> implements Multi<R> {
                 }
             }
 
-            public Queue<R> getQueue() {
+            public SimpleQueue<R> getQueue() {
                 return queue;
             }
 
             public void enqueue(R item) {
-                Queue<R> q = queue;
+                SimpleQueue<R> q = queue;
                 if (q == null) {
-                    q = new ConcurrentLinkedQueue<>();
+                    // upstream never has more than prefetch items outstanding
+                    q = prefetch <= MAX_ARRAY_PREFETCH
+                            ? new SpscArrayQueue<>((int) prefetch)
+                            : new MpscLinkedQueue<>();
                     queue = q;
                 }
-                q.offer(item);
+                if (!q.offer(item)) {
+                    // Rule §1.1 violated, the item is not dropped silently, onNext fails the flatMap
+                    overflow = true;
+                }
             }
 
             public void setDone() {
@@ -505,10 +528,10 @@ final class MultiFlatMapPublisher<T, R> implements Multi<R> {
             @Override
             public String toString() {
                 boolean d = done;
-                Queue<R> q = queue;
+                SimpleQueue<R> q = queue;
                 return "InnerSubscriber{"
                         + "done=" + d
-                        + ", queue=" + (q != null ? q.size() : "null")
+                        + ", queue=" + (q != null ? (q.isEmpty() ? "empty" : "non-empty") : "null")
                         + '}';
             }
         }
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Splits the upstream into inner sequences of items sharing the same key.
+ * <p>
+ * Items are requested from the upstream as they are consumed by the subscribers of the groups,
+ * so every emitted group has to be consumed or cancelled for the upstream to make progress.
+ * @param <T> the upstream item type
+ * @param <K> the key type
+ */
+final class MultiGroupBy<T, K> implements Multi<GroupedMulti<K, T>> {
+
+    private final Multi<T> source;
+
+    private final Function<? super T, ? extends K> keyMapper;
+
+    private final int prefetch;
+
+    MultiGroupBy(Multi<T> source, Function<? super T, ? extends K> keyMapper, int prefetch) {
+        this.source = source;
+        this.keyMapper = keyMapper;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super GroupedMulti<K, T>> subscriber) {
+        GroupBySubscriber<T, K> parent = new GroupBySubscriber<>(keyMapper, prefetch);
+        parent.groups.subscribe(subscriber);
+        source.subscribe(parent);
+    }
+
+    static final class GroupBySubscriber<T, K> implements Flow.Subscriber<T> {
+
+        private final Function<? super T, ? extends K> keyMapper;
+
+        private final int prefetch;
+
+        private final BufferedEmittingPublisher<GroupedMulti<K, T>> groups;
+
+        private final ConcurrentHashMap<K, GroupedMultiImpl<K, T>> active;
+
+        private final AtomicReference<Flow.Subscription> upstream;
+
+        private final BatchingRequester requester;
+
+        // the outer subscriber and every group that may still receive items
+        private final AtomicInteger subscribers;
+
+        private final AtomicBoolean outerCanceled;
+
+        private boolean done;
+
+        GroupBySubscriber(Function<? super T, ? extends K> keyMapper, int prefetch) {
+            this.keyMapper = keyMapper;
+            this.prefetch = prefetch;
+            this.groups = BufferedEmittingPublisher.create();
+            this.active = new ConcurrentHashMap<>();
+            this.upstream = new AtomicReference<>();
+            this.requester = new BatchingRequester(upstream, prefetch);
+            this.subscribers = new AtomicInteger(1);
+            this.outerCanceled = new AtomicBoolean();
+            groups.onAbort(throwable -> {
+                if (outerCanceled.compareAndSet(false, true)) {
+                    release();
+                }
+            });
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            if (SubscriptionHelper.setOnce(upstream, subscription)) {
+                subscription.request(prefetch);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            K key;
+            try {
+                key = Objects.requireNonNull(keyMapper.apply(item), "The key mapper returned a null value.");
+            } catch (Throwable ex) {
+                SubscriptionHelper.cancel(upstream);
+                onError(ex);
+                return;
+            }
+
+            GroupedMultiImpl<K, T> group = active.get(key);
+            if (group == null) {
+                if (outerCanceled.get()) {
+                    // no new groups once the outer subscriber is gone
+                    requester.accept(1L);
+                    return;
+                }
+                group = newGroup(key);
+                active.put(key, group);
+                subscribers.incrementAndGet();
+                groups.emit(group);
+            }
+            group.emit(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (done) {
+                return;
+            }
+            done = true;
+            active.values().forEach(group -> group.fail(throwable));
+            active.clear();
+            groups.fail(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            active.values().forEach(GroupedMultiImpl::complete);
+            active.clear();
+            groups.complete();
+        }
+
+        private GroupedMultiImpl<K, T> newGroup(K key) {
+            return new GroupedMultiImpl<>(key, requester, group -> {
+                // a new group is created if the key shows up again
+                active.remove(key, group);
+                release();
+            });
+        }
+
+        private void release() {
+            if (subscribers.decrementAndGet() == 0) {
+                SubscriptionHelper.cancel(upstream);
+            }
+        }
+    }
+}
@@ -28,6 +28,8 @@ import io.helidon.common.mapper.Mapper;
  */
 final class MultiMapperPublisher<T, R> implements Multi<R> {
 
+    private static final String NULL_MAPPED = "The mapper returned a null value.";
+
     private final Flow.Publisher<T> source;
 
     private final Function<? super T, ? extends R> mapper;
@@ -42,6 +44,27 @@ final class MultiMapperPublisher<T, R> implements Multi<R> {
         source.subscribe(new MapperSubscriber<>(subscriber, mapper));
     }
 
+    // consecutive mappers run within a single subscriber instead of a chain of them
+    @Override
+    public <U> Multi<U> map(Function<? super R, ? extends U> nextMapper) {
+        Objects.requireNonNull(nextMapper, "mapper is null");
+        Function<? super T, ? extends R> mapper = this.mapper;
+        return new MultiMapperPublisher<>(source,
+                                          item -> nextMapper.apply(Objects.requireNonNull(mapper.apply(item), NULL_MAPPED)));
+    }
+
+    @Override
+    public <U> Multi<U> flatMapIterable(Function<? super R, ? extends Iterable<? extends U>> iterableMapper, int prefetch) {
+        Objects.requireNonNull(iterableMapper, "iterableMapper is null");
+        if (!(source instanceof Multi)) {
+            return Multi.super.flatMapIterable(iterableMapper, prefetch);
+        }
+        Function<? super T, ? extends R> mapper = this.mapper;
+        return new MultiFlatMapIterable<>((Multi<T>) source,
+                                          item -> iterableMapper.apply(Objects.requireNonNull(mapper.apply(item), NULL_MAPPED)),
+                                          prefetch);
+    }
+
     static final class MapperSubscriber<T, R> implements Flow.Subscriber<T>, Flow.Subscription {
 
         private final Flow.Subscriber<? super R> downstream;
@@ -70,7 +93,7 @@ final class MultiMapperPublisher<T, R> implements Multi<R> {
                 R result;
 
                 try {
-                    result = Objects.requireNonNull(mapper.apply(item), "The mapper returned a null value.");
+                    result = Objects.requireNonNull(mapper.apply(item), NULL_MAPPED);
                 } catch (Throwable ex) {
                     s.cancel();
                     onError(ex);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,7 +19,6 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Signal items and terminal signals of the upstream on the given executor.
@@ -47,10 +46,6 @@ final class MultiObserveOn<T> implements Multi<T> {
         source.subscribe(new ObserveOnSubscriber<>(subscriber, executor, bufferSize, delayError));
     }
 
-    static int roundToPowerOfTwo(final int value) {
-        return 1 << (32 - Integer.numberOfLeadingZeros(value - 1));
-    }
-
     static final class ObserveOnSubscriber<T> extends AtomicInteger
     implements Flow.Subscriber<T>, Flow.Subscription, Runnable {
 
@@ -64,11 +59,7 @@ final class MultiObserveOn<T> implements Multi<T> {
 
         private final AtomicLong requested;
 
-        private final AtomicReferenceArray<T> queue;
-
-        private final AtomicLong producerIndex;
-
-        private final AtomicLong consumerIndex;
+        private final SpscArrayQueue<T> queue;
 
         private Flow.Subscription upstream;
 
@@ -87,9 +78,7 @@ final class MultiObserveOn<T> implements Multi<T> {
             this.bufferSize = bufferSize;
             this.delayError = delayError;
             this.requested = new AtomicLong();
-            this.queue = new AtomicReferenceArray<>(roundToPowerOfTwo(bufferSize));
-            this.producerIndex = new AtomicLong();
-            this.consumerIndex = new AtomicLong();
+            this.queue = new SpscArrayQueue<>(bufferSize);
         }
 
         @Override
@@ -102,12 +91,23 @@ final class MultiObserveOn<T> implements Multi<T> {
 
         @Override
         public void onNext(T item) {
-            offer(item);
+            if (done) {
+                return;
+            }
+            if (!offer(item)) {
+                // Rule §1.1 violated, the item is not dropped silently, the sequence fails instead
+                upstream.cancel();
+                onError(new IllegalStateException("Queue is full: missing backpressure"));
+                return;
+            }
             schedule();
         }
 
         @Override
         public void onError(Throwable throwable) {
+            if (done) {
+                return;
+            }
             this.error = throwable;
             this.done = true;
             schedule();
@@ -208,48 +208,20 @@ final class MultiObserveOn<T> implements Multi<T> {
             }
         }
 
-        void offer(T item) {
-            AtomicReferenceArray<T> queue = this.queue;
-            AtomicLong producerIndex = this.producerIndex;
-
-            long pi = producerIndex.get();
-            int mask = queue.length() - 1;
-            int offset = (int) pi & mask;
-
-            queue.lazySet(offset, item);
-            producerIndex.lazySet(pi + 1);
+        boolean offer(T item) {
+            return queue.offer(item);
         }
 
         T poll() {
-            AtomicReferenceArray<T> queue = this.queue;
-            AtomicLong consumerIndex = this.consumerIndex;
-
-            long ci = consumerIndex.get();
-            int mask = queue.length() - 1;
-            int offset = (int) ci & mask;
-
-            T item = queue.get(offset);
-            if (item == null) {
-                return null;
-            }
-            queue.lazySet(offset, null);
-            consumerIndex.lazySet(ci + 1);
-            return item;
+            return queue.poll();
         }
 
         boolean isEmpty() {
-            AtomicLong producerIndex = this.producerIndex;
-            AtomicLong consumerIndex = this.consumerIndex;
-
-            return producerIndex.get() == consumerIndex.get();
+            return queue.isEmpty();
         }
 
         void clear() {
-            for (;;) {
-                if (poll() == null) {
-                    break;
-                }
-            }
+            queue.clear();
         }
     }
 }
@@ -0,0 +1,399 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Runs the stage function of a {@link ParallelMulti} on parallel rails and merges the results.
+ * <p>
+ * The upstream is requested {@code parallelism * prefetch} items upfront and replenished as the
+ * results are emitted, so at most that many items are in flight. Items are dispatched round-robin,
+ * therefore the {@code k}-th item of rail {@code i} is the upstream item {@code i + k * parallelism},
+ * which lets the ordered merge put each result into its slot without tagging the items.
+ * @param <S> the upstream item type
+ * @param <T> the result type
+ */
+final class MultiParallel<S, T> implements Multi<T> {
+
+    /**
+     * Result of the stage function for a filtered out item.
+     */
+    static final Object FILTERED = new Object();
+
+    private final Multi<S> source;
+
+    // returns either the result of type T or FILTERED
+    private final Function<? super S, ?> stage;
+
+    private final int parallelism;
+
+    private final Executor executor;
+
+    private final int prefetch;
+
+    private final boolean ordered;
+
+    MultiParallel(Multi<S> source, Function<? super S, ?> stage, int parallelism,
+                  Executor executor, int prefetch, boolean ordered) {
+        this.source = source;
+        this.stage = stage;
+        this.parallelism = parallelism;
+        this.executor = executor;
+        this.prefetch = prefetch;
+        this.ordered = ordered;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        source.subscribe(new ParallelSubscriber<>(subscriber, stage, parallelism, executor, prefetch, ordered));
+    }
+
+    static final class ParallelSubscriber<S, T> extends AtomicInteger
+    implements Flow.Subscriber<S>, Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> downstream;
+
+        private final Function<? super S, ?> stage;
+
+        private final Rail<S, T>[] rails;
+
+        private final boolean ordered;
+
+        private final int window;
+
+        private final int limit;
+
+        private final AtomicLong requested;
+
+        private final AtomicReference<Throwable> error;
+
+        // ordered mode: results by upstream index
+        private final AtomicReferenceArray<Object> slots;
+
+        private final int mask;
+
+        // unordered mode: results as they are produced, and the number of items filtered out
+        private final MpscLinkedQueue<T> results;
+
+        private final AtomicLong filtered;
+
+        // items dispatched to the rails whose result is not yet available
+        private final AtomicLong pending;
+
+        private Flow.Subscription upstream;
+
+        private long received;
+
+        private int nextRail;
+
+        private volatile boolean done;
+
+        private volatile boolean canceled;
+
+        // accessed by the drain loop only
+        private long emitted;
+        private long nextIndex;
+        private long consumed;
+
+        @SuppressWarnings("unchecked")
+        ParallelSubscriber(Flow.Subscriber<? super T> downstream, Function<? super S, ?> stage,
+                           int parallelism, Executor executor, int prefetch, boolean ordered) {
+            this.downstream = downstream;
+            this.stage = stage;
+            this.ordered = ordered;
+            this.window = (int) Math.min((long) parallelism * prefetch, 1 << 30);
+            this.limit = window - (window >> 2);
+            this.requested = new AtomicLong();
+            this.error = new AtomicReference<>();
+            this.pending = new AtomicLong();
+            this.rails = new Rail[parallelism];
+            for (int i = 0; i < parallelism; i++) {
+                rails[i] = new Rail<>(this, executor, i, parallelism, window);
+            }
+            if (ordered) {
+                int size = SpscArrayQueue.roundToPowerOfTwo(window);
+                this.slots = new AtomicReferenceArray<>(size);
+                this.mask = size - 1;
+                this.results = null;
+                this.filtered = null;
+            } else {
+                this.slots = null;
+                this.mask = 0;
+                this.results = new MpscLinkedQueue<>();
+                this.filtered = new AtomicLong();
+            }
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            SubscriptionHelper.validate(upstream, subscription);
+            upstream = subscription;
+            downstream.onSubscribe(this);
+            subscription.request(window);
+        }
+
+        @Override
+        public void onNext(S item) {
+            if (done) {
+                return;
+            }
+            received++;
+            pending.incrementAndGet();
+            int rail = nextRail;
+            rails[rail].offer(item);
+            nextRail = rail + 1 == rails.length ? 0 : rail + 1;
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (done) {
+                return;
+            }
+            error.compareAndSet(null, throwable);
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0L) {
+                stageFailed(new IllegalArgumentException("Rule §3.9 violated: non-positive requests are forbidden"));
+            } else {
+                SubscriptionHelper.addRequest(requested, n);
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            canceled = true;
+            upstream.cancel();
+            drain();
+        }
+
+        boolean isCanceled() {
+            return canceled;
+        }
+
+        Object apply(S item) {
+            return Objects.requireNonNull(stage.apply(item), "The stage returned a null value.");
+        }
+
+        @SuppressWarnings("unchecked")
+        void result(long index, Object result) {
+            if (ordered) {
+                slots.lazySet((int) index & mask, result);
+            } else if (result == FILTERED) {
+                filtered.incrementAndGet();
+            } else {
+                results.offer((T) result);
+            }
+            pending.decrementAndGet();
+            drain();
+        }
+
+        void stageFailed(Throwable throwable) {
+            if (error.compareAndSet(null, throwable)) {
+                upstream.cancel();
+            }
+            drain();
+        }
+
+        @SuppressWarnings("unchecked")
+        void drain() {
+            if (getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            Flow.Subscriber<? super T> downstream = this.downstream;
+            long emitted = this.emitted;
+            long consumed = this.consumed;
+
+            for (;;) {
+                if (canceled) {
+                    clear();
+                } else {
+                    Throwable ex = error.get();
+                    if (ex != null) {
+                        canceled = true;
+                        clear();
+                        downstream.onError(ex);
+                        continue;
+                    }
+
+                    boolean d = done;
+                    long r = requested.get();
+                    boolean empty;
+
+                    if (ordered) {
+                        long index = nextIndex;
+                        for (;;) {
+                            int offset = (int) index & mask;
+                            Object v = slots.get(offset);
+                            if (v == null) {
+                                break;
+                            }
+                            if (v != FILTERED) {
+                                if (r == emitted) {
+                                    break;
+                                }
+                                downstream.onNext((T) v);
+                                emitted++;
+                            }
+                            slots.lazySet(offset, null);
+                            index++;
+                            consumed++;
+                            if (canceled) {
+                                break;
+                            }
+                        }
+                        nextIndex = index;
+                        // received is visible after reading done
+                        empty = d && index == received;
+                    } else {
+                        consumed += filtered.getAndSet(0L);
+                        while (r != emitted) {
+                            T v = results.poll();
+                            if (v == null) {
+                                break;
+                            }
+                            downstream.onNext(v);
+                            emitted++;
+                            consumed++;
+                            if (canceled) {
+                                break;
+                            }
+                        }
+                        empty = d && pending.get() == 0L && results.isEmpty();
+                    }
+
+                    if (canceled) {
+                        continue;
+                    }
+
+                    if (empty) {
+                        canceled = true;
+                        downstream.onComplete();
+                        continue;
+                    }
+
+                    if (consumed >= limit && !d) {
+                        upstream.request(consumed);
+                        consumed = 0L;
+                    }
+                }
+
+                this.emitted = emitted;
+                this.consumed = consumed;
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        private void clear() {
+            if (ordered) {
+                for (int i = 0; i < slots.length(); i++) {
+                    slots.lazySet(i, null);
+                }
+            } else {
+                results.clear();
+            }
+        }
+    }
+
+    /**
+     * Runs the stage function on the items of one rail, one at a time.
+     */
+    static final class Rail<S, T> extends AtomicInteger implements Runnable {
+
+        private final ParallelSubscriber<S, T> parent;
+
+        private final Executor executor;
+
+        private final SpscArrayQueue<S> queue;
+
+        private final int parallelism;
+
+        private long index;
+
+        Rail(ParallelSubscriber<S, T> parent, Executor executor, int rail, int parallelism, int capacity) {
+            this.parent = parent;
+            this.executor = executor;
+            this.queue = new SpscArrayQueue<>(capacity);
+            this.parallelism = parallelism;
+            this.index = rail;
+        }
+
+        void offer(S item) {
+            queue.offer(item);
+            if (getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            for (;;) {
+                for (;;) {
+                    if (parent.isCanceled()) {
+                        queue.clear();
+                        break;
+                    }
+                    S item = queue.poll();
+                    if (item == null) {
+                        break;
+                    }
+                    Object result;
+                    try {
+                        result = parent.apply(item);
+                    } catch (Throwable ex) {
+                        queue.clear();
+                        parent.stageFailed(ex);
+                        break;
+                    }
+                    long i = index;
+                    index = i + parallelism;
+                    parent.result(i, result);
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Periodically emits the latest item received from the upstream since the previous period.
+ * <p>
+ * The upstream is consumed in an unbounded manner; a sample the downstream has no demand for
+ * is replaced by the next one. The latest item is emitted when the upstream completes.
+ * @param <T> the item type
+ */
+final class MultiSample<T> implements Multi<T> {
+
+    private final Multi<T> source;
+
+    private final long period;
+
+    private final TimeUnit unit;
+
+    private final ScheduledExecutorService executor;
+
+    MultiSample(Multi<T> source, long period, TimeUnit unit, ScheduledExecutorService executor) {
+        this.source = source;
+        this.period = period;
+        this.unit = unit;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        source.subscribe(new SampleSubscriber<>(subscriber, period, unit, executor));
+    }
+
+    static final class SampleSubscriber<T> extends AtomicInteger
+    implements Flow.Subscriber<T>, Flow.Subscription, Runnable {
+
+        private final Flow.Subscriber<? super T> downstream;
+
+        private final long period;
+
+        private final TimeUnit unit;
+
+        private final ScheduledExecutorService executor;
+
+        private final AtomicLong requested;
+
+        private final AtomicReference<Future<?>> timer;
+
+        private final AtomicReference<T> latest;
+
+        private final AtomicReference<T> sample;
+
+        private Flow.Subscription upstream;
+
+        private Throwable error;
+        private volatile boolean done;
+
+        private volatile boolean canceled;
+
+        private long emitted;
+
+        SampleSubscriber(Flow.Subscriber<? super T> downstream, long period, TimeUnit unit,
+                         ScheduledExecutorService executor) {
+            this.downstream = downstream;
+            this.period = period;
+            this.unit = unit;
+            this.executor = executor;
+            this.requested = new AtomicLong();
+            this.timer = new AtomicReference<>();
+            this.latest = new AtomicReference<>();
+            this.sample = new AtomicReference<>();
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            SubscriptionHelper.validate(upstream, subscription);
+            upstream = subscription;
+            downstream.onSubscribe(this);
+            TerminatedFuture.setFuture(timer, executor.scheduleAtFixedRate(this, period, period, unit));
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(T item) {
+            latest.lazySet(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            TerminatedFuture.cancel(timer);
+            latest.lazySet(null);
+            error = throwable;
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            TerminatedFuture.cancel(timer);
+            T item = latest.getAndSet(null);
+            if (item != null) {
+                sample.set(item);
+            }
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void run() {
+            T item = latest.getAndSet(null);
+            if (item != null) {
+                sample.set(item);
+                drain();
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0L) {
+                upstream.cancel();
+                TerminatedFuture.cancel(timer);
+                error = new IllegalArgumentException("Rule §3.9 violated: non-positive requests are forbidden");
+                done = true;
+                drain();
+            } else {
+                SubscriptionHelper.addRequest(requested, n);
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            canceled = true;
+            upstream.cancel();
+            TerminatedFuture.cancel(timer);
+            drain();
+        }
+
+        void drain() {
+            if (getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            Flow.Subscriber<? super T> downstream = this.downstream;
+
+            for (;;) {
+                if (canceled) {
+                    sample.lazySet(null);
+                } else {
+                    boolean d = done;
+                    Throwable ex = error;
+                    if (d && ex != null) {
+                        canceled = true;
+                        sample.lazySet(null);
+                        downstream.onError(ex);
+                        continue;
+                    }
+
+                    if (requested.get() != emitted) {
+                        T item = sample.getAndSet(null);
+                        if (item != null) {
+                            emitted++;
+                            downstream.onNext(item);
+                            continue;
+                        }
+                    }
+
+                    if (d && sample.get() == null) {
+                        canceled = true;
+                        downstream.onComplete();
+                        continue;
+                    }
+                }
+
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Splits the upstream into consecutive inner sequences of the given size.
+ * <p>
+ * Items are requested from the upstream as they are consumed by the subscribers of the windows,
+ * so every emitted window has to be consumed or cancelled for the upstream to make progress.
+ * @param <T> the upstream item type
+ */
+final class MultiWindow<T> implements Multi<Multi<T>> {
+
+    private final Multi<T> source;
+
+    private final int size;
+
+    private final int prefetch;
+
+    MultiWindow(Multi<T> source, int size, int prefetch) {
+        this.source = source;
+        this.size = size;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super Multi<T>> subscriber) {
+        WindowSubscriber<T> parent = new WindowSubscriber<>(size, prefetch);
+        parent.windows.subscribe(subscriber);
+        source.subscribe(parent);
+    }
+
+    static final class WindowSubscriber<T> implements Flow.Subscriber<T> {
+
+        private final int size;
+
+        private final int prefetch;
+
+        private final BufferedEmittingPublisher<Multi<T>> windows;
+
+        private final AtomicReference<Flow.Subscription> upstream;
+
+        private final BatchingRequester requester;
+
+        // the outer subscriber and the current window
+        private final AtomicInteger subscribers;
+
+        private final AtomicBoolean outerCanceled;
+
+        private GroupedMultiImpl<Long, T> window;
+
+        private long windowIndex;
+
+        private int count;
+
+        private boolean done;
+
+        WindowSubscriber(int size, int prefetch) {
+            this.size = size;
+            this.prefetch = prefetch;
+            this.windows = BufferedEmittingPublisher.create();
+            this.upstream = new AtomicReference<>();
+            this.requester = new BatchingRequester(upstream, prefetch);
+            this.subscribers = new AtomicInteger(1);
+            this.outerCanceled = new AtomicBoolean();
+            windows.onAbort(throwable -> {
+                if (outerCanceled.compareAndSet(false, true)) {
+                    release();
+                }
+            });
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            if (SubscriptionHelper.setOnce(upstream, subscription)) {
+                subscription.request(prefetch);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            GroupedMultiImpl<Long, T> w = window;
+            if (w == null) {
+                if (outerCanceled.get()) {
+                    // no new windows once the outer subscriber is gone
+                    requester.accept(1L);
+                    return;
+                }
+                w = new GroupedMultiImpl<>(windowIndex++, requester, cancelled -> release());
+                window = w;
+                subscribers.incrementAndGet();
+                windows.emit(w);
+            }
+            w.emit(item);
+            if (++count == size) {
+                count = 0;
+                window = null;
+                w.complete();
+                if (w.release()) {
+                    release();
+                }
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (done) {
+                return;
+            }
+            done = true;
+            GroupedMultiImpl<Long, T> w = window;
+            window = null;
+            if (w != null) {
+                w.fail(throwable);
+            }
+            windows.fail(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            GroupedMultiImpl<Long, T> w = window;
+            window = null;
+            if (w != null) {
+                w.complete();
+            }
+            windows.complete();
+        }
+
+        private void release() {
+            if (subscribers.decrementAndGet() == 0) {
+                SubscriptionHelper.cancel(upstream);
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A {@link Multi} split into parallel rails, created by {@link Multi#parallel(int, java.util.concurrent.Executor)}.
+ * <p>
+ * Upstream items are dispatched to the rails in a round-robin fashion, each rail runs the stage
+ * operators on the executor, one item at a time. The results are merged back into a {@link Multi}
+ * either as they become available with {@link #sequential()}, or in the upstream order
+ * with {@link #ordered()}.
+ * <pre>{@code
+ * Multi.create(lines)
+ *      .parallel(4, executor)
+ *      .map(this::parse)
+ *      .filter(Record::isValid)
+ *      .ordered()
+ *      .forEach(this::write);
+ * }</pre>
+ *
+ * @param <T> item type of the rails
+ */
+public interface ParallelMulti<T> {
+
+    /**
+     * Number of rails.
+     *
+     * @return parallelism
+     */
+    int parallelism();
+
+    /**
+     * Map the items of each rail using the given {@link Function}.
+     *
+     * @param mapper mapper, must not return {@code null}
+     * @param <U>    mapped item type
+     * @return ParallelMulti
+     * @throws NullPointerException if {@code mapper} is {@code null}
+     */
+    <U> ParallelMulti<U> map(Function<? super T, ? extends U> mapper);
+
+    /**
+     * Filter the items of each rail with the given predicate.
+     *
+     * @param predicate predicate to filter the items with
+     * @return ParallelMulti
+     * @throws NullPointerException if {@code predicate} is {@code null}
+     */
+    ParallelMulti<T> filter(Predicate<? super T> predicate);
+
+    /**
+     * Merge the rails, emitting the results as they become available.
+     *
+     * @return Multi
+     */
+    Multi<T> sequential();
+
+    /**
+     * Merge the rails, emitting the results in the order of the upstream items.
+     * <p>
+     * A result is held back until the results of all the preceding items are emitted, so a slow item
+     * delays the ones after it, up to the prefetch of all the rails.
+     *
+     * @return Multi
+     */
+    Multi<T> ordered();
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Accumulates the stage operators of a {@link ParallelMulti} into a single function run by each rail.
+ * @param <S> the upstream item type
+ * @param <T> the item type of the rails
+ */
+final class ParallelMultiImpl<S, T> implements ParallelMulti<T> {
+
+    private final Multi<S> source;
+
+    private final int parallelism;
+
+    private final Executor executor;
+
+    private final int prefetch;
+
+    // returns MultiParallel.FILTERED for filtered out items
+    private final Function<? super S, ?> stage;
+
+    private ParallelMultiImpl(Multi<S> source, int parallelism, Executor executor, int prefetch,
+                              Function<? super S, ?> stage) {
+        this.source = source;
+        this.parallelism = parallelism;
+        this.executor = executor;
+        this.prefetch = prefetch;
+        this.stage = stage;
+    }
+
+    static <T> ParallelMulti<T> create(Multi<T> source, int parallelism, Executor executor, int prefetch) {
+        return new ParallelMultiImpl<>(source, parallelism, executor, prefetch, Function.identity());
+    }
+
+    @Override
+    public int parallelism() {
+        return parallelism;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <U> ParallelMulti<U> map(Function<? super T, ? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        Function<? super S, ?> stage = this.stage;
+        return new ParallelMultiImpl<S, U>(source, parallelism, executor, prefetch, item -> {
+            Object value = stage.apply(item);
+            if (value == MultiParallel.FILTERED) {
+                return value;
+            }
+            return Objects.requireNonNull(mapper.apply((T) value), "The mapper returned a null value.");
+        });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ParallelMulti<T> filter(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        Function<? super S, ?> stage = this.stage;
+        return new ParallelMultiImpl<>(source, parallelism, executor, prefetch, item -> {
+            Object value = stage.apply(item);
+            return value != MultiParallel.FILTERED && predicate.test((T) value) ? value : MultiParallel.FILTERED;
+        });
+    }
+
+    @Override
+    public Multi<T> sequential() {
+        return new MultiParallel<>(source, stage, parallelism, executor, prefetch, false);
+    }
+
+    @Override
+    public Multi<T> ordered() {
+        return new MultiParallel<>(source, stage, parallelism, executor, prefetch, true);
+    }
+}
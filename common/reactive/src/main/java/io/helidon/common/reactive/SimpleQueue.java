@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+/**
+ * Minimal queue used by operators to hand items over between the producing and the draining thread.
+ * Unlike {@link java.util.Queue}, implementations only support the operations the operators need
+ * and state which side (producer or consumer) may call each of them.
+ *
+ * @param <T> the element type
+ */
+interface SimpleQueue<T> {
+
+    /**
+     * Add an item to the queue, called by the producer side.
+     *
+     * @param item item to add, never {@code null}
+     * @return {@code true} if the item was added, {@code false} if the queue is full
+     */
+    boolean offer(T item);
+
+    /**
+     * Remove the first item, called by the consumer side.
+     *
+     * @return the first item or {@code null} if the queue is empty
+     */
+    T poll();
+
+    /**
+     * Return the first item without removing it, called by the consumer side.
+     *
+     * @return the first item or {@code null} if the queue is empty
+     */
+    T peek();
+
+    /**
+     * Whether the queue is empty, called by the consumer side.
+     *
+     * @return {@code true} if there are no items in the queue
+     */
+    boolean isEmpty();
+
+    /**
+     * Remove all items, called by the consumer side.
+     */
+    default void clear() {
+        while (poll() != null) {
+            // discard
+        }
+    }
+}
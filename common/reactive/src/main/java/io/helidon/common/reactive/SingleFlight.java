@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent executions of the same operation.
+ * <p>
+ * The first caller of {@link #execute(Object, Supplier)} for a key starts the operation, all callers
+ * with the same key that arrive before it completes share its outcome instead of starting their own.
+ * Once the operation completes, the key is released and the next caller starts a new execution.
+ * This protects expensive resources (remote services, databases, costly computations) from
+ * a burst of identical requests, such as when a popular cache entry expires.
+ * <p>
+ * The shared value is delivered to every caller, so it should be immutable or otherwise safe
+ * to be used concurrently.
+ *
+ * @param <K> type of the key identifying identical operations
+ * @param <T> type of the result of the operation
+ */
+public final class SingleFlight<K, T> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<T>> inFlight = new ConcurrentHashMap<>();
+
+    private SingleFlight() {
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param <K> type of the key identifying identical operations
+     * @param <T> type of the result of the operation
+     * @return a new single flight
+     */
+    public static <K, T> SingleFlight<K, T> create() {
+        return new SingleFlight<>();
+    }
+
+    /**
+     * Execute the operation, or join an execution with the same key that is already in flight.
+     * <p>
+     * Cancelling the returned {@link Single} does not cancel the shared operation, as other callers
+     * may still be waiting for it.
+     *
+     * @param key       key of the operation
+     * @param operation operation to execute if none with the same key is in flight
+     * @return single with the outcome of the (possibly shared) operation
+     */
+    public Single<T> execute(K key, Supplier<? extends CompletionStage<T>> operation) {
+        Objects.requireNonNull(key, "key is null");
+        Objects.requireNonNull(operation, "operation is null");
+
+        CompletableFuture<T> mine = new CompletableFuture<>();
+        CompletableFuture<T> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            return Single.create(copy(existing), true);
+        }
+        try {
+            operation.get()
+                    .whenComplete((result, throwable) -> {
+                        // release the key first, so callers notified by the completion start a new flight
+                        inFlight.remove(key, mine);
+                        if (throwable == null) {
+                            mine.complete(result);
+                        } else {
+                            mine.completeExceptionally(throwable);
+                        }
+                    });
+        } catch (Throwable t) {
+            inFlight.remove(key, mine);
+            mine.completeExceptionally(t);
+        }
+        return Single.create(copy(mine), true);
+    }
+
+    // each caller gets its own future, so cancelling one does not complete the shared one
+    private static <T> CompletableFuture<T> copy(CompletableFuture<T> shared) {
+        CompletableFuture<T> copy = new CompletableFuture<>();
+        shared.whenComplete((result, throwable) -> {
+            if (throwable == null) {
+                copy.complete(result);
+            } else {
+                copy.completeExceptionally(throwable instanceof CompletionException && throwable.getCause() != null
+                                                   ? throwable.getCause()
+                                                   : throwable);
+            }
+        });
+        return copy;
+    }
+
+    /**
+     * Number of operations currently in flight.
+     *
+     * @return number of distinct keys being executed
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free queue for exactly one producer thread and one consumer thread at a time.
+ * <p>
+ * Operators requesting a bounded amount of items from their upstream know the maximum number
+ * of items that can be queued, so the queue is a power-of-two ring buffer without any allocation
+ * per item. The slot of an item doubles as the "available" flag, so the consumer never reads
+ * the producer index.
+ *
+ * @param <T> the element type
+ */
+final class SpscArrayQueue<T> implements SimpleQueue<T> {
+
+    private static final VarHandle PRODUCER_INDEX;
+    private static final VarHandle CONSUMER_INDEX;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            PRODUCER_INDEX = lookup.findVarHandle(SpscArrayQueue.class, "producerIndex", long.class);
+            CONSUMER_INDEX = lookup.findVarHandle(SpscArrayQueue.class, "consumerIndex", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final AtomicReferenceArray<T> buffer;
+    private final int mask;
+
+    // accessed through the var handles only
+    private long producerIndex;
+    private long consumerIndex;
+
+    /**
+     * Create a new queue.
+     *
+     * @param capacity minimal capacity, rounded up to the next power of two
+     */
+    SpscArrayQueue(int capacity) {
+        int size = roundToPowerOfTwo(Math.max(1, capacity));
+        this.buffer = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    static int roundToPowerOfTwo(int value) {
+        return 1 << (32 - Integer.numberOfLeadingZeros(value - 1));
+    }
+
+    @Override
+    public boolean offer(T item) {
+        long pi = (long) PRODUCER_INDEX.getOpaque(this);
+        int offset = (int) pi & mask;
+        if (buffer.get(offset) != null) {
+            return false;
+        }
+        buffer.lazySet(offset, item);
+        PRODUCER_INDEX.setRelease(this, pi + 1);
+        return true;
+    }
+
+    @Override
+    public T poll() {
+        long ci = (long) CONSUMER_INDEX.getOpaque(this);
+        int offset = (int) ci & mask;
+        T item = buffer.get(offset);
+        if (item == null) {
+            return null;
+        }
+        buffer.lazySet(offset, null);
+        CONSUMER_INDEX.setRelease(this, ci + 1);
+        return item;
+    }
+
+    @Override
+    public T peek() {
+        return buffer.get((int) (long) CONSUMER_INDEX.getOpaque(this) & mask);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return (long) PRODUCER_INDEX.getAcquire(this) == (long) CONSUMER_INDEX.getAcquire(this);
+    }
+
+    /**
+     * Number of items in the queue, only an estimate while the producer or the consumer is active.
+     *
+     * @return number of items
+     */
+    int size() {
+        long ci = (long) CONSUMER_INDEX.getAcquire(this);
+        long pi = (long) PRODUCER_INDEX.getAcquire(this);
+        return (int) Math.max(0, pi - ci);
+    }
+}
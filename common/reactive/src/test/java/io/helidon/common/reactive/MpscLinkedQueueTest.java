@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class MpscLinkedQueueTest {
+
+    @Test
+    public void fifo() {
+        MpscLinkedQueue<Integer> queue = new MpscLinkedQueue<>();
+        assertThat(queue.isEmpty(), is(true));
+        assertThat(queue.poll(), is(nullValue()));
+
+        queue.offer(1);
+        queue.offer(2);
+
+        assertThat(queue.isEmpty(), is(false));
+        assertThat(queue.peek(), is(1));
+        assertThat(queue.poll(), is(1));
+        assertThat(queue.poll(), is(2));
+        assertThat(queue.isEmpty(), is(true));
+    }
+
+    @Test
+    public void multipleProducersKeepPerProducerOrder() throws Exception {
+        int producers = 4;
+        int count = 100_000;
+        MpscLinkedQueue<int[]> queue = new MpscLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int producer = p;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < count; i++) {
+                        queue.offer(new int[] {producer, i});
+                    }
+                }));
+            }
+
+            int[] expected = new int[producers];
+            for (int received = 0; received < producers * count; received++) {
+                int[] item;
+                while ((item = queue.poll()) == null) {
+                    Thread.onSpinWait();
+                }
+                assertThat(item[1], is(expected[item[0]]++));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            assertThat(queue.isEmpty(), is(true));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
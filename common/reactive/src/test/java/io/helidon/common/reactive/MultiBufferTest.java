@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MultiBufferTest {
+
+    @Test
+    public void exactSize() {
+        TestSubscriber<List<Integer>> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.range(1, 6)
+                .buffer(2)
+                .subscribe(ts);
+
+        ts.assertResult(List.of(1, 2), List.of(3, 4), List.of(5, 6));
+    }
+
+    @Test
+    public void lastBufferShorter() {
+        TestSubscriber<List<Integer>> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.range(1, 5)
+                .buffer(3)
+                .subscribe(ts);
+
+        ts.assertResult(List.of(1, 2, 3), List.of(4, 5));
+    }
+
+    @Test
+    public void empty() {
+        TestSubscriber<List<Integer>> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.<Integer>empty()
+                .buffer(3)
+                .subscribe(ts);
+
+        ts.assertResult();
+    }
+
+    @Test
+    public void backpressure() {
+        AtomicLong produced = new AtomicLong();
+        TestSubscriber<List<Integer>> ts = new TestSubscriber<>();
+
+        Multi.range(1, 10)
+                .peek(v -> produced.incrementAndGet())
+                .buffer(4)
+                .subscribe(ts);
+
+        ts.assertEmpty();
+
+        ts.request1();
+        ts.assertValuesOnly(List.of(1, 2, 3, 4));
+        assertThat(produced.get(), is(4L));
+
+        ts.request(2);
+        ts.assertResult(List.of(1, 2, 3, 4), List.of(5, 6, 7, 8), List.of(9, 10));
+    }
+
+    @Test
+    public void error() {
+        TestSubscriber<List<Integer>> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.concat(Multi.just(1), Multi.<Integer>error(new IOException()))
+                .buffer(3)
+                .subscribe(ts);
+
+        ts.assertFailure(IOException.class);
+    }
+
+    @Test
+    public void invalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> Multi.just(1).buffer(0));
+    }
+}
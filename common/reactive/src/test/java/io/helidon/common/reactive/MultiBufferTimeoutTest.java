@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class MultiBufferTimeoutTest {
+
+    private static ScheduledExecutorService executor;
+
+    @BeforeAll
+    public static void beforeClass() {
+        executor = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterAll
+    public static void afterClass() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void sizeReached() {
+        TestSubscriber<List<Integer>> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.range(1, 5)
+                .bufferTimeout(2, 1, TimeUnit.MINUTES, executor)
+                .subscribe(ts);
+
+        ts.assertResult(List.of(1, 2), List.of(3, 4), List.of(5));
+    }
+
+    @Test
+    public void timeoutEmitsShorterBuffer() {
+        TestSubscriber<List<Integer>> ts = new TestSubscriber<>(Long.MAX_VALUE);
+        BufferedEmittingPublisher<Integer> source = BufferedEmittingPublisher.create();
+
+        Multi.create(source)
+                .bufferTimeout(10, 100, TimeUnit.MILLISECONDS, executor)
+                .subscribe(ts);
+
+        source.emit(1);
+        source.emit(2);
+
+        ts.awaitCount(1)
+                .assertValuesOnly(List.of(1, 2));
+
+        source.emit(3);
+        source.complete();
+
+        ts.awaitDone(5, TimeUnit.SECONDS)
+                .assertResult(List.of(1, 2), List.of(3));
+    }
+
+    @Test
+    public void timedOutBufferWaitsForDemand() {
+        TestSubscriber<List<Integer>> ts = new TestSubscriber<>();
+        BufferedEmittingPublisher<Integer> source = BufferedEmittingPublisher.create();
+
+        Multi.create(source)
+                .bufferTimeout(2, 100, TimeUnit.MILLISECONDS, executor)
+                .subscribe(ts);
+
+        ts.request1();
+        source.emit(1);
+        ts.awaitCount(1)
+                .assertValuesOnly(List.of(1));
+
+        source.emit(2);
+        source.emit(3);
+        source.complete();
+        ts.assertValuesOnly(List.of(1));
+
+        ts.request(2);
+        ts.awaitDone(5, TimeUnit.SECONDS)
+                .assertResult(List.of(1), List.of(2, 3));
+    }
+
+    @Test
+    public void error() {
+        TestSubscriber<List<Integer>> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.concat(Multi.just(1), Multi.<Integer>error(new IOException()))
+                .bufferTimeout(3, 1, TimeUnit.MINUTES, executor)
+                .subscribe(ts);
+
+        ts.assertFailure(IOException.class);
+    }
+}
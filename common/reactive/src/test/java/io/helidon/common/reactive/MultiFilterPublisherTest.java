@@ -42,4 +42,28 @@ public class MultiFilterPublisherTest {
         assertThat(ts.getLastError(), instanceOf(IllegalArgumentException.class));
         assertThat(ts.isComplete(), is(false));
     }
+
+    @Test
+    public void fusedPredicates() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.range(1, 20)
+                .filter(v -> v % 2 == 0)
+                .filter(v -> v % 3 == 0)
+                .subscribe(ts);
+
+        ts.assertResult(6, 12, 18);
+    }
+
+    @Test
+    public void fusedPredicateCrash() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.range(1, 5)
+                .filter(v -> true)
+                .filter(v -> { throw new IllegalArgumentException(); })
+                .subscribe(ts);
+
+        ts.assertFailure(IllegalArgumentException.class);
+    }
 }
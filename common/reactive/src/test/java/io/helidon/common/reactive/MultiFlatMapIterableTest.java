@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,10 +16,17 @@
 package io.helidon.common.reactive;
 
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+
 public class MultiFlatMapIterableTest {
 
     Iterable<Integer> range(int count) {
@@ -243,4 +250,70 @@ public class MultiFlatMapIterableTest {
 
         ts.assertValuesOnly(1);
     }
+
+    @Test
+    public void fusedWithMap() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.just(1, 2, 3)
+                .map(v -> v * 10)
+                .flatMapIterable(v -> List.of(v, v + 1))
+                .subscribe(ts);
+
+        ts.assertResult(10, 11, 20, 21, 30, 31);
+    }
+
+    @Test
+    public void fusedWithMapNullValue() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.just(1, 2)
+                .<Integer>map(v -> null)
+                .flatMapIterable(v -> List.of(v))
+                .subscribe(ts);
+
+        ts.assertFailure(NullPointerException.class);
+    }
+
+    @Test
+    public void fusedWithFilter() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.range(1, 6)
+                .filter(v -> v % 2 == 0)
+                .flatMapIterable(v -> List.of(v, -v))
+                .subscribe(ts);
+
+        ts.assertResult(2, -2, 4, -4, 6, -6);
+    }
+
+    @Test
+    public void missingBackpressure() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>();
+        CompletableFuture<Void> upstreamCanceled = new CompletableFuture<>();
+
+        Multi.create((Flow.Publisher<Integer>) subscriber -> {
+                    subscriber.onSubscribe(new Flow.Subscription() {
+                        @Override
+                        public void request(long n) {
+                        }
+
+                        @Override
+                        public void cancel() {
+                            upstreamCanceled.complete(null);
+                        }
+                    });
+                    // ignores the prefetch of 2, nothing is requested by the downstream
+                    for (int i = 0; i < 10; i++) {
+                        subscriber.onNext(i);
+                    }
+                    subscriber.onComplete();
+                })
+                .flatMapIterable(v -> List.of(v, -v), 2)
+                .subscribe(ts);
+
+        assertThat(ts.getLastError(), instanceOf(IllegalStateException.class));
+        assertThat(ts.isComplete(), is(false));
+        assertThat(upstreamCanceled.isDone(), is(true));
+    }
 }
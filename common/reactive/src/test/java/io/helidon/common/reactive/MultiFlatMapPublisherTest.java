@@ -200,6 +200,36 @@ public class MultiFlatMapPublisherTest {
         assertThat(sp2.hasSubscribers(), is(false));
     }
 
+    @Test
+    public void innerMissingBackpressure() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>();
+        CompletableFuture<Void> innerCanceled = new CompletableFuture<>();
+
+        Multi.just(1)
+                .flatMap(v -> (Flow.Publisher<Integer>) subscriber -> {
+                    subscriber.onSubscribe(new Flow.Subscription() {
+                        @Override
+                        public void request(long n) {
+                        }
+
+                        @Override
+                        public void cancel() {
+                            innerCanceled.complete(null);
+                        }
+                    });
+                    // ignores the prefetch of 2, nothing is requested by the downstream
+                    for (int i = 0; i < 10; i++) {
+                        subscriber.onNext(i);
+                    }
+                    subscriber.onComplete();
+                }, 1, false, 2)
+                .subscribe(ts);
+
+        assertThat(ts.getLastError(), instanceOf(IllegalStateException.class));
+        assertThat(ts.isComplete(), is(false));
+        assertThat(innerCanceled.isDone(), is(true));
+    }
+
     @Test
     public void empty() {
         TestSubscriber<Integer> ts = new TestSubscriber<>();
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class MultiGroupByTest {
+
+    @Test
+    public void groups() {
+        Map<Integer, List<Integer>> groups = Multi.range(0, 10)
+                .groupBy(v -> v % 3)
+                .flatMap(group -> group.collectList().map(items -> Map.entry(group.key(), items)))
+                .collectList()
+                .await()
+                .stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        assertThat(groups, is(Map.of(0, List.of(0, 3, 6, 9),
+                                     1, List.of(1, 4, 7),
+                                     2, List.of(2, 5, 8))));
+    }
+
+    @Test
+    public void moreItemsThanPrefetch() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.range(0, 1000)
+                .groupBy(v -> v % 5, 8)
+                .flatMap(group -> group)
+                .subscribe(ts);
+
+        ts.assertItemCount(1000)
+                .assertComplete();
+    }
+
+    @Test
+    public void cancelledGroupIsRecreated() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.range(0, 100)
+                .groupBy(v -> v % 2)
+                .flatMap(group -> group.limit(1))
+                .subscribe(ts);
+
+        ts.assertItemCount(100)
+                .assertComplete();
+    }
+
+    @Test
+    public void keyMapperCrash() {
+        TestSubscriber<GroupedMulti<Integer, Integer>> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.range(0, 10)
+                .<Integer>groupBy(v -> {
+                    throw new IllegalArgumentException();
+                })
+                .subscribe(ts);
+
+        ts.assertFailure(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void error() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.concat(Multi.just(1), Multi.<Integer>error(new IOException()))
+                .groupBy(v -> v)
+                .flatMap(group -> group)
+                .subscribe(ts);
+
+        ts.assertFailure(IOException.class, 1);
+    }
+}
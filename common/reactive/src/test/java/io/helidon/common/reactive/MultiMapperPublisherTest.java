@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import org.junit.jupiter.api.Test;
+
+public class MultiMapperPublisherTest {
+
+    @Test
+    public void fusedMappers() {
+        TestSubscriber<String> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.just(1, 2, 3)
+                .map(v -> v + 1)
+                .map(v -> v * 2)
+                .map(String::valueOf)
+                .subscribe(ts);
+
+        ts.assertResult("4", "6", "8");
+    }
+
+    @Test
+    public void fusedMapperNullValue() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.just(1, 2)
+                .<Integer>map(v -> null)
+                .map(v -> 1)
+                .subscribe(ts);
+
+        ts.assertFailure(NullPointerException.class);
+    }
+
+    @Test
+    public void fusedMapperCrash() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.just(1, 2)
+                .map(v -> v)
+                .<Integer>map(v -> {
+                    throw new IllegalArgumentException();
+                })
+                .subscribe(ts);
+
+        ts.assertFailure(IllegalArgumentException.class);
+    }
+}
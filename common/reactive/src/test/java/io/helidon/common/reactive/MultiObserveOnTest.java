@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 package io.helidon.common.reactive;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Flow;
 import java.util.concurrent.ScheduledExecutorService;
@@ -25,6 +26,8 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class MultiObserveOnTest {
@@ -106,6 +109,37 @@ public class MultiObserveOnTest {
                 .assertError(IOException.class);
     }
 
+    @Test
+    public void missingBackpressure() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>();
+        CompletableFuture<Void> upstreamCanceled = new CompletableFuture<>();
+
+        Multi.create((Flow.Publisher<Integer>) subscriber -> {
+                    subscriber.onSubscribe(new Flow.Subscription() {
+                        @Override
+                        public void request(long n) {
+                        }
+
+                        @Override
+                        public void cancel() {
+                            upstreamCanceled.complete(null);
+                        }
+                    });
+                    // ignores the buffer size of 2, nothing is requested by the downstream
+                    for (int i = 0; i < 10; i++) {
+                        subscriber.onNext(i);
+                    }
+                    subscriber.onComplete();
+                })
+                .observeOn(executor, 2, false)
+                .subscribe(ts);
+
+        ts.awaitDone(5, TimeUnit.SECONDS)
+                .assertError(IllegalStateException.class);
+        assertThat(ts.isComplete(), is(false));
+        assertThat(upstreamCanceled.isDone(), is(true));
+    }
+
     @Test
     public void zeroBufferSize() {
         assertThrows(IllegalArgumentException.class, () -> Multi.range(1, 5).observeOn(executor, 0, false));
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MultiParallelTest {
+
+    private static ExecutorService executor;
+
+    @BeforeAll
+    public static void beforeClass() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterAll
+    public static void afterClass() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void orderedKeepsUpstreamOrder() {
+        List<Integer> result = Multi.range(0, 1000)
+                .parallel(4, executor, 8)
+                .map(v -> {
+                    spin();
+                    return v * 2;
+                })
+                .ordered()
+                .collectList()
+                .await(10, TimeUnit.SECONDS);
+
+        assertThat(result, is(IntStream.range(0, 1000).map(v -> v * 2).boxed().collect(Collectors.toList())));
+    }
+
+    @Test
+    public void sequentialEmitsAllResults() {
+        List<Integer> result = new ArrayList<>(Multi.range(0, 1000)
+                                                       .parallel(4, executor, 8)
+                                                       .map(v -> {
+                                                           spin();
+                                                           return v + 1;
+                                                       })
+                                                       .sequential()
+                                                       .collectList()
+                                                       .await(10, TimeUnit.SECONDS));
+        result.sort(Integer::compareTo);
+
+        assertThat(result, is(IntStream.range(1, 1001).boxed().collect(Collectors.toList())));
+    }
+
+    @Test
+    public void railsRunConcurrently() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        Multi.range(0, 200)
+                .parallel(4, executor)
+                .map(v -> {
+                    threads.add(Thread.currentThread().getName());
+                    spin();
+                    return v;
+                })
+                .sequential()
+                .ignoreElements()
+                .await(10, TimeUnit.SECONDS);
+
+        assertThat(threads.size(), is(greaterThan(1)));
+    }
+
+    @Test
+    public void filterOrdered() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.range(0, 10)
+                .parallel(3, executor, 2)
+                .filter(v -> v % 2 == 0)
+                .map(v -> v * 10)
+                .ordered()
+                .subscribe(ts);
+
+        ts.awaitDone(10, TimeUnit.SECONDS)
+                .assertResult(0, 20, 40, 60, 80);
+    }
+
+    @Test
+    public void backpressure() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>();
+
+        Multi.range(0, 100)
+                .parallel(2, executor, 4)
+                .ordered()
+                .subscribe(ts);
+
+        ts.request(3);
+        ts.awaitCount(3)
+                .assertValuesOnly(0, 1, 2);
+
+        ts.requestMax();
+        ts.awaitDone(10, TimeUnit.SECONDS)
+                .assertItemCount(100)
+                .assertComplete();
+    }
+
+    @Test
+    public void mapperCrash() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.range(0, 100)
+                .parallel(2, executor)
+                .<Integer>map(v -> {
+                    if (v == 50) {
+                        throw new IllegalArgumentException();
+                    }
+                    return v;
+                })
+                .ordered()
+                .subscribe(ts);
+
+        ts.awaitDone(10, TimeUnit.SECONDS)
+                .assertError(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void mapperNullResult() {
+        TestSubscriber<Integer> ordered = new TestSubscriber<>(Long.MAX_VALUE);
+        TestSubscriber<Integer> sequential = new TestSubscriber<>(Long.MAX_VALUE);
+
+        ParallelMulti<Integer> rails = Multi.range(0, 100)
+                .parallel(2, executor)
+                .filter(v -> v % 2 == 0)
+                .map(v -> v == 50 ? null : v);
+        rails.ordered().subscribe(ordered);
+        rails.sequential().subscribe(sequential);
+
+        ordered.awaitDone(10, TimeUnit.SECONDS)
+                .assertError(NullPointerException.class);
+        sequential.awaitDone(10, TimeUnit.SECONDS)
+                .assertError(NullPointerException.class);
+    }
+
+    @Test
+    public void invalidParallelism() {
+        assertThrows(IllegalArgumentException.class, () -> Multi.just(1).parallel(0, executor));
+    }
+
+    private static void spin() {
+        long end = System.nanoTime() + ThreadLocalRandom.current().nextInt(20_000);
+        while (System.nanoTime() < end) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class MultiSampleTest {
+
+    private static ScheduledExecutorService executor;
+
+    @BeforeAll
+    public static void beforeClass() {
+        executor = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterAll
+    public static void afterClass() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void latestOnCompletion() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.just(1, 2, 3)
+                .sample(1, TimeUnit.MINUTES, executor)
+                .subscribe(ts);
+
+        ts.assertResult(3);
+    }
+
+    @Test
+    public void periodicSample() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+        BufferedEmittingPublisher<Integer> source = BufferedEmittingPublisher.create();
+
+        Multi.create(source)
+                .sample(10, TimeUnit.MILLISECONDS, executor)
+                .subscribe(ts);
+
+        source.emit(1);
+        ts.awaitCount(1)
+                .assertValuesOnly(1);
+
+        source.emit(2);
+        ts.awaitCount(2)
+                .assertValuesOnly(1, 2);
+
+        source.complete();
+        ts.awaitDone(5, TimeUnit.SECONDS)
+                .assertResult(1, 2);
+    }
+
+    @Test
+    public void error() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.<Integer>error(new IOException())
+                .sample(1, TimeUnit.MINUTES, executor)
+                .subscribe(ts);
+
+        ts.assertFailure(IOException.class);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class MultiWindowTest {
+
+    @Test
+    public void windows() {
+        TestSubscriber<List<Integer>> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.range(1, 5)
+                .window(2)
+                .flatMap(Multi::collectList)
+                .subscribe(ts);
+
+        ts.assertResult(List.of(1, 2), List.of(3, 4), List.of(5));
+    }
+
+    @Test
+    public void moreItemsThanPrefetch() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.range(1, 1000)
+                .window(7)
+                .flatMap(window -> window)
+                .subscribe(ts);
+
+        ts.assertItemCount(1000)
+                .assertComplete();
+    }
+
+    @Test
+    public void cancelledWindowDoesNotStall() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.range(1, 100)
+                .window(10)
+                .flatMap(window -> window.limit(1))
+                .subscribe(ts);
+
+        ts.assertItemCount(10)
+                .assertComplete();
+    }
+
+    @Test
+    public void error() {
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Multi.concat(Multi.just(1), Multi.<Integer>error(new IOException()))
+                .window(3)
+                .flatMap(window -> window)
+                .subscribe(ts);
+
+        ts.assertFailure(IOException.class, 1);
+    }
+}
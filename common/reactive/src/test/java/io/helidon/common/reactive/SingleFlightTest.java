@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class SingleFlightTest {
+
+    @Test
+    public void concurrentCallersShareExecution() {
+        SingleFlight<String, Integer> singleFlight = SingleFlight.create();
+        AtomicInteger executions = new AtomicInteger();
+        CompletableFuture<Integer> upstream = new CompletableFuture<>();
+
+        TestSubscriber<Integer> first = new TestSubscriber<>(Long.MAX_VALUE);
+        TestSubscriber<Integer> second = new TestSubscriber<>(Long.MAX_VALUE);
+        singleFlight.execute("key", () -> {
+            executions.incrementAndGet();
+            return upstream;
+        }).subscribe(first);
+        singleFlight.execute("key", () -> {
+            executions.incrementAndGet();
+            return CompletableFuture.completedFuture(2);
+        }).subscribe(second);
+
+        assertThat(singleFlight.inFlight(), is(1));
+        first.assertEmpty();
+        second.assertEmpty();
+
+        upstream.complete(1);
+
+        first.assertResult(1);
+        second.assertResult(1);
+        assertThat(executions.get(), is(1));
+        assertThat(singleFlight.inFlight(), is(0));
+    }
+
+    @Test
+    public void differentKeysExecuteSeparately() {
+        SingleFlight<String, Integer> singleFlight = SingleFlight.create();
+        CompletableFuture<Integer> upstream = new CompletableFuture<>();
+
+        TestSubscriber<Integer> first = new TestSubscriber<>(Long.MAX_VALUE);
+        TestSubscriber<Integer> second = new TestSubscriber<>(Long.MAX_VALUE);
+        singleFlight.execute("first", () -> upstream).subscribe(first);
+        singleFlight.execute("second", () -> CompletableFuture.completedFuture(2)).subscribe(second);
+
+        second.assertResult(2);
+        first.assertEmpty();
+        upstream.complete(1);
+        first.assertResult(1);
+    }
+
+    @Test
+    public void keyReleasedAfterCompletion() {
+        SingleFlight<String, Integer> singleFlight = SingleFlight.create();
+        AtomicInteger executions = new AtomicInteger();
+
+        TestSubscriber<Integer> first = new TestSubscriber<>(Long.MAX_VALUE);
+        TestSubscriber<Integer> second = new TestSubscriber<>(Long.MAX_VALUE);
+        singleFlight.execute("key", () -> CompletableFuture.completedFuture(executions.incrementAndGet()))
+                .subscribe(first);
+        singleFlight.execute("key", () -> CompletableFuture.completedFuture(executions.incrementAndGet()))
+                .subscribe(second);
+
+        first.assertResult(1);
+        second.assertResult(2);
+    }
+
+    @Test
+    public void errorIsShared() {
+        SingleFlight<String, Integer> singleFlight = SingleFlight.create();
+        CompletableFuture<Integer> upstream = new CompletableFuture<>();
+
+        TestSubscriber<Integer> first = new TestSubscriber<>(Long.MAX_VALUE);
+        TestSubscriber<Integer> second = new TestSubscriber<>(Long.MAX_VALUE);
+        singleFlight.execute("key", () -> upstream).subscribe(first);
+        singleFlight.execute("key", () -> upstream).subscribe(second);
+
+        upstream.completeExceptionally(new IOException());
+
+        first.assertFailure(IOException.class);
+        second.assertFailure(IOException.class);
+        assertThat(singleFlight.inFlight(), is(0));
+    }
+
+    @Test
+    public void operationThrows() {
+        SingleFlight<String, Integer> singleFlight = SingleFlight.create();
+
+        TestSubscriber<Integer> ts = new TestSubscriber<>(Long.MAX_VALUE);
+        singleFlight.execute("key", () -> {
+            throw new IllegalStateException();
+        }).subscribe(ts);
+
+        ts.assertFailure(IllegalStateException.class);
+        assertThat(singleFlight.inFlight(), is(0));
+    }
+
+    @Test
+    public void cancelDoesNotAffectOthers() {
+        SingleFlight<String, Integer> singleFlight = SingleFlight.create();
+        CompletableFuture<Integer> upstream = new CompletableFuture<>();
+
+        TestSubscriber<Integer> second = new TestSubscriber<>(Long.MAX_VALUE);
+        singleFlight.execute("key", () -> upstream).cancel();
+        singleFlight.execute("key", () -> upstream).subscribe(second);
+
+        upstream.complete(1);
+        second.assertResult(1);
+    }
+}
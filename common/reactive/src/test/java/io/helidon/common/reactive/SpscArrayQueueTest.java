@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class SpscArrayQueueTest {
+
+    @Test
+    public void capacityRoundedUp() {
+        SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(3);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(queue.offer(i), is(true));
+        }
+        assertThat(queue.offer(4), is(false));
+        assertThat(queue.size(), is(4));
+
+        assertThat(queue.peek(), is(0));
+        assertThat(queue.poll(), is(0));
+        assertThat(queue.offer(4), is(true));
+        for (int i = 1; i < 5; i++) {
+            assertThat(queue.poll(), is(i));
+        }
+        assertThat(queue.poll(), is(nullValue()));
+        assertThat(queue.isEmpty(), is(true));
+    }
+
+    @Test
+    public void clear() {
+        SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(8);
+        queue.offer(1);
+        queue.offer(2);
+
+        queue.clear();
+
+        assertThat(queue.isEmpty(), is(true));
+        assertThat(queue.peek(), is(nullValue()));
+    }
+
+    @Test
+    public void producerConsumerKeepOrder() throws Exception {
+        int count = 1_000_000;
+        SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(128);
+
+        Future<?> producer = ForkJoinPool.commonPool().submit(() -> {
+            for (int i = 0; i < count; i++) {
+                while (!queue.offer(i)) {
+                    Thread.onSpinWait();
+                }
+            }
+        });
+
+        for (int expected = 0; expected < count; expected++) {
+            Integer item;
+            while ((item = queue.poll()) == null) {
+                Thread.onSpinWait();
+            }
+            assertThat(item, is(expected));
+        }
+        producer.get();
+        assertThat(queue.isEmpty(), is(true));
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive.jmh;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.reactive.Multi;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Measures operator chains that are fused ({@code map}, {@code filter}, {@code flatMapIterable})
+ * and the operators using the lock-free queues ({@code flatMap}, {@code observeOn}).
+ */
+@State(Scope.Thread)
+public class OperatorFusionJMH {
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(OperatorFusionJMH.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Param({"1000", "1000000"})
+    int count;
+
+    ExecutorService executor;
+
+    Multi<Integer> mapChain;
+
+    Multi<Integer> filterChain;
+
+    Multi<Integer> mapFlatMapIterable;
+
+    Multi<Integer> flatMap;
+
+    Multi<Integer> observeOn;
+
+    @Setup
+    public void setup() {
+        executor = Executors.newSingleThreadExecutor();
+
+        Integer[] array = new Integer[count];
+        Arrays.fill(array, 777);
+        List<Integer> items = Arrays.asList(array);
+        List<Integer> inner = List.of(1, 2);
+
+        mapChain = Multi.create(items)
+                .map(v -> v + 1)
+                .map(v -> v + 1)
+                .map(v -> v + 1)
+                .map(v -> v + 1);
+        filterChain = Multi.create(items)
+                .filter(v -> v > 0)
+                .filter(v -> v > 1)
+                .filter(v -> v > 2)
+                .filter(v -> v > 3);
+        mapFlatMapIterable = Multi.create(items)
+                .map(v -> v + 1)
+                .flatMapIterable(v -> inner);
+        flatMap = Multi.create(items)
+                .flatMap(v -> Multi.just(v, v));
+        observeOn = Multi.create(items)
+                .observeOn(executor);
+    }
+
+    @TearDown
+    public void teardown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public void mapChain(Blackhole bh) {
+        mapChain.subscribe(new SyncUnboundedJmhSubscriber(bh));
+    }
+
+    @Benchmark
+    public void filterChain(Blackhole bh) {
+        filterChain.subscribe(new SyncUnboundedJmhSubscriber(bh));
+    }
+
+    @Benchmark
+    public void mapFlatMapIterable(Blackhole bh) {
+        mapFlatMapIterable.subscribe(new SyncUnboundedJmhSubscriber(bh));
+    }
+
+    @Benchmark
+    public void flatMap(Blackhole bh) {
+        flatMap.subscribe(new SyncUnboundedJmhSubscriber(bh));
+    }
+
+    @Benchmark
+    public void observeOn(Blackhole bh) {
+        observeOn.forEach(bh::consume).await();
+    }
+}
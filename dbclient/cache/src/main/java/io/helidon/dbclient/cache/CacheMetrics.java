@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.cache;
+
+/**
+ * Events of the result cache to be metered.
+ */
+interface CacheMetrics {
+    /**
+     * Metrics ignoring all events.
+     */
+    CacheMetrics NONE = new CacheMetrics() {
+    };
+
+    /**
+     * Create metrics registered in the application registry.
+     *
+     * @param prefix prefix of the metric names
+     * @return new cache metrics
+     */
+    static CacheMetrics create(String prefix) {
+        return new RegistryCacheMetrics(prefix);
+    }
+
+    /**
+     * A statement result was served from the cache.
+     */
+    default void hit() {
+    }
+
+    /**
+     * A statement result was not found in the cache.
+     */
+    default void miss() {
+    }
+
+    /**
+     * A result was evicted from the full cache.
+     */
+    default void eviction() {
+    }
+
+    /**
+     * Results were invalidated by a data modification.
+     */
+    default void invalidation() {
+    }
+}
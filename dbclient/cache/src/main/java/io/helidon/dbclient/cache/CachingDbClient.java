@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.cache;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import io.helidon.common.reactive.Multi;
+import io.helidon.common.reactive.Single;
+import io.helidon.common.reactive.Subscribable;
+import io.helidon.dbclient.DbClient;
+import io.helidon.dbclient.DbExecute;
+import io.helidon.dbclient.DbTransaction;
+
+/**
+ * Client serving the results of cached statements executed outside of transactions.
+ */
+final class CachingDbClient implements DbClient {
+    private final DbClient delegate;
+    private final DbClientCache cache;
+
+    CachingDbClient(DbClient delegate, DbClientCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <U, T extends Subscribable<U>> T inTransaction(Function<DbTransaction, T> executor) {
+        // a transaction may read its own modifications, its statements are not cached
+        Set<String> tags = ConcurrentHashMap.newKeySet();
+        T result = delegate.inTransaction(tx -> executor.apply(new InvalidatingDbTransaction(tx, cache, tags)));
+        // results read by other statements before the commit may be stored with the data before the transaction
+        Runnable invalidate = () -> {
+            if (!tags.isEmpty()) {
+                cache.cache().invalidate(tags);
+            }
+        };
+        if (result instanceof Multi) {
+            return (T) ((Multi<U>) result).onTerminate(invalidate).onCancel(invalidate);
+        }
+        if (result instanceof Single) {
+            return (T) ((Single<U>) result).onTerminate(invalidate).onCancel(invalidate);
+        }
+        return result;
+    }
+
+    @Override
+    public <U, T extends Subscribable<U>> T execute(Function<DbExecute, T> executor) {
+        return delegate.execute(exec -> executor.apply(new CachingDbExecute(exec, cache)));
+    }
+
+    @Override
+    public String dbType() {
+        return delegate.dbType();
+    }
+
+    @Override
+    public <C> Single<C> unwrap(Class<C> cls) {
+        return delegate.unwrap(cls);
+    }
+}
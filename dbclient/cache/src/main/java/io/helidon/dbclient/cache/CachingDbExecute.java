@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.cache;
+
+import io.helidon.common.reactive.Single;
+import io.helidon.dbclient.DbExecute;
+import io.helidon.dbclient.DbStatementBatch;
+import io.helidon.dbclient.DbStatementDml;
+import io.helidon.dbclient.DbStatementGet;
+import io.helidon.dbclient.DbStatementQuery;
+
+/**
+ * Executor creating caching statements for the named queries and gets with a caching policy.
+ */
+final class CachingDbExecute implements DbExecute {
+    private final DbExecute delegate;
+    private final DbClientCache cache;
+
+    CachingDbExecute(DbExecute delegate, DbClientCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public DbStatementQuery createNamedQuery(String statementName, String statement) {
+        return query(statementName, delegate.createNamedQuery(statementName, statement));
+    }
+
+    @Override
+    public DbStatementQuery createNamedQuery(String statementName) {
+        return query(statementName, delegate.createNamedQuery(statementName));
+    }
+
+    @Override
+    public DbStatementQuery createQuery(String statement) {
+        return delegate.createQuery(statement);
+    }
+
+    @Override
+    public DbStatementGet createNamedGet(String statementName, String statement) {
+        return get(statementName, delegate.createNamedGet(statementName, statement));
+    }
+
+    @Override
+    public DbStatementGet createNamedGet(String statementName) {
+        return get(statementName, delegate.createNamedGet(statementName));
+    }
+
+    @Override
+    public DbStatementGet createGet(String statement) {
+        return delegate.createGet(statement);
+    }
+
+    @Override
+    public DbStatementDml createNamedInsert(String statementName, String statement) {
+        return delegate.createNamedInsert(statementName, statement);
+    }
+
+    @Override
+    public DbStatementDml createNamedInsert(String statementName) {
+        return delegate.createNamedInsert(statementName);
+    }
+
+    @Override
+    public DbStatementDml createInsert(String statement) {
+        return delegate.createInsert(statement);
+    }
+
+    @Override
+    public DbStatementDml createNamedUpdate(String statementName, String statement) {
+        return delegate.createNamedUpdate(statementName, statement);
+    }
+
+    @Override
+    public DbStatementDml createNamedUpdate(String statementName) {
+        return delegate.createNamedUpdate(statementName);
+    }
+
+    @Override
+    public DbStatementDml createUpdate(String statement) {
+        return delegate.createUpdate(statement);
+    }
+
+    @Override
+    public DbStatementDml createNamedDelete(String statementName, String statement) {
+        return delegate.createNamedDelete(statementName, statement);
+    }
+
+    @Override
+    public DbStatementDml createNamedDelete(String statementName) {
+        return delegate.createNamedDelete(statementName);
+    }
+
+    @Override
+    public DbStatementDml createDelete(String statement) {
+        return delegate.createDelete(statement);
+    }
+
+    @Override
+    public DbStatementDml createNamedDmlStatement(String statementName, String statement) {
+        return delegate.createNamedDmlStatement(statementName, statement);
+    }
+
+    @Override
+    public DbStatementDml createNamedDmlStatement(String statementName) {
+        return delegate.createNamedDmlStatement(statementName);
+    }
+
+    @Override
+    public DbStatementDml createDmlStatement(String statement) {
+        return delegate.createDmlStatement(statement);
+    }
+
+    @Override
+    public DbStatementBatch createNamedBatch(String statementName, String statement) {
+        return delegate.createNamedBatch(statementName, statement);
+    }
+
+    @Override
+    public DbStatementBatch createNamedBatch(String statementName) {
+        return delegate.createNamedBatch(statementName);
+    }
+
+    @Override
+    public DbStatementBatch createBatch(String statement) {
+        return delegate.createBatch(statement);
+    }
+
+    @Override
+    public <C> Single<C> unwrap(Class<C> cls) {
+        return delegate.unwrap(cls);
+    }
+
+    private DbStatementQuery query(String statementName, DbStatementQuery statement) {
+        DbClientCache.Policy policy = cache.policy(statementName);
+        return policy == null
+                ? statement
+                : new CachingStatementQuery(statementName, statement, policy, cache.cache(), cache.maxRows());
+    }
+
+    private DbStatementGet get(String statementName, DbStatementGet statement) {
+        DbClientCache.Policy policy = cache.policy(statementName);
+        return policy == null ? statement : new CachingStatementGet(statementName, statement, policy, cache.cache());
+    }
+}
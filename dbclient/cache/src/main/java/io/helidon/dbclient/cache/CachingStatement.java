@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import io.helidon.dbclient.DbStatement;
+
+/**
+ * Statement serving its result from the cache, and storing it when executed.
+ * Parameters are passed to the underlying statement and kept to obtain the cache key.
+ *
+ * @param <D> type of the statement
+ * @param <R> type of the statement result
+ */
+abstract class CachingStatement<D extends DbStatement<D, R>, R> implements DbStatement<D, R> {
+    private final String statementName;
+    private final D delegate;
+    private final DbClientCache.Policy policy;
+    private final ResultCache cache;
+    private final List<Object> indexedParams = new ArrayList<>();
+    private final Map<String, Object> namedParams = new HashMap<>();
+    // parameters mapped from an object may change without the key knowing
+    private boolean cacheable = true;
+
+    CachingStatement(String statementName, D delegate, DbClientCache.Policy policy, ResultCache cache) {
+        this.statementName = statementName;
+        this.delegate = delegate;
+        this.policy = policy;
+        this.cache = cache;
+    }
+
+    @Override
+    public D params(List<?> parameters) {
+        delegate.params(parameters);
+        indexedParams.addAll(parameters);
+        return me();
+    }
+
+    @Override
+    public D params(Map<String, ?> parameters) {
+        delegate.params(parameters);
+        namedParams.putAll(parameters);
+        return me();
+    }
+
+    @Override
+    public D namedParam(Object parameters) {
+        delegate.namedParam(parameters);
+        cacheable = false;
+        return me();
+    }
+
+    @Override
+    public D indexedParam(Object parameters) {
+        delegate.indexedParam(parameters);
+        cacheable = false;
+        return me();
+    }
+
+    @Override
+    public D addParam(Object parameter) {
+        delegate.addParam(parameter);
+        indexedParams.add(parameter);
+        return me();
+    }
+
+    @Override
+    public D addParam(String name, Object parameter) {
+        delegate.addParam(name, parameter);
+        namedParams.put(name, parameter);
+        return me();
+    }
+
+    @Override
+    public R execute() {
+        if (!cacheable) {
+            return delegate.execute();
+        }
+        ResultCache.Key key = new ResultCache.Key(statementName, namedParams.isEmpty()
+                ? new ArrayList<>(indexedParams)
+                : new HashMap<>(namedParams));
+        Object cached = cache.get(key);
+        if (cached != null) {
+            return cached(cached);
+        }
+        long generation = cache.generation(policy.tags());
+        return execute(delegate, result -> cache.put(key, result, policy.ttlNanos(), policy.tags(), generation));
+    }
+
+    /**
+     * Underlying statement.
+     *
+     * @return statement
+     */
+    D delegate() {
+        return delegate;
+    }
+
+    /**
+     * Do not cache the result, such as when the statement is configured in a way the cache key does not know.
+     */
+    void notCacheable() {
+        cacheable = false;
+    }
+
+    /**
+     * Create the result of a statement served from the cache.
+     *
+     * @param value cached value stored by {@link #execute(DbStatement, Consumer)}
+     * @return statement result
+     */
+    abstract R cached(Object value);
+
+    /**
+     * Execute the underlying statement.
+     *
+     * @param statement underlying statement
+     * @param store consumer storing the value to cache once the result is complete
+     * @return statement result
+     */
+    abstract R execute(D statement, Consumer<Object> store);
+
+    @SuppressWarnings("unchecked")
+    private D me() {
+        return (D) this;
+    }
+}
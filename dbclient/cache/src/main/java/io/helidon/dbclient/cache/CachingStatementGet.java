@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.cache;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import io.helidon.common.reactive.Single;
+import io.helidon.dbclient.DbRow;
+import io.helidon.dbclient.DbStatementGet;
+
+/**
+ * Get caching its optional row.
+ */
+final class CachingStatementGet extends CachingStatement<DbStatementGet, Single<Optional<DbRow>>> implements DbStatementGet {
+
+    CachingStatementGet(String statementName, DbStatementGet delegate, DbClientCache.Policy policy, ResultCache cache) {
+        super(statementName, delegate, policy, cache);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    Single<Optional<DbRow>> cached(Object value) {
+        return Single.just((Optional<DbRow>) value);
+    }
+
+    @Override
+    Single<Optional<DbRow>> execute(DbStatementGet statement, Consumer<Object> store) {
+        return statement.execute().peek(store);
+    }
+}
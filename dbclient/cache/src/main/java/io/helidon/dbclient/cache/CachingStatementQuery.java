@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import io.helidon.common.reactive.Multi;
+import io.helidon.dbclient.DbRow;
+import io.helidon.dbclient.DbStatementQuery;
+
+/**
+ * Query caching all its rows, unless there are more rows than the limit.
+ */
+final class CachingStatementQuery extends CachingStatement<DbStatementQuery, Multi<DbRow>> implements DbStatementQuery {
+    private final int maxRows;
+
+    CachingStatementQuery(String statementName,
+                          DbStatementQuery delegate,
+                          DbClientCache.Policy policy,
+                          ResultCache cache,
+                          int maxRows) {
+        super(statementName, delegate, policy, cache);
+        this.maxRows = maxRows;
+    }
+
+    @Override
+    public DbStatementQuery fetchSize(int fetchSize) {
+        delegate().fetchSize(fetchSize);
+        return this;
+    }
+
+    @Override
+    public DbStatementQuery columns(String... names) {
+        delegate().columns(names);
+        // rows with only some of the columns must not be served to other queries
+        notCacheable();
+        return this;
+    }
+
+    @Override
+    public DbStatementQuery columnsOf(Class<?> type) {
+        delegate().columnsOf(type);
+        notCacheable();
+        return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    Multi<DbRow> cached(Object value) {
+        return Multi.create((List<DbRow>) value);
+    }
+
+    @Override
+    Multi<DbRow> execute(DbStatementQuery statement, Consumer<Object> store) {
+        Rows rows = new Rows(maxRows);
+        // rows are only stored once all of them were read
+        return statement.execute()
+                .peek(rows::add)
+                .onComplete(() -> rows.store(store));
+    }
+
+    /**
+     * Rows collected to be cached. Collecting stops once there are more rows than the limit,
+     * the rest of the rows stream through uncached and the result is not stored.
+     */
+    private static final class Rows {
+        private final int maxRows;
+        private List<DbRow> rows = new ArrayList<>();
+
+        private Rows(int maxRows) {
+            this.maxRows = maxRows;
+        }
+
+        private void add(DbRow row) {
+            if (rows == null) {
+                return;
+            }
+            if (rows.size() == maxRows) {
+                rows = null;
+            } else {
+                rows.add(row);
+            }
+        }
+
+        private void store(Consumer<Object> store) {
+            if (rows != null) {
+                store.accept(Collections.unmodifiableList(rows));
+            }
+        }
+    }
+}
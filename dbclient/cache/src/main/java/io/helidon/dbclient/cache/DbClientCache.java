@@ -0,0 +1,344 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.cache;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import io.helidon.common.reactive.Single;
+import io.helidon.config.Config;
+import io.helidon.dbclient.DbClient;
+import io.helidon.dbclient.DbClientServiceContext;
+import io.helidon.dbclient.common.DbClientServiceBase;
+
+/**
+ * Client service caching the results of named queries and gets.
+ * <p>
+ * Results of the statements configured with {@link Builder#cache(String, java.time.Duration, String...)}
+ * are served from the cache until their time to live elapses, or until a statement configured with
+ * {@link Builder#invalidate(String, String...)} modifies the data of one of their tags.
+ * The cache is keyed by the statement name and its parameters, statements with parameters set using
+ * {@link io.helidon.dbclient.DbStatement#namedParam(Object)} or
+ * {@link io.helidon.dbclient.DbStatement#indexedParam(Object)} are always executed.
+ * Rows of a query are kept on heap until the query completes, a query with more rows than
+ * {@link Builder#maxRows(int)} is not cached.
+ * <p>
+ * Statements executed in a transaction are neither served from nor stored in the cache, yet invalidate it.
+ * Results are invalidated when the modifying statement starts and when it completes, and again when the result
+ * of its transaction terminates, once the transaction is committed. Other client services are not invoked for
+ * results served from the cache.
+ * <p>
+ * The service must be registered with {@link io.helidon.dbclient.DbClient.Builder} for the client to be decorated,
+ * hits, misses, evictions and invalidations are counted in the application metric registry.
+ */
+public class DbClientCache extends DbClientServiceBase {
+    private static final String METRICS_PREFIX = "db.cache.";
+
+    private final boolean enabled;
+    private final Map<String, Policy> policies;
+    private final Map<String, Set<String>> invalidations;
+    private final ResultCache cache;
+    private final int maxRows;
+
+    private DbClientCache(Builder builder) {
+        super(builder);
+        this.enabled = builder.serviceEnabled();
+        this.policies = Map.copyOf(builder.policies);
+        this.invalidations = Map.copyOf(builder.invalidations);
+        CacheMetrics metrics = builder.metricsEnabled ? CacheMetrics.create(METRICS_PREFIX) : CacheMetrics.NONE;
+        this.cache = new ResultCache(builder.maxSize, builder.eviction, metrics, System::nanoTime);
+        this.maxRows = builder.maxRows;
+    }
+
+    /**
+     * Create a new cache based on the configuration.
+     *
+     * @param config configuration node for this cache
+     * @return a new cache
+     */
+    public static DbClientCache create(Config config) {
+        return builder().config(config).build();
+    }
+
+    /**
+     * Create a new builder.
+     *
+     * @return a new builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public DbClient decorate(DbClient client) {
+        if (!enabled || policies.isEmpty()) {
+            return client;
+        }
+        return new CachingDbClient(client, this);
+    }
+
+    @Override
+    protected Single<DbClientServiceContext> apply(DbClientServiceContext context) {
+        Set<String> tags = invalidations.get(context.statementName());
+        if (tags != null) {
+            cache.invalidate(tags);
+            // results of statements started in the meantime may already be stale
+            context.statementFuture().whenComplete((nothing, throwable) -> cache.invalidate(tags));
+        }
+        return Single.just(context);
+    }
+
+    /**
+     * Caching policy of a statement.
+     *
+     * @param statementName name of the statement
+     * @return policy, or {@code null} if the statement is not cached
+     */
+    Policy policy(String statementName) {
+        return policies.get(statementName);
+    }
+
+    /**
+     * Tags invalidated by a statement.
+     *
+     * @param statementName name of the statement
+     * @return tags, or {@code null} if the statement does not invalidate the cache
+     */
+    Set<String> invalidations(String statementName) {
+        return invalidations.get(statementName);
+    }
+
+    ResultCache cache() {
+        return cache;
+    }
+
+    /**
+     * Maximal number of rows of a cached query result.
+     *
+     * @return maximal number of rows
+     */
+    int maxRows() {
+        return maxRows;
+    }
+
+    /**
+     * Eviction strategy of a full cache.
+     */
+    public enum Eviction {
+        /**
+         * Evict the least recently used result.
+         */
+        LRU,
+        /**
+         * Evict the least frequently used result, the oldest one of them when they are used equally.
+         */
+        LFU
+    }
+
+    /**
+     * Caching policy of a statement.
+     */
+    static final class Policy {
+        private final long ttlNanos;
+        private final Set<String> tags;
+
+        private Policy(Duration ttl, Set<String> tags) {
+            this.ttlNanos = ttl.toNanos();
+            this.tags = tags;
+        }
+
+        long ttlNanos() {
+            return ttlNanos;
+        }
+
+        Set<String> tags() {
+            return tags;
+        }
+    }
+
+    /**
+     * Fluent API builder for {@link io.helidon.dbclient.cache.DbClientCache}.
+     */
+    public static class Builder extends DbClientServiceBuilderBase<Builder>
+            implements io.helidon.common.Builder<Builder, DbClientCache> {
+
+        private final Map<String, Policy> policies = new HashMap<>();
+        private final Map<String, Set<String>> invalidations = new HashMap<>();
+        private int maxSize = 1000;
+        private int maxRows = 1000;
+        private Eviction eviction = Eviction.LRU;
+        private boolean metricsEnabled = true;
+
+        private Builder() {
+        }
+
+        @Override
+        public DbClientCache build() {
+            return new DbClientCache(this);
+        }
+
+        /**
+         * Configure this cache from config.
+         * <p>
+         * In addition to the keys of {@link DbClientServiceBuilderBase#config(io.helidon.config.Config)},
+         * the following keys are supported:
+         * <table class="config">
+         * <caption>DB Client Cache configuration options</caption>
+         * <tr>
+         *  <th>key</th>
+         *  <th>default value</th>
+         *  <th>description</th>
+         * </tr>
+         * <tr>
+         *  <td>max-size</td>
+         *  <td>{@code 1000}</td>
+         *  <td>Maximal number of cached results. See {@link #maxSize(int)}</td>
+         * </tr>
+         * <tr>
+         *  <td>max-rows</td>
+         *  <td>{@code 1000}</td>
+         *  <td>Maximal number of rows of a cached query result. See {@link #maxRows(int)}</td>
+         * </tr>
+         * <tr>
+         *  <td>eviction</td>
+         *  <td>{@code LRU}</td>
+         *  <td>Eviction strategy of a full cache, {@code LRU} or {@code LFU}. See {@link #eviction(Eviction)}</td>
+         * </tr>
+         * <tr>
+         *  <td>metrics-enabled</td>
+         *  <td>{@code true}</td>
+         *  <td>Whether to count hits, misses, evictions and invalidations. See {@link #metricsEnabled(boolean)}</td>
+         * </tr>
+         * <tr>
+         *  <td>statements</td>
+         *  <td>&nbsp;</td>
+         *  <td>A list of statements, each with a {@code name} and either a {@code ttl} and optional {@code tags}
+         *  to cache its results, or {@code invalidates} with the tags whose results it modifies.
+         *  See {@link #cache(String, java.time.Duration, String...)} and {@link #invalidate(String, String...)}</td>
+         * </tr>
+         * </table>
+         *
+         * @param config configuration on the node of this service
+         * @return updated builder instance
+         */
+        @Override
+        public Builder config(Config config) {
+            super.config(config);
+            config.get("max-size").asInt().ifPresent(this::maxSize);
+            config.get("max-rows").asInt().ifPresent(this::maxRows);
+            config.get("eviction").asString().map(Eviction::valueOf).ifPresent(this::eviction);
+            config.get("metrics-enabled").asBoolean().ifPresent(this::metricsEnabled);
+            config.get("statements").asNodeList().ifPresent(statements -> statements.forEach(statement -> {
+                String name = statement.get("name").asString().get();
+                String[] tags = statement.get("tags").asList(String.class).orElseGet(List::of).toArray(new String[0]);
+                statement.get("ttl").as(Duration.class).ifPresent(ttl -> cache(name, ttl, tags));
+                statement.get("invalidates").asList(String.class)
+                        .ifPresent(invalidated -> invalidate(name, invalidated.toArray(new String[0])));
+            }));
+            return this;
+        }
+
+        /**
+         * Maximal number of cached results, defaults to {@code 1000}.
+         *
+         * @param maxSize maximal number of results
+         * @return updated builder instance
+         */
+        public Builder maxSize(int maxSize) {
+            if (maxSize <= 0) {
+                throw new IllegalArgumentException("Cache size must be positive: " + maxSize);
+            }
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * Maximal number of rows of a cached query result, defaults to {@code 1000}.
+         * The rows of a query are collected until it completes, once a query returns more rows,
+         * collecting stops and the rest of its rows are streamed without caching the result.
+         *
+         * @param maxRows maximal number of rows
+         * @return updated builder instance
+         */
+        public Builder maxRows(int maxRows) {
+            if (maxRows < 0) {
+                throw new IllegalArgumentException("Max rows must not be negative: " + maxRows);
+            }
+            this.maxRows = maxRows;
+            return this;
+        }
+
+        /**
+         * Eviction strategy of a full cache, defaults to {@link Eviction#LRU}.
+         *
+         * @param eviction eviction strategy
+         * @return updated builder instance
+         */
+        public Builder eviction(Eviction eviction) {
+            this.eviction = Objects.requireNonNull(eviction);
+            return this;
+        }
+
+        /**
+         * Whether to count hits, misses, evictions and invalidations in the application metric registry,
+         * enabled by default.
+         *
+         * @param metricsEnabled whether metrics are enabled
+         * @return updated builder instance
+         */
+        public Builder metricsEnabled(boolean metricsEnabled) {
+            this.metricsEnabled = metricsEnabled;
+            return this;
+        }
+
+        /**
+         * Cache the results of a named query or get.
+         *
+         * @param statementName name of the statement
+         * @param ttl time to live of the results
+         * @param tags tags of the data the results depend on
+         * @return updated builder instance
+         */
+        public Builder cache(String statementName, Duration ttl, String... tags) {
+            if (ttl.isNegative() || ttl.isZero()) {
+                throw new IllegalArgumentException("Time to live of " + statementName + " must be positive: " + ttl);
+            }
+            policies.put(statementName, new Policy(ttl, Set.copyOf(Arrays.asList(tags))));
+            return this;
+        }
+
+        /**
+         * Invalidate the cached results with any of the tags when the named statement is executed.
+         *
+         * @param statementName name of the statement modifying the data
+         * @param tags tags of the modified data
+         * @return updated builder instance
+         */
+        public Builder invalidate(String statementName, String... tags) {
+            invalidations.put(statementName, Set.copyOf(Arrays.asList(tags)));
+            return this;
+        }
+
+        private boolean serviceEnabled() {
+            return enabled();
+        }
+    }
+}
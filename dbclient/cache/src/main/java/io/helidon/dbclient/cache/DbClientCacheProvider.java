@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.cache;
+
+import java.util.Collection;
+import java.util.List;
+
+import io.helidon.config.Config;
+import io.helidon.dbclient.DbClientService;
+import io.helidon.dbclient.spi.DbClientServiceProvider;
+
+/**
+ * Java service loader service for DB query result cache.
+ */
+public class DbClientCacheProvider implements DbClientServiceProvider {
+    @Override
+    public String configKey() {
+        return "cache";
+    }
+
+    @Override
+    public Collection<DbClientService> create(Config config) {
+        return List.of(DbClientCache.create(config));
+    }
+}
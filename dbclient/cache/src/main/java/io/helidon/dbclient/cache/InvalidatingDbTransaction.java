@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.cache;
+
+import java.util.Set;
+
+import io.helidon.common.reactive.Single;
+import io.helidon.dbclient.DbStatementBatch;
+import io.helidon.dbclient.DbStatementDml;
+import io.helidon.dbclient.DbStatementGet;
+import io.helidon.dbclient.DbStatementQuery;
+import io.helidon.dbclient.DbTransaction;
+
+/**
+ * Transaction collecting the tags invalidated by its statements, to invalidate them again once it is committed.
+ */
+final class InvalidatingDbTransaction implements DbTransaction {
+    private final DbTransaction delegate;
+    private final DbClientCache cache;
+    private final Set<String> tags;
+
+    InvalidatingDbTransaction(DbTransaction delegate, DbClientCache cache, Set<String> tags) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.tags = tags;
+    }
+
+    @Override
+    public void rollback() {
+        delegate.rollback();
+    }
+
+    @Override
+    public DbStatementQuery createNamedQuery(String statementName, String statement) {
+        return delegate.createNamedQuery(invalidating(statementName), statement);
+    }
+
+    @Override
+    public DbStatementQuery createNamedQuery(String statementName) {
+        return delegate.createNamedQuery(invalidating(statementName));
+    }
+
+    @Override
+    public DbStatementQuery createQuery(String statement) {
+        return delegate.createQuery(statement);
+    }
+
+    @Override
+    public DbStatementGet createNamedGet(String statementName, String statement) {
+        return delegate.createNamedGet(invalidating(statementName), statement);
+    }
+
+    @Override
+    public DbStatementGet createNamedGet(String statementName) {
+        return delegate.createNamedGet(invalidating(statementName));
+    }
+
+    @Override
+    public DbStatementGet createGet(String statement) {
+        return delegate.createGet(statement);
+    }
+
+    @Override
+    public DbStatementDml createNamedInsert(String statementName, String statement) {
+        return delegate.createNamedInsert(invalidating(statementName), statement);
+    }
+
+    @Override
+    public DbStatementDml createNamedInsert(String statementName) {
+        return delegate.createNamedInsert(invalidating(statementName));
+    }
+
+    @Override
+    public DbStatementDml createInsert(String statement) {
+        return delegate.createInsert(statement);
+    }
+
+    @Override
+    public DbStatementDml createNamedUpdate(String statementName, String statement) {
+        return delegate.createNamedUpdate(invalidating(statementName), statement);
+    }
+
+    @Override
+    public DbStatementDml createNamedUpdate(String statementName) {
+        return delegate.createNamedUpdate(invalidating(statementName));
+    }
+
+    @Override
+    public DbStatementDml createUpdate(String statement) {
+        return delegate.createUpdate(statement);
+    }
+
+    @Override
+    public DbStatementDml createNamedDelete(String statementName, String statement) {
+        return delegate.createNamedDelete(invalidating(statementName), statement);
+    }
+
+    @Override
+    public DbStatementDml createNamedDelete(String statementName) {
+        return delegate.createNamedDelete(invalidating(statementName));
+    }
+
+    @Override
+    public DbStatementDml createDelete(String statement) {
+        return delegate.createDelete(statement);
+    }
+
+    @Override
+    public DbStatementDml createNamedDmlStatement(String statementName, String statement) {
+        return delegate.createNamedDmlStatement(invalidating(statementName), statement);
+    }
+
+    @Override
+    public DbStatementDml createNamedDmlStatement(String statementName) {
+        return delegate.createNamedDmlStatement(invalidating(statementName));
+    }
+
+    @Override
+    public DbStatementDml createDmlStatement(String statement) {
+        return delegate.createDmlStatement(statement);
+    }
+
+    @Override
+    public DbStatementBatch createNamedBatch(String statementName, String statement) {
+        return delegate.createNamedBatch(invalidating(statementName), statement);
+    }
+
+    @Override
+    public DbStatementBatch createNamedBatch(String statementName) {
+        return delegate.createNamedBatch(invalidating(statementName));
+    }
+
+    @Override
+    public DbStatementBatch createBatch(String statement) {
+        return delegate.createBatch(statement);
+    }
+
+    @Override
+    public <C> Single<C> unwrap(Class<C> cls) {
+        return delegate.unwrap(cls);
+    }
+
+    private String invalidating(String statementName) {
+        Set<String> invalidated = cache.invalidations(statementName);
+        if (invalidated != null) {
+            tags.addAll(invalidated);
+        }
+        return statementName;
+    }
+}
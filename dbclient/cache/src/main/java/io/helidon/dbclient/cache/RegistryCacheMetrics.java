@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.cache;
+
+import io.helidon.common.LazyValue;
+import io.helidon.metrics.api.RegistryFactory;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+
+/**
+ * Cache metrics counted in the application metric registry.
+ */
+final class RegistryCacheMetrics implements CacheMetrics {
+    private final LazyValue<MetricRegistry> registry = LazyValue.create(() ->
+            RegistryFactory.getInstance().getRegistry(MetricRegistry.Type.APPLICATION));
+    private final LazyValue<Counter> hits;
+    private final LazyValue<Counter> misses;
+    private final LazyValue<Counter> evictions;
+    private final LazyValue<Counter> invalidations;
+
+    RegistryCacheMetrics(String prefix) {
+        this.hits = counter(prefix + "hits", "Statement executions served from the cache");
+        this.misses = counter(prefix + "misses", "Statement executions not found in the cache");
+        this.evictions = counter(prefix + "evictions", "Results evicted from the full cache");
+        this.invalidations = counter(prefix + "invalidations", "Data modifications invalidating cached results");
+    }
+
+    @Override
+    public void hit() {
+        hits.get().inc();
+    }
+
+    @Override
+    public void miss() {
+        misses.get().inc();
+    }
+
+    @Override
+    public void eviction() {
+        evictions.get().inc();
+    }
+
+    @Override
+    public void invalidation() {
+        invalidations.get().inc();
+    }
+
+    private LazyValue<Counter> counter(String name, String description) {
+        return LazyValue.create(() -> registry.get().counter(Metadata.builder()
+                                                                     .withName(name)
+                                                                     .withDescription(description)
+                                                                     .withType(MetricType.COUNTER)
+                                                                     .build()));
+    }
+}
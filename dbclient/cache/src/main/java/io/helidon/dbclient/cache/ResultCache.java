@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.cache;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Size bounded store of statement results.
+ * <p>
+ * Each result expires after the time to live of its statement, and is removed when a data modification
+ * invalidates one of its tags. Every tag has a generation incremented by its invalidations, so the result
+ * of a statement that was running while its tags were invalidated is never stored.
+ */
+final class ResultCache {
+    private final int maxSize;
+    private final DbClientCache.Eviction eviction;
+    private final CacheMetrics metrics;
+    private final LongSupplier nanoTime;
+    private final LinkedHashMap<Key, Entry> entries;
+    // entries by their hit count, only used by LFU eviction
+    private final TreeMap<Long, Set<Key>> frequencies = new TreeMap<>();
+    private final Map<String, Long> generations = new HashMap<>();
+
+    ResultCache(int maxSize, DbClientCache.Eviction eviction, CacheMetrics metrics, LongSupplier nanoTime) {
+        this.maxSize = maxSize;
+        this.eviction = eviction;
+        this.metrics = metrics;
+        this.nanoTime = nanoTime;
+        // access order keeps the least recently used entry first
+        this.entries = new LinkedHashMap<>(16, 0.75f, eviction == DbClientCache.Eviction.LRU);
+    }
+
+    /**
+     * Get the cached result of a statement.
+     *
+     * @param key statement key
+     * @return cached result, or {@code null} if there is none
+     */
+    synchronized Object get(Key key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            metrics.miss();
+            return null;
+        }
+        if (nanoTime.getAsLong() - entry.expiration >= 0) {
+            remove(key, entry);
+            metrics.miss();
+            return null;
+        }
+        if (eviction == DbClientCache.Eviction.LFU) {
+            removeFrequency(key, entry.frequency);
+            entry.frequency++;
+            addFrequency(key, entry.frequency);
+        }
+        metrics.hit();
+        return entry.value;
+    }
+
+    /**
+     * Current generation of the tags, to be obtained before a statement is executed and provided
+     * to {@link #put(Key, Object, long, Set, long)} with its result.
+     *
+     * @param tags tags of the statement
+     * @return generation of the tags
+     */
+    synchronized long generation(Set<String> tags) {
+        long generation = 0;
+        for (String tag : tags) {
+            // generations never decrease, so any invalidation changes the sum
+            generation += generations.getOrDefault(tag, 0L);
+        }
+        return generation;
+    }
+
+    /**
+     * Store the result of a statement.
+     * The result is ignored if its tags were invalidated since the generation was obtained.
+     *
+     * @param key statement key
+     * @param value statement result
+     * @param ttlNanos time to live of the result in nanoseconds
+     * @param tags tags of the statement
+     * @param generation generation of the tags before the statement was executed
+     */
+    synchronized void put(Key key, Object value, long ttlNanos, Set<String> tags, long generation) {
+        if (generation(tags) != generation) {
+            return;
+        }
+        Entry previous = entries.remove(key);
+        if (previous != null && eviction == DbClientCache.Eviction.LFU) {
+            removeFrequency(key, previous.frequency);
+        }
+        while (entries.size() >= maxSize && !entries.isEmpty()) {
+            evict();
+        }
+        entries.put(key, new Entry(value, nanoTime.getAsLong() + ttlNanos, tags));
+        if (eviction == DbClientCache.Eviction.LFU) {
+            addFrequency(key, 1);
+        }
+    }
+
+    /**
+     * Remove all results with any of the tags.
+     *
+     * @param tags invalidated tags
+     */
+    synchronized void invalidate(Set<String> tags) {
+        for (String tag : tags) {
+            generations.merge(tag, 1L, Long::sum);
+        }
+        Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, Entry> next = iterator.next();
+            Entry entry = next.getValue();
+            for (String tag : entry.tags) {
+                if (tags.contains(tag)) {
+                    iterator.remove();
+                    if (eviction == DbClientCache.Eviction.LFU) {
+                        removeFrequency(next.getKey(), entry.frequency);
+                    }
+                    break;
+                }
+            }
+        }
+        metrics.invalidation();
+    }
+
+    /**
+     * Number of cached results, including the expired ones not removed yet.
+     *
+     * @return number of results
+     */
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private void evict() {
+        Key key;
+        if (eviction == DbClientCache.Eviction.LFU) {
+            key = frequencies.firstEntry().getValue().iterator().next();
+        } else {
+            key = entries.keySet().iterator().next();
+        }
+        remove(key, entries.get(key));
+        metrics.eviction();
+    }
+
+    private void remove(Key key, Entry entry) {
+        entries.remove(key);
+        if (eviction == DbClientCache.Eviction.LFU) {
+            removeFrequency(key, entry.frequency);
+        }
+    }
+
+    private void addFrequency(Key key, long frequency) {
+        frequencies.computeIfAbsent(frequency, it -> new LinkedHashSet<>()).add(key);
+    }
+
+    private void removeFrequency(Key key, long frequency) {
+        Set<Key> keys = frequencies.get(frequency);
+        keys.remove(key);
+        if (keys.isEmpty()) {
+            frequencies.remove(frequency);
+        }
+    }
+
+    /**
+     * Key of a statement result, the statement name and its parameters.
+     */
+    static final class Key {
+        private final String statementName;
+        private final Object parameters;
+        private final int hash;
+
+        Key(String statementName, Object parameters) {
+            this.statementName = statementName;
+            this.parameters = parameters;
+            this.hash = 31 * statementName.hashCode() + Objects.hashCode(parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return hash == other.hash
+                    && statementName.equals(other.statementName)
+                    && Objects.equals(parameters, other.parameters);
+        }
+
+        @Override
+        public String toString() {
+            return statementName + parameters;
+        }
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final long expiration;
+        private final Set<String> tags;
+        private long frequency = 1;
+
+        private Entry(Object value, long expiration, Set<String> tags) {
+            this.value = value;
+            this.expiration = expiration;
+            this.tags = tags;
+        }
+    }
+}
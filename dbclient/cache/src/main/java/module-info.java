@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import io.helidon.dbclient.cache.DbClientCacheProvider;
+import io.helidon.dbclient.spi.DbClientServiceProvider;
+
+/**
+ * Helidon DB Client Cache.
+ */
+module io.helidon.dbclient.cache {
+    requires java.logging;
+    requires io.helidon.dbclient;
+    requires io.helidon.dbclient.common;
+    requires io.helidon.metrics.api;
+
+    exports io.helidon.dbclient.cache;
+    provides DbClientServiceProvider with DbClientCacheProvider;
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.cache;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import io.helidon.common.reactive.Multi;
+import io.helidon.common.reactive.Single;
+import io.helidon.common.reactive.Subscribable;
+import io.helidon.dbclient.DbClient;
+import io.helidon.dbclient.DbClientServiceContext;
+import io.helidon.dbclient.DbExecute;
+import io.helidon.dbclient.DbRow;
+import io.helidon.dbclient.DbStatementDml;
+import io.helidon.dbclient.DbStatementGet;
+import io.helidon.dbclient.DbStatementQuery;
+import io.helidon.dbclient.DbStatementType;
+import io.helidon.dbclient.DbTransaction;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * DB client cache tests.
+ */
+public class DbClientCacheTest {
+
+    private static final DbRow ROW = proxy(DbRow.class, (method, args) -> null);
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private final CompletableFuture<Long> commit = new CompletableFuture<>();
+    private final TestClient client = new TestClient();
+
+    @Test
+    void testQuery() {
+        DbClient cached = DbClientCache.builder()
+                .metricsEnabled(false)
+                .cache("select-types", Duration.ofMinutes(1))
+                .build()
+                .decorate(client);
+
+        assertThat(query(cached, "select-types", 1), is(List.of(ROW)));
+        assertThat(query(cached, "select-types", 1), is(List.of(ROW)));
+        assertThat(executions.get(), is(1));
+        assertThat(query(cached, "select-types", 2), is(List.of(ROW)));
+        assertThat(executions.get(), is(2));
+        query(cached, "select-pokemons", 1);
+        query(cached, "select-pokemons", 1);
+        assertThat(executions.get(), is(4));
+    }
+
+    @Test
+    void testGet() {
+        DbClient cached = DbClientCache.builder()
+                .metricsEnabled(false)
+                .cache("get-type", Duration.ofMinutes(1))
+                .build()
+                .decorate(client);
+
+        for (int i = 0; i < 3; i++) {
+            Optional<DbRow> row = cached.execute(exec -> exec.createNamedGet("get-type")
+                            .addParam("id", 1)
+                            .execute())
+                    .await();
+            assertThat(row, is(Optional.of(ROW)));
+        }
+        assertThat(executions.get(), is(1));
+    }
+
+    @Test
+    void testInvalidation() {
+        DbClientCache cache = DbClientCache.builder()
+                .metricsEnabled(false)
+                .cache("select-types", Duration.ofMinutes(1), "types")
+                .invalidate("insert-type", "types")
+                .build();
+        DbClient cached = cache.decorate(client);
+
+        query(cached, "select-types", 1);
+        CompletableFuture<Void> statementFuture = new CompletableFuture<>();
+        cache.statement(DbClientServiceContext.create("test")
+                                .statementName("insert-type")
+                                .statementType(DbStatementType.INSERT)
+                                .statementFuture(statementFuture))
+                .await();
+        query(cached, "select-types", 1);
+        assertThat(executions.get(), is(2));
+
+        // the query may have read the data before the insert completed
+        statementFuture.complete(null);
+        query(cached, "select-types", 1);
+        query(cached, "select-types", 1);
+        assertThat(executions.get(), is(3));
+    }
+
+    @Test
+    void testTransactionInvalidation() {
+        DbClient cached = DbClientCache.builder()
+                .metricsEnabled(false)
+                .cache("select-types", Duration.ofMinutes(1), "types")
+                .invalidate("insert-type", "types")
+                .build()
+                .decorate(client);
+
+        query(cached, "select-types", 1);
+        Single<Long> result = cached.inTransaction(tx -> tx.createNamedInsert("insert-type").execute());
+        CompletableFuture<Long> terminated = result.toStage().toCompletableFuture();
+        // the statement of the test transaction does not invoke the service, only the commit invalidates the result
+        query(cached, "select-types", 1);
+        assertThat(executions.get(), is(1));
+
+        commit.complete(1L);
+        assertThat(terminated.join(), is(1L));
+        query(cached, "select-types", 1);
+        assertThat(executions.get(), is(2));
+    }
+
+    @Test
+    void testMaxRows() {
+        DbClient cached = DbClientCache.builder()
+                .metricsEnabled(false)
+                .maxRows(2)
+                .cache("select-types", Duration.ofMinutes(1))
+                .cache("select-all", Duration.ofMinutes(1))
+                .build()
+                .decorate(client);
+
+        // more rows than the limit are streamed without caching the result
+        assertThat(query(cached, "select-all", 1), is(List.of(ROW, ROW, ROW)));
+        assertThat(query(cached, "select-all", 1), is(List.of(ROW, ROW, ROW)));
+        assertThat(executions.get(), is(2));
+        query(cached, "select-types", 1);
+        query(cached, "select-types", 1);
+        assertThat(executions.get(), is(3));
+    }
+
+    @Test
+    void testNotCached() {
+        DbClientCache cache = DbClientCache.builder()
+                .metricsEnabled(false)
+                .cache("select-types", Duration.ofMinutes(1))
+                .build();
+        DbClient cached = cache.decorate(client);
+
+        for (int i = 0; i < 2; i++) {
+            cached.execute(exec -> exec.createNamedQuery("select-types").namedParam(new Object()).execute())
+                    .collectList()
+                    .await();
+        }
+        assertThat(executions.get(), is(2));
+        // nothing to cache
+        assertThat(DbClientCache.builder().build().decorate(client), sameInstance(client));
+    }
+
+    private static List<DbRow> query(DbClient client, String statementName, int param) {
+        return client.execute(exec -> exec.createNamedQuery(statementName).params(param).execute())
+                .collectList()
+                .await();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, ProxyHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(),
+                                          new Class<?>[] {type},
+                                          (proxy, method, args) -> {
+                                              switch (method.getName()) {
+                                              case "equals":
+                                                  return proxy == args[0];
+                                              case "hashCode":
+                                                  return System.identityHashCode(proxy);
+                                              case "toString":
+                                                  return type.getSimpleName();
+                                              default:
+                                                  break;
+                                              }
+                                              Object result = handler.invoke(method.getName(), args);
+                                              return result == null ? proxy : result;
+                                          });
+    }
+
+    @FunctionalInterface
+    private interface ProxyHandler {
+        Object invoke(String method, Object[] args);
+    }
+
+    private final class TestClient implements DbClient {
+        private final DbExecute exec = proxy(DbExecute.class, (method, args) -> {
+            switch (method) {
+            case "createNamedQuery":
+                int rows = args[0].equals("select-all") ? 3 : 1;
+                return proxy(DbStatementQuery.class, (statementMethod, statementArgs) -> {
+                    if (statementMethod.equals("execute")) {
+                        executions.incrementAndGet();
+                        return Multi.create(Collections.nCopies(rows, ROW));
+                    }
+                    return null;
+                });
+            case "createNamedGet":
+                return proxy(DbStatementGet.class, (statementMethod, statementArgs) -> {
+                    if (statementMethod.equals("execute")) {
+                        executions.incrementAndGet();
+                        return Single.just(Optional.of(ROW));
+                    }
+                    return null;
+                });
+            default:
+                throw new UnsupportedOperationException(method);
+            }
+        });
+
+        private final DbTransaction tx = proxy(DbTransaction.class, (method, args) -> {
+            if (method.equals("createNamedInsert")) {
+                // the result of the transaction terminates when it is committed
+                return proxy(DbStatementDml.class, (statementMethod, statementArgs) -> {
+                    if (statementMethod.equals("execute")) {
+                        return Single.create(commit);
+                    }
+                    return null;
+                });
+            }
+            throw new UnsupportedOperationException(method);
+        });
+
+        @Override
+        public <U, T extends Subscribable<U>> T inTransaction(Function<DbTransaction, T> executor) {
+            return executor.apply(tx);
+        }
+
+        @Override
+        public <U, T extends Subscribable<U>> T execute(Function<DbExecute, T> executor) {
+            return executor.apply(exec);
+        }
+
+        @Override
+        public String dbType() {
+            return "test";
+        }
+
+        @Override
+        public <C> Single<C> unwrap(Class<C> cls) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.cache;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * Result cache tests.
+ */
+public class ResultCacheTest {
+
+    private static final long TTL = 1000;
+
+    private final AtomicLong time = new AtomicLong();
+    private final Metrics metrics = new Metrics();
+
+    @Test
+    void testLruEviction() {
+        ResultCache cache = new ResultCache(2, DbClientCache.Eviction.LRU, metrics, time::get);
+        put(cache, "a", 1, Set.of());
+        put(cache, "a", 2, Set.of());
+        assertThat(cache.get(key("a", 1)), is("a1"));
+        put(cache, "a", 3, Set.of());
+
+        assertThat(cache.get(key("a", 2)), nullValue());
+        assertThat(cache.get(key("a", 1)), is("a1"));
+        assertThat(cache.get(key("a", 3)), is("a3"));
+        assertThat(metrics.evictions.get(), is(1));
+        assertThat(metrics.hits.get(), is(3));
+        assertThat(metrics.misses.get(), is(1));
+    }
+
+    @Test
+    void testLfuEviction() {
+        ResultCache cache = new ResultCache(2, DbClientCache.Eviction.LFU, metrics, time::get);
+        put(cache, "a", 1, Set.of());
+        put(cache, "a", 2, Set.of());
+        cache.get(key("a", 1));
+        cache.get(key("a", 1));
+        cache.get(key("a", 2));
+        put(cache, "a", 3, Set.of());
+        // the new result is used the least
+        put(cache, "a", 4, Set.of());
+
+        assertThat(cache.get(key("a", 1)), is("a1"));
+        assertThat(cache.get(key("a", 2)), nullValue());
+        assertThat(cache.get(key("a", 3)), nullValue());
+        assertThat(cache.get(key("a", 4)), is("a4"));
+        assertThat(cache.size(), is(2));
+        assertThat(metrics.evictions.get(), is(2));
+    }
+
+    @Test
+    void testExpiration() {
+        ResultCache cache = new ResultCache(10, DbClientCache.Eviction.LRU, metrics, time::get);
+        put(cache, "a", 1, Set.of());
+        time.addAndGet(TTL - 1);
+        assertThat(cache.get(key("a", 1)), is("a1"));
+        time.addAndGet(1);
+        assertThat(cache.get(key("a", 1)), nullValue());
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    void testInvalidation() {
+        ResultCache cache = new ResultCache(10, DbClientCache.Eviction.LFU, metrics, time::get);
+        put(cache, "a", 1, Set.of("x"));
+        put(cache, "b", 1, Set.of("x", "y"));
+        put(cache, "c", 1, Set.of("z"));
+
+        cache.invalidate(Set.of("y"));
+
+        assertThat(cache.get(key("a", 1)), is("a1"));
+        assertThat(cache.get(key("b", 1)), nullValue());
+        assertThat(cache.get(key("c", 1)), is("c1"));
+        assertThat(metrics.invalidations.get(), is(1));
+    }
+
+    @Test
+    void testInvalidationWhileExecuting() {
+        ResultCache cache = new ResultCache(10, DbClientCache.Eviction.LRU, metrics, time::get);
+        long generation = cache.generation(Set.of("x"));
+        cache.invalidate(Set.of("x"));
+        // the result may have been read before the modification
+        cache.put(key("a", 1), "a1", TTL, Set.of("x"), generation);
+        assertThat(cache.get(key("a", 1)), nullValue());
+
+        put(cache, "a", 1, Set.of("x"));
+        assertThat(cache.get(key("a", 1)), is("a1"));
+    }
+
+    private static void put(ResultCache cache, String name, int param, Set<String> tags) {
+        cache.put(key(name, param), name + param, TTL, tags, cache.generation(tags));
+    }
+
+    private static ResultCache.Key key(String name, int param) {
+        return new ResultCache.Key(name, List.of(param));
+    }
+
+    private static final class Metrics implements CacheMetrics {
+        private final AtomicInteger hits = new AtomicInteger();
+        private final AtomicInteger misses = new AtomicInteger();
+        private final AtomicInteger evictions = new AtomicInteger();
+        private final AtomicInteger invalidations = new AtomicInteger();
+
+        @Override
+        public void hit() {
+            hits.incrementAndGet();
+        }
+
+        @Override
+        public void miss() {
+            misses.incrementAndGet();
+        }
+
+        @Override
+        public void eviction() {
+            evictions.incrementAndGet();
+        }
+
+        @Override
+        public void invalidation() {
+            invalidations.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.common;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.helidon.common.reactive.Multi;
+import io.helidon.common.reactive.Single;
+import io.helidon.dbclient.DbClientServiceContext;
+import io.helidon.dbclient.DbMapperManager;
+import io.helidon.dbclient.DbStatementBatch;
+import io.helidon.dbclient.DbStatementType;
+
+/**
+ * Common batch statement methods and fields.
+ * <p>
+ * The sets of parameters are collected in the order they are added, and passed to the provider grouped in batches
+ * of at most {@link #batchSize(int)} sets. The services of the client are invoked once for the whole batch statement.
+ */
+public abstract class AbstractBatchStatement implements DbStatementBatch {
+
+    /**
+     * Default number of parameter sets of a batch.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private final DbClientContext clientContext;
+    private final DbStatementContext statementContext;
+    private final List<Object> parameterSets = new ArrayList<>();
+
+    private ParamType paramType = ParamType.UNKNOWN;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private boolean executed;
+
+    /**
+     * Batch statement that handles parameter sets.
+     *
+     * @param statementContext database statement configuration and context
+     */
+    protected AbstractBatchStatement(DbStatementContext statementContext) {
+        this.statementContext = statementContext;
+        this.clientContext = statementContext.clientContext();
+    }
+
+    @Override
+    public DbStatementBatch batchSize(int batchSize) {
+        checkNotExecuted();
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    @Override
+    public DbStatementBatch addParams(List<?> parameters) {
+        Objects.requireNonNull(parameters, "Parameters cannot be null (may be an empty list)");
+        initParamType(ParamType.INDEXED);
+        parameterSets.add(new ArrayList<Object>(parameters));
+        return this;
+    }
+
+    @Override
+    public DbStatementBatch addParams(Map<String, ?> parameters) {
+        Objects.requireNonNull(parameters, "Parameters cannot be null (may be an empty map)");
+        initParamType(ParamType.NAMED);
+        parameterSets.add(new HashMap<String, Object>(parameters));
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public DbStatementBatch addNamedParam(Object parameters) {
+        Class<Object> theClass = (Class<Object>) parameters.getClass();
+        return addParams(dbMapperManager().toNamedParameters(parameters, theClass));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public DbStatementBatch addIndexedParam(Object parameters) {
+        Class<Object> theClass = (Class<Object>) parameters.getClass();
+        return addParams(dbMapperManager().toIndexedParameters(parameters, theClass));
+    }
+
+    @Override
+    public Multi<Long> execute() {
+        checkNotExecuted();
+        executed = true;
+        if (paramType == ParamType.UNKNOWN) {
+            paramType = ParamType.INDEXED;
+        }
+        return doExecute(Multi.create(parameterSets));
+    }
+
+    @Override
+    public Multi<Long> execute(Flow.Publisher<? extends Map<String, ?>> parameters) {
+        Objects.requireNonNull(parameters, "Parameters publisher cannot be null");
+        initParamType(ParamType.NAMED);
+        checkNotExecuted();
+        executed = true;
+        Multi<Object> published = Multi.create(parameters)
+                .map(params -> new HashMap<String, Object>(params));
+        return doExecute(Multi.concat(Multi.create(parameterSets), published));
+    }
+
+    /**
+     * Execute the batches of parameter sets against the database.
+     * Each set is a {@code List<Object>} of indexed parameters or a {@code Map<String, Object>} of named parameters,
+     * as defined by {@link #paramType()}.
+     *
+     * @param dbContext context of the statement, after all services are invoked
+     * @param batches batches of parameter sets, the next batch is requested once the previous one is executed
+     * @return number of records modified by each batch
+     */
+    protected abstract Multi<Long> doExecute(DbClientServiceContext dbContext, Multi<List<Object>> batches);
+
+    /**
+     * Type of this database to use in interceptor context.
+     *
+     * @return type of this db
+     */
+    protected abstract String dbType();
+
+    /**
+     * Context of the DB client.
+     *
+     * @return context with access to client wide configuration and runtime
+     */
+    public DbClientContext clientContext() {
+        return clientContext;
+    }
+
+    /**
+     * Type of parameters of this statement.
+     *
+     * @return indexed or named, or unknown in case it could not be yet defined
+     */
+    protected ParamType paramType() {
+        return paramType;
+    }
+
+    /**
+     * Db mapper manager.
+     *
+     * @return mapper manager for DB types
+     */
+    protected DbMapperManager dbMapperManager() {
+        return clientContext.dbMapperManager();
+    }
+
+    /**
+     * Statement name.
+     *
+     * @return name of this statement (never null, may be generated)
+     */
+    protected String statementName() {
+        return statementContext.statementName();
+    }
+
+    /**
+     * Statement text.
+     *
+     * @return text of this statement
+     */
+    protected String statement() {
+        return statementContext.statement();
+    }
+
+    private Multi<Long> doExecute(Multi<Object> sets) {
+        CompletableFuture<Long> queryFuture = new CompletableFuture<>();
+        CompletableFuture<Void> statementFuture = new CompletableFuture<>();
+        DbClientServiceContext dbContext = DbClientServiceContext.create(dbType())
+                .resultFuture(queryFuture)
+                .statementFuture(statementFuture);
+
+        // services see the statement once, parameters of the sets are not known upfront
+        dbContext.statementName(statementContext.statementName());
+        if (paramType == ParamType.NAMED) {
+            dbContext.statement(statementContext.statement(), Map.of());
+        } else {
+            dbContext.statement(statementContext.statement(), List.of());
+        }
+        dbContext.statementType(DbStatementType.DML);
+
+        Single<DbClientServiceContext> dbContextFuture = clientContext.invokeServices(dbContext);
+
+        // query and statement future must always complete either OK, or exceptionally
+        dbContextFuture.exceptionally(throwable -> {
+            statementFuture.completeExceptionally(throwable);
+            queryFuture.completeExceptionally(throwable);
+            return null;
+        });
+
+        AtomicLong count = new AtomicLong();
+        return dbContextFuture
+                .flatMap(context -> doExecute(context, sets.buffer(batchSize)))
+                .peek(count::addAndGet)
+                .onError(throwable -> {
+                    statementFuture.completeExceptionally(throwable);
+                    queryFuture.completeExceptionally(throwable);
+                })
+                .onComplete(() -> {
+                    statementFuture.complete(null);
+                    queryFuture.complete(count.get());
+                })
+                .onCancel(() -> {
+                    statementFuture.complete(null);
+                    queryFuture.complete(count.get());
+                });
+    }
+
+    private void initParamType(ParamType type) {
+        checkNotExecuted();
+        if (paramType == ParamType.UNKNOWN) {
+            paramType = type;
+        } else if (paramType != type) {
+            throw new IllegalStateException("Batch statement " + statementName() + " uses " + paramType
+                                                    + " parameters, cannot use " + type + " parameters");
+        }
+    }
+
+    private void checkNotExecuted() {
+        if (executed) {
+            throw new IllegalStateException("Batch statement " + statementName() + " was already executed");
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -212,6 +212,15 @@ public abstract class DbClientServiceBase implements DbClientService {
             return statementNames;
         }
 
+        /**
+         * Whether this service is enabled.
+         *
+         * @return {@code true} if enabled
+         */
+        protected boolean enabled() {
+            return enabled;
+        }
+
         /**
          * Set of statement types.
          *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 package io.helidon.dbclient;
 
 import java.util.Arrays;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.ServiceLoader;
 import java.util.function.Function;
@@ -161,6 +162,7 @@ public interface DbClient {
          * Provider specific database handler builder instance.
          */
         private final DbClientProviderBuilder<?> theBuilder;
+        private final List<DbClientService> clientServices = new LinkedList<>();
         private Config config = Config.empty();
 
         /**
@@ -193,7 +195,11 @@ public interface DbClient {
                     .forEach(this::addService);
             }
 
-            return theBuilder.build();
+            DbClient client = theBuilder.build();
+            for (DbClientService clientService : clientServices) {
+                client = clientService.decorate(client);
+            }
+            return client;
         }
 
         /**
@@ -216,6 +222,7 @@ public interface DbClient {
          */
         public Builder addService(DbClientService clientService) {
             theBuilder.addService(clientService);
+            clientServices.add(clientService);
             return this;
         }
 
@@ -226,8 +233,7 @@ public interface DbClient {
          * @return updated builder instance
          */
         public Builder addService(Supplier<? extends DbClientService> clientServiceSupplier) {
-            theBuilder.addService(clientServiceSupplier.get());
-            return this;
+            return addService(clientServiceSupplier.get());
         }
 
         /**
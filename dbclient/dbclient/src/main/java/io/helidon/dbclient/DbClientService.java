@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -38,4 +38,17 @@ public interface DbClientService {
      * @return single that completes when this service is finished
      */
     Single<DbClientServiceContext> statement(DbClientServiceContext context);
+
+    /**
+     * Decorate the client built with this service.
+     * This method is called once when the client is built by {@link DbClient.Builder}, allowing services
+     * that provide statement results on their own (such as a cache) to wrap the client.
+     * The default implementation returns the client unchanged.
+     *
+     * @param client client built with this service
+     * @return client to use, either the provided client or a client delegating to it
+     */
+    default DbClient decorate(DbClient client) {
+        return client;
+    }
 }
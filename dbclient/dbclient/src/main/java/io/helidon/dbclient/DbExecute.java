@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -355,6 +355,44 @@ public interface DbExecute {
         return createDmlStatement(statement).params(parameters).execute();
     }
 
+    /*
+     * BATCH
+     */
+
+    /**
+     * Create a batch data modification statement using a named statement passed as argument.
+     *
+     * @param statementName the name of the statement
+     * @param statement the statement text
+     * @return batch data modification statement
+     * @throws UnsupportedOperationException when batches are not supported by the provider
+     */
+    default DbStatementBatch createNamedBatch(String statementName, String statement) {
+        throw new UnsupportedOperationException("Batch statements are not supported by this database executor");
+    }
+
+    /**
+     * Create a batch data modification statement using a statement defined in the configuration file.
+     *
+     * @param statementName the name of the configuration node with statement
+     * @return batch data modification statement
+     * @throws UnsupportedOperationException when batches are not supported by the provider
+     */
+    default DbStatementBatch createNamedBatch(String statementName) {
+        throw new UnsupportedOperationException("Batch statements are not supported by this database executor");
+    }
+
+    /**
+     * Create a batch data modification statement using a statement passed as an argument.
+     *
+     * @param statement the data modification statement to be executed
+     * @return batch data modification statement
+     * @throws UnsupportedOperationException when batches are not supported by the provider
+     */
+    default DbStatementBatch createBatch(String statement) {
+        throw new UnsupportedOperationException("Batch statements are not supported by this database executor");
+    }
+
     /*
      * Unwrap support
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -57,4 +57,16 @@ public interface DbMapper<T> {
      */
     List<?> toIndexedParameters(T value);
 
+    /**
+     * Names of the columns read by {@link #read(DbRow)}.
+     * Providers may use the names to fetch only these columns from the database, such as with a projection
+     * of MongoDB documents.
+     *
+     * @return names of the columns, empty list if not known and all the columns must be fetched
+     * @see io.helidon.dbclient.DbStatementQuery#columnsOf(Class)
+     */
+    default List<String> columnNames() {
+        return List.of();
+    }
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -117,6 +117,17 @@ public interface DbMapperManager {
      */
     <T> List<?> toIndexedParameters(T value, Class<T> valueClass);
 
+    /**
+     * Names of the columns read by the mapper of a type.
+     *
+     * @param type type of the mapped value
+     * @return names of the columns, empty list if not known, or if there is no mapper for the type
+     * @see io.helidon.dbclient.DbMapper#columnNames()
+     */
+    default List<String> columnNames(Class<?> type) {
+        return List.of();
+    }
+
     /**
      * Fluent API builder for {@link io.helidon.dbclient.DbMapperManager}.
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -74,6 +74,11 @@ class DbMapperManagerImpl implements DbMapperManager {
                               TYPE_INDEXED_PARAMS);
     }
 
+    @Override
+    public List<String> columnNames(Class<?> type) {
+        return findMapper(type, false).columnNames();
+    }
+
     private <T> T executeMapping(Supplier<T> mapping, Object source, GenericType<?> sourceType, GenericType<?> targetType) {
         try {
             return mapping.get();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -41,6 +41,38 @@ public interface DbRow {
      */
     DbColumn column(int index);
 
+    /**
+     * Get the index of a column in this row. Column is identified by its name.
+     * <p>
+     * Default implementation iterates through the columns of this row, which must be in the order of their indexes.
+     *
+     * @param name column name
+     * @return column index starting from {@code 1}, or {@code -1} if there is no such column
+     */
+    default int columnIndex(String name) {
+        int[] index = {0, -1};
+        forEach(column -> {
+            index[0]++;
+            if (index[1] < 0 && name.equals(column.name())) {
+                index[1] = index[0];
+            }
+        });
+        return index[1];
+    }
+
+    /**
+     * Layout of the columns of this row.
+     * Rows with the same layout instance have the same columns at the same indexes, so indexes resolved
+     * by {@link #columnIndex(String)} for one of them are valid for all of them.
+     * <p>
+     * Default implementation returns this row, as the columns may differ for each row.
+     *
+     * @return column layout of this row
+     */
+    default Object columnLayout() {
+        return this;
+    }
+
     /**
      * Iterate through each column in this row.
      *
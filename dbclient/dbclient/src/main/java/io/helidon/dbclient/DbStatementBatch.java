@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+
+import io.helidon.common.reactive.Multi;
+
+/**
+ * Batch DML database statement.
+ * A batch statement executes the same data modification statement for each set of parameters, sending the sets to the
+ * database in batches instead of one by one. It returns the number of records modified by each batch.
+ * <p>
+ * The statement must use either indexed or named parameters in all the sets. Once a set is added with one kind of
+ * parameters, adding a set with the other kind throws an {@link IllegalStateException}.
+ * <p>
+ * Once {@link #execute()} is called, all methods would throw an {@link IllegalStateException}.
+ * <pre>{@code
+ * dbClient.execute(exec -> exec.createNamedBatch("insert-item")
+ *                 .batchSize(500)
+ *                 .execute(items.map(item -> Map.of("name", item.name(), "price", item.price()))))
+ *         .forEach(count -> ...);
+ * }</pre>
+ */
+public interface DbStatementBatch {
+
+    /**
+     * Maximal number of parameter sets sent to the database at once, {@code 1000} by default.
+     *
+     * @param batchSize batch size
+     * @return updated db statement
+     * @throws IllegalArgumentException if the size is not positive
+     */
+    DbStatementBatch batchSize(int batchSize);
+
+    /**
+     * Add a set of indexed parameters, by order.
+     *
+     * @param parameters ordered parameters of one execution of the statement
+     * @return updated db statement
+     */
+    DbStatementBatch addParams(List<?> parameters);
+
+    /**
+     * Add a set of indexed parameters, by order.
+     *
+     * @param parameters ordered parameters of one execution of the statement
+     * @return updated db statement
+     */
+    default DbStatementBatch addParams(Object... parameters) {
+        return addParams(Arrays.asList(parameters));
+    }
+
+    /**
+     * Add a set of named parameters.
+     *
+     * @param parameters named parameters of one execution of the statement
+     * @return updated db statement
+     */
+    DbStatementBatch addParams(Map<String, ?> parameters);
+
+    /**
+     * Add a set of named parameters using {@link Object} instance with registered mapper.
+     *
+     * @param parameters {@link Object} instance containing parameters of one execution of the statement
+     * @return updated db statement
+     */
+    DbStatementBatch addNamedParam(Object parameters);
+
+    /**
+     * Add a set of indexed parameters using {@link Object} instance with registered mapper.
+     *
+     * @param parameters {@link Object} instance containing parameters of one execution of the statement
+     * @return updated db statement
+     */
+    DbStatementBatch addIndexedParam(Object parameters);
+
+    /**
+     * Execute this statement for each added set of parameters.
+     *
+     * @return the number of records modified by each batch, never blocking
+     */
+    Multi<Long> execute();
+
+    /**
+     * Execute this statement for each added set of parameters, followed by each set of named parameters
+     * of the publisher. The sets are requested from the publisher one batch at a time, when the previous batch
+     * is executed.
+     *
+     * @param parameters named parameters of the executions of the statement
+     * @return the number of records modified by each batch, never blocking
+     */
+    Multi<Long> execute(Flow.Publisher<? extends Map<String, ?>> parameters);
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,4 +21,46 @@ import io.helidon.common.reactive.Multi;
  * Database query statement.
  */
 public interface DbStatementQuery extends DbStatement<DbStatementQuery, Multi<DbRow>> {
+
+    /**
+     * Number of rows to fetch from the database at once while the rows are requested, a hint to the provider.
+     * A large result should be read with a fetch size, so it is not loaded in memory at once.
+     * Providers that do not support it ignore the fetch size.
+     *
+     * @param fetchSize number of rows, {@code 0} to use the default of the provider
+     * @return updated db statement
+     * @throws IllegalArgumentException if the fetch size is negative
+     */
+    default DbStatementQuery fetchSize(int fetchSize) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("Fetch size must not be negative: " + fetchSize);
+        }
+        return this;
+    }
+
+    /**
+     * Names of the columns read from the rows, a hint to the provider.
+     * Providers that can fetch only some columns, such as MongoDB with a projection, do not fetch the other columns.
+     * A projection in the statement text takes precedence.
+     * Providers that do not support it ignore the columns.
+     *
+     * @param names names of the columns, no name to fetch all the columns
+     * @return updated db statement
+     */
+    default DbStatementQuery columns(String... names) {
+        return this;
+    }
+
+    /**
+     * Read only the columns needed by the {@link io.helidon.dbclient.DbMapper} of a type, a hint to the provider.
+     * All the columns are read if the mapper does not provide the {@link io.helidon.dbclient.DbMapper#columnNames()
+     * names of its columns}.
+     *
+     * @param type type the rows are read as, using {@link io.helidon.dbclient.DbRow#as(Class)}
+     * @return updated db statement
+     * @see #columns(String...)
+     */
+    default DbStatementQuery columnsOf(Class<?> type) {
+        return this;
+    }
 }
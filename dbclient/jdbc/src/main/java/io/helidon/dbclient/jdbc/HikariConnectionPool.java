@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -45,6 +45,7 @@ public class HikariConnectionPool implements ConnectionPool {
             interceptor.configure(config);
         });
         this.dataSource = new HikariDataSource(config);
+        extensions.forEach(interceptor -> interceptor.poolCreated(dataSource));
     }
 
     @Override
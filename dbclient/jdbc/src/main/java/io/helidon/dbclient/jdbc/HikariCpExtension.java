@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 package io.helidon.dbclient.jdbc;
 
 import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
 
 /**
  * Interceptor to handle connection pool configuration.
@@ -27,4 +28,14 @@ public interface HikariCpExtension {
      * @param poolConfig client configuration instance
      */
     void configure(HikariConfig poolConfig);
+
+    /**
+     * Notification of the connection pool being created with the configuration updated by
+     * {@link #configure(com.zaxxer.hikari.HikariConfig)}.
+     * The pool may be tuned at runtime using its {@link HikariDataSource#getHikariConfigMXBean()}.
+     *
+     * @param dataSource the created connection pool
+     */
+    default void poolCreated(HikariDataSource dataSource) {
+    }
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.jdbc;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.helidon.common.GenericType;
+import io.helidon.dbclient.DbColumn;
+
+/**
+ * Layout of the columns of a result set, shared by all the rows of the result sets of the same query.
+ * Columns are accessed by index, the names are resolved to indexes once per layout.
+ */
+final class JdbcColumnLayout {
+
+    private final ColumnMetadata[] columns;
+    private final Map<String, Integer> indexes;
+
+    private JdbcColumnLayout(ColumnMetadata[] columns, Map<String, Integer> indexes) {
+        this.columns = columns;
+        this.indexes = indexes;
+    }
+
+    /**
+     * Create the layout of the columns described by the metadata.
+     *
+     * @param metaData metadata of a result set
+     * @return column layout
+     * @throws SQLException if the metadata cannot be read
+     */
+    static JdbcColumnLayout create(ResultSetMetaData metaData) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        ColumnMetadata[] columns = new ColumnMetadata[columnCount];
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < columnCount; i++) {
+            int column = i + 1;
+            columns[i] = new ColumnMetadata(metaData.getColumnLabel(column),
+                                            metaData.getColumnType(column),
+                                            metaData.getColumnTypeName(column),
+                                            classByName(metaData.getColumnClassName(column)));
+            // with duplicate labels, the last column is used, same as a map of columns by name
+            indexes.put(columns[i].name(), i);
+        }
+        return new JdbcColumnLayout(columns, indexes);
+    }
+
+    /**
+     * Whether the columns described by the metadata have the same names and types as this layout.
+     *
+     * @param metaData metadata of a result set
+     * @return {@code true} if this layout can be used for the result set
+     * @throws SQLException if the metadata cannot be read
+     */
+    boolean matches(ResultSetMetaData metaData) throws SQLException {
+        if (metaData.getColumnCount() != columns.length) {
+            return false;
+        }
+        for (int i = 0; i < columns.length; i++) {
+            ColumnMetadata column = columns[i];
+            if (metaData.getColumnType(i + 1) != column.sqlType || !column.name.equals(metaData.getColumnLabel(i + 1))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Number of columns.
+     *
+     * @return number of columns
+     */
+    int size() {
+        return columns.length;
+    }
+
+    /**
+     * Metadata of a column.
+     *
+     * @param index column index starting from {@code 0}
+     * @return column metadata
+     */
+    DbColumn column(int index) {
+        return columns[index];
+    }
+
+    /**
+     * Index of a column.
+     *
+     * @param name column name
+     * @return column index starting from {@code 0}, or {@code -1} if there is no such column
+     */
+    int index(String name) {
+        Integer index = indexes.get(name);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Whether the column is not hidden by a column of the same name with a higher index.
+     *
+     * @param index column index starting from {@code 0}
+     * @return {@code true} if the column is accessible by its name
+     */
+    boolean isNamed(int index) {
+        return indexes.get(columns[index].name) == index;
+    }
+
+    private static Class<?> classByName(String columnClassName) {
+        if (columnClassName == null) {
+            return null;
+        }
+        try {
+            return Class.forName(columnClassName);
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    private static final class ColumnMetadata implements DbColumn {
+
+        private final String name;
+        private final int sqlType;
+        private final String sqlTypeName;
+        private final Class<?> javaClass;
+
+        private ColumnMetadata(String name, int sqlType, String sqlTypeName, Class<?> javaClass) {
+            this.name = name;
+            this.sqlType = sqlType;
+            this.sqlTypeName = sqlTypeName;
+            this.javaClass = javaClass;
+        }
+
+        @Override
+        public <T> T as(Class<T> type) {
+            return null;
+        }
+
+        @Override
+        public <T> T as(GenericType<T> type) {
+            return null;
+        }
+
+        @Override
+        public Class<?> javaType() {
+            return javaClass;
+        }
+
+        @Override
+        public String dbType() {
+            return sqlTypeName;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -34,6 +35,7 @@ import io.helidon.dbclient.DbClientException;
 import io.helidon.dbclient.DbClientService;
 import io.helidon.dbclient.DbExecute;
 import io.helidon.dbclient.DbMapperManager;
+import io.helidon.dbclient.DbStatementBatch;
 import io.helidon.dbclient.DbStatementDml;
 import io.helidon.dbclient.DbStatementGet;
 import io.helidon.dbclient.DbStatementQuery;
@@ -52,32 +54,43 @@ class JdbcDbClient implements DbClient {
     private static final Logger LOGGER = Logger.getLogger(DbClient.class.getName());
 
     private final ExecutorService executorService;
+    private final ExecutorService queryExecutorService;
     private final ConnectionPool connectionPool;
+    private final JdbcReplicas replicas;
     private final DbStatements statements;
     private final DbMapperManager dbMapperManager;
     private final MapperManager mapperManager;
     private final List<DbClientService> clientServices;
+    private final JdbcStatementCache statementCache;
+    private final int fetchSize;
+    private final boolean pipelinedTransactions;
 
     JdbcDbClient(JdbcDbClientProviderBuilder builder) {
         this.executorService = builder.executorService();
+        this.queryExecutorService = builder.queryExecutorService();
         this.connectionPool = builder.connectionPool();
+        this.replicas = JdbcReplicas.create(builder.replicas(), builder.replicaPolicy(), builder.replicaEjectTime());
         this.statements = builder.statements();
         this.dbMapperManager = builder.dbMapperManager();
         this.mapperManager = builder.mapperManager();
         this.clientServices = builder.clientServices();
+        this.statementCache = JdbcStatementCache.create();
+        this.fetchSize = builder.fetchSize();
+        this.pipelinedTransactions = builder.pipelinedTransactions();
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public <U, T extends Subscribable<U>> T inTransaction(Function<DbTransaction, T> executor) {
 
+        // statements of a transaction use the same connection, so they reuse the statements prepared on it
         JdbcTxExecute execute = new JdbcTxExecute(
                 statements,
+                contextBuilder()
+                        .reuseStatements(true)
+                        .pipelined(pipelinedTransactions),
                 executorService,
-                clientServices,
-                connectionPool,
-                dbMapperManager,
-                mapperManager);
+                connectionPool);
 
         T result = executor.apply(execute);
 
@@ -162,12 +175,10 @@ class JdbcDbClient implements DbClient {
     public <U, T extends Subscribable<U>> T execute(Function<DbExecute, T> executor) {
 
         JdbcExecute execute = new JdbcExecute(statements,
-                                              JdbcExecute.createContext(statements,
+                                              JdbcExecute.createContext(contextBuilder(),
                                                                         executorService,
-                                                                        clientServices,
                                                                         connectionPool,
-                                                                        dbMapperManager,
-                                                                        mapperManager));
+                                                                        replicas));
 
         Subscribable<U> result;
 
@@ -207,6 +218,24 @@ class JdbcDbClient implements DbClient {
         return connectionPool.dbType();
     }
 
+    /**
+     * Builder of the context of an execution, with everything but the connection.
+     *
+     * @return context builder
+     */
+    private JdbcExecuteContext.Builder contextBuilder() {
+        return JdbcExecuteContext.jdbcBuilder()
+                .statements(statements)
+                .clientServices(clientServices)
+                .dbType(connectionPool.dbType())
+                .dbMapperManager(dbMapperManager)
+                .mapperManager(mapperManager)
+                .executorService(executorService)
+                .queryExecutorService(queryExecutorService)
+                .fetchSize(fetchSize)
+                .statementCache(statementCache);
+    }
+
     @Override
     public <C> Single<C> unwrap(Class<C> cls) {
         if (Connection.class.isAssignableFrom(cls)) {
@@ -224,19 +253,11 @@ class JdbcDbClient implements DbClient {
         private volatile boolean setRollbackOnly = false;
 
         private JdbcTxExecute(DbStatements statements,
+                              JdbcExecuteContext.Builder contextBuilder,
                               ExecutorService executorService,
-                              List<DbClientService> clientServices,
-                              ConnectionPool connectionPool,
-                              DbMapperManager dbMapperManager,
-                              MapperManager mapperManager) {
-            super(statements, JdbcExecuteContext.jdbcBuilder()
-                    .statements(statements)
-                    .clientServices(clientServices)
-                    .dbType(connectionPool.dbType())
+                              ConnectionPool connectionPool) {
+            super(statements, contextBuilder
                     .connection(createConnection(executorService, connectionPool))
-                    .dbMapperManager(dbMapperManager)
-                    .mapperManager(mapperManager)
-                    .executorService(executorService)
                     .build());
         }
 
@@ -263,6 +284,7 @@ class JdbcDbClient implements DbClient {
                     .thenApply(conn -> {
                         try {
                             conn.rollback();
+                            context().closeStatements();
                             conn.close();
                         } catch (SQLException e) {
                             throw new DbClientException("Failed to rollback a transaction, or close a connection", e);
@@ -280,6 +302,7 @@ class JdbcDbClient implements DbClient {
                     .thenApply(conn -> {
                         try {
                             conn.commit();
+                            context().closeStatements();
                             conn.close();
                         } catch (SQLException e) {
                             throw new DbClientException("Failed to commit a transaction, or close a connection", e);
@@ -299,13 +322,12 @@ class JdbcDbClient implements DbClient {
             this.context = context;
         }
 
-        private static JdbcExecuteContext createContext(DbStatements statements,
+        private static JdbcExecuteContext createContext(JdbcExecuteContext.Builder contextBuilder,
                                                         ExecutorService executorService,
-                                                        List<DbClientService> clientServices,
                                                         ConnectionPool connectionPool,
-                                                        DbMapperManager dbMapperManager,
-                                                        MapperManager mapperManager) {
-            CompletionStage<Connection> connection = CompletableFuture.supplyAsync(connectionPool::connection, executorService)
+                                                        JdbcReplicas replicas) {
+            Supplier<CompletionStage<Connection>> connection = () -> CompletableFuture
+                    .supplyAsync(connectionPool::connection, executorService)
                     .thenApply(conn -> {
                         try {
                             conn.setAutoCommit(true);
@@ -315,14 +337,10 @@ class JdbcDbClient implements DbClient {
                         return conn;
                     });
 
-            return JdbcExecuteContext.jdbcBuilder()
-                    .statements(statements)
-                    .executorService(executorService)
-                    .connection(connection)
-                    .clientServices(clientServices)
-                    .dbMapperManager(dbMapperManager)
-                    .mapperManager(mapperManager)
-                    .dbType(connectionPool.dbType())
+            // connections are only obtained when used, queries use a replica unless the execution already writes
+            return contextBuilder
+                    .connectionSupplier(connection)
+                    .readConnectionFunction(replicas == null ? null : context -> replicas.connection(context, executorService))
                     .build();
         }
 
@@ -363,19 +381,18 @@ class JdbcDbClient implements DbClient {
                                         DbStatementContext.create(context, DbStatementType.DELETE, statementName, statement));
         }
 
+        @Override
+        public DbStatementBatch createNamedBatch(String statementName, String statement) {
+            return new JdbcStatementBatch(context,
+                                          DbStatementContext.create(context, DbStatementType.DML, statementName, statement));
+        }
+
         JdbcExecuteContext context() {
             return context;
         }
 
         void close() {
-            context.connection()
-                    .thenAccept(conn -> {
-                        try {
-                            conn.close();
-                        } catch (SQLException e) {
-                            LOGGER.log(Level.WARNING, e, () -> String.format("Could not close connection: %s", e.getMessage()));
-                        }
-                    });
+            context.close();
         }
 
         @Override
@@ -15,6 +15,7 @@
  */
 package io.helidon.dbclient.jdbc;
 
+import java.time.Duration;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
@@ -42,6 +43,7 @@ public final class JdbcDbClientProviderBuilder implements DbClientProviderBuilde
     private final DbMapperManager.Builder dbMapperBuilder = DbMapperManager.builder();
 
     private final List<DbClientService> clientServices = new LinkedList<>();
+    private final List<ConnectionPool> replicas = new LinkedList<>();
 
     private String url;
     private String username;
@@ -50,7 +52,12 @@ public final class JdbcDbClientProviderBuilder implements DbClientProviderBuilde
     private MapperManager mapperManager;
     private DbMapperManager dbMapperManager;
     private Supplier<ExecutorService> executorService;
+    private Supplier<ExecutorService> queryExecutorService;
     private ConnectionPool connectionPool;
+    private int fetchSize;
+    private boolean pipelinedTransactions;
+    private ReplicaPolicy replicaPolicy;
+    private Duration replicaEjectTime = Duration.ofSeconds(30);
 
     JdbcDbClientProviderBuilder() {
     }
@@ -87,6 +94,12 @@ public final class JdbcDbClientProviderBuilder implements DbClientProviderBuilde
         if (null == executorService) {
             executorService = ThreadPoolSupplier.create("jdbc-dbclient-thread-pool");
         }
+        if (null == queryExecutorService) {
+            queryExecutorService = executorService;
+        }
+        if (null == replicaPolicy) {
+            replicaPolicy = ReplicaPolicy.roundRobin();
+        }
         return new JdbcDbClient(this);
     }
 
@@ -100,6 +113,18 @@ public final class JdbcDbClientProviderBuilder implements DbClientProviderBuilde
         config.get("executor-service")
                 .as(c -> ThreadPoolSupplier.create(c, "jdbc-dbclient-thread-pool"))
                 .ifPresent(this::executorService);
+        config.get("query-executor-service")
+                .as(c -> ThreadPoolSupplier.create(c, "jdbc-dbclient-query-thread-pool"))
+                .ifPresent(this::queryExecutorService);
+        config.get("fetch-size").asInt().ifPresent(this::fetchSize);
+        config.get("pipelined-transactions").asBoolean().ifPresent(this::pipelinedTransactions);
+
+        Config replicasConfig = config.get("replicas");
+        replicasConfig.get("connections")
+                .asNodeList()
+                .ifPresent(list -> list.forEach(cfg -> addReplica(ConnectionPool.create(cfg.detach()))));
+        replicasConfig.get("policy").asString().map(ReplicaPolicy::create).ifPresent(this::replicaPolicy);
+        replicasConfig.get("eject-time").as(Duration.class).ifPresent(this::replicaEjectTime);
         return this;
     }
 
@@ -114,6 +139,51 @@ public final class JdbcDbClientProviderBuilder implements DbClientProviderBuilde
         return this;
     }
 
+    /**
+     * Add a connection pool of a read replica of the database.
+     * Queries and gets executed outside of a transaction use one of the replicas chosen by the
+     * {@link #replicaPolicy(ReplicaPolicy) replica policy}, until a statement of the same execution writes to the database.
+     * Other statements and transactions use the {@link #connectionPool(ConnectionPool) connection pool} of the primary
+     * database, as do queries when all the replicas are ejected.
+     * <p>
+     * Configured by the list of connections of the {@code replicas.connections} key, each configured as the
+     * {@code connection} key.
+     *
+     * @param connectionPool connection pool to get connections to a replica
+     * @return updated builder instance
+     */
+    public JdbcDbClientProviderBuilder addReplica(ConnectionPool connectionPool) {
+        this.replicas.add(connectionPool);
+        return this;
+    }
+
+    /**
+     * Policy choosing the replica of the queries of an execution, {@link ReplicaPolicy#roundRobin()} by default.
+     * Configured by the {@code replicas.policy} key, either {@code round-robin} or {@code least-busy}.
+     *
+     * @param replicaPolicy replica policy
+     * @return updated builder instance
+     */
+    public JdbcDbClientProviderBuilder replicaPolicy(ReplicaPolicy replicaPolicy) {
+        this.replicaPolicy = replicaPolicy;
+        return this;
+    }
+
+    /**
+     * Time a replica is not used after failing to provide a connection, 30 seconds by default.
+     * Configured by the {@code replicas.eject-time} key.
+     *
+     * @param ejectTime eject time
+     * @return updated builder instance
+     */
+    public JdbcDbClientProviderBuilder replicaEjectTime(Duration ejectTime) {
+        if (ejectTime.isNegative()) {
+            throw new IllegalArgumentException("Eject time must not be negative: " + ejectTime);
+        }
+        this.replicaEjectTime = ejectTime;
+        return this;
+    }
+
     /**
      * Configure an explicit executor service supplier.
      * The executor service is used to execute blocking calls to a database.
@@ -126,6 +196,67 @@ public final class JdbcDbClientProviderBuilder implements DbClientProviderBuilde
         return this;
     }
 
+    /**
+     * Configure an explicit executor service supplier for queries, the {@link #executorService(Supplier)} by default.
+     * The executor service is used to execute queries and to read their rows while they are requested, so queries
+     * reading large results do not hold the threads of other statements.
+     * An executor service of virtual threads, such as configured by {@code virtual-threads} of
+     * {@link ThreadPoolSupplier}, runs each query on its own virtual thread.
+     *
+     * @param executorServiceSupplier supplier to obtain an executor service from
+     * @return updated builder instance
+     */
+    public JdbcDbClientProviderBuilder queryExecutorService(Supplier<ExecutorService> executorServiceSupplier) {
+        this.queryExecutorService = executorServiceSupplier;
+        return this;
+    }
+
+    /**
+     * Default number of rows fetched from the database at once by queries, see
+     * {@link java.sql.Statement#setFetchSize(int)}. Can be changed for each query with
+     * {@link io.helidon.dbclient.DbStatementQuery#fetchSize(int)}.
+     * The driver default is used by default, which may load the whole result in memory.
+     * <p>
+     * Some drivers only stream the rows with additional settings: PostgreSQL uses a cursor only when auto-commit is off,
+     * such as in a transaction, and MySQL only with the {@code useCursorFetch=true} connection property.
+     *
+     * @param fetchSize number of rows, {@code 0} to use the driver default
+     * @return updated builder instance
+     */
+    public JdbcDbClientProviderBuilder fetchSize(int fetchSize) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("Fetch size must not be negative: " + fetchSize);
+        }
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
+    /**
+     * Whether the statements of a transaction are pipelined, {@code false} by default.
+     * Statements of a pipelined transaction are executed on its connection one after another, in the order they are
+     * executed, by a single thread of the {@link #executorService(Supplier) executor service} at a time:
+     * <ul>
+     *     <li>a statement executed once the previous one completes, such as chained with {@code flatMapSingle},
+     *     is executed right away by the thread that executed the previous one</li>
+     *     <li>independent statements executed at once are sent back to back by the same thread</li>
+     *     <li>statements executed before the connection of the transaction is obtained are executed once it is</li>
+     * </ul>
+     * So a transaction of many short statements is not handed off between threads for each of them.
+     * Code run by the statements of a pipelined transaction, such as their result processing, must not wait for
+     * a statement of the same transaction.
+     * <p>
+     * Statements of a transaction reuse the statements prepared on its connection by its previous statements
+     * with the same SQL, whether pipelined or not.
+     * Configured by the {@code pipelined-transactions} key.
+     *
+     * @param pipelinedTransactions whether the statements of transactions are pipelined
+     * @return updated builder instance
+     */
+    public JdbcDbClientProviderBuilder pipelinedTransactions(boolean pipelinedTransactions) {
+        this.pipelinedTransactions = pipelinedTransactions;
+        return this;
+    }
+
     @Override
     public JdbcDbClientProviderBuilder url(String url) {
         this.url = url;
@@ -223,8 +354,32 @@ public final class JdbcDbClientProviderBuilder implements DbClientProviderBuilde
         return executorService.get();
     }
 
+    ExecutorService queryExecutorService() {
+        return queryExecutorService.get();
+    }
+
+    int fetchSize() {
+        return fetchSize;
+    }
+
+    boolean pipelinedTransactions() {
+        return pipelinedTransactions;
+    }
+
     ConnectionPool connectionPool() {
         return connectionPool;
     }
 
+    List<ConnectionPool> replicas() {
+        return List.copyOf(replicas);
+    }
+
+    ReplicaPolicy replicaPolicy() {
+        return replicaPolicy;
+    }
+
+    Duration replicaEjectTime() {
+        return replicaEjectTime;
+    }
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,10 +16,25 @@
 package io.helidon.dbclient.jdbc;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import io.helidon.dbclient.common.DbClientContext;
 
@@ -28,16 +43,41 @@ import io.helidon.dbclient.common.DbClientContext;
  */
 final class JdbcExecuteContext extends DbClientContext {
 
+    private static final Logger LOGGER = Logger.getLogger(JdbcExecuteContext.class.getName());
+
     private final ConcurrentHashMap.KeySetView<CompletableFuture<Long>, Boolean> futures = ConcurrentHashMap.newKeySet();
     private final ExecutorService executorService;
+    private final ExecutorService queryExecutorService;
     private final String dbType;
-    private final CompletionStage<Connection> connection;
+    private final Supplier<CompletionStage<Connection>> connectionSupplier;
+    private final Function<JdbcExecuteContext, CompletionStage<Connection>> readConnectionFunction;
+    private final JdbcStatementCache statementCache;
+    private final int fetchSize;
+    private final SerialExecutor serialExecutor;
+    private final boolean reuseStatements;
+    // connections are obtained when first used by a statement, guarded by this
+    private final List<Runnable> closeActions = new ArrayList<>();
+    // statements prepared on the connection with their SQL, and those not in use by SQL, guarded by this
+    private final Map<Statement, String> preparedStatements = new IdentityHashMap<>();
+    private final Map<String, LinkedList<PreparedStatement>> idleStatements = new HashMap<>();
+    private CompletionStage<Connection> connection;
+    private CompletionStage<Connection> readConnection;
+    private boolean statementsClosed;
 
     private JdbcExecuteContext(Builder builder) {
         super(builder);
         this.executorService = builder.executorService;
+        this.queryExecutorService = builder.queryExecutorService == null
+                ? builder.executorService
+                : builder.queryExecutorService;
         this.dbType = builder.dbType;
-        this.connection = builder.connection;
+        this.connectionSupplier = builder.connectionSupplier;
+        this.readConnectionFunction = builder.readConnectionFunction;
+        this.statementCache = builder.statementCache == null ? JdbcStatementCache.create() : builder.statementCache;
+        this.fetchSize = builder.fetchSize;
+        // statements executed before the connection is obtained are run once it is, in order
+        this.serialExecutor = builder.pipelined ? new SerialExecutor(builder.executorService, this::connection) : null;
+        this.reuseStatements = builder.reuseStatements;
     }
 
     /**
@@ -52,14 +92,217 @@ final class JdbcExecuteContext extends DbClientContext {
         return executorService;
     }
 
+    ExecutorService queryExecutorService() {
+        return queryExecutorService;
+    }
+
+    /**
+     * Whether the statements of this context are executed one after another, in the order they are executed.
+     *
+     * @return whether the statements are pipelined
+     */
+    boolean pipelined() {
+        return serialExecutor != null;
+    }
+
+    /**
+     * Execute the blocking calls of a statement of this context, except queries.
+     * Statements of a pipelined transaction are executed one after another, see {@link SerialExecutor}.
+     *
+     * @param task task making the blocking calls
+     * @param onRejected called instead of the task if the executor rejects it
+     */
+    void executeStatement(Runnable task, Consumer<? super RejectedExecutionException> onRejected) {
+        execute(executorService, task, onRejected);
+    }
+
+    /**
+     * Execute the blocking calls of a query of this context.
+     * Queries of a pipelined transaction are executed one after another with the other statements, their rows
+     * are read by the {@link #queryExecutorService() query executor service}.
+     *
+     * @param task task making the blocking calls
+     * @param onRejected called instead of the task if the executor rejects it
+     */
+    void executeQueryStatement(Runnable task, Consumer<? super RejectedExecutionException> onRejected) {
+        execute(queryExecutorService, task, onRejected);
+    }
+
+    private void execute(ExecutorService executor, Runnable task, Consumer<? super RejectedExecutionException> onRejected) {
+        if (serialExecutor != null) {
+            serialExecutor.execute(task, onRejected);
+            return;
+        }
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            onRejected.accept(e);
+        }
+    }
+
+    int fetchSize() {
+        return fetchSize;
+    }
+
     String dbType() {
         return dbType;
     }
 
-    CompletionStage<Connection> connection() {
+    /**
+     * Connection of the statements of this context.
+     *
+     * @return connection future
+     */
+    synchronized CompletionStage<Connection> connection() {
+        if (connection == null) {
+            connection = connectionSupplier.get();
+        }
         return connection;
     }
 
+    /**
+     * Connection of the read-only statements of this context, such as the connection of a read replica.
+     * Once a statement of this context uses {@link #connection()}, the read-only statements use it as well,
+     * so they read what is written by the statements of this context.
+     *
+     * @return connection future
+     */
+    synchronized CompletionStage<Connection> readConnection() {
+        if (readConnectionFunction == null || connection != null) {
+            return connection();
+        }
+        if (readConnection == null) {
+            readConnection = readConnectionFunction.apply(this);
+        }
+        return readConnection;
+    }
+
+    /**
+     * Register an action to run when the connections of this context are closed.
+     *
+     * @param action action to run
+     */
+    synchronized void onClose(Runnable action) {
+        closeActions.add(action);
+    }
+
+    /**
+     * Close the connections of this context.
+     */
+    void close() {
+        List<CompletionStage<Connection>> connections = new ArrayList<>(2);
+        List<Runnable> actions;
+        synchronized (this) {
+            if (connection != null) {
+                connections.add(connection);
+            }
+            if (readConnection != null && readConnection != connection) {
+                connections.add(readConnection);
+            }
+            actions = List.copyOf(closeActions);
+        }
+        CompletableFuture<?>[] closed = new CompletableFuture<?>[connections.size()];
+        for (int i = 0; i < closed.length; i++) {
+            closed[i] = connections.get(i)
+                    .thenAccept(conn -> {
+                        try {
+                            conn.close();
+                        } catch (SQLException e) {
+                            LOGGER.log(Level.WARNING, e, () -> String.format("Could not close connection: %s", e.getMessage()));
+                        }
+                    })
+                    .toCompletableFuture();
+        }
+        CompletableFuture.allOf(closed)
+                .whenComplete((it, throwable) -> actions.forEach(Runnable::run));
+    }
+
+    JdbcStatementCache statementCache() {
+        return statementCache;
+    }
+
+    /**
+     * Prepare a statement on a connection of this context.
+     * When statements are reused, a statement with the same SQL prepared by a previous statement of this context
+     * and {@link #releaseStatement(Statement) released} is returned with its parameters cleared.
+     *
+     * @param connection connection
+     * @param sql SQL of the statement
+     * @return prepared statement
+     * @throws SQLException if the statement cannot be prepared
+     */
+    PreparedStatement prepareStatement(Connection connection, String sql) throws SQLException {
+        if (!reuseStatements) {
+            return connection.prepareStatement(sql);
+        }
+        synchronized (this) {
+            LinkedList<PreparedStatement> idle = idleStatements.get(sql);
+            if (idle != null && !idle.isEmpty()) {
+                PreparedStatement statement = idle.removeFirst();
+                statement.clearParameters();
+                return statement;
+            }
+        }
+        PreparedStatement statement = connection.prepareStatement(sql);
+        synchronized (this) {
+            if (!statementsClosed) {
+                preparedStatements.put(statement, sql);
+            }
+        }
+        return statement;
+    }
+
+    /**
+     * Release a statement once it is executed and its result is read.
+     * The statement is closed, unless it is kept to be reused by the next statements of this context with the same SQL.
+     *
+     * @param statement statement
+     */
+    void releaseStatement(Statement statement) {
+        synchronized (this) {
+            String sql = statementsClosed ? null : preparedStatements.get(statement);
+            if (sql != null) {
+                idleStatements.computeIfAbsent(sql, it -> new LinkedList<>()).add((PreparedStatement) statement);
+                return;
+            }
+        }
+        closeStatement(statement);
+    }
+
+    /**
+     * Close a statement that failed, so that it is not reused in an inconsistent state.
+     *
+     * @param statement statement
+     */
+    void discardStatement(Statement statement) {
+        synchronized (this) {
+            preparedStatements.remove(statement);
+        }
+        closeStatement(statement);
+    }
+
+    /**
+     * Close the statements kept to be reused, before the connection is closed.
+     */
+    void closeStatements() {
+        List<Statement> statements;
+        synchronized (this) {
+            statementsClosed = true;
+            statements = List.copyOf(preparedStatements.keySet());
+            preparedStatements.clear();
+            idleStatements.clear();
+        }
+        statements.forEach(JdbcExecuteContext::closeStatement);
+    }
+
+    private static void closeStatement(Statement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, e, () -> String.format("Could not close statement: %s", e.getMessage()));
+        }
+    }
+
     void addFuture(CompletableFuture<Long> queryFuture) {
         this.futures.add(queryFuture);
     }
@@ -77,8 +320,14 @@ final class JdbcExecuteContext extends DbClientContext {
 
     static class Builder extends BuilderBase<Builder> implements io.helidon.common.Builder<Builder, JdbcExecuteContext> {
         private ExecutorService executorService;
+        private ExecutorService queryExecutorService;
         private String dbType;
-        private CompletionStage<Connection> connection;
+        private Supplier<CompletionStage<Connection>> connectionSupplier;
+        private Function<JdbcExecuteContext, CompletionStage<Connection>> readConnectionFunction;
+        private JdbcStatementCache statementCache;
+        private int fetchSize;
+        private boolean pipelined;
+        private boolean reuseStatements;
 
         @Override
         public JdbcExecuteContext build() {
@@ -90,13 +339,75 @@ final class JdbcExecuteContext extends DbClientContext {
             return this;
         }
 
+        Builder queryExecutorService(ExecutorService queryExecutorService) {
+            this.queryExecutorService = queryExecutorService;
+            return this;
+        }
+
+        Builder fetchSize(int fetchSize) {
+            this.fetchSize = fetchSize;
+            return this;
+        }
+
         Builder dbType(String dbType) {
             this.dbType = dbType;
             return this;
         }
 
         Builder connection(CompletionStage<Connection> connection) {
-            this.connection = connection;
+            this.connectionSupplier = () -> connection;
+            this.readConnectionFunction = null;
+            return this;
+        }
+
+        /**
+         * Supplier of the connection, called when the connection is first used.
+         *
+         * @param connectionSupplier connection supplier
+         * @return updated builder instance
+         */
+        Builder connectionSupplier(Supplier<CompletionStage<Connection>> connectionSupplier) {
+            this.connectionSupplier = connectionSupplier;
+            return this;
+        }
+
+        /**
+         * Function providing the connection of read-only statements, called when the connection is first used,
+         * the read-only statements use the connection of all the statements if not set.
+         *
+         * @param readConnectionFunction read-only connection function
+         * @return updated builder instance
+         */
+        Builder readConnectionFunction(Function<JdbcExecuteContext, CompletionStage<Connection>> readConnectionFunction) {
+            this.readConnectionFunction = readConnectionFunction;
+            return this;
+        }
+
+        Builder statementCache(JdbcStatementCache statementCache) {
+            this.statementCache = statementCache;
+            return this;
+        }
+
+        /**
+         * Whether the statements are executed one after another by a {@link SerialExecutor}.
+         *
+         * @param pipelined whether the statements are pipelined
+         * @return updated builder instance
+         */
+        Builder pipelined(boolean pipelined) {
+            this.pipelined = pipelined;
+            return this;
+        }
+
+        /**
+         * Whether the prepared statements are reused by the statements with the same SQL,
+         * until {@link JdbcExecuteContext#closeStatements()} is called.
+         *
+         * @param reuseStatements whether to reuse the prepared statements
+         * @return updated builder instance
+         */
+        Builder reuseStatements(boolean reuseStatements) {
+            this.reuseStatements = reuseStatements;
             return this;
         }
     }
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import io.helidon.dbclient.DbClientException;
+
+/**
+ * Read replicas of a database, used by the read-only statements executed outside of a transaction.
+ * A replica that fails to provide a connection is ejected for the eject time, its statements use the primary
+ * database instead. Once the eject time is over, the replica is used again.
+ */
+final class JdbcReplicas {
+
+    private static final Logger LOGGER = Logger.getLogger(JdbcReplicas.class.getName());
+
+    private final List<ReplicaPool> replicas;
+    private final ReplicaPolicy policy;
+    private final long ejectNanos;
+
+    private JdbcReplicas(List<ConnectionPool> pools, ReplicaPolicy policy, Duration ejectTime) {
+        List<ReplicaPool> replicas = new ArrayList<>(pools.size());
+        for (int i = 0; i < pools.size(); i++) {
+            replicas.add(new ReplicaPool(i, pools.get(i)));
+        }
+        this.replicas = List.copyOf(replicas);
+        this.policy = policy;
+        this.ejectNanos = ejectTime.toNanos();
+    }
+
+    /**
+     * Create the replicas of the connection pools.
+     *
+     * @param pools     connection pools of the replicas
+     * @param policy    policy choosing a replica
+     * @param ejectTime time a failed replica is not used
+     * @return replicas, {@code null} if there are no connection pools
+     */
+    static JdbcReplicas create(List<ConnectionPool> pools, ReplicaPolicy policy, Duration ejectTime) {
+        return pools.isEmpty() ? null : new JdbcReplicas(pools, policy, ejectTime);
+    }
+
+    /**
+     * Get a connection of a replica for a context, the connection of the primary database if all the replicas
+     * are ejected, or if the chosen replica fails to provide a connection.
+     *
+     * @param context         execution context the connection is used by
+     * @param executorService executor service to get the connection
+     * @return connection future
+     */
+    CompletionStage<Connection> connection(JdbcExecuteContext context, ExecutorService executorService) {
+        ReplicaPool replica = select();
+        if (replica == null) {
+            return context.connection();
+        }
+        replica.active.incrementAndGet();
+        context.onClose(replica.active::decrementAndGet);
+        return CompletableFuture.supplyAsync(replica.pool::connection, executorService)
+                .thenApply(conn -> {
+                    try {
+                        conn.setAutoCommit(true);
+                    } catch (SQLException e) {
+                        DbClientException exception = new DbClientException("Failed to set autocommit to true", e);
+                        try {
+                            conn.close();
+                        } catch (SQLException closeException) {
+                            exception.addSuppressed(closeException);
+                        }
+                        throw exception;
+                    }
+                    return conn;
+                })
+                .handle((conn, throwable) -> {
+                    if (throwable == null) {
+                        return CompletableFuture.completedFuture(conn);
+                    }
+                    replica.eject();
+                    LOGGER.log(Level.WARNING,
+                               throwable,
+                               () -> String.format("Replica %d ejected, failed to get a connection: %s",
+                                                   replica.index,
+                                                   throwable.getMessage()));
+                    return context.connection();
+                })
+                .thenCompose(Function.identity());
+    }
+
+    private ReplicaPool select() {
+        long now = System.nanoTime();
+        List<ReplicaPolicy.Replica> available = new ArrayList<>(replicas.size());
+        for (ReplicaPool replica : replicas) {
+            if (replica.isAvailable(now)) {
+                available.add(replica);
+            }
+        }
+        if (available.isEmpty()) {
+            return null;
+        }
+        ReplicaPolicy.Replica selected = policy.select(available);
+        if (!(selected instanceof ReplicaPool) || !available.contains(selected)) {
+            throw new IllegalStateException("Replica policy " + policy + " must select one of the available replicas");
+        }
+        return (ReplicaPool) selected;
+    }
+
+    private final class ReplicaPool implements ReplicaPolicy.Replica {
+        private final AtomicInteger active = new AtomicInteger();
+        private final int index;
+        private final ConnectionPool pool;
+        private volatile boolean ejected;
+        private volatile long ejectedUntil;
+
+        private ReplicaPool(int index, ConnectionPool pool) {
+            this.index = index;
+            this.pool = pool;
+        }
+
+        @Override
+        public int index() {
+            return index;
+        }
+
+        @Override
+        public int activeConnections() {
+            return active.get();
+        }
+
+        private boolean isAvailable(long now) {
+            if (!ejected) {
+                return true;
+            }
+            if (now - ejectedUntil >= 0) {
+                ejected = false;
+                LOGGER.info(() -> String.format("Replica %d is used again", index));
+                return true;
+            }
+            return false;
+        }
+
+        private void eject() {
+            ejectedUntil = System.nanoTime() + ejectNanos;
+            ejected = true;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,7 +23,6 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
-import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.logging.Level;
@@ -46,18 +45,16 @@ abstract class JdbcStatement<S extends DbStatement<S, R>, R> extends AbstractSta
     /** Local logger instance. */
     private static final Logger LOGGER = Logger.getLogger(JdbcStatement.class.getName());
 
-    private final ExecutorService executorService;
     private final String dbType;
-    private final CompletionStage<Connection> connection;
     private final JdbcExecuteContext executeContext;
+    private final JdbcStatementCache statementCache;
 
     JdbcStatement(JdbcExecuteContext executeContext, DbStatementContext statementContext) {
         super(statementContext);
 
         this.executeContext = executeContext;
         this.dbType = executeContext.dbType();
-        this.connection = executeContext.connection();
-        this.executorService = executeContext.executorService();
+        this.statementCache = executeContext.statementCache();
     }
 
     PreparedStatement build(Connection conn, DbClientServiceContext dbContext) {
@@ -83,21 +80,26 @@ abstract class JdbcStatement<S extends DbStatement<S, R>, R> extends AbstractSta
         return dbType;
     }
 
+    /**
+     * Connection to execute this statement, obtained when the statement is executed.
+     *
+     * @return connection future
+     */
     CompletionStage<Connection> connection() {
-        return connection;
-    }
-
-    ExecutorService executorService() {
-        return executorService;
+        return executeContext.connection();
     }
 
     JdbcExecuteContext executeContext() {
         return executeContext;
     }
 
+    JdbcStatementCache statementCache() {
+        return statementCache;
+    }
+
     private PreparedStatement prepareStatement(Connection conn, String statementName, String statement) {
         try {
-            return conn.prepareStatement(statement);
+            return executeContext.prepareStatement(conn, statement);
         } catch (SQLException e) {
             throw new DbClientException(String.format("Failed to prepare statement: %s", statementName), e);
         }
@@ -110,12 +112,10 @@ abstract class JdbcStatement<S extends DbStatement<S, R>, R> extends AbstractSta
 
         PreparedStatement preparedStatement = null;
         try {
-            // Parameters names must be replaced with ? and names occurence order must be stored.
-            Parser parser = new Parser(statement);
-            String jdbcStatement = parser.convert();
-            LOGGER.finest(() -> String.format("Converted statement: %s", jdbcStatement));
-            preparedStatement = connection.prepareStatement(jdbcStatement);
-            List<String> namesOrder = parser.namesOrder();
+            // Parameters names are replaced with ? once per statement text
+            JdbcStatementCache.NamedStatement namedStatement = statementCache.namedStatement(statement);
+            preparedStatement = executeContext.prepareStatement(connection, namedStatement.jdbcStatement());
+            List<String> namesOrder = namedStatement.namesOrder();
             // Set parameters into prepared statement
             int i = 1;
             for (String name : namesOrder) {
@@ -142,7 +142,7 @@ abstract class JdbcStatement<S extends DbStatement<S, R>, R> extends AbstractSta
 
         PreparedStatement preparedStatement = null;
         try {
-            preparedStatement = connection.prepareStatement(statement);
+            preparedStatement = executeContext.prepareStatement(connection, statement);
             int i = 1; // JDBC set position parameter starts from 1.
             for (Object value : parameters) {
                 LOGGER.finest(String.format("Indexed parameter %d: %s", i, value));
@@ -167,7 +167,7 @@ abstract class JdbcStatement<S extends DbStatement<S, R>, R> extends AbstractSta
         }
     }
 
-    private static String namedStatementErrorMessage(final List<String> namesOrder, final Map<String, Object> parameters) {
+    static String namedStatementErrorMessage(final List<String> namesOrder, final Map<String, Object> parameters) {
         // Parameters in query missing in parameters Map
         List<String> notInParams = new ArrayList<>(namesOrder.size());
         for (String name : namesOrder) {
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.logging.Logger;
+
+import io.helidon.common.reactive.Multi;
+import io.helidon.dbclient.DbClientException;
+import io.helidon.dbclient.DbClientServiceContext;
+import io.helidon.dbclient.common.AbstractBatchStatement;
+import io.helidon.dbclient.common.DbStatementContext;
+import io.helidon.dbclient.common.ParamType;
+
+/**
+ * JDBC batch statement.
+ * The statement is prepared once and each batch is sent to the database with a single
+ * {@link PreparedStatement#executeLargeBatch()} call.
+ */
+class JdbcStatementBatch extends AbstractBatchStatement {
+
+    /** Local logger instance. */
+    private static final Logger LOGGER = Logger.getLogger(JdbcStatementBatch.class.getName());
+
+    private final JdbcExecuteContext executeContext;
+
+    JdbcStatementBatch(JdbcExecuteContext executeContext, DbStatementContext statementContext) {
+        super(statementContext);
+        this.executeContext = executeContext;
+    }
+
+    @Override
+    protected String dbType() {
+        return executeContext.dbType();
+    }
+
+    @Override
+    protected Multi<Long> doExecute(DbClientServiceContext dbContext, Multi<List<Object>> batches) {
+        executeContext.addFuture(dbContext.resultFuture().toCompletableFuture());
+        CompletionStage<Connection> connection = executeContext.connection();
+        BatchExecutor executor = new BatchExecutor(executeContext,
+                                                   dbContext.statementName(),
+                                                   dbContext.statement(),
+                                                   paramType());
+        // batches are executed one by one, the next batch is only requested once the previous one is executed
+        return batches
+                .flatMapCompletionStage(batch -> {
+                    CompletableFuture<Long> executed = new CompletableFuture<>();
+                    executeContext.executeStatement(() -> connection
+                            .thenApply(conn -> executor.execute(conn, batch))
+                            .whenComplete((count, throwable) -> {
+                                if (throwable == null) {
+                                    executed.complete(count);
+                                } else {
+                                    executed.completeExceptionally(throwable);
+                                }
+                            }), executed::completeExceptionally);
+                    return executed;
+                })
+                .onTerminate(executor::close);
+    }
+
+    /**
+     * Prepares the statement on the first batch and reuses it for the next ones.
+     * Batches are executed sequentially, possibly by different threads.
+     */
+    private static final class BatchExecutor {
+
+        private final JdbcExecuteContext executeContext;
+        private final String statementName;
+        private final String statement;
+        private final ParamType paramType;
+        private PreparedStatement preparedStatement;
+        private List<String> namesOrder;
+        private boolean closed;
+        private boolean failed;
+
+        private BatchExecutor(JdbcExecuteContext executeContext,
+                              String statementName,
+                              String statement,
+                              ParamType paramType) {
+            this.executeContext = executeContext;
+            this.statementName = statementName;
+            this.statement = statement;
+            this.paramType = paramType;
+        }
+
+        @SuppressWarnings("unchecked")
+        private synchronized Long execute(Connection connection, List<Object> batch) {
+            if (closed) {
+                throw new DbClientException(String.format("Batch statement %s was cancelled", statementName));
+            }
+            try {
+                PreparedStatement preparedStatement = prepare(connection);
+                for (Object parameters : batch) {
+                    if (paramType == ParamType.NAMED) {
+                        setNamedParameters(preparedStatement, (Map<String, Object>) parameters);
+                    } else {
+                        setIndexedParameters(preparedStatement, (List<Object>) parameters);
+                    }
+                    preparedStatement.addBatch();
+                }
+                long total = 0;
+                for (long updated : preparedStatement.executeLargeBatch()) {
+                    // SUCCESS_NO_INFO means the driver does not know the number of updated records
+                    if (updated > 0) {
+                        total += updated;
+                    }
+                }
+                long count = total;
+                LOGGER.finest(() -> String.format("Batch of %d executions of %s updated %d records",
+                                                  batch.size(), statementName, count));
+                return count;
+            } catch (SQLException e) {
+                failed = true;
+                throw new DbClientException(String.format("Failed to execute batch statement: %s", statementName), e);
+            } catch (RuntimeException e) {
+                failed = true;
+                throw e;
+            }
+        }
+
+        private synchronized void close() {
+            closed = true;
+            if (preparedStatement == null) {
+                return;
+            }
+            if (failed) {
+                // the statement may hold parameters of the failed batch, it is not reused
+                executeContext.discardStatement(preparedStatement);
+            } else {
+                executeContext.releaseStatement(preparedStatement);
+            }
+            preparedStatement = null;
+        }
+
+        private PreparedStatement prepare(Connection connection) throws SQLException {
+            if (preparedStatement == null) {
+                String jdbcStatement = statement;
+                if (paramType == ParamType.NAMED) {
+                    JdbcStatementCache.NamedStatement namedStatement = executeContext.statementCache().namedStatement(statement);
+                    jdbcStatement = namedStatement.jdbcStatement();
+                    namesOrder = namedStatement.namesOrder();
+                }
+                preparedStatement = executeContext.prepareStatement(connection, jdbcStatement);
+            }
+            return preparedStatement;
+        }
+
+        private void setNamedParameters(PreparedStatement preparedStatement, Map<String, Object> parameters)
+                throws SQLException {
+            int i = 1;
+            for (String name : namesOrder) {
+                if (!parameters.containsKey(name)) {
+                    throw new DbClientException(JdbcStatement.namedStatementErrorMessage(namesOrder, parameters));
+                }
+                preparedStatement.setObject(i, parameters.get(name));
+                i++;
+            }
+        }
+
+        private void setIndexedParameters(PreparedStatement preparedStatement, List<Object> parameters)
+                throws SQLException {
+            int i = 1; // JDBC set position parameter starts from 1.
+            for (Object value : parameters) {
+                preparedStatement.setObject(i, value);
+                i++;
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.jdbc;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.logging.Logger;
+
+import io.helidon.common.configurable.LruCache;
+
+/**
+ * Cache of the statement details that do not depend on the parameters of an execution, shared by the statements
+ * of a client.
+ * <p>
+ * Statements are usually defined in the configuration, so the same statement text is executed over and over again.
+ * The cache keeps for each statement text:
+ * <ul>
+ *     <li>the JDBC statement converted from a statement with named parameters, and the order of the parameter names</li>
+ *     <li>the layout of the columns of the result set of a query</li>
+ * </ul>
+ * The statement text is used as the key rather than the statement name, as statements with the same name
+ * may be created with a different text. The least recently used statements are removed when the cache is full.
+ */
+final class JdbcStatementCache {
+
+    /** Local logger instance. */
+    private static final Logger LOGGER = Logger.getLogger(JdbcStatementCache.class.getName());
+
+    /**
+     * Default maximal number of cached statements.
+     */
+    static final int DEFAULT_MAX_SIZE = 1024;
+
+    private final LruCache<String, NamedStatement> namedStatements;
+    private final LruCache<String, JdbcColumnLayout> columnLayouts;
+
+    private JdbcStatementCache(int maxSize) {
+        this.namedStatements = LruCache.<String, NamedStatement>builder().capacity(maxSize).build();
+        this.columnLayouts = LruCache.<String, JdbcColumnLayout>builder().capacity(maxSize).build();
+    }
+
+    /**
+     * Create a new cache with the default maximal size.
+     *
+     * @return statement cache
+     */
+    static JdbcStatementCache create() {
+        return new JdbcStatementCache(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Create a new cache.
+     *
+     * @param maxSize maximal number of cached statements
+     * @return statement cache
+     */
+    static JdbcStatementCache create(int maxSize) {
+        return new JdbcStatementCache(maxSize);
+    }
+
+    /**
+     * Statement with named parameters converted to a JDBC statement.
+     *
+     * @param statement statement text with named parameters
+     * @return converted statement
+     */
+    NamedStatement namedStatement(String statement) {
+        NamedStatement namedStatement = namedStatements.get(statement).orElse(null);
+        if (namedStatement == null) {
+            // Parameters names must be replaced with ? and names occurence order must be stored.
+            JdbcStatement.Parser parser = new JdbcStatement.Parser(statement);
+            String jdbcStatement = parser.convert();
+            LOGGER.finest(() -> String.format("Converted statement: %s", jdbcStatement));
+            namedStatement = new NamedStatement(jdbcStatement, List.copyOf(parser.namesOrder()));
+            namedStatements.put(statement, namedStatement);
+        }
+        return namedStatement;
+    }
+
+    /**
+     * Layout of the columns of the result set of a query.
+     * The cached layout is used as long as the names and types of the columns do not change.
+     *
+     * @param statement statement text of the query
+     * @param metaData metadata of the result set
+     * @return column layout
+     * @throws SQLException if the metadata cannot be read
+     */
+    JdbcColumnLayout columnLayout(String statement, ResultSetMetaData metaData) throws SQLException {
+        JdbcColumnLayout layout = columnLayouts.get(statement).orElse(null);
+        if (layout == null || !layout.matches(metaData)) {
+            layout = JdbcColumnLayout.create(metaData);
+            columnLayouts.put(statement, layout);
+        }
+        return layout;
+    }
+
+    /**
+     * JDBC statement converted from a statement with named parameters.
+     */
+    static final class NamedStatement {
+
+        private final String jdbcStatement;
+        private final List<String> namesOrder;
+
+        private NamedStatement(String jdbcStatement, List<String> namesOrder) {
+            this.jdbcStatement = jdbcStatement;
+            this.namesOrder = namesOrder;
+        }
+
+        /**
+         * JDBC statement with {@code ?} placeholders.
+         *
+         * @return JDBC statement
+         */
+        String jdbcStatement() {
+            return jdbcStatement;
+        }
+
+        /**
+         * Names of the parameters in the order of the placeholders, a name may be used more than once.
+         *
+         * @return parameter names
+         */
+        List<String> namesOrder() {
+            return namesOrder;
+        }
+    }
+}
@@ -18,6 +18,7 @@ package io.helidon.dbclient.jdbc;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import io.helidon.common.reactive.Single;
 import io.helidon.dbclient.DbClientServiceContext;
@@ -53,15 +54,18 @@ class JdbcStatementDml extends JdbcStatement<DbStatementDml, Single<Long>> imple
                                    CompletableFuture<Void> statementFuture,
                                    CompletableFuture<Long> queryFuture) {
 
-        executorService().submit(() -> {
-            connection()
-                    .thenAccept(conn -> callStatement(dbContext, conn, statementFuture, queryFuture))
-                    .exceptionally(t -> {
-                        statementFuture.completeExceptionally(t);
-                        queryFuture.completeExceptionally(t);
-                        return null;
-                    });
-        });
+        Consumer<Throwable> failure = throwable -> {
+            statementFuture.completeExceptionally(throwable);
+            queryFuture.completeExceptionally(throwable);
+        };
+        // the connection of a pipelined transaction is obtained before its statements are run, so the statement
+        // is executed by the task itself, in the order the statements are executed
+        executeContext().executeStatement(() -> connection()
+                .thenAccept(conn -> callStatement(dbContext, conn, statementFuture, queryFuture))
+                .exceptionally(throwable -> {
+                    failure.accept(throwable);
+                    return null;
+                }), failure::accept);
 
         // the query future is reused, as it completes with the number of updated records
         return Single.create(queryFuture);
@@ -71,13 +75,20 @@ class JdbcStatementDml extends JdbcStatement<DbStatementDml, Single<Long>> imple
                                Connection connection,
                                CompletableFuture<Void> statementFuture,
                                CompletableFuture<Long> queryFuture) {
+        PreparedStatement preparedStatement = null;
         try {
-            PreparedStatement preparedStatement = build(connection, dbContext);
+            preparedStatement = build(connection, dbContext);
             long count = preparedStatement.executeLargeUpdate();
+            // released first, so the next statement of a transaction with the same SQL can reuse it
+            executeContext().releaseStatement(preparedStatement);
+            preparedStatement = null;
             statementFuture.complete(null);
             queryFuture.complete(count);
-            preparedStatement.close();
         } catch (Exception e) {
+            if (preparedStatement != null) {
+                // the failed statement is not reused
+                executeContext().discardStatement(preparedStatement);
+            }
             statementFuture.completeExceptionally(e);
             queryFuture.completeExceptionally(e);
         }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,18 +19,17 @@ package io.helidon.dbclient.jdbc;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.util.HashMap;
-import java.util.Map;
+import java.sql.Statement;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Flow;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.logging.Level;
@@ -56,9 +55,24 @@ class JdbcStatementQuery extends JdbcStatement<DbStatementQuery, Multi<DbRow>> i
     /** Local logger instance. */
     private static final Logger LOGGER = Logger.getLogger(JdbcStatementQuery.class.getName());
 
+    /** Maximal number of rows fetched at once when the fetch size follows the demand. */
+    private static final int MAX_PREFETCH = 1000;
+
+    private int fetchSize;
+
     JdbcStatementQuery(JdbcExecuteContext executeContext,
                        DbStatementContext statementContext) {
         super(executeContext, statementContext);
+        this.fetchSize = executeContext.fetchSize();
+    }
+
+    @Override
+    public DbStatementQuery fetchSize(int fetchSize) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("Fetch size must not be negative: " + fetchSize);
+        }
+        this.fetchSize = fetchSize;
+        return this;
     }
 
     @Override
@@ -76,124 +90,100 @@ class JdbcStatementQuery extends JdbcStatement<DbStatementQuery, Multi<DbRow>> i
                                    CompletableFuture<Void> statementFuture,
                                    CompletableFuture<Long> queryFuture) {
 
-        return Single.create(connection())
-                .flatMap(connection -> doExecute(dbContext, connection, statementFuture, queryFuture));
-    }
-
-    private Multi<DbRow> doExecute(DbClientServiceContext dbContext,
-                                   Connection connection,
-                                   CompletableFuture<Void> statementFuture,
-                                   CompletableFuture<Long> queryFuture) {
-
-        // all below must run in an executor service, as it is blocking
         CompletableFuture<Multi<DbRow>> result = new CompletableFuture<>();
+        Consumer<Throwable> failure = throwable -> {
+            result.completeExceptionally(throwable);
+            statementFuture.completeExceptionally(throwable);
+            queryFuture.completeExceptionally(throwable);
+        };
+
+        // queries only read, they can use the connection of a read replica
+        CompletionStage<Connection> connection = executeContext().readConnection();
+        if (executeContext().pipelined()) {
+            // the connection of a pipelined transaction is obtained before its statements are run, so the query
+            // is executed by the task itself, in the order the statements are executed
+            executeContext().executeQueryStatement(() -> connection
+                    .thenAccept(conn -> doExecute(dbContext, conn, statementFuture, queryFuture, result))
+                    .exceptionally(throwable -> {
+                        failure.accept(throwable);
+                        return null;
+                    }), failure::accept);
+        } else {
+            connection
+                    .thenAccept(conn -> executeContext().executeQueryStatement(
+                            () -> doExecute(dbContext, conn, statementFuture, queryFuture, result),
+                            failure::accept))
+                    .exceptionally(throwable -> {
+                        failure.accept(throwable);
+                        return null;
+                    });
+        }
 
-        executorService().submit(() -> {
-            PreparedStatement statement;
-            try {
-                // first try block is to create a statement
-                statement = super.build(connection, dbContext);
-            } catch (Exception e) {
-                result.completeExceptionally(e);
-                statementFuture.completeExceptionally(e);
-                queryFuture.completeExceptionally(e);
-                return;
-            }
+        return Single.create(result).flatMap(Function.identity());
+    }
 
-            try {
-                ResultSet rs = statement.executeQuery();
-                // at this moment we have a DbRows
-                statementFuture.complete(null);
-                result.complete(processResultSet(executorService(),
-                                                 dbMapperManager(),
-                                                 mapperManager(),
-                                                 queryFuture,
-                                                 rs));
-            } catch (Throwable e) {
-                LOGGER.log(Level.FINEST,
-                           String.format("Failed to execute query %s: %s", statement.toString(), e.getMessage()),
-                           e);
-                result.completeExceptionally(e);
-                statementFuture.completeExceptionally(e);
-            }
-        });
+    // all below must run in an executor service, as it is blocking
+    private void doExecute(DbClientServiceContext dbContext,
+                           Connection connection,
+                           CompletableFuture<Void> statementFuture,
+                           CompletableFuture<Long> queryFuture,
+                           CompletableFuture<Multi<DbRow>> result) {
 
-        return Single.create(result).flatMap(Function.identity());
+        ExecutorService executorService = executeContext().queryExecutorService();
+        PreparedStatement statement;
+        try {
+            // first try block is to create a statement
+            statement = super.build(connection, dbContext);
+            // set even without a fetch size, a statement reused in a transaction keeps the one of its last query
+            statement.setFetchSize(fetchSize);
+        } catch (Exception e) {
+            result.completeExceptionally(e);
+            statementFuture.completeExceptionally(e);
+            queryFuture.completeExceptionally(e);
+            return;
+        }
 
+        try {
+            ResultSet rs = statement.executeQuery();
+            // at this moment we have a DbRows
+            statementFuture.complete(null);
+            result.complete(processResultSet(executorService,
+                                             dbContext.statement(),
+                                             queryFuture,
+                                             rs));
+        } catch (Throwable e) {
+            LOGGER.log(Level.FINEST,
+                       String.format("Failed to execute query %s: %s", statement.toString(), e.getMessage()),
+                       e);
+            result.completeExceptionally(e);
+            statementFuture.completeExceptionally(e);
+        }
     }
 
-    static Multi<DbRow> processResultSet(
-            ExecutorService executorService,
-            DbMapperManager dbMapperManager,
-            MapperManager mapperManager,
-            CompletableFuture<Long> queryFuture,
-            ResultSet resultSet) {
+    private Multi<DbRow> processResultSet(ExecutorService executorService,
+                                          String statement,
+                                          CompletableFuture<Long> queryFuture,
+                                          ResultSet resultSet) {
 
         return Multi.create(new JdbcDbRows(resultSet,
                                          executorService,
-                                         dbMapperManager,
-                                         mapperManager,
+                                         dbMapperManager(),
+                                         mapperManager(),
+                                         executeContext(),
+                                         statement,
+                                         fetchSize == 0,
                                          queryFuture)
                                   .publisher());
     }
 
-    static Map<Long, DbColumn> createMetadata(ResultSet rs) throws SQLException {
-        ResultSetMetaData metaData = rs.getMetaData();
-        int columnCount = metaData.getColumnCount();
-
-        Map<Long, DbColumn> byNumbers = new HashMap<>();
-
-        for (int i = 1; i <= columnCount; i++) {
-            String name = metaData.getColumnLabel(i);
-            String sqlType = metaData.getColumnTypeName(i);
-            Class<?> javaClass = classByName(metaData.getColumnClassName(i));
-            DbColumn column = new DbColumn() {
-                @Override
-                public <T> T as(Class<T> type) {
-                    return null;
-                }
-
-                @Override
-                public <T> T as(GenericType<T> type) {
-                    return null;
-                }
-
-                @Override
-                public Class<?> javaType() {
-                    return javaClass;
-                }
-
-                @Override
-                public String dbType() {
-                    return sqlType;
-                }
-
-                @Override
-                public String name() {
-                    return name;
-                }
-            };
-            byNumbers.put((long) i, column);
-        }
-        return byNumbers;
-    }
-
-    private static Class<?> classByName(String columnClassName) {
-        if (columnClassName == null) {
-            return null;
-        }
-        try {
-            return Class.forName(columnClassName);
-        } catch (ClassNotFoundException e) {
-            return null;
-        }
-    }
-
     private static final class JdbcDbRows {
         private final AtomicBoolean resultRequested = new AtomicBoolean();
         private final ExecutorService executorService;
         private final DbMapperManager dbMapperManager;
         private final MapperManager mapperManager;
+        private final JdbcExecuteContext executeContext;
+        private final String statement;
+        private final boolean prefetchOnDemand;
         private final CompletableFuture<Long> queryFuture;
         private final ResultSet resultSet;
 
@@ -201,11 +191,17 @@ class JdbcStatementQuery extends JdbcStatement<DbStatementQuery, Multi<DbRow>> i
                            ExecutorService executorService,
                            DbMapperManager dbMapperManager,
                            MapperManager mapperManager,
+                           JdbcExecuteContext executeContext,
+                           String statement,
+                           boolean prefetchOnDemand,
                            CompletableFuture<Long> queryFuture) {
 
             this.executorService = executorService;
             this.dbMapperManager = dbMapperManager;
             this.mapperManager = mapperManager;
+            this.executeContext = executeContext;
+            this.statement = statement;
+            this.prefetchOnDemand = prefetchOnDemand;
             this.queryFuture = queryFuture;
             this.resultSet = resultSet;
         }
@@ -221,7 +217,10 @@ class JdbcStatementQuery extends JdbcStatement<DbStatementQuery, Multi<DbRow>> i
                                     resultSet,
                                     queryFuture,
                                     dbMapperManager,
-                                    mapperManager);
+                                    mapperManager,
+                                    executeContext,
+                                    statement,
+                                    prefetchOnDemand);
         }
 
         private void checkResult() {
@@ -232,232 +231,390 @@ class JdbcStatementQuery extends JdbcStatement<DbStatementQuery, Multi<DbRow>> i
         }
     }
 
+    /**
+     * Publisher of the rows of a result set.
+     * Rows are only read from the result set while they are requested: a thread of the executor service reads
+     * the requested rows and is released once the demand is satisfied, until more rows are requested.
+     */
     private static final class RowPublisher implements Flow.Publisher<DbRow> {
         private final ExecutorService executorService;
         private final ResultSet rs;
         private final CompletableFuture<Long> queryFuture;
         private final DbMapperManager dbMapperManager;
         private final MapperManager mapperManager;
+        private final JdbcExecuteContext executeContext;
+        private final String statement;
+        private final boolean prefetchOnDemand;
 
         private RowPublisher(ExecutorService executorService,
                              ResultSet rs,
                              CompletableFuture<Long> queryFuture,
                              DbMapperManager dbMapperManager,
-                             MapperManager mapperManager) {
+                             MapperManager mapperManager,
+                             JdbcExecuteContext executeContext,
+                             String statement,
+                             boolean prefetchOnDemand) {
 
             this.executorService = executorService;
             this.rs = rs;
             this.queryFuture = queryFuture;
             this.dbMapperManager = dbMapperManager;
             this.mapperManager = mapperManager;
+            this.executeContext = executeContext;
+            this.statement = statement;
+            this.prefetchOnDemand = prefetchOnDemand;
         }
 
         @Override
         public void subscribe(Flow.Subscriber<? super DbRow> subscriber) {
-            LinkedBlockingQueue<Long> requestQueue = new LinkedBlockingQueue<>();
-            AtomicBoolean cancelled = new AtomicBoolean();
-
             // we have executed the statement, we can correctly subscribe
-            subscriber.onSubscribe(new Flow.Subscription() {
-                @Override
-                public void request(long n) {
-                    // add the requested number to the queue
-                    requestQueue.add(n);
-                }
+            subscriber.onSubscribe(new RowSubscription(subscriber));
+        }
+
+        private final class RowSubscription implements Flow.Subscription, Runnable {
+            private final Flow.Subscriber<? super DbRow> subscriber;
+            private final AtomicLong requested = new AtomicLong();
+            // number of signals (requests, cancel) not yet processed by the reading thread
+            private final AtomicInteger pending = new AtomicInteger();
+            private volatile boolean cancelled;
+            private volatile Throwable badRequest;
+            // below are only accessed by the reading thread, the executor service provides visibility between threads
+            private JdbcColumnLayout layout;
+            private boolean done;
+            private long count;
+            private int fetchSize;
+
+            private RowSubscription(Flow.Subscriber<? super DbRow> subscriber) {
+                this.subscriber = subscriber;
+            }
 
-                @Override
-                public void cancel() {
-                    cancelled.set(true);
-                    requestQueue.clear();
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    badRequest = new IllegalArgumentException("Rule 3.9: Request must be positive, but was " + n);
+                } else {
+                    requested.accumulateAndGet(n, (current, added) -> {
+                        long sum = current + added;
+                        return sum < 0 ? Long.MAX_VALUE : sum;
+                    });
                 }
-            });
+                signal();
+            }
 
-            // TODO
-            // we should only use a thread to read data that was actually requested
-            // I would prefer to use the same thread to process a single query (to make sure we honor thread locals
-            // that may be used by the database)
+            @Override
+            public void cancel() {
+                cancelled = true;
+                signal();
+            }
 
-            // and now we can process the data from the database
-            executorService.submit(() -> {
-                //now we have a subscriber, we can handle the processing of result set
-                try (ResultSet rs = this.rs) {
-                    Map<Long, DbColumn> metadata = createMetadata(rs);
-                    long count = 0;
+            @Override
+            public void run() {
+                int missed = 1;
+                do {
+                    if (!done) {
+                        read();
+                    }
+                    missed = pending.addAndGet(-missed);
+                } while (missed != 0);
+            }
 
-                    // now we only want to process next record if it was requested
-                    while (!cancelled.get()) {
-                        Long nextElement;
-                        try {
-                            nextElement = requestQueue.poll(10, TimeUnit.MINUTES);
-                        } catch (InterruptedException e) {
-                            LOGGER.finest("Interrupted while polling for requests, terminating DB read");
-                            subscriber.onError(e);
-                            break;
+            private void signal() {
+                if (pending.getAndIncrement() == 0) {
+                    try {
+                        executorService.submit(this);
+                    } catch (RejectedExecutionException e) {
+                        pending.set(0);
+                        finish(e);
+                    }
+                }
+            }
+
+            private void read() {
+                if (badRequest != null) {
+                    finish(badRequest);
+                    return;
+                }
+                try {
+                    if (layout == null) {
+                        layout = executeContext.statementCache().columnLayout(statement, rs.getMetaData());
+                        if (prefetchOnDemand) {
+                            // rows are never fetched in smaller batches than with the fetch size of the driver
+                            fetchSize = rs.getFetchSize();
                         }
-                        if (nextElement == null) {
-                            LOGGER.finest("No data requested for 10 minutes, terminating DB read");
-                            subscriber.onError(new TimeoutException("No data requested in 10 minutes"));
-                            break;
+                    }
+                    long demand = requested.get();
+                    prefetch(demand);
+                    long emitted = 0;
+                    // now we only want to process next record if it was requested
+                    while (emitted != demand) {
+                        if (cancelled) {
+                            finish(new CancellationException("Processing cancelled by subscriber"));
+                            return;
                         }
-                        for (long i = 0; i < nextElement; i++) {
-                            if (rs.next()) {
-                                DbRow dbRow = createDbRow(rs, metadata, dbMapperManager, mapperManager);
-                                subscriber.onNext(dbRow);
-                                count++;
-                            } else {
-                                queryFuture.complete(count);
-                                subscriber.onComplete();
-                                return;
-                            }
+                        if (!rs.next()) {
+                            finish(null);
+                            return;
                         }
+                        DbRow dbRow = createDbRow(rs, layout, dbMapperManager, mapperManager);
+                        count++;
+                        emitted++;
+                        subscriber.onNext(dbRow);
+                    }
+                    if (cancelled) {
+                        finish(new CancellationException("Processing cancelled by subscriber"));
+                    } else if (demand != Long.MAX_VALUE) {
+                        requested.addAndGet(-emitted);
+                    }
+                } catch (SQLException | RuntimeException e) {
+                    finish(e);
+                }
+            }
+
+            // without a configured fetch size, rows are fetched from the database as they are requested,
+            // the fetch size is only ever raised
+            private void prefetch(long demand) {
+                if (!prefetchOnDemand) {
+                    return;
+                }
+                int size = (int) Math.min(demand, MAX_PREFETCH);
+                if (size > fetchSize) {
+                    fetchSize = size;
+                    try {
+                        rs.setFetchSize(size);
+                    } catch (SQLException e) {
+                        // the fetch size is only a hint, such as when the driver fetched all the rows already
+                        LOGGER.log(Level.FINEST, "Failed to set fetch size of result set", e);
+                        fetchSize = MAX_PREFETCH;
                     }
+                }
+            }
 
-                    if (cancelled.get()) {
-                        queryFuture
-                                .completeExceptionally(new CancellationException("Processing cancelled by subscriber"));
+            private void finish(Throwable throwable) {
+                done = true;
+                try {
+                    Statement stmt = rs.getStatement();
+                    rs.close();
+                    if (stmt != null) {
+                        executeContext.releaseStatement(stmt);
                     }
                 } catch (SQLException e) {
-                    queryFuture.completeExceptionally(e);
-                    subscriber.onError(e);
+                    LOGGER.log(Level.FINEST, "Failed to close result set", e);
                 }
-            });
+                if (throwable == null) {
+                    queryFuture.complete(count);
+                    subscriber.onComplete();
+                } else if (throwable instanceof CancellationException) {
+                    queryFuture.completeExceptionally(throwable);
+                } else {
+                    queryFuture.completeExceptionally(throwable);
+                    subscriber.onError(throwable);
+                }
+            }
         }
 
         private DbRow createDbRow(ResultSet rs,
-                                  Map<Long, DbColumn> metadata,
+                                  JdbcColumnLayout layout,
                                   DbMapperManager dbMapperManager,
                                   MapperManager mapperManager) throws SQLException {
             // read whole row
-            // for each column
-            Map<String, DbColumn> byStringsWithValues = new HashMap<>();
-            Map<Integer, DbColumn> byNumbersWithValues = new HashMap<>();
-
-            for (int i = 1; i <= metadata.size(); i++) {
-                DbColumn meta = metadata.get((long) i);
-                Object value = rs.getObject(i);
-                DbColumn withValue = new DbColumn() {
-                    @Override
-                    public <T> T as(Class<T> type) {
-                        if (null == value) {
-                            return null;
-                        }
-                        if (type.isAssignableFrom(value.getClass())) {
-                            return type.cast(value);
-                        }
-                        return map(value, type);
-                    }
+            Object[] values = new Object[layout.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = rs.getObject(i + 1);
+            }
+            return new JdbcDbRow(layout, values, dbMapperManager, mapperManager);
+        }
+    }
 
-                    @SuppressWarnings("unchecked")
-                    <SRC, T> T map(SRC value, Class<T> type) {
-                        Class<SRC> theClass = (Class<SRC>) value.getClass();
-
-                        try {
-                            return mapperManager.map(value, theClass, type);
-                        } catch (MapperException e) {
-                            if (type.equals(String.class)) {
-                                return (T) String.valueOf(value);
-                            }
-                            throw e;
-                        }
-                    }
+    /**
+     * Row of a result set, columns are accessed by index in the values read from the result set.
+     */
+    private static final class JdbcDbRow implements DbRow {
+        private final JdbcColumnLayout layout;
+        private final Object[] values;
+        private final DbMapperManager dbMapperManager;
+        private final MapperManager mapperManager;
+        // created on first access, most rows are mapped by index or name only once
+        private DbColumn[] columns;
+
+        private JdbcDbRow(JdbcColumnLayout layout,
+                          Object[] values,
+                          DbMapperManager dbMapperManager,
+                          MapperManager mapperManager) {
+            this.layout = layout;
+            this.values = values;
+            this.dbMapperManager = dbMapperManager;
+            this.mapperManager = mapperManager;
+        }
 
-                    @SuppressWarnings("unchecked")
-                    <SRC, T> T map(SRC value, GenericType<T> type) {
-                        Class<SRC> theClass = (Class<SRC>) value.getClass();
-                        return mapperManager.map(value, GenericType.create(theClass), type);
-                    }
+        @Override
+        public DbColumn column(String name) {
+            int index = layout.index(name);
+            return index < 0 ? null : columnAt(index);
+        }
 
-                    @Override
-                    public <T> T as(GenericType<T> type) {
-                        if (null == value) {
-                            return null;
-                        }
-                        if (type.isClass()) {
-                            Class<?> theClass = type.rawType();
-                            if (theClass.isAssignableFrom(value.getClass())) {
-                                return type.cast(value);
-                            }
-                        }
-                        return map(value, type);
-                    }
+        @Override
+        public DbColumn column(int index) {
+            if (index < 1 || index > values.length) {
+                return null;
+            }
+            return columnAt(index - 1);
+        }
 
-                    @Override
-                    public Class<?> javaType() {
-                        if (null == meta.javaType()) {
-                            if (null == value) {
-                                return null;
-                            }
-                            return value.getClass();
-                        } else {
-                            return meta.javaType();
-                        }
-                    }
+        @Override
+        public int columnIndex(String name) {
+            int index = layout.index(name);
+            return index < 0 ? -1 : index + 1;
+        }
 
-                    @Override
-                    public String dbType() {
-                        return meta.dbType();
-                    }
+        @Override
+        public Object columnLayout() {
+            return layout;
+        }
 
-                    @Override
-                    public String name() {
-                        return meta.name();
-                    }
-                };
-                byStringsWithValues.put(meta.name(), withValue);
-                byNumbersWithValues.put(i, withValue);
+        @Override
+        public void forEach(Consumer<? super DbColumn> columnAction) {
+            for (int i = 0; i < values.length; i++) {
+                if (layout.isNamed(i)) {
+                    columnAction.accept(columnAt(i));
+                }
             }
+        }
 
-            return new DbRow() {
-                @Override
-                public DbColumn column(String name) {
-                    return byStringsWithValues.get(name);
-                }
+        @Override
+        public <T> T as(Class<T> type) {
+            return dbMapperManager.read(this, type);
+        }
 
-                @Override
-                public DbColumn column(int index) {
-                    return byNumbersWithValues.get(index);
-                }
+        @Override
+        public <T> T as(GenericType<T> type) {
+            return dbMapperManager.read(this, type);
+        }
 
-                @Override
-                public void forEach(Consumer<? super DbColumn> columnAction) {
-                    byStringsWithValues.values()
-                            .forEach(columnAction);
-                }
+        @Override
+        public <T> T as(Function<DbRow, T> mapper) {
+            return mapper.apply(this);
+        }
 
-                @Override
-                public <T> T as(Class<T> type) {
-                    return dbMapperManager.read(this, type);
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            boolean first = true;
+            sb.append('{');
+            for (int i = 0; i < values.length; i++) {
+                if (!layout.isNamed(i)) {
+                    continue;
                 }
+                if (first) {
+                    first = false;
+                } else {
+                    sb.append(',');
+                }
+                DbColumn col = columnAt(i);
+                sb.append(col.name());
+                sb.append(':');
+                sb.append(col.value().toString());
+            }
+            sb.append('}');
+            return sb.toString();
+        }
 
-                @Override
-                public <T> T as(GenericType<T> type) {
-                    return dbMapperManager.read(this, type);
+        private DbColumn columnAt(int index) {
+            if (columns == null) {
+                columns = new DbColumn[values.length];
+            }
+            DbColumn column = columns[index];
+            if (column == null) {
+                column = new JdbcDbColumn(layout.column(index), values[index], mapperManager);
+                columns[index] = column;
+            }
+            return column;
+        }
+    }
+
+    /**
+     * Column of a row with its value.
+     */
+    private static final class JdbcDbColumn implements DbColumn {
+        private final DbColumn meta;
+        private final Object value;
+        private final MapperManager mapperManager;
+
+        private JdbcDbColumn(DbColumn meta, Object value, MapperManager mapperManager) {
+            this.meta = meta;
+            this.value = value;
+            this.mapperManager = mapperManager;
+        }
+
+        @Override
+        public <T> T as(Class<T> type) {
+            if (null == value) {
+                return null;
+            }
+            if (type.isAssignableFrom(value.getClass())) {
+                return type.cast(value);
+            }
+            return map(value, type);
+        }
+
+        @SuppressWarnings("unchecked")
+        <SRC, T> T map(SRC value, Class<T> type) {
+            Class<SRC> theClass = (Class<SRC>) value.getClass();
+
+            try {
+                return mapperManager.map(value, theClass, type);
+            } catch (MapperException e) {
+                if (type.equals(String.class)) {
+                    return (T) String.valueOf(value);
                 }
+                throw e;
+            }
+        }
 
-                @Override
-                public <T> T as(Function<DbRow, T> mapper) {
-                    return mapper.apply(this);
+        @SuppressWarnings("unchecked")
+        <SRC, T> T map(SRC value, GenericType<T> type) {
+            Class<SRC> theClass = (Class<SRC>) value.getClass();
+            return mapperManager.map(value, GenericType.create(theClass), type);
+        }
+
+        @Override
+        public <T> T as(GenericType<T> type) {
+            if (null == value) {
+                return null;
+            }
+            if (type.isClass()) {
+                Class<?> theClass = type.rawType();
+                if (theClass.isAssignableFrom(value.getClass())) {
+                    return type.cast(value);
                 }
+            }
+            return map(value, type);
+        }
 
-                @Override
-                public String toString() {
-                    StringBuilder sb = new StringBuilder();
-                    boolean first = true;
-                    sb.append('{');
-                    for (DbColumn col : byStringsWithValues.values()) {
-                        if (first) {
-                            first = false;
-                        } else {
-                            sb.append(',');
-                        }
-                        sb.append(col.name());
-                        sb.append(':');
-                        sb.append(col.value().toString());
-                    }
-                    sb.append('}');
-                    return sb.toString();
+        @Override
+        public Object value() {
+            return value;
+        }
+
+        @Override
+        public Class<?> javaType() {
+            if (null == meta.javaType()) {
+                if (null == value) {
+                    return null;
                 }
-            };
+                return value.getClass();
+            } else {
+                return meta.javaType();
+            }
+        }
+
+        @Override
+        public String dbType() {
+            return meta.dbType();
+        }
+
+        @Override
+        public String name() {
+            return meta.name();
         }
     }
 
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.jdbc;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Policy choosing the read replica of the read-only statements of an execution.
+ *
+ * @see JdbcDbClientProviderBuilder#addReplica(ConnectionPool)
+ */
+@FunctionalInterface
+public interface ReplicaPolicy {
+
+    /**
+     * Choose a replica.
+     *
+     * @param replicas replicas that are not ejected, never empty
+     * @return one of the replicas
+     */
+    Replica select(List<Replica> replicas);
+
+    /**
+     * Policy choosing the replicas in turn.
+     *
+     * @return round-robin policy
+     */
+    static ReplicaPolicy roundRobin() {
+        AtomicInteger next = new AtomicInteger();
+        return replicas -> replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+    }
+
+    /**
+     * Policy choosing the replica with the fewest connections in use by the client,
+     * the replicas with the same number of connections are chosen in turn.
+     *
+     * @return least-busy policy
+     */
+    static ReplicaPolicy leastBusy() {
+        AtomicInteger next = new AtomicInteger();
+        return replicas -> {
+            int size = replicas.size();
+            int start = Math.floorMod(next.getAndIncrement(), size);
+            Replica selected = replicas.get(start);
+            for (int i = 1; i < size; i++) {
+                Replica replica = replicas.get((start + i) % size);
+                if (replica.activeConnections() < selected.activeConnections()) {
+                    selected = replica;
+                }
+            }
+            return selected;
+        };
+    }
+
+    /**
+     * Policy of the given name, as used in configuration.
+     *
+     * @param name {@code round-robin} or {@code least-busy}
+     * @return policy
+     * @throws IllegalArgumentException if there is no policy of the name
+     */
+    static ReplicaPolicy create(String name) {
+        switch (name) {
+        case "round-robin":
+            return roundRobin();
+        case "least-busy":
+            return leastBusy();
+        default:
+            throw new IllegalArgumentException("Unknown replica policy: " + name
+                                                       + ", supported policies are round-robin and least-busy");
+        }
+    }
+
+    /**
+     * A read replica.
+     */
+    interface Replica {
+
+        /**
+         * Index of this replica, in the order the replicas are configured.
+         *
+         * @return index starting from {@code 0}
+         */
+        int index();
+
+        /**
+         * Number of the connections of this replica in use by the client.
+         *
+         * @return number of connections
+         */
+        int activeConnections();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.jdbc;
+
+import java.util.Queue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Executor running its tasks one after another, in the order they are submitted, by a single task
+ * of an underlying executor at a time.
+ * <p>
+ * A task submitted while another task runs, such as a statement executed once the previous statement of a transaction
+ * completes, is run right after it by the same thread, rather than being handed off to another thread.
+ * Tasks must not wait for tasks submitted after them.
+ * <p>
+ * Tasks are only run once a stage they depend on completes, such as the connection of a transaction, so tasks
+ * submitted before it completes are run in order rather than by the thread completing it.
+ * <p>
+ * When the underlying executor rejects the task draining the queue, each queued task is removed from the queue
+ * and its rejection handler is called with the {@link RejectedExecutionException} instead.
+ */
+final class SerialExecutor {
+
+    /** Local logger instance. */
+    private static final Logger LOGGER = Logger.getLogger(SerialExecutor.class.getName());
+
+    private final Queue<Task> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Executor executor;
+    private final Supplier<? extends CompletionStage<?>> ready;
+
+    /**
+     * Creates a new serial executor.
+     *
+     * @param executor underlying executor
+     * @param ready stage the tasks depend on, they are run once it completes, whether normally or exceptionally
+     */
+    SerialExecutor(Executor executor, Supplier<? extends CompletionStage<?>> ready) {
+        this.executor = executor;
+        this.ready = ready;
+    }
+
+    /**
+     * Submit a task.
+     *
+     * @param task task to run
+     * @param onRejected called instead of the task if the underlying executor rejects it
+     */
+    void execute(Runnable task, Consumer<? super RejectedExecutionException> onRejected) {
+        tasks.add(new Task(task, onRejected));
+        if (pending.getAndIncrement() == 0) {
+            ready.get().whenComplete((it, throwable) -> schedule());
+        }
+    }
+
+    private void schedule() {
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            // tasks submitted while the queued ones are rejected are rejected as well
+            do {
+                tasks.poll().reject(e);
+            } while (pending.decrementAndGet() != 0);
+        }
+    }
+
+    private void drain() {
+        do {
+            Task task = tasks.poll();
+            try {
+                task.task.run();
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, e, () -> String.format("Failed to execute a statement task: %s", e.getMessage()));
+            }
+        } while (pending.decrementAndGet() != 0);
+    }
+
+    private static final class Task {
+
+        private final Runnable task;
+        private final Consumer<? super RejectedExecutionException> onRejected;
+
+        private Task(Runnable task, Consumer<? super RejectedExecutionException> onRejected) {
+            this.task = task;
+            this.onRejected = onRejected;
+        }
+
+        private void reject(RejectedExecutionException e) {
+            try {
+                onRejected.accept(e);
+            } catch (RuntimeException t) {
+                LOGGER.log(Level.WARNING, t, () -> String.format("Failed to reject a statement task: %s", t.getMessage()));
+            }
+        }
+    }
+}
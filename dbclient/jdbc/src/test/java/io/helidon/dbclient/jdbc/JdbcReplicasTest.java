@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.jdbc;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Read replicas tests.
+ */
+public class JdbcReplicasTest {
+
+    private static ExecutorService executorService;
+
+    @BeforeAll
+    static void beforeAll() {
+        executorService = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        executorService.shutdown();
+    }
+
+    @Test
+    void testRoundRobin() throws Exception {
+        Pool replica1 = new Pool();
+        Pool replica2 = new Pool();
+        JdbcReplicas replicas = JdbcReplicas.create(List.of(replica1, replica2), ReplicaPolicy.roundRobin(), Duration.ZERO);
+        Connection primary = new SqlConnectionMock();
+
+        for (int i = 0; i < 4; i++) {
+            JdbcExecuteContext context = context(primary, replicas);
+            Connection connection = connection(context.readConnection());
+            // the connection is obtained once for all the queries of the context
+            assertThat(connection(context.readConnection()), sameInstance(connection));
+            context.close();
+            assertThat(connection.isClosed(), is(true));
+        }
+        assertThat(replica1.created.get(), is(2));
+        assertThat(replica2.created.get(), is(2));
+    }
+
+    @Test
+    void testReadsAfterWrite() throws Exception {
+        Pool replica = new Pool();
+        JdbcReplicas replicas = JdbcReplicas.create(List.of(replica), ReplicaPolicy.roundRobin(), Duration.ZERO);
+        Connection primary = new SqlConnectionMock();
+
+        JdbcExecuteContext context = context(primary, replicas);
+        assertThat(connection(context.connection()), sameInstance(primary));
+        assertThat(connection(context.readConnection()), sameInstance(primary));
+        assertThat(replica.created.get(), is(0));
+    }
+
+    @Test
+    void testEject() throws Exception {
+        Pool failing = new Pool();
+        failing.fail = true;
+        Pool replica = new Pool();
+        JdbcReplicas replicas = JdbcReplicas.create(List.of(failing, replica),
+                                                    ReplicaPolicy.roundRobin(),
+                                                    Duration.ofMinutes(10));
+        Connection primary = new SqlConnectionMock();
+
+        // the failed replica falls back to the primary database
+        assertThat(connection(context(primary, replicas).readConnection()), sameInstance(primary));
+        for (int i = 0; i < 3; i++) {
+            Connection connection = connection(context(primary, replicas).readConnection());
+            assertThat(replica.connections.contains(connection), is(true));
+        }
+        assertThat(failing.created.get(), is(1));
+
+        replica.fail = true;
+        assertThat(connection(context(primary, replicas).readConnection()), sameInstance(primary));
+        // all the replicas are ejected
+        assertThat(connection(context(primary, replicas).readConnection()), sameInstance(primary));
+        assertThat(replica.created.get(), is(4));
+    }
+
+    @Test
+    void testLeastBusy() throws Exception {
+        Pool replica1 = new Pool();
+        Pool replica2 = new Pool();
+        JdbcReplicas replicas = JdbcReplicas.create(List.of(replica1, replica2), ReplicaPolicy.leastBusy(), Duration.ZERO);
+        Connection primary = new SqlConnectionMock();
+
+        JdbcExecuteContext busy = context(primary, replicas);
+        Connection busyConnection = connection(busy.readConnection());
+        Pool busyReplica = replica1.connections.contains(busyConnection) ? replica1 : replica2;
+        Pool idleReplica = busyReplica == replica1 ? replica2 : replica1;
+        for (int i = 0; i < 3; i++) {
+            JdbcExecuteContext context = context(primary, replicas);
+            Connection connection = connection(context.readConnection());
+            assertThat(idleReplica.connections.contains(connection), is(true));
+            context.close();
+        }
+        assertThat(busyReplica.created.get(), is(1));
+    }
+
+    @Test
+    void testUnknownPolicy() {
+        assertThrows(IllegalArgumentException.class, () -> ReplicaPolicy.create("random"));
+    }
+
+    private static JdbcExecuteContext context(Connection primary, JdbcReplicas replicas) {
+        return JdbcExecuteContext.jdbcBuilder()
+                .dbType("Test")
+                .connectionSupplier(() -> CompletableFuture.completedFuture(primary))
+                .readConnectionFunction(context -> replicas.connection(context, executorService))
+                .executorService(executorService)
+                .clientServices(List.of())
+                .build();
+    }
+
+    private static Connection connection(CompletionStage<Connection> connection) throws Exception {
+        return connection.toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    private static final class Pool implements ConnectionPool {
+        private final AtomicInteger created = new AtomicInteger();
+        private final List<Connection> connections = new CopyOnWriteArrayList<>();
+        private volatile boolean fail;
+
+        @Override
+        public Connection connection() {
+            created.incrementAndGet();
+            if (fail) {
+                throw new IllegalStateException("Replica is down");
+            }
+            Connection connection = new SqlConnectionMock();
+            connections.add(connection);
+            return connection;
+        }
+    }
+}
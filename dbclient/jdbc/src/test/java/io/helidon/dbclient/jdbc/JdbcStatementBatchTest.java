@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.jdbc;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.reactive.Multi;
+import io.helidon.dbclient.DbStatementType;
+import io.helidon.dbclient.common.DbStatementContext;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * JDBC batch statement tests.
+ */
+public class JdbcStatementBatchTest {
+
+    private static ExecutorService executorService;
+
+    @BeforeAll
+    static void beforeAll() {
+        executorService = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        executorService.shutdown();
+    }
+
+    @Test
+    void testIndexedBatches() {
+        SqlConnectionMock conn = new SqlConnectionMock();
+        JdbcStatementBatch batch = batch(conn, "INSERT INTO TestTable (name, id) VALUES (?, ?)");
+        for (int i = 0; i < 5; i++) {
+            batch.addParams("Name" + i, i);
+        }
+        List<Long> counts = batch.batchSize(2)
+                .execute()
+                .collectList()
+                .await(10, TimeUnit.SECONDS);
+
+        assertThat(counts, contains(2L, 2L, 1L));
+        // the statement is prepared once for all the batches
+        assertThat(conn.sqls(), hasSize(1));
+        List<List<Map<Integer, SqlPreparedStatementMock.ParInfo>>> batches = conn.preparedStatements().get(0).executedBatches();
+        assertThat(batches, hasSize(3));
+        assertThat(batches.get(2).get(0).get(1).value(), is("Name4"));
+        assertThat(batches.get(2).get(0).get(2).value(), is(4));
+    }
+
+    @Test
+    void testNamedBatches() {
+        SqlConnectionMock conn = new SqlConnectionMock();
+        JdbcStatementBatch batch = batch(conn, "UPDATE TestTable SET name1=:name, name2=:name WHERE id=:id");
+        batch.addParams(Map.of("name", "Name0", "id", 0));
+        Multi<Map<String, Object>> published = Multi.range(1, 2)
+                .map(i -> Map.of("name", "Name" + i, "id", i));
+        List<Long> counts = batch.batchSize(2)
+                .execute(published)
+                .collectList()
+                .await(10, TimeUnit.SECONDS);
+
+        assertThat(counts, contains(2L, 1L));
+        assertThat(conn.sqls(), contains("UPDATE TestTable SET name1=?, name2=? WHERE id=?"));
+        List<List<Map<Integer, SqlPreparedStatementMock.ParInfo>>> batches = conn.preparedStatements().get(0).executedBatches();
+        Map<Integer, SqlPreparedStatementMock.ParInfo> params = batches.get(0).get(1);
+        assertThat(params.get(1).value(), is("Name1"));
+        assertThat(params.get(2).value(), is("Name1"));
+        assertThat(params.get(3).value(), is(1));
+    }
+
+    @Test
+    void testEmptyBatch() {
+        SqlConnectionMock conn = new SqlConnectionMock();
+        List<Long> counts = batch(conn, "DELETE FROM TestTable WHERE id = ?")
+                .execute()
+                .collectList()
+                .await(10, TimeUnit.SECONDS);
+
+        assertThat(counts, hasSize(0));
+        assertThat(conn.sqls(), hasSize(0));
+    }
+
+    @Test
+    void testMixedParameters() {
+        JdbcStatementBatch batch = batch(new SqlConnectionMock(), "DELETE FROM TestTable WHERE id = :id");
+        batch.addParams(Map.of("id", 1));
+
+        assertThrows(IllegalStateException.class, () -> batch.addParams(2));
+        assertThrows(IllegalStateException.class, () -> batch.addParams(List.of(2)));
+    }
+
+    private static JdbcStatementBatch batch(Connection conn, String statement) {
+        JdbcExecuteContext execCtx = JdbcExecuteContext.jdbcBuilder()
+                .dbType("Test")
+                .connection(CompletableFuture.completedFuture(conn))
+                .executorService(executorService)
+                .clientServices(List.of())
+                .build();
+        DbStatementContext stmtCtx = DbStatementContext.create(execCtx, DbStatementType.DML, "test", statement);
+        return new JdbcStatementBatch(execCtx, stmtCtx);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.jdbc;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * JDBC statement cache tests.
+ */
+public class JdbcStatementCacheTest {
+
+    @Test
+    void testNamedStatement() {
+        JdbcStatementCache cache = JdbcStatementCache.create();
+        JdbcStatementCache.NamedStatement first = cache.namedStatement("UPDATE TestTable SET name=:name WHERE id=:id");
+        JdbcStatementCache.NamedStatement second = cache.namedStatement("UPDATE TestTable SET name=:name WHERE id=:id");
+
+        assertThat(first.jdbcStatement(), is("UPDATE TestTable SET name=? WHERE id=?"));
+        assertThat(first.namesOrder(), contains("name", "id"));
+        assertThat(second, sameInstance(first));
+    }
+
+    @Test
+    void testMaxSize() {
+        JdbcStatementCache cache = JdbcStatementCache.create(2);
+        JdbcStatementCache.NamedStatement first = cache.namedStatement("SELECT * FROM TestTable WHERE id=:id");
+        JdbcStatementCache.NamedStatement second = cache.namedStatement("SELECT * FROM TestTable WHERE name=:name");
+        // the first statement becomes the most recently used one
+        cache.namedStatement("SELECT * FROM TestTable WHERE id=:id");
+        cache.namedStatement("SELECT * FROM TestTable WHERE age=:age");
+
+        assertThat(cache.namedStatement("SELECT * FROM TestTable WHERE id=:id"), sameInstance(first));
+        assertThat(cache.namedStatement("SELECT * FROM TestTable WHERE name=:name"), not(sameInstance(second)));
+    }
+
+    @Test
+    void testColumnLayout() throws SQLException {
+        JdbcStatementCache cache = JdbcStatementCache.create();
+        String statement = "SELECT * FROM TestTable";
+        JdbcColumnLayout first = cache.columnLayout(statement, metaData(Types.INTEGER, "ID", "NAME", "ID"));
+        JdbcColumnLayout second = cache.columnLayout(statement, metaData(Types.INTEGER, "ID", "NAME", "ID"));
+
+        assertThat(second, sameInstance(first));
+        assertThat(first.size(), is(3));
+        assertThat(first.index("NAME"), is(1));
+        // the last column of a duplicate name is used
+        assertThat(first.index("ID"), is(2));
+        assertThat(first.isNamed(0), is(false));
+        assertThat(first.index("OTHER"), is(-1));
+        assertThat(first.column(1).javaType(), sameInstance(Integer.class));
+        assertThat(first.column(1).dbType(), is("INTEGER"));
+
+        // such as when a table is altered, the layout is created again
+        assertThat(cache.columnLayout(statement, metaData(Types.INTEGER, "ID", "NAME")), not(sameInstance(first)));
+        assertThat(cache.columnLayout(statement, metaData(Types.BIGINT, "ID", "NAME")).column(0).dbType(), is("BIGINT"));
+    }
+
+    private static ResultSetMetaData metaData(int sqlType, String... labels) {
+        String typeName = sqlType == Types.INTEGER ? "INTEGER" : "BIGINT";
+        String className = sqlType == Types.INTEGER ? Integer.class.getName() : Long.class.getName();
+        return (ResultSetMetaData) Proxy.newProxyInstance(
+                ResultSetMetaData.class.getClassLoader(),
+                new Class<?>[] {ResultSetMetaData.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                    case "getColumnCount":
+                        return labels.length;
+                    case "getColumnLabel":
+                        return labels[(int) args[0] - 1];
+                    case "getColumnType":
+                        return sqlType;
+                    case "getColumnTypeName":
+                        return typeName;
+                    case "getColumnClassName":
+                        return className;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.jdbc;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.reactive.Multi;
+import io.helidon.dbclient.DbRow;
+import io.helidon.dbclient.DbStatementType;
+import io.helidon.dbclient.common.DbStatementContext;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * JDBC query tests.
+ */
+public class JdbcStatementQueryTest {
+
+    private static ExecutorService executorService;
+
+    @BeforeAll
+    static void beforeAll() {
+        executorService = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        executorService.shutdown();
+    }
+
+    @Test
+    void testRowsReadOnDemand() throws InterruptedException {
+        Rows rows = new Rows(10);
+        Multi<DbRow> result = query(rows, 0).execute();
+        DemandSubscriber subscriber = new DemandSubscriber();
+        result.subscribe(subscriber);
+
+        subscriber.request(3);
+        assertThat(subscriber.await(3), is(true));
+        // give a chance to read more rows than requested
+        Thread.sleep(100);
+        assertThat(rows.read, is(3));
+        assertThat(subscriber.values, contains(0, 1, 2));
+        // without a fetch size, the rows are fetched as requested
+        assertThat(rows.resultSetFetchSizes, contains(3));
+
+        subscriber.request(Long.MAX_VALUE);
+        assertThat(subscriber.completed.await(10, TimeUnit.SECONDS), is(true));
+        assertThat(subscriber.values.size(), is(10));
+        assertThat(rows.resultSetFetchSizes, contains(3, 1000));
+        assertThat(rows.closed, is(List.of("ResultSet", "PreparedStatement")));
+        assertThat(subscriber.error, is(nullValue()));
+    }
+
+    @Test
+    void testDriverFetchSizeNotLowered() throws InterruptedException {
+        Rows rows = new Rows(20, 10);
+        DemandSubscriber subscriber = new DemandSubscriber();
+        query(rows, 0).execute().subscribe(subscriber);
+
+        subscriber.request(1);
+        assertThat(subscriber.await(1), is(true));
+        subscriber.request(5);
+        assertThat(subscriber.await(6), is(true));
+        assertThat(rows.resultSetFetchSizes.size(), is(0));
+
+        subscriber.request(Long.MAX_VALUE);
+        assertThat(subscriber.completed.await(10, TimeUnit.SECONDS), is(true));
+        assertThat(subscriber.values.size(), is(20));
+        assertThat(rows.resultSetFetchSizes, contains(1000));
+        assertThat(subscriber.error, is(nullValue()));
+    }
+
+    @Test
+    void testFetchSize() {
+        Rows rows = new Rows(5);
+        List<DbRow> result = query(rows, 2)
+                .execute()
+                .collectList()
+                .await(10, TimeUnit.SECONDS);
+
+        assertThat(result.size(), is(5));
+        assertThat(result.get(4).column("ID").as(Integer.class), is(4));
+        assertThat(result.get(4).column(1).as(Integer.class), is(4));
+        assertThat(rows.statementFetchSizes, contains(2));
+        assertThat(rows.resultSetFetchSizes.size(), is(0));
+    }
+
+    @Test
+    void testStatementFetchSize() {
+        Rows rows = new Rows(1);
+        query(rows, 2).fetchSize(7)
+                .execute()
+                .collectList()
+                .await(10, TimeUnit.SECONDS);
+
+        assertThat(rows.statementFetchSizes, contains(7));
+    }
+
+    @Test
+    void testReusedStatementFetchSize() {
+        Rows rows = new Rows(1);
+        JdbcExecuteContext execCtx = context(rows, 0, true);
+        query(execCtx).fetchSize(7)
+                .execute()
+                .collectList()
+                .await(10, TimeUnit.SECONDS);
+        query(execCtx).execute()
+                .collectList()
+                .await(10, TimeUnit.SECONDS);
+
+        // the statement is reused, without the fetch size of the previous query
+        assertThat(rows.prepared, is(1));
+        assertThat(rows.statementFetchSizes, contains(7, 0));
+    }
+
+    @Test
+    void testCancel() throws InterruptedException {
+        Rows rows = new Rows(10);
+        DemandSubscriber subscriber = new DemandSubscriber();
+        query(rows, 0).execute().subscribe(subscriber);
+
+        subscriber.request(1);
+        assertThat(subscriber.await(1), is(true));
+        subscriber.subscription.cancel();
+        for (int i = 0; i < 100 && rows.closed.size() < 2; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(rows.read, is(1));
+        assertThat(rows.closed, is(List.of("ResultSet", "PreparedStatement")));
+        assertThat(subscriber.error, is(nullValue()));
+    }
+
+    private static JdbcStatementQuery query(Rows rows, int fetchSize) {
+        return query(context(rows, fetchSize, false));
+    }
+
+    private static JdbcExecuteContext context(Rows rows, int fetchSize, boolean reuseStatements) {
+        return JdbcExecuteContext.jdbcBuilder()
+                .dbType("Test")
+                .connection(CompletableFuture.completedFuture(rows.connection()))
+                .executorService(executorService)
+                .fetchSize(fetchSize)
+                .reuseStatements(reuseStatements)
+                .clientServices(List.of())
+                .build();
+    }
+
+    private static JdbcStatementQuery query(JdbcExecuteContext execCtx) {
+        DbStatementContext stmtCtx = DbStatementContext.create(execCtx,
+                                                               DbStatementType.QUERY,
+                                                               "test",
+                                                               "SELECT ID FROM TestTable");
+        return new JdbcStatementQuery(execCtx, stmtCtx);
+    }
+
+    /**
+     * Result of a single {@code ID} column with the given number of rows, recording how it is read.
+     */
+    private static final class Rows {
+        private final int size;
+        private final int driverFetchSize;
+        private final List<Integer> statementFetchSizes = new ArrayList<>();
+        private final List<Integer> resultSetFetchSizes = new ArrayList<>();
+        private final List<String> closed = new ArrayList<>();
+        private volatile int prepared;
+        private volatile int read;
+
+        private Rows(int size) {
+            this(size, 0);
+        }
+
+        private Rows(int size, int driverFetchSize) {
+            this.size = size;
+            this.driverFetchSize = driverFetchSize;
+        }
+
+        Connection connection() {
+            ResultSetMetaData metaData = proxy(ResultSetMetaData.class, (method, args) -> {
+                switch (method) {
+                case "getColumnCount":
+                    return 1;
+                case "getColumnLabel":
+                    return "ID";
+                case "getColumnType":
+                    return Types.INTEGER;
+                case "getColumnTypeName":
+                    return "INTEGER";
+                case "getColumnClassName":
+                    return Integer.class.getName();
+                default:
+                    throw new UnsupportedOperationException(method);
+                }
+            });
+            PreparedStatement[] statement = new PreparedStatement[1];
+            ResultSet resultSet = proxy(ResultSet.class, (method, args) -> {
+                switch (method) {
+                case "getMetaData":
+                    return metaData;
+                case "next":
+                    if (read < size) {
+                        read++;
+                        return true;
+                    }
+                    return false;
+                case "getObject":
+                    return read - 1;
+                case "getFetchSize":
+                    return driverFetchSize;
+                case "setFetchSize":
+                    resultSetFetchSizes.add((Integer) args[0]);
+                    return null;
+                case "getStatement":
+                    return statement[0];
+                case "close":
+                    closed.add("ResultSet");
+                    return null;
+                default:
+                    throw new UnsupportedOperationException(method);
+                }
+            });
+            statement[0] = proxy(PreparedStatement.class, (method, args) -> {
+                switch (method) {
+                case "executeQuery":
+                    return resultSet;
+                case "setFetchSize":
+                    statementFetchSizes.add((Integer) args[0]);
+                    return null;
+                case "clearParameters":
+                    return null;
+                case "close":
+                    closed.add("PreparedStatement");
+                    return null;
+                default:
+                    throw new UnsupportedOperationException(method);
+                }
+            });
+            return proxy(Connection.class, (method, args) -> {
+                if ("prepareStatement".equals(method)) {
+                    prepared++;
+                    return statement[0];
+                }
+                throw new UnsupportedOperationException(method);
+            });
+        }
+    }
+
+    private interface Handler {
+        Object invoke(String method, Object[] args);
+    }
+
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(),
+                                                new Class<?>[] {type},
+                                                (proxy, method, args) -> handler.invoke(method.getName(), args)));
+    }
+
+    private static final class DemandSubscriber implements Flow.Subscriber<DbRow> {
+        private final List<Integer> values = new ArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private volatile Flow.Subscription subscription;
+        private volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(DbRow item) {
+            synchronized (values) {
+                values.add(item.column(1).as(Integer.class));
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+
+        void request(long n) throws InterruptedException {
+            for (int i = 0; i < 100 && subscription == null; i++) {
+                Thread.sleep(10);
+            }
+            subscription.request(n);
+        }
+
+        boolean await(int count) throws InterruptedException {
+            for (int i = 0; i < 1000; i++) {
+                synchronized (values) {
+                    if (values.size() >= count) {
+                        return true;
+                    }
+                }
+                Thread.sleep(10);
+            }
+            return false;
+        }
+    }
+}
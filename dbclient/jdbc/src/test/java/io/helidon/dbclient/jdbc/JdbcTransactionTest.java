@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.jdbc;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import io.helidon.common.reactive.Single;
+import io.helidon.dbclient.DbClient;
+import io.helidon.dbclient.DbTransaction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * JDBC transaction tests.
+ */
+public class JdbcTransactionTest {
+
+    private static final String INSERT = "INSERT INTO TestTable (name, id) VALUES (?, ?)";
+    private static final String UPDATE = "UPDATE TestTable SET name = ? WHERE id = ?";
+
+    private final SqlConnectionMock conn = new SqlConnectionMock();
+    private final CountingExecutorService executorService = new CountingExecutorService();
+
+    @AfterEach
+    void afterEach() {
+        executorService.shutdown();
+    }
+
+    @Test
+    void testStatementReuse() throws SQLException {
+        long count = dbClient(false).inTransaction(tx -> tx.insert(INSERT, "Name1", 1)
+                        .flatMapSingle(it -> tx.insert(INSERT, "Name2", 2))
+                        .flatMapSingle(it -> tx.update(UPDATE, "Name3", 2))
+                        .flatMapSingle(it -> tx.insert(INSERT, "Name4", 4)))
+                .await(10, TimeUnit.SECONDS);
+
+        assertThat(count, is(1L));
+        // the statement of each SQL is prepared once for the whole transaction
+        assertThat(conn.sqls(), contains(INSERT, UPDATE));
+        List<SqlPreparedStatementMock> statements = conn.preparedStatements();
+        assertThat(statements.get(0).executedUpdates(), hasSize(3));
+        assertThat(statements.get(0).executedUpdates().get(2).get(1).value(), is("Name4"));
+        assertThat(statements.get(1).executedUpdates(), hasSize(1));
+        // and closed with the transaction
+        for (SqlPreparedStatementMock statement : statements) {
+            assertThat(statement.isClosed(), is(true));
+        }
+        assertThat(conn.transactions(), contains("commit"));
+        assertThat(conn.isClosed(), is(true));
+    }
+
+    @Test
+    void testStatementNotReused() {
+        DbClient dbClient = dbClient(false);
+        dbClient.execute(exec -> exec.insert(INSERT, "Name1", 1)
+                        .flatMapSingle(it -> exec.insert(INSERT, "Name2", 2)))
+                .await(10, TimeUnit.SECONDS);
+
+        // statements executed outside of a transaction may use different connections
+        assertThat(conn.sqls(), contains(INSERT, INSERT));
+    }
+
+    @Test
+    void testChainedStatements() throws Exception {
+        transaction(dbClient(false));
+
+        // each statement is handed off to the executor service, after the connection
+        assertThat(executorService.tasks(), is(6));
+    }
+
+    @Test
+    void testPipelinedChainedStatements() throws Exception {
+        transaction(dbClient(true));
+
+        // the statements are executed by the task executing the first one
+        assertThat(executorService.tasks(), is(2));
+        assertThat(conn.preparedStatements().get(0).executedUpdates(), hasSize(5));
+        assertThat(conn.transactions(), contains("commit"));
+    }
+
+    @Test
+    void testPipelinedIndependentStatements() throws Exception {
+        long count = transaction(dbClient(true), tx -> {
+            Single<Long> insert = tx.insert(INSERT, "Name1", 1);
+            Single<Long> update = tx.update(UPDATE, "Name2", 1);
+            return insert.flatMapSingle(it -> update);
+        });
+
+        assertThat(count, is(1L));
+        // statements are sent back to back in the order they are executed
+        assertThat(conn.sqls(), contains(INSERT, UPDATE));
+        assertThat(executorService.tasks(), is(2));
+    }
+
+    @Test
+    void testPipelinedStatementsBeforeConnection() throws Exception {
+        CountDownLatch connected = new CountDownLatch(1);
+        DbClient dbClient = JdbcDbClientProviderBuilder.create()
+                .connectionPool(() -> {
+                    // the connection is obtained once all the statements are executed
+                    try {
+                        connected.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return conn;
+                })
+                .executorService(() -> executorService)
+                .pipelinedTransactions(true)
+                .build();
+
+        CompletableFuture<Long> result = dbClient.inTransaction(tx -> {
+                    Single<Long> first = tx.insert(INSERT, "Name0", 0);
+                    Single<Long> second = tx.insert(INSERT, "Name1", 1);
+                    Single<Long> third = tx.insert(INSERT, "Name2", 2);
+                    return first.flatMapSingle(it -> second).flatMapSingle(it -> third);
+                })
+                .toStage()
+                .toCompletableFuture();
+        connected.countDown();
+
+        assertThat(result.get(10, TimeUnit.SECONDS), is(1L));
+        SqlPreparedStatementMock statement = conn.preparedStatements().get(0);
+        List<Object> names = statement.executedUpdates()
+                .stream()
+                .map(params -> params.get(1).value())
+                .collect(Collectors.toList());
+        assertThat(names, contains("Name0", "Name1", "Name2"));
+        assertThat(statement.updateThreads().stream().distinct().count(), is(1L));
+        assertThat(conn.transactions(), contains("commit"));
+    }
+
+    @Test
+    void testPipelinedStatementRejected() {
+        RejectingExecutorService rejectingExecutorService = new RejectingExecutorService();
+        DbClient dbClient = JdbcDbClientProviderBuilder.create()
+                .connectionPool(() -> conn)
+                .executorService(() -> rejectingExecutorService)
+                .pipelinedTransactions(true)
+                .build();
+        AtomicReference<Single<Long>> insert = new AtomicReference<>();
+
+        dbClient.inTransaction(tx -> {
+            // the connection is already obtained
+            rejectingExecutorService.reject();
+            insert.set(tx.insert(INSERT, "Name1", 1));
+            return insert.get();
+        });
+
+        ExecutionException e = assertThrows(ExecutionException.class,
+                                            () -> insert.get().toStage().toCompletableFuture().get(10, TimeUnit.SECONDS));
+        assertThat(e.getCause(), instanceOf(RejectedExecutionException.class));
+        assertThat(conn.preparedStatements(), hasSize(0));
+    }
+
+    private void transaction(DbClient dbClient) throws Exception {
+        long count = transaction(dbClient, tx -> {
+            Single<Long> result = tx.insert(INSERT, "Name0", 0);
+            for (int i = 1; i < 5; i++) {
+                int id = i;
+                result = result.flatMapSingle(it -> tx.insert(INSERT, "Name" + id, id));
+            }
+            return result;
+        });
+        assertThat(count, is(1L));
+    }
+
+    private long transaction(DbClient dbClient, Function<DbTransaction, Single<Long>> executor) throws Exception {
+        // tasks run once the result is subscribed to, as when the statements take longer than the subscription
+        CountDownLatch subscribed = executorService.pause();
+        CompletableFuture<Long> result = dbClient.inTransaction(executor).toStage().toCompletableFuture();
+        subscribed.countDown();
+        return result.get(10, TimeUnit.SECONDS);
+    }
+
+    private DbClient dbClient(boolean pipelined) {
+        return JdbcDbClientProviderBuilder.create()
+                .connectionPool(() -> conn)
+                .executorService(() -> executorService)
+                .pipelinedTransactions(pipelined)
+                .build();
+    }
+
+    /**
+     * Executor service running its tasks on the calling thread, until it rejects them.
+     */
+    private static final class RejectingExecutorService extends AbstractExecutorService {
+
+        private final AtomicBoolean reject = new AtomicBoolean();
+
+        void reject() {
+            reject.set(true);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            if (reject.get()) {
+                throw new RejectedExecutionException("Test rejection");
+            }
+            command.run();
+        }
+
+        @Override
+        public void shutdown() {
+            reject();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            reject();
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return reject.get();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return reject.get();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return reject.get();
+        }
+    }
+
+    /**
+     * Single thread executor service counting its tasks.
+     */
+    private static final class CountingExecutorService extends AbstractExecutorService {
+
+        private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        private final AtomicInteger tasks = new AtomicInteger();
+
+        int tasks() {
+            return tasks.get();
+        }
+
+        CountDownLatch pause() {
+            CountDownLatch latch = new CountDownLatch(1);
+            executorService.execute(() -> {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            return latch;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.incrementAndGet();
+            executorService.execute(command);
+        }
+
+        @Override
+        public void shutdown() {
+            executorService.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return executorService.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return executorService.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return executorService.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return executorService.awaitTermination(timeout, unit);
+        }
+    }
+}
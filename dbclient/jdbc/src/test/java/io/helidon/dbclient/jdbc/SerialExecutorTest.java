@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+
+/**
+ * Tests {@link SerialExecutor}.
+ */
+public class SerialExecutorTest {
+
+    @Test
+    void testRejectedTaskFailed() {
+        AtomicBoolean reject = new AtomicBoolean(true);
+        SerialExecutor executor = new SerialExecutor(task -> {
+            if (reject.get()) {
+                throw new RejectedExecutionException("test");
+            }
+            task.run();
+        }, () -> CompletableFuture.completedFuture(null));
+        List<String> executed = new ArrayList<>();
+        List<Throwable> rejected = new ArrayList<>();
+
+        executor.execute(() -> executed.add("rejected"), rejected::add);
+        assertThat(rejected, contains(instanceOf(RejectedExecutionException.class)));
+
+        // the rejected task does not block the next ones
+        reject.set(false);
+        executor.execute(() -> executed.add("first"), rejected::add);
+        executor.execute(() -> executed.add("second"), rejected::add);
+        assertThat(executed, contains("first", "second"));
+        assertThat(rejected, hasSize(1));
+    }
+
+    @Test
+    void testTasksRunOnceReady() {
+        CompletableFuture<Void> ready = new CompletableFuture<>();
+        List<Runnable> drains = new ArrayList<>();
+        SerialExecutor executor = new SerialExecutor(drains::add, () -> ready);
+        List<String> executed = new ArrayList<>();
+
+        executor.execute(() -> executed.add("first"), it -> executed.add("rejected"));
+        executor.execute(() -> executed.add("second"), it -> executed.add("rejected"));
+        executor.execute(() -> executed.add("third"), it -> executed.add("rejected"));
+        assertThat(drains, hasSize(0));
+
+        ready.complete(null);
+        // a single task of the executor runs all of them, in order
+        assertThat(drains, hasSize(1));
+        drains.get(0).run();
+        assertThat(executed, contains("first", "second", "third"));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -31,6 +31,8 @@ import java.sql.SQLXML;
 import java.sql.Savepoint;
 import java.sql.Statement;
 import java.sql.Struct;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Executor;
@@ -40,6 +42,36 @@ import java.util.concurrent.Executor;
  */
 class SqlConnectionMock implements Connection {
 
+    /**
+     * SQL of each prepared statement.
+     */
+    private final List<String> sqls = new ArrayList<>();
+
+    /**
+     * Each prepared statement.
+     */
+    private final List<SqlPreparedStatementMock> preparedStatements = new ArrayList<>();
+
+    /**
+     * Each commit and rollback, in order.
+     */
+    private final List<String> transactions = new ArrayList<>();
+
+    private volatile boolean autoCommit = true;
+    private volatile boolean closed;
+
+    List<String> sqls() {
+        return sqls;
+    }
+
+    List<SqlPreparedStatementMock> preparedStatements() {
+        return preparedStatements;
+    }
+
+    List<String> transactions() {
+        return transactions;
+    }
+
     @Override
     public Statement createStatement() throws SQLException {
         throw new UnsupportedOperationException("Not supported yet.");
@@ -47,7 +79,10 @@ class SqlConnectionMock implements Connection {
 
     @Override
     public PreparedStatement prepareStatement(String sql) throws SQLException {
-        return new SqlPreparedStatementMock();
+        SqlPreparedStatementMock preparedStatement = new SqlPreparedStatementMock();
+        sqls.add(sql);
+        preparedStatements.add(preparedStatement);
+        return preparedStatement;
     }
 
     @Override
@@ -62,32 +97,32 @@ class SqlConnectionMock implements Connection {
 
     @Override
     public void setAutoCommit(boolean autoCommit) throws SQLException {
-        throw new UnsupportedOperationException("Not supported yet.");
+        this.autoCommit = autoCommit;
     }
 
     @Override
     public boolean getAutoCommit() throws SQLException {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return autoCommit;
     }
 
     @Override
     public void commit() throws SQLException {
-        throw new UnsupportedOperationException("Not supported yet.");
+        transactions.add("commit");
     }
 
     @Override
     public void rollback() throws SQLException {
-        throw new UnsupportedOperationException("Not supported yet.");
+        transactions.add("rollback");
     }
 
     @Override
     public void close() throws SQLException {
-        throw new UnsupportedOperationException("Not supported yet.");
+        closed = true;
     }
 
     @Override
     public boolean isClosed() throws SQLException {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return closed;
     }
 
     @Override
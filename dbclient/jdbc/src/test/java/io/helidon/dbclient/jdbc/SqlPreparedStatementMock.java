@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -37,8 +37,11 @@ import java.sql.SQLWarning;
 import java.sql.SQLXML;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -78,6 +81,40 @@ class SqlPreparedStatementMock implements PreparedStatement {
         return params;
     }
 
+    /**
+     * Parameter settings info of each added batch, until the batch is executed.
+     */
+    private final List<Map<Integer, ParInfo>> batch = new ArrayList<>();
+
+    /**
+     * Parameter settings info of each executed batch.
+     */
+    private final List<List<Map<Integer, ParInfo>>> executedBatches = new ArrayList<>();
+
+    /**
+     * Parameter settings info of each executed update.
+     */
+    private final List<Map<Integer, ParInfo>> executedUpdates = new ArrayList<>();
+
+    /**
+     * Thread executing each update.
+     */
+    private final List<Thread> updateThreads = new ArrayList<>();
+
+    private volatile boolean closed;
+
+    List<List<Map<Integer, ParInfo>>> executedBatches() {
+        return executedBatches;
+    }
+
+    List<Map<Integer, ParInfo>> executedUpdates() {
+        return executedUpdates;
+    }
+
+    List<Thread> updateThreads() {
+        return updateThreads;
+    }
+
     @Override
     public ResultSet executeQuery() throws SQLException {
         throw new UnsupportedOperationException("Not supported yet.");
@@ -88,6 +125,13 @@ class SqlPreparedStatementMock implements PreparedStatement {
         throw new UnsupportedOperationException("Not supported yet.");
     }
 
+    @Override
+    public long executeLargeUpdate() throws SQLException {
+        executedUpdates.add(new HashMap<>(params));
+        updateThreads.add(Thread.currentThread());
+        return 1L;
+    }
+
     @Override
     public void setNull(int parameterIndex, int sqlType) throws SQLException {
         addParInfo(parameterIndex, null, null);
@@ -175,7 +219,7 @@ class SqlPreparedStatementMock implements PreparedStatement {
 
     @Override
     public void clearParameters() throws SQLException {
-        throw new UnsupportedOperationException("Not supported yet.");
+        params.clear();
     }
 
     @Override
@@ -195,7 +239,17 @@ class SqlPreparedStatementMock implements PreparedStatement {
 
     @Override
     public void addBatch() throws SQLException {
-        throw new UnsupportedOperationException("Not supported yet.");
+        batch.add(new HashMap<>(params));
+        params.clear();
+    }
+
+    @Override
+    public long[] executeLargeBatch() throws SQLException {
+        executedBatches.add(new ArrayList<>(batch));
+        long[] counts = new long[batch.size()];
+        Arrays.fill(counts, 1L);
+        batch.clear();
+        return counts;
     }
 
     @Override
@@ -364,6 +418,7 @@ class SqlPreparedStatementMock implements PreparedStatement {
 
     @Override
     public void close() throws SQLException {
+        closed = true;
     }
 
     @Override
@@ -538,7 +593,7 @@ class SqlPreparedStatementMock implements PreparedStatement {
 
     @Override
     public boolean isClosed() throws SQLException {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return closed;
     }
 
     @Override
@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.mapper.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+import io.helidon.dbclient.mapper.processor.MappedType.MappedProperty;
+
+/*
+ * This class is separated so javac correctly reports possible errors.
+ */
+class DbMapperHandler {
+    /*
+     * Service file of the generated providers.
+     */
+    private static final String SERVICE_FILE = "META-INF/services/io.helidon.dbclient.spi.DbMapperProvider";
+
+    // providers generated by this processor run, and listed in the service file when the processing is over
+    private final Set<String> providers = new LinkedHashSet<>();
+
+    /*
+     * Compiler utilities for annotation processing
+     */
+    private Elements elementUtils;
+    private Messager messager;
+    private Filer filer;
+    private Types typeUtils;
+
+    DbMapperHandler() {
+    }
+
+    synchronized void init(ProcessingEnvironment processingEnv) {
+        messager = processingEnv.getMessager();
+        filer = processingEnv.getFiler();
+        typeUtils = processingEnv.getTypeUtils();
+        elementUtils = processingEnv.getElementUtils();
+    }
+
+    boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        try {
+            return doProcess(annotations, roundEnv);
+        } catch (Exception e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Failed to process DB mapper annotation processor. "
+                    + toMessage(e));
+            return false;
+        }
+    }
+
+    private boolean doProcess(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) throws IOException {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+        TypeElement dbMapped = elementUtils.getTypeElement(DbMapperProcessor.DB_MAPPED_CLASS);
+        if (dbMapped == null) {
+            return false;
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(dbMapped)) {
+            Optional<MappedType> mappedType = mappedType(element);
+            if (mappedType.isPresent()) {
+                MappedType type = mappedType.get();
+                JavaFileObject file = filer.createSourceFile(type.mapperClassName(), element);
+                try (Writer writer = file.openWriter()) {
+                    writer.write(type.mapperSource());
+                }
+                providers.add(type.providerClassName());
+            }
+        }
+        return true;
+    }
+
+    private Optional<MappedType> mappedType(Element element) {
+        if (element.getKind() != ElementKind.CLASS && element.getKind() != ElementKind.RECORD) {
+            return error(element, "DbMapped can only be used on classes and records");
+        }
+        TypeElement type = (TypeElement) element;
+        if (!type.getTypeParameters().isEmpty()) {
+            return error(element, "DbMapped type cannot have type parameters");
+        }
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return error(element, "DbMapped type cannot be abstract");
+        }
+        // the generated mapper in the same package must be able to access the type
+        for (Element current = type; current.getKind() != ElementKind.PACKAGE; current = current.getEnclosingElement()) {
+            if (current.getModifiers().contains(Modifier.PRIVATE)) {
+                return error(element, "DbMapped type and its enclosing types cannot be private");
+            }
+            if (!isStatic(current)) {
+                return error(element, "Nested DbMapped type and its enclosing types must be static");
+            }
+        }
+        String packageName = elementUtils.getPackageOf(type).getQualifiedName().toString();
+        String typeName = type.getQualifiedName().toString();
+        String simpleName = packageName.isEmpty() ? typeName : typeName.substring(packageName.length() + 1);
+        String mapperName = simpleName.replace('.', '_') + "DbMapper";
+
+        List<MappedProperty> properties = new ArrayList<>();
+        boolean valid;
+        if (type.getKind() == ElementKind.RECORD) {
+            valid = recordProperties(type, properties);
+        } else {
+            valid = classProperties(type, packageName, properties);
+        }
+        if (!valid) {
+            return Optional.empty();
+        }
+        return Optional.of(new MappedType(packageName,
+                                          typeName,
+                                          mapperName,
+                                          type.getKind() == ElementKind.RECORD,
+                                          properties));
+    }
+
+    private boolean recordProperties(TypeElement type, List<MappedProperty> properties) {
+        for (RecordComponentElement component : type.getRecordComponents()) {
+            String name = component.getSimpleName().toString();
+            TypeMirror propertyType = component.asType();
+            if (!isSupported(component, propertyType)) {
+                return false;
+            }
+            properties.add(new MappedProperty(columnName(component, name),
+                                              propertyType.toString(),
+                                              typeUtils.erasure(propertyType).toString(),
+                                              component.getAccessor().getSimpleName() + "()",
+                                              null,
+                                              false));
+        }
+        return true;
+    }
+
+    private boolean classProperties(TypeElement type, String packageName, List<MappedProperty> properties) {
+        boolean constructor = ElementFilter.constructorsIn(type.getEnclosedElements())
+                .stream()
+                .anyMatch(it -> it.getParameters().isEmpty() && !it.getModifiers().contains(Modifier.PRIVATE));
+        if (!constructor) {
+            error(type, "DbMapped class must have a non-private constructor without parameters");
+            return false;
+        }
+        List<? extends Element> members = elementUtils.getAllMembers(type);
+        List<ExecutableElement> methods = ElementFilter.methodsIn(members);
+        boolean valid = true;
+        for (VariableElement field : ElementFilter.fieldsIn(members)) {
+            Set<Modifier> modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)) {
+                continue;
+            }
+            String name = field.getSimpleName().toString();
+            TypeMirror propertyType = field.asType();
+            if (!isSupported(field, propertyType)) {
+                valid = false;
+                continue;
+            }
+            boolean fieldAccessible = isAccessible(field, packageName);
+            String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+
+            String reader = null;
+            Optional<ExecutableElement> getter = method(methods, "get" + capitalized, packageName, null);
+            if (getter.isEmpty() && propertyType.getKind() == TypeKind.BOOLEAN) {
+                getter = method(methods, "is" + capitalized, packageName, null);
+            }
+            if (getter.isPresent() && typeUtils.isSameType(getter.get().getReturnType(), propertyType)) {
+                reader = getter.get().getSimpleName() + "()";
+            } else if (fieldAccessible) {
+                reader = name;
+            }
+
+            String writer = null;
+            boolean writeToField = false;
+            Optional<ExecutableElement> setter = method(methods, "set" + capitalized, packageName, propertyType);
+            if (setter.isPresent()) {
+                writer = setter.get().getSimpleName().toString();
+            } else if (fieldAccessible && !modifiers.contains(Modifier.FINAL)) {
+                writer = name;
+                writeToField = true;
+            }
+
+            if (reader == null || writer == null) {
+                error(field, "DbMapped field " + name + " must have a getter and a setter, or be accessible from package "
+                        + packageName + ", or be transient");
+                valid = false;
+                continue;
+            }
+            properties.add(new MappedProperty(columnName(field, name),
+                                              propertyType.toString(),
+                                              typeUtils.erasure(propertyType).toString(),
+                                              reader,
+                                              writer,
+                                              writeToField));
+        }
+        return valid;
+    }
+
+    private Optional<ExecutableElement> method(List<ExecutableElement> methods,
+                                               String name,
+                                               String packageName,
+                                               TypeMirror parameterType) {
+        return methods.stream()
+                .filter(it -> it.getSimpleName().contentEquals(name))
+                .filter(it -> !it.getModifiers().contains(Modifier.STATIC))
+                .filter(it -> isAccessible(it, packageName))
+                .filter(it -> parameterType == null
+                        ? it.getParameters().isEmpty()
+                        : it.getParameters().size() == 1
+                                && typeUtils.isSameType(it.getParameters().get(0).asType(), parameterType))
+                .findFirst();
+    }
+
+    private boolean isSupported(Element element, TypeMirror type) {
+        if (type.getKind() == TypeKind.TYPEVAR || type.getKind() == TypeKind.WILDCARD) {
+            error(element, "Type of DbMapped property cannot be a type variable");
+            return false;
+        }
+        return true;
+    }
+
+    private boolean isAccessible(Element member, String packageName) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        // package private and protected members are accessible from the same package
+        PackageElement memberPackage = elementUtils.getPackageOf(member);
+        return memberPackage.getQualifiedName().contentEquals(packageName);
+    }
+
+    private static boolean isStatic(Element element) {
+        // types nested in interfaces, and nested records, enums and interfaces are implicitly static
+        return element.getModifiers().contains(Modifier.STATIC)
+                || element.getKind() != ElementKind.CLASS
+                || element.getEnclosingElement().getKind() == ElementKind.PACKAGE
+                || element.getEnclosingElement().getKind().isInterface();
+    }
+
+    private static String columnName(Element element, String defaultName) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            String annotationType = annotation.getAnnotationType().toString();
+            if (annotationType.equals(DbMapperProcessor.DB_COLUMN_NAME_CLASS)) {
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                        : annotation.getElementValues().entrySet()) {
+                    if (entry.getKey().getSimpleName().contentEquals("value")) {
+                        AnnotationValue value = entry.getValue();
+                        return String.valueOf(value.getValue());
+                    }
+                }
+            }
+        }
+        return defaultName;
+    }
+
+    private void writeServiceFile() throws IOException {
+        if (providers.isEmpty()) {
+            return;
+        }
+        // keep the providers already listed, such as with an incremental compilation
+        Set<String> allProviders = new LinkedHashSet<>();
+        try {
+            FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(existing.openInputStream(),
+                                                                                  StandardCharsets.UTF_8))) {
+                reader.lines()
+                        .map(String::trim)
+                        .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                        .forEach(allProviders::add);
+            }
+        } catch (IOException ignored) {
+            // there is no service file yet
+        }
+        allProviders.addAll(providers);
+        FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+        try (PrintWriter writer = new PrintWriter(new OutputStreamWriter(file.openOutputStream(),
+                                                                                 StandardCharsets.UTF_8))) {
+            allProviders.forEach(writer::println);
+        }
+    }
+
+    private <T> Optional<T> error(Element element, String message) {
+        messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+        return Optional.empty();
+    }
+
+    private static String toMessage(Exception e) {
+        return e.getClass().getName() + ": " + e.getMessage();
+    }
+}
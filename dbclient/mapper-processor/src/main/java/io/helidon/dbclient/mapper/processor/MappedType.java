@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.mapper.processor;
+
+import java.util.List;
+
+/**
+ * A type annotated with {@code DbMapped}, and the source of its generated mapper.
+ */
+final class MappedType {
+    private static final String MAPPED_COLUMNS = "io.helidon.dbclient.mapper.MappedColumns";
+
+    private final String packageName;
+    private final String typeName;
+    private final String mapperName;
+    private final boolean record;
+    private final List<MappedProperty> properties;
+
+    MappedType(String packageName, String typeName, String mapperName, boolean record, List<MappedProperty> properties) {
+        this.packageName = packageName;
+        this.typeName = typeName;
+        this.mapperName = mapperName;
+        this.record = record;
+        this.properties = properties;
+    }
+
+    /**
+     * Fully qualified name of the generated mapper.
+     *
+     * @return mapper class name
+     */
+    String mapperClassName() {
+        return packageName.isEmpty() ? mapperName : packageName + "." + mapperName;
+    }
+
+    /**
+     * Binary name of the generated provider, as listed in the service file.
+     *
+     * @return provider class name
+     */
+    String providerClassName() {
+        return mapperClassName() + "$Provider";
+    }
+
+    /**
+     * Source of the generated mapper.
+     *
+     * @return Java source
+     */
+    String mapperSource() {
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+                .append(" * DB mapper of {@link ").append(typeName).append("}.\n")
+                .append(" * Generated by io.helidon.dbclient.mapper.processor.DbMapperProcessor, do not edit.\n")
+                .append(" */\n")
+                .append("public final class ").append(mapperName)
+                .append(" implements io.helidon.dbclient.DbMapper<").append(typeName).append("> {\n\n")
+                .append("    private static final ").append(mapperName).append(" INSTANCE = new ").append(mapperName)
+                .append("();\n\n")
+                .append("    private final ").append(MAPPED_COLUMNS).append(" columns = ").append(MAPPED_COLUMNS)
+                .append(".create(");
+        for (int i = 0; i < properties.size(); i++) {
+            source.append(i == 0 ? "" : ", ").append(literal(properties.get(i).column()));
+        }
+        source.append(");\n\n")
+                .append("    private ").append(mapperName).append("() {\n")
+                .append("    }\n\n");
+        appendRead(source);
+        appendToNamedParameters(source);
+        appendToIndexedParameters(source);
+        appendColumnNames(source);
+        appendProvider(source);
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private void appendRead(StringBuilder source) {
+        if (properties.stream().anyMatch(MappedProperty::isParameterized)) {
+            source.append("    @SuppressWarnings(\"unchecked\")\n");
+        }
+        source.append("    @Override\n")
+                .append("    public ").append(typeName).append(" read(io.helidon.dbclient.DbRow row) {\n")
+                .append("        int[] indexes = columns.indexes(row);\n");
+        if (record) {
+            source.append("        return new ").append(typeName).append("(");
+            for (int i = 0; i < properties.size(); i++) {
+                source.append(i == 0 ? "" : ",\n                ").append(readValue(properties.get(i), i));
+            }
+            source.append(");\n");
+        } else {
+            source.append("        ").append(typeName).append(" value = new ").append(typeName).append("();\n");
+            for (int i = 0; i < properties.size(); i++) {
+                MappedProperty property = properties.get(i);
+                source.append("        if (indexes[").append(i).append("] > 0) {\n")
+                        .append("            value.").append(property.writer(readValue(property, i))).append(";\n")
+                        .append("        }\n");
+            }
+            source.append("        return value;\n");
+        }
+        source.append("    }\n\n");
+    }
+
+    private void appendToNamedParameters(StringBuilder source) {
+        source.append("    @Override\n")
+                .append("    public java.util.Map<String, ?> toNamedParameters(").append(typeName).append(" value) {\n")
+                .append("        java.util.Map<String, Object> parameters = new java.util.HashMap<>(")
+                .append(Math.max(16, properties.size() * 4 / 3 + 1)).append(");\n");
+        for (MappedProperty property : properties) {
+            source.append("        parameters.put(").append(literal(property.column())).append(", value.")
+                    .append(property.reader()).append(");\n");
+        }
+        source.append("        return parameters;\n")
+                .append("    }\n\n");
+    }
+
+    private void appendToIndexedParameters(StringBuilder source) {
+        source.append("    @Override\n")
+                .append("    public java.util.List<?> toIndexedParameters(").append(typeName).append(" value) {\n")
+                .append("        return java.util.Arrays.asList(");
+        for (int i = 0; i < properties.size(); i++) {
+            source.append(i == 0 ? "" : ",\n                ").append("(Object) value.")
+                    .append(properties.get(i).reader());
+        }
+        source.append(");\n")
+                .append("    }\n\n");
+    }
+
+    private void appendColumnNames(StringBuilder source) {
+        source.append("    @Override\n")
+                .append("    public java.util.List<String> columnNames() {\n")
+                .append("        return columns.names();\n")
+                .append("    }\n\n");
+    }
+
+    private void appendProvider(StringBuilder source) {
+        source.append("    /**\n")
+                .append("     * Provider of {@link ").append(mapperName).append("}.\n")
+                .append("     */\n")
+                .append("    public static final class Provider implements io.helidon.dbclient.spi.DbMapperProvider {\n\n")
+                .append("        /**\n")
+                .append("         * Public constructor required for service loader.\n")
+                .append("         */\n")
+                .append("        public Provider() {\n")
+                .append("        }\n\n")
+                .append("        @Override\n")
+                .append("        @SuppressWarnings(\"unchecked\")\n")
+                .append("        public <T> java.util.Optional<io.helidon.dbclient.DbMapper<T>> mapper(Class<T> type) {\n")
+                .append("            if (type == ").append(typeName).append(".class) {\n")
+                .append("                return java.util.Optional.of((io.helidon.dbclient.DbMapper<T>) (Object) INSTANCE);\n")
+                .append("            }\n")
+                .append("            return java.util.Optional.empty();\n")
+                .append("        }\n")
+                .append("    }\n");
+    }
+
+    private static String readValue(MappedProperty property, int i) {
+        String index = "indexes[" + i + "]";
+        switch (property.type()) {
+        case "boolean":
+        case "char":
+        case "byte":
+        case "short":
+        case "int":
+        case "long":
+        case "float":
+        case "double":
+            return MAPPED_COLUMNS + "." + property.type() + "Value(row, " + index + ")";
+        case "java.lang.Byte":
+        case "java.lang.Short":
+        case "java.lang.Integer":
+        case "java.lang.Long":
+        case "java.lang.Float":
+        case "java.lang.Double":
+            return MAPPED_COLUMNS + ".numberValue(row, " + index + ", " + property.type() + ".class)";
+        default:
+            String value = MAPPED_COLUMNS + ".value(row, " + index + ", " + property.rawType() + ".class)";
+            return property.isParameterized() ? "(" + property.type() + ") " + value : value;
+        }
+    }
+
+    private static String literal(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                literal.append('\\').append(c);
+            } else if (c < ' ') {
+                literal.append(String.format("\\u%04x", (int) c));
+            } else {
+                literal.append(c);
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    /**
+     * A mapped property.
+     */
+    static final class MappedProperty {
+        private final String column;
+        private final String type;
+        private final String rawType;
+        private final String reader;
+        private final String writer;
+        private final boolean writeToField;
+
+        /**
+         * Create a new property.
+         *
+         * @param column       column name
+         * @param type         source of the type of the property
+         * @param rawType      source of the erasure of the type of the property
+         * @param reader       getter or field name to read the value
+         * @param writer       setter or field name to write the value, not used by records
+         * @param writeToField whether the writer is a field
+         */
+        MappedProperty(String column, String type, String rawType, String reader, String writer, boolean writeToField) {
+            this.column = column;
+            this.type = type;
+            this.rawType = rawType;
+            this.reader = reader;
+            this.writer = writer;
+            this.writeToField = writeToField;
+        }
+
+        String column() {
+            return column;
+        }
+
+        String type() {
+            return type;
+        }
+
+        String rawType() {
+            return rawType;
+        }
+
+        boolean isParameterized() {
+            return !type.equals(rawType);
+        }
+
+        String reader() {
+            return reader;
+        }
+
+        String writer(String value) {
+            return writeToField ? writer + " = " + value : writer + "(" + value + ")";
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.mapper;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * A type mapped to and from database rows by a {@link io.helidon.dbclient.DbMapper} generated at compile time.
+ * <p>
+ * The annotation processor of {@code helidon-dbclient-mapper-processor} generates a {@code <Type>DbMapper} class
+ * in the package of the annotated type, and registers its {@code Provider} nested class as a
+ * {@link io.helidon.dbclient.spi.DbMapperProvider} service, so {@code row.as(Type.class)} and
+ * {@code namedParam(value)} use it. The generated mapper reads the columns by their index, resolved once for rows
+ * with the same {@link io.helidon.dbclient.DbRow#columnLayout() column layout}, and creates the instances
+ * without reflection.
+ * <p>
+ * The mapped properties are:
+ * <ul>
+ *     <li>the components of a record, read through its canonical constructor</li>
+ *     <li>the non-static, non-transient fields of a class, read through a setter or the field itself if it
+ *     is not private, on an instance created with a non-private constructor without parameters; values are
+ *     obtained through a getter or the field itself</li>
+ * </ul>
+ * The column of a property has the name of the property, unless it is annotated with {@link DbColumnName}.
+ * Properties without a matching column in a row are left to their default value.
+ * <p>
+ * When running on the module path, the generated providers must be declared in the module of the annotated types:
+ * <pre>{@code
+ * provides io.helidon.dbclient.spi.DbMapperProvider with com.example.PokemonDbMapper.Provider;
+ * }</pre>
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+public @interface DbMapped {
+}
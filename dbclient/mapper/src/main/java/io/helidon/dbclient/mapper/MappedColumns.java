@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.mapper;
+
+import java.util.List;
+import java.util.Objects;
+
+import io.helidon.dbclient.DbColumn;
+import io.helidon.dbclient.DbRow;
+
+/**
+ * Columns read by a generated {@link io.helidon.dbclient.DbMapper}.
+ * The indexes of the columns are resolved once for all the rows with the same
+ * {@link io.helidon.dbclient.DbRow#columnLayout() column layout}.
+ * <p>
+ * This class is used by the generated code, it is not intended to be used directly.
+ */
+public final class MappedColumns {
+
+    private final String[] names;
+    private volatile Resolved resolved;
+
+    private MappedColumns(String[] names) {
+        this.names = names;
+    }
+
+    /**
+     * Create the columns with the given names.
+     *
+     * @param names column names
+     * @return mapped columns
+     */
+    public static MappedColumns create(String... names) {
+        return new MappedColumns(names.clone());
+    }
+
+    /**
+     * Names of the columns.
+     *
+     * @return column names
+     * @see io.helidon.dbclient.DbMapper#columnNames()
+     */
+    public List<String> names() {
+        return List.of(names);
+    }
+
+    /**
+     * Indexes of the columns in the row, in the order of their names.
+     *
+     * @param row database row
+     * @return column indexes starting from {@code 1}, {@code -1} for a column missing in the row
+     */
+    public int[] indexes(DbRow row) {
+        Object layout = row.columnLayout();
+        Resolved current = resolved;
+        if (current != null && current.layout == layout) {
+            return current.indexes;
+        }
+        int[] indexes = new int[names.length];
+        for (int i = 0; i < names.length; i++) {
+            indexes[i] = row.columnIndex(names[i]);
+        }
+        if (layout != row) {
+            // rows without a shared layout are resolved each time, and not retained
+            resolved = new Resolved(layout, indexes);
+        }
+        return indexes;
+    }
+
+    /**
+     * Value of a column.
+     *
+     * @param row   database row
+     * @param index column index, {@code -1} for a missing column
+     * @param type  type of the value
+     * @param <T>   type of the value
+     * @return value of the column, {@code null} if the column is missing
+     */
+    public static <T> T value(DbRow row, int index, Class<T> type) {
+        if (index < 1) {
+            return null;
+        }
+        return row.column(index).as(type);
+    }
+
+    /**
+     * Value of a column as a {@code boolean}.
+     *
+     * @param row   database row
+     * @param index column index, {@code -1} for a missing column
+     * @return value of the column, {@code false} if the column is missing or {@code null}
+     */
+    public static boolean booleanValue(DbRow row, int index) {
+        Object value = rawValue(row, index);
+        if (value == null) {
+            return false;
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        if (value instanceof Number) {
+            // such as NUMBER(1) in databases without a boolean type
+            return ((Number) value).intValue() != 0;
+        }
+        return row.column(index).as(Boolean.class);
+    }
+
+    /**
+     * Value of a column as a {@code char}.
+     *
+     * @param row   database row
+     * @param index column index, {@code -1} for a missing column
+     * @return value of the column, {@code 0} if the column is missing or {@code null}
+     */
+    public static char charValue(DbRow row, int index) {
+        Object value = rawValue(row, index);
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Character) {
+            return (Character) value;
+        }
+        if (value instanceof String && ((String) value).length() == 1) {
+            return ((String) value).charAt(0);
+        }
+        return row.column(index).as(Character.class);
+    }
+
+    /**
+     * Value of a column as a {@code byte}.
+     *
+     * @param row   database row
+     * @param index column index, {@code -1} for a missing column
+     * @return value of the column, {@code 0} if the column is missing or {@code null}
+     */
+    public static byte byteValue(DbRow row, int index) {
+        Number value = number(row, index, Byte.class);
+        return value == null ? 0 : value.byteValue();
+    }
+
+    /**
+     * Value of a column as a {@code short}.
+     *
+     * @param row   database row
+     * @param index column index, {@code -1} for a missing column
+     * @return value of the column, {@code 0} if the column is missing or {@code null}
+     */
+    public static short shortValue(DbRow row, int index) {
+        Number value = number(row, index, Short.class);
+        return value == null ? 0 : value.shortValue();
+    }
+
+    /**
+     * Value of a column as an {@code int}.
+     *
+     * @param row   database row
+     * @param index column index, {@code -1} for a missing column
+     * @return value of the column, {@code 0} if the column is missing or {@code null}
+     */
+    public static int intValue(DbRow row, int index) {
+        Number value = number(row, index, Integer.class);
+        return value == null ? 0 : value.intValue();
+    }
+
+    /**
+     * Value of a column as a {@code long}.
+     *
+     * @param row   database row
+     * @param index column index, {@code -1} for a missing column
+     * @return value of the column, {@code 0} if the column is missing or {@code null}
+     */
+    public static long longValue(DbRow row, int index) {
+        Number value = number(row, index, Long.class);
+        return value == null ? 0 : value.longValue();
+    }
+
+    /**
+     * Value of a column as a {@code float}.
+     *
+     * @param row   database row
+     * @param index column index, {@code -1} for a missing column
+     * @return value of the column, {@code 0} if the column is missing or {@code null}
+     */
+    public static float floatValue(DbRow row, int index) {
+        Number value = number(row, index, Float.class);
+        return value == null ? 0 : value.floatValue();
+    }
+
+    /**
+     * Value of a column as a {@code double}.
+     *
+     * @param row   database row
+     * @param index column index, {@code -1} for a missing column
+     * @return value of the column, {@code 0} if the column is missing or {@code null}
+     */
+    public static double doubleValue(DbRow row, int index) {
+        Number value = number(row, index, Double.class);
+        return value == null ? 0 : value.doubleValue();
+    }
+
+    /**
+     * Value of a column as a boxed number, converting the numbers of the other types,
+     * such as the {@code BigDecimal} of a {@code NUMBER} column, without a {@link io.helidon.common.mapper.Mapper}.
+     *
+     * @param row   database row
+     * @param index column index, {@code -1} for a missing column
+     * @param type  boxed number type
+     * @param <T>   boxed number type
+     * @return value of the column, {@code null} if the column is missing
+     */
+    public static <T extends Number> T numberValue(DbRow row, int index, Class<T> type) {
+        Number value = number(row, index, type);
+        if (value == null || type.isInstance(value)) {
+            return type.cast(value);
+        }
+        Object converted;
+        if (type == Integer.class) {
+            converted = value.intValue();
+        } else if (type == Long.class) {
+            converted = value.longValue();
+        } else if (type == Double.class) {
+            converted = value.doubleValue();
+        } else if (type == Float.class) {
+            converted = value.floatValue();
+        } else if (type == Short.class) {
+            converted = value.shortValue();
+        } else if (type == Byte.class) {
+            converted = value.byteValue();
+        } else {
+            return row.column(index).as(type);
+        }
+        return type.cast(converted);
+    }
+
+    private static Number number(DbRow row, int index, Class<? extends Number> type) {
+        Object value = rawValue(row, index);
+        if (value == null || value instanceof Number) {
+            return (Number) value;
+        }
+        return row.column(index).as(type);
+    }
+
+    private static Object rawValue(DbRow row, int index) {
+        if (index < 1) {
+            return null;
+        }
+        DbColumn column = row.column(index);
+        return column.value();
+    }
+
+    private static final class Resolved {
+        private final Object layout;
+        private final int[] indexes;
+
+        private Resolved(Object layout, int[] indexes) {
+            this.layout = Objects.requireNonNull(layout);
+            this.indexes = indexes;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.metrics.jdbc;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import io.helidon.config.Config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+/**
+ * Adaptive sizing of the Hikari connection pool.
+ * <p>
+ * The maximum pool size is evaluated at most once per interval, when a connection is acquired or times out.
+ * It grows by the step while threads are waiting for a connection, unless connections are used longer than
+ * the latency threshold in average: more connections would then only add load to an already slow database.
+ * It shrinks by the step when more connections than the step are not in use and no thread is waiting.
+ * The minimum idle count of the pool is set to the lower bound, so the connections in excess are closed
+ * by the pool once idle for its idle timeout.
+ */
+final class AdaptivePoolSizing {
+
+    /** Local logger instance. */
+    private static final Logger LOGGER = Logger.getLogger(AdaptivePoolSizing.class.getName());
+
+    /** Maximum pool size used by Hikari when not configured. */
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    private final int minSize;
+    private final int maxSize;
+    private final int step;
+    private final long intervalNanos;
+    private final long latencyThresholdMillis;
+    private final AtomicLong nextEvaluation;
+    private final LongAdder usageCount = new LongAdder();
+    private final LongAdder usageMillis = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private volatile HikariConfigMXBean pool;
+
+    AdaptivePoolSizing(int minSize, int maxSize, int step, Duration interval, Duration latencyThreshold) {
+        if (minSize < 0 || maxSize < Math.max(1, minSize)) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid adaptive pool size bounds: min-size %d, max-size %d", minSize, maxSize));
+        }
+        if (step < 1) {
+            throw new IllegalArgumentException("Adaptive pool sizing step must be positive: " + step);
+        }
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.step = step;
+        this.intervalNanos = interval.toNanos();
+        this.latencyThresholdMillis = latencyThreshold.toMillis();
+        this.nextEvaluation = new AtomicLong(System.nanoTime() + intervalNanos);
+    }
+
+    /**
+     * Create adaptive pool sizing from configuration.
+     * The upper bound defaults to twice the maximum pool size configured for Hikari.
+     *
+     * @param config adaptive sizing configuration node
+     * @param poolConfig Hikari CP configuration
+     * @return adaptive pool sizing
+     */
+    static AdaptivePoolSizing create(Config config, HikariConfig poolConfig) {
+        int poolSize = poolConfig.getMaximumPoolSize() < 1 ? DEFAULT_POOL_SIZE : poolConfig.getMaximumPoolSize();
+        return new AdaptivePoolSizing(config.get("min-size").asInt().orElse(1),
+                                      config.get("max-size").asInt().orElse(2 * poolSize),
+                                      config.get("step").asInt().orElse(1),
+                                      config.get("interval").as(Duration.class).orElse(Duration.ofSeconds(5)),
+                                      config.get("latency-threshold").as(Duration.class).orElse(Duration.ofSeconds(1)));
+    }
+
+    /**
+     * Bound the pool configuration before the pool is created.
+     *
+     * @param poolConfig Hikari CP configuration
+     */
+    void configure(HikariConfig poolConfig) {
+        int poolSize = poolConfig.getMaximumPoolSize() < 1 ? DEFAULT_POOL_SIZE : poolConfig.getMaximumPoolSize();
+        poolConfig.setMaximumPoolSize(Math.min(maxSize, Math.max(Math.max(1, minSize), poolSize)));
+        poolConfig.setMinimumIdle(minSize);
+    }
+
+    /**
+     * Start sizing the created pool.
+     *
+     * @param pool runtime configuration of the pool
+     */
+    void pool(HikariConfigMXBean pool) {
+        this.pool = pool;
+    }
+
+    void connectionUsed(long elapsedBorrowedMillis) {
+        usageCount.increment();
+        usageMillis.add(elapsedBorrowedMillis);
+    }
+
+    void connectionTimedOut() {
+        timeouts.increment();
+    }
+
+    /**
+     * Resize the pool if the interval since the last evaluation elapsed.
+     *
+     * @param stats current pool statistics
+     */
+    void evaluate(PoolStats stats) {
+        HikariConfigMXBean pool = this.pool;
+        long now = System.nanoTime();
+        long next = nextEvaluation.get();
+        if (pool == null || now - next < 0 || !nextEvaluation.compareAndSet(next, now + intervalNanos)) {
+            return;
+        }
+        int current = pool.getMaximumPoolSize();
+        int target = targetSize(current,
+                                stats.getActiveConnections(),
+                                stats.getPendingThreads(),
+                                usageCount.sumThenReset(),
+                                usageMillis.sumThenReset(),
+                                timeouts.sumThenReset());
+        if (target != current) {
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.fine(String.format("Resizing connection pool from %d to %d connections", current, target));
+            }
+            pool.setMaximumPoolSize(target);
+        }
+    }
+
+    /**
+     * Compute the maximum pool size for the statistics of the last interval.
+     *
+     * @param current current maximum pool size
+     * @param active number of connections in use
+     * @param pending number of threads waiting for a connection
+     * @param usageCount number of connections returned to the pool during the interval
+     * @param usageMillis total time the connections returned to the pool were in use
+     * @param timeouts number of connection requests timed out during the interval
+     * @return new maximum pool size
+     */
+    int targetSize(int current, int active, int pending, long usageCount, long usageMillis, long timeouts) {
+        int target = current;
+        if (pending > 0 || timeouts > 0) {
+            if (usageCount == 0 || usageMillis / usageCount <= latencyThresholdMillis) {
+                target = current + step;
+            }
+        } else if (active + step < current) {
+            target = current - step;
+        }
+        return Math.min(maxSize, Math.max(Math.max(1, minSize), target));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,36 +20,67 @@ import io.helidon.dbclient.jdbc.HikariCpExtension;
 
 import com.codahale.metrics.MetricRegistry;
 import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
 
 /**
  * JDBC Configuration Interceptor for Metrics.
  *
  * Registers JDBC connection pool metrics to {@code HikariConnectionPool}.
+ * Metrics are bridged from a Dropwizard registry by default, or recorded directly into Helidon metrics
+ * with {@code tracker: helidon}. The optional {@code adaptive-sizing} node enables adaptive sizing of the pool,
+ * which always records metrics directly into Helidon metrics.
  */
 final class HikariMetricsExtension implements HikariCpExtension {
+    private static final String HELIDON_TRACKER = "helidon";
+
     private final Config config;
     private final boolean enabled;
+    private final boolean helidonTracker;
+    private volatile AdaptivePoolSizing sizing;
 
-    private HikariMetricsExtension(Config config, boolean enabled) {
+    private HikariMetricsExtension(Config config, boolean enabled, boolean helidonTracker) {
         this.config = config;
         this.enabled = enabled;
+        this.helidonTracker = helidonTracker;
     }
 
     static HikariMetricsExtension create(Config config) {
-        return new HikariMetricsExtension(config, config.get("enabled").asBoolean().orElse(true));
+        return new HikariMetricsExtension(config,
+                                          config.get("enabled").asBoolean().orElse(true),
+                                          config.get("tracker").asString()
+                                                  .map(HELIDON_TRACKER::equalsIgnoreCase)
+                                                  .orElse(false));
     }
 
     /**
-     * Register {@code MetricRegistry} instance with listener into Hikari CP configuration.
+     * Register {@code MetricRegistry} instance with listener or metrics tracker factory
+     * into Hikari CP configuration.
      *
      * @param poolConfig Hikari CP configuration
      */
     @Override
     public void configure(HikariConfig poolConfig) {
         if (enabled) {
-            final MetricRegistry metricRegistry = new MetricRegistry();
-            metricRegistry.addListener(DropwizardMetricsListener.create(config));
-            poolConfig.setMetricRegistry(metricRegistry);
+            Config sizingConfig = config.get("adaptive-sizing");
+            if (sizingConfig.get("enabled").asBoolean().orElse(false)) {
+                sizing = AdaptivePoolSizing.create(sizingConfig, poolConfig);
+                sizing.configure(poolConfig);
+            }
+            if (helidonTracker || sizing != null) {
+                poolConfig.setMetricsTrackerFactory(JdbcPoolMetricsTrackerFactory.create(config, sizing));
+            } else {
+                final MetricRegistry metricRegistry = new MetricRegistry();
+                metricRegistry.addListener(DropwizardMetricsListener.create(config));
+                poolConfig.setMetricRegistry(metricRegistry);
+            }
+        }
+    }
+
+    @Override
+    public void poolCreated(HikariDataSource dataSource) {
+        AdaptivePoolSizing sizing = this.sizing;
+        if (sizing != null) {
+            sizing.pool(dataSource.getHikariConfigMXBean());
         }
     }
 }
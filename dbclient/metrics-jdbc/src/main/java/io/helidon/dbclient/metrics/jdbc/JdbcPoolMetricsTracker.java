@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.metrics.jdbc;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.Histogram;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Timer;
+
+/**
+ * Hikari CP metrics tracker of a single pool.
+ *
+ * Records connection pool events directly into Helidon metrics and feeds the adaptive pool sizing, if enabled.
+ */
+final class JdbcPoolMetricsTracker implements IMetricsTracker {
+
+    private final MetricRegistry registry;
+    private final List<String> names = new ArrayList<>();
+    private final PoolStats stats;
+    private final AdaptivePoolSizing sizing;
+    private final Timer acquire;
+    private final Histogram usage;
+    private final Histogram creation;
+    private final Counter timeouts;
+
+    JdbcPoolMetricsTracker(MetricRegistry registry, String prefix, PoolStats stats, AdaptivePoolSizing sizing) {
+        this.registry = registry;
+        this.stats = stats;
+        this.sizing = sizing;
+        this.acquire = registry.timer(metadata(prefix + "acquire",
+                                               "Time to acquire a connection from the pool",
+                                               MetricType.TIMER,
+                                               MetricUnits.NANOSECONDS));
+        this.usage = registry.histogram(metadata(prefix + "usage",
+                                                 "Time a connection was in use before being returned to the pool",
+                                                 MetricType.HISTOGRAM,
+                                                 MetricUnits.MILLISECONDS));
+        this.creation = registry.histogram(metadata(prefix + "creation",
+                                                    "Time to create a new physical connection",
+                                                    MetricType.HISTOGRAM,
+                                                    MetricUnits.MILLISECONDS));
+        this.timeouts = registry.counter(metadata(prefix + "timeouts",
+                                                  "Number of connection requests timed out",
+                                                  MetricType.COUNTER,
+                                                  MetricUnits.NONE));
+        gauge(prefix + "active", "Number of connections in use", stats::getActiveConnections);
+        gauge(prefix + "idle", "Number of idle connections", stats::getIdleConnections);
+        gauge(prefix + "pending", "Number of threads waiting for a connection", stats::getPendingThreads);
+        gauge(prefix + "total", "Number of connections in the pool", stats::getTotalConnections);
+        gauge(prefix + "max", "Maximum number of connections in the pool", stats::getMaxConnections);
+    }
+
+    @Override
+    public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+        creation.update(connectionCreatedMillis);
+    }
+
+    @Override
+    public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+        acquire.update(Duration.ofNanos(elapsedAcquiredNanos));
+        if (sizing != null) {
+            sizing.evaluate(stats);
+        }
+    }
+
+    @Override
+    public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+        usage.update(elapsedBorrowedMillis);
+        if (sizing != null) {
+            sizing.connectionUsed(elapsedBorrowedMillis);
+        }
+    }
+
+    @Override
+    public void recordConnectionTimeout() {
+        timeouts.inc();
+        if (sizing != null) {
+            sizing.connectionTimedOut();
+            sizing.evaluate(stats);
+        }
+    }
+
+    @Override
+    public void close() {
+        names.forEach(registry::remove);
+    }
+
+    private void gauge(String name, String description, Gauge<Integer> gauge) {
+        registry.register(metadata(name, description, MetricType.GAUGE, MetricUnits.NONE), gauge);
+    }
+
+    private Metadata metadata(String name, String description, MetricType type, String unit) {
+        names.add(name);
+        return Metadata.builder()
+                .withName(name)
+                .withDescription(description)
+                .withType(type)
+                .withUnit(unit)
+                .build();
+    }
+}
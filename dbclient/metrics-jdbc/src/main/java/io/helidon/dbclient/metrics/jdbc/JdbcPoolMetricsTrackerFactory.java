@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.metrics.jdbc;
+
+import io.helidon.common.LazyValue;
+import io.helidon.config.Config;
+import io.helidon.metrics.api.RegistryFactory;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+
+/**
+ * Hikari CP metrics tracker factory publishing pool metrics into Helidon metrics without Dropwizard registry.
+ */
+final class JdbcPoolMetricsTrackerFactory implements MetricsTrackerFactory {
+
+    private final String prefix;
+    private final AdaptivePoolSizing sizing;
+    // Helidon metrics registry
+    private final LazyValue<MetricRegistry> registry = LazyValue.create(
+            () -> RegistryFactory.getInstance().getRegistry(MetricRegistry.Type.VENDOR));
+
+    private JdbcPoolMetricsTrackerFactory(String prefix, AdaptivePoolSizing sizing) {
+        this.prefix = prefix;
+        this.sizing = sizing;
+    }
+
+    /**
+     * Create metrics tracker factory.
+     *
+     * @param config pool metrics configuration node
+     * @param sizing adaptive pool sizing to feed with pool events, or {@code null} if disabled
+     * @return metrics tracker factory
+     */
+    static JdbcPoolMetricsTrackerFactory create(Config config, AdaptivePoolSizing sizing) {
+        return new JdbcPoolMetricsTrackerFactory(config.get("name-prefix").asString().orElse("db.pool."), sizing);
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        return new JdbcPoolMetricsTracker(registry.get(), prefix + poolName + ".", poolStats, sizing);
+    }
+}
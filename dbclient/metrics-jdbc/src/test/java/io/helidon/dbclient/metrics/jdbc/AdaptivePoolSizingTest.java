@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.metrics.jdbc;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit test for {@link AdaptivePoolSizing}.
+ */
+class AdaptivePoolSizingTest {
+
+    private final AdaptivePoolSizing sizing = new AdaptivePoolSizing(2, 8, 2, Duration.ofSeconds(5), Duration.ofMillis(100));
+
+    @Test
+    void testGrowWhenPending() {
+        assertThat(sizing.targetSize(4, 4, 3, 10, 500, 0), is(6));
+        assertThat(sizing.targetSize(4, 4, 0, 0, 0, 1), is(6));
+        assertThat(sizing.targetSize(7, 7, 3, 10, 500, 0), is(8));
+    }
+
+    @Test
+    void testHoldWhenSlow() {
+        assertThat(sizing.targetSize(4, 4, 3, 10, 5000, 0), is(4));
+    }
+
+    @Test
+    void testShrinkWhenUnused() {
+        assertThat(sizing.targetSize(8, 1, 0, 10, 500, 0), is(6));
+        assertThat(sizing.targetSize(3, 0, 0, 0, 0, 0), is(2));
+        assertThat(sizing.targetSize(6, 4, 0, 10, 500, 0), is(6));
+    }
+
+    @Test
+    void testInvalidBounds() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> new AdaptivePoolSizing(4, 2, 1, Duration.ofSeconds(5), Duration.ofMillis(100)));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new AdaptivePoolSizing(1, 2, 0, Duration.ofSeconds(5), Duration.ofMillis(100)));
+    }
+}
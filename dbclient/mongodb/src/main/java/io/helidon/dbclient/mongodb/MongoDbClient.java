@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -43,6 +43,7 @@ public class MongoDbClient implements DbClient {
     private final MongoDatabase db;
     private final ConnectionString connectionString;
     private final DbClientContext clientContext;
+    private final int fetchSize;
 
     /**
      * Creates an instance of MongoDB driver handler.
@@ -58,6 +59,7 @@ public class MongoDbClient implements DbClient {
                 .build();
 
         this.config = builder.dbConfig();
+        this.fetchSize = builder.fetchSize();
         this.connectionString = new ConnectionString(config.url());
         this.client = initMongoClient();
         this.db = initMongoDatabase();
@@ -81,6 +83,7 @@ public class MongoDbClient implements DbClient {
                 .build();
 
         this.config = builder.dbConfig();
+        this.fetchSize = builder.fetchSize();
         this.connectionString = config != null ? new ConnectionString(config.url()) : null;
         this.client = client;
         this.db = db;
@@ -142,7 +145,7 @@ public class MongoDbClient implements DbClient {
 
     @Override
     public <U, T extends Subscribable<U>> T execute(Function<DbExecute, T> executor) {
-        return executor.apply(new MongoDbExecute(db, clientContext));
+        return executor.apply(new MongoDbExecute(db, clientContext, fetchSize));
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -43,6 +43,7 @@ public final class MongoDbClientProviderBuilder implements DbClientProviderBuild
     private String username;
     private String password;
     private String credDb;
+    private int fetchSize;
     private DbStatements statements;
     private MapperManager mapperManager;
     private DbMapperManager dbMapperManager;
@@ -78,6 +79,7 @@ public final class MongoDbClientProviderBuilder implements DbClientProviderBuild
                     config.get("connection").key()));
         });
         config.get("credDb").asString().ifPresent(this::credDb);
+        config.get("fetch-size").asInt().ifPresent(this::fetchSize);
         statements = DbStatements.create(config.get("statements"));
         return this;
     }
@@ -111,6 +113,23 @@ public final class MongoDbClientProviderBuilder implements DbClientProviderBuild
         return this;
     }
 
+    /**
+     * Default number of documents fetched at once by the cursors of queries, see
+     * {@link com.mongodb.reactivestreams.client.FindPublisher#batchSize(int)}. Can be changed for each query with
+     * {@link io.helidon.dbclient.DbStatementQuery#fetchSize(int)}.
+     * The server default is used by default.
+     *
+     * @param fetchSize number of documents, {@code 0} to use the server default
+     * @return updated builder instance
+     */
+    public MongoDbClientProviderBuilder fetchSize(int fetchSize) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("Fetch size must not be negative: " + fetchSize);
+        }
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
     @Override
     public MongoDbClientProviderBuilder statements(DbStatements statements) {
         this.statements = statements;
@@ -190,6 +209,10 @@ public final class MongoDbClientProviderBuilder implements DbClientProviderBuild
         return dbMapperManager;
     }
 
+    int fetchSize() {
+        return fetchSize;
+    }
+
     MongoDbClientConfig dbConfig() {
         return dbConfig;
     }
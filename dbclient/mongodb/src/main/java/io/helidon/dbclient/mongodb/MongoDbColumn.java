@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -46,6 +46,11 @@ public final class MongoDbColumn implements DbColumn {
         return map(value, type);
     }
 
+    @Override
+    public Object value() {
+        return value;
+    }
+
     @Override
     public <T> T as(GenericType<T> type) throws MapperException {
         return map(value, type);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,8 @@
  */
 package io.helidon.dbclient.mongodb;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.LongAdder;
@@ -23,6 +25,12 @@ import java.util.logging.Logger;
 import io.helidon.dbclient.DbClientServiceContext;
 import io.helidon.dbclient.DbStatementType;
 
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.DeleteManyModel;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.UpdateResult;
 import com.mongodb.reactivestreams.client.MongoCollection;
@@ -40,6 +48,9 @@ final class MongoDbDMLExecutor {
     /** Local logger instance. */
     private static final Logger LOGGER = Logger.getLogger(MongoDbDMLExecutor.class.getName());
 
+    /** Options of bulk writes, operations are executed in order and stop at the first failure. */
+    static final BulkWriteOptions ORDERED = new BulkWriteOptions().ordered(true);
+
     private MongoDbDMLExecutor() {
         throw new UnsupportedOperationException("Utility class MongoDbDMLExecutor instances are not allowed!");
     }
@@ -80,6 +91,49 @@ final class MongoDbDMLExecutor {
         });
     }
 
+    /**
+     * Add the write operations of a DML statement to a bulk write.
+     * An insert of an array value adds an operation for each of its documents.
+     *
+     * @param mongoStatement DML statement
+     * @param operations operations of the bulk write
+     */
+    static void addWriteModels(MongoDbStatement.MongoStatement mongoStatement, List<WriteModel<Document>> operations) {
+        switch (mongoStatement.getOperation()) {
+        case INSERT:
+            if (mongoStatement.getValues() == null) {
+                operations.add(new InsertOneModel<>(mongoStatement.getValue()));
+            } else {
+                mongoStatement.getValues().forEach(document -> operations.add(new InsertOneModel<>(document)));
+            }
+            break;
+        case UPDATE:
+            operations.add(new UpdateManyModel<>(mongoStatement.getQuery(), singleValue(mongoStatement)));
+            break;
+        case DELETE:
+            operations.add(new DeleteManyModel<>(mongoStatement.getQuery()));
+            break;
+        default:
+            throw new IllegalStateException(
+                    String.format("Unexpected value for DML statement: %s", mongoStatement.getOperation()));
+        }
+    }
+
+    /**
+     * Value of an update.
+     *
+     * @param mongoStatement DML statement
+     * @return value document
+     * @throws IllegalStateException if the value is an array
+     */
+    static Document singleValue(MongoDbStatement.MongoStatement mongoStatement) {
+        if (mongoStatement.getValues() != null) {
+            throw new IllegalStateException(String.format(
+                    "Array value is only supported by insert, not by %s", mongoStatement.getOperation()));
+        }
+        return mongoStatement.getValue();
+    }
+
     private abstract static class DmlResultSubscriber<T> implements org.reactivestreams.Subscriber<T> {
 
         private final MongoDbStatement dbStatement;
@@ -153,6 +207,24 @@ final class MongoDbDMLExecutor {
 
     }
 
+    private static final class BulkWriteResultSubscriber extends DmlResultSubscriber<BulkWriteResult> {
+
+        private BulkWriteResultSubscriber(
+                MongoDbStatement dbStatement,
+                DbStatementType dbStatementType,
+                CompletableFuture<Long> queryFuture,
+                CompletableFuture<Void> statementFuture
+        ) {
+            super(dbStatement, dbStatementType, queryFuture, statementFuture);
+        }
+
+        @Override
+        public void onNext(BulkWriteResult r) {
+            count().add(r.getInsertedCount() + r.getModifiedCount() + r.getDeletedCount());
+        }
+
+    }
+
     private static final class UpdateResultSubscriber extends DmlResultSubscriber<UpdateResult> {
 
         private UpdateResultSubscriber(
@@ -197,6 +269,16 @@ final class MongoDbDMLExecutor {
             CompletableFuture<Long> queryFuture
     ) {
         MongoCollection<Document> mc = dbStatement.db().getCollection(mongoStatement.getCollection());
+        if (mongoStatement.getValues() != null) {
+            // all the documents of an array value are sent to the database at once
+            List<WriteModel<Document>> operations = new ArrayList<>(mongoStatement.getValues().size());
+            addWriteModels(mongoStatement, operations);
+            Publisher<BulkWriteResult> bulkPublisher = dbStatement.noTx()
+                    ? mc.bulkWrite(operations, ORDERED)
+                    : mc.bulkWrite(dbStatement.txManager().tx(), operations, ORDERED);
+            bulkPublisher.subscribe(new BulkWriteResultSubscriber(dbStatement, dbStatementType, queryFuture, statementFuture));
+            return queryFuture;
+        }
         Publisher<Success> insertPublisher = dbStatement.noTx()
                 ? mc.insertOne(mongoStatement.getValue())
                 : mc.insertOne(dbStatement.txManager().tx(), mongoStatement.getValue());
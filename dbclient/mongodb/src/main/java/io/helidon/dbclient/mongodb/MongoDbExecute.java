@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ import java.util.concurrent.CompletableFuture;
 
 import io.helidon.common.reactive.Single;
 import io.helidon.dbclient.DbExecute;
+import io.helidon.dbclient.DbStatementBatch;
 import io.helidon.dbclient.DbStatementDml;
 import io.helidon.dbclient.DbStatementGet;
 import io.helidon.dbclient.DbStatementQuery;
@@ -36,12 +37,15 @@ public class MongoDbExecute extends AbstractDbExecute implements DbExecute {
 
     private final MongoDatabase db;
     private final DbClientContext clientContext;
+    private final int fetchSize;
 
     MongoDbExecute(MongoDatabase db,
-                   DbClientContext clientContext) {
+                   DbClientContext clientContext,
+                   int fetchSize) {
         super(clientContext.statements());
         this.db = db;
         this.clientContext = clientContext;
+        this.fetchSize = fetchSize;
     }
 
     @Override
@@ -50,7 +54,8 @@ public class MongoDbExecute extends AbstractDbExecute implements DbExecute {
                                          DbStatementContext.create(clientContext,
                                                                    DbStatementType.QUERY,
                                                                    statementName,
-                                                                   statement));
+                                                                   statement))
+                .fetchSize(fetchSize);
     }
 
     @Override
@@ -98,6 +103,15 @@ public class MongoDbExecute extends AbstractDbExecute implements DbExecute {
                                                                  statement));
     }
 
+    @Override
+    public DbStatementBatch createNamedBatch(String statementName, String statement) {
+        return new MongoDbStatementBatch(db,
+                                         DbStatementContext.create(clientContext,
+                                                                   DbStatementType.DML,
+                                                                   statementName,
+                                                                   statement));
+    }
+
     // MongoDB internals are not blocking. Single instance is returned as already completed.
     @Override
     public <C> Single<C> unwrap(Class<C> cls) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,8 +19,11 @@ package io.helidon.dbclient.mongodb;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import io.helidon.common.mapper.MapperManager;
+import io.helidon.dbclient.DbMapperManager;
 import io.helidon.dbclient.DbRow;
 import io.helidon.dbclient.common.DbClientContext;
 
@@ -39,7 +42,8 @@ final class MongoDbQueryProcessor implements org.reactivestreams.Subscriber<Docu
     private final CompletableFuture<Long> queryFuture;
     private final MongoDbStatement dbStatement;
     private final CompletableFuture<Void> statementFuture;
-    private final DbClientContext clientContext;
+    private final DbMapperManager dbMapperManager;
+    private final MapperManager mapperManager;
 
     private Flow.Subscriber<? super DbRow> subscriber;
     private Subscription subscription;
@@ -48,7 +52,8 @@ final class MongoDbQueryProcessor implements org.reactivestreams.Subscriber<Docu
                           MongoDbStatement dbStatement,
                           CompletableFuture<Void> statementFuture,
                           CompletableFuture<Long> queryFuture) {
-        this.clientContext = clientContext;
+        this.dbMapperManager = clientContext.dbMapperManager();
+        this.mapperManager = clientContext.mapperManager();
         this.statementFuture = statementFuture;
         this.queryFuture = queryFuture;
         this.dbStatement = dbStatement;
@@ -61,11 +66,14 @@ final class MongoDbQueryProcessor implements org.reactivestreams.Subscriber<Docu
 
     @Override
     public void onNext(Document doc) {
-        MongoDbRow dbRow = new MongoDbRow(clientContext.dbMapperManager(), clientContext.mapperManager(), doc.size());
+        MongoDbRow dbRow = new MongoDbRow(dbMapperManager, mapperManager, doc.size());
+        // called for each document, the fields are only logged when enabled
+        boolean finest = LOGGER.isLoggable(Level.FINEST);
         doc.forEach((name, value) -> {
-            LOGGER.finest(() -> String.format(
-                    "Column name = %s, value = %s", name, (value != null ? value.toString() : "N/A")));
-            dbRow.add(name, new MongoDbColumn(clientContext.dbMapperManager(), clientContext.mapperManager(), name, value));
+            if (finest) {
+                LOGGER.finest(String.format("Column name = %s, value = %s", name, (value != null ? value.toString() : "N/A")));
+            }
+            dbRow.add(name, new MongoDbColumn(dbMapperManager, mapperManager, name, value));
         });
         count.incrementAndGet();
         subscriber.onNext(dbRow);
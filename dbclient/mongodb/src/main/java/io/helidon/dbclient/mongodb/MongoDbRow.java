@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -69,6 +69,12 @@ final class MongoDbRow implements DbRow {
         return columnsList.get(index - 1);
     }
 
+    @Override
+    public int columnIndex(String name) {
+        DbColumn column = columnsByName.get(name);
+        return column == null ? -1 : columnsList.indexOf(column) + 1;
+    }
+
     @Override
     public void forEach(Consumer<? super DbColumn> columnAction) {
         columnsByName.values().forEach(columnAction);
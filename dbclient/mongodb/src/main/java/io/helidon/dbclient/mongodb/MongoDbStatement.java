@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,8 +15,10 @@
  */
 package io.helidon.dbclient.mongodb;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import io.helidon.dbclient.DbStatement;
@@ -57,6 +59,7 @@ abstract class MongoDbStatement<S extends DbStatement<S, R>, R> extends Abstract
     protected static final String JSON_QUERY = "query";
     /**
      * Value JSON parameter name.
+     * The value of an insert may be an array of documents, inserted with a single {@code bulkWrite}.
      */
     protected static final String JSON_VALUE = "value";
     /**
@@ -189,6 +192,7 @@ abstract class MongoDbStatement<S extends DbStatement<S, R>, R> extends Abstract
         private final String collection;
         private final Document query;
         private final Document value;
+        private final List<Document> values;
         private final Document projection;
 
         MongoStatement(DbStatementType dbStatementType, JsonReaderFactory jrf, String preparedStmt) {
@@ -254,11 +258,29 @@ abstract class MongoDbStatement<S extends DbStatement<S, R>, R> extends Abstract
             }
             this.operation = operation;
             this.collection = jsonStmt.getString(JSON_COLLECTION);
-            this.value = jsonStmt.get(JSON_VALUE, Document.class);
+            Object value = jsonStmt.get(JSON_VALUE);
+            if (value instanceof List) {
+                this.value = null;
+                this.values = documents((List<?>) value);
+            } else {
+                this.value = (Document) value;
+                this.values = null;
+            }
             this.query = jsonStmt.get(JSON_QUERY, Document.class);
             this.projection = jsonStmt.get(JSON_PROJECTION, Document.class);
         }
 
+        private static List<Document> documents(List<?> value) {
+            List<Document> documents = new ArrayList<>(value.size());
+            for (Object item : value) {
+                if (!(item instanceof Document)) {
+                    throw new IllegalStateException("Array value of statement must only contain documents, found: " + item);
+                }
+                documents.add((Document) item);
+            }
+            return documents;
+        }
+
         private static void validateOperation(DbStatementType dbStatementType,
                                               MongoOperation actual,
                                               MongoOperation... expected) {
@@ -296,6 +318,15 @@ abstract class MongoDbStatement<S extends DbStatement<S, R>, R> extends Abstract
             return value;
         }
 
+        /**
+         * Documents of an array value.
+         *
+         * @return documents, {@code null} if the value is not an array
+         */
+        List<Document> getValues() {
+            return values;
+        }
+
         Document getProjection() {
             return projection;
         }
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.mongodb;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+import io.helidon.common.reactive.Multi;
+import io.helidon.dbclient.DbClientServiceContext;
+import io.helidon.dbclient.DbStatementType;
+import io.helidon.dbclient.common.AbstractBatchStatement;
+import io.helidon.dbclient.common.DbStatementContext;
+import io.helidon.dbclient.common.ParamType;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.reactivestreams.client.ClientSession;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import org.bson.Document;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+
+/**
+ * Batch DML statement for MongoDB.
+ * Each batch is sent to the database with a single ordered {@code bulkWrite} of the insert, update or delete
+ * operations of its parameter sets, which must all target the same collection.
+ */
+public class MongoDbStatementBatch extends AbstractBatchStatement {
+
+    /** Local logger instance. */
+    private static final Logger LOGGER = Logger.getLogger(MongoDbStatementBatch.class.getName());
+
+    private final MongoDatabase db;
+    /** MongoDB client session. Set to {@code null} when not running in transaction. */
+    private ClientSession tx;
+
+    MongoDbStatementBatch(MongoDatabase db, DbStatementContext statementContext) {
+        super(statementContext);
+        this.db = db;
+        this.tx = null;
+    }
+
+    /**
+     * Set target transaction for this statement.
+     * The batch is bound to the transaction session, it is not tracked by the transaction manager.
+     *
+     * @param txManager MongoDB transaction manager
+     * @return MongoDB batch statement
+     */
+    MongoDbStatementBatch inTransaction(MongoDbTransaction.TransactionManager txManager) {
+        this.tx = txManager.tx();
+        return this;
+    }
+
+    @Override
+    protected Multi<Long> doExecute(DbClientServiceContext dbContext, Multi<List<Object>> batches) {
+        // batches are executed one by one, the next batch is only requested once the previous one is written
+        return batches.flatMapCompletionStage(batch -> bulkWrite(dbContext.statement(), batch));
+    }
+
+    @Override
+    protected String dbType() {
+        return MongoDbClientProvider.DB_TYPE;
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<Long> bulkWrite(String statement, List<Object> batch) {
+        CompletableFuture<Long> result = new CompletableFuture<>();
+        String collection = null;
+        List<WriteModel<Document>> operations = new ArrayList<>(batch.size());
+        try {
+            for (Object parameters : batch) {
+                String preparedStmt = paramType() == ParamType.NAMED
+                        ? StatementParsers.namedParser(statement, (Map<String, Object>) parameters).convert()
+                        : StatementParsers.indexedParser(statement, (List<Object>) parameters).convert();
+                MongoDbStatement.MongoStatement mongoStatement =
+                        new MongoDbStatement.MongoStatement(DbStatementType.DML, MongoDbStatement.READER_FACTORY, preparedStmt);
+                if (collection == null) {
+                    collection = mongoStatement.getCollection();
+                } else if (!collection.equals(mongoStatement.getCollection())) {
+                    throw new IllegalStateException(String.format(
+                            "Batch statement %s must target a single collection, found %s and %s",
+                            statementName(), collection, mongoStatement.getCollection()));
+                }
+                MongoDbDMLExecutor.addWriteModels(mongoStatement, operations);
+            }
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+        MongoCollection<Document> mc = db.getCollection(collection);
+        Publisher<BulkWriteResult> publisher = (tx == null)
+                ? mc.bulkWrite(operations, MongoDbDMLExecutor.ORDERED)
+                : mc.bulkWrite(tx, operations, MongoDbDMLExecutor.ORDERED);
+        publisher.subscribe(new BulkWriteResultSubscriber(result));
+        return result;
+    }
+
+    private final class BulkWriteResultSubscriber implements org.reactivestreams.Subscriber<BulkWriteResult> {
+
+        private final CompletableFuture<Long> result;
+        private long count;
+
+        private BulkWriteResultSubscriber(CompletableFuture<Long> result) {
+            this.result = result;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            // no need for flow control, a single result is expected
+            s.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(BulkWriteResult r) {
+            count += r.getInsertedCount() + r.getModifiedCount() + r.getDeletedCount();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            result.completeExceptionally(t);
+            LOGGER.fine(() -> String.format("Batch DML %s execution failed", statementName()));
+        }
+
+        @Override
+        public void onComplete() {
+            result.complete(count);
+            LOGGER.fine(() -> String.format("Batch DML %s execution succeeded", statementName()));
+        }
+    }
+}
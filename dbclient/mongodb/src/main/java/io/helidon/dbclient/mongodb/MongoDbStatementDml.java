@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -47,6 +47,7 @@ public class MongoDbStatementDml extends MongoDbStatement<DbStatementDml, Single
             break;
         case UPDATE:
             dbStatementType = DbStatementType.UPDATE;
+            MongoDbDMLExecutor.singleValue(statement);
             break;
         case DELETE:
             dbStatementType = DbStatementType.DELETE;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,7 @@
  */
 package io.helidon.dbclient.mongodb;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
@@ -36,11 +37,49 @@ import org.bson.Document;
  */
 class MongoDbStatementQuery extends MongoDbStatement<DbStatementQuery, Multi<DbRow>> implements DbStatementQuery {
     private static final Logger LOGGER = Logger.getLogger(MongoDbStatementQuery.class.getName());
+    private static final String ID_FIELD = "_id";
+
+    private int fetchSize;
+    private List<String> columns = List.of();
 
     MongoDbStatementQuery(MongoDatabase db, DbStatementContext statementContext) {
         super(db, statementContext);
     }
 
+    /**
+     * Number of documents fetched at once by the cursor, see {@link FindPublisher#batchSize(int)}.
+     *
+     * @param fetchSize number of documents, {@code 0} to use the server default
+     * @return updated db statement
+     */
+    @Override
+    public DbStatementQuery fetchSize(int fetchSize) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("Fetch size must not be negative: " + fetchSize);
+        }
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
+    /**
+     * Fields of the documents to fetch, used as projection when the statement does not define one.
+     * The {@code _id} field is only fetched when it is one of the names.
+     *
+     * @param names names of the fields, no name to fetch all the fields
+     * @return updated db statement
+     */
+    @Override
+    public DbStatementQuery columns(String... names) {
+        this.columns = List.of(names);
+        return this;
+    }
+
+    @Override
+    public DbStatementQuery columnsOf(Class<?> type) {
+        this.columns = dbMapperManager().columnNames(type);
+        return this;
+    }
+
     @Override
     protected Multi<DbRow> doExecute(Single<DbClientServiceContext> dbContextFuture,
                                      CompletableFuture<Void> statementFuture,
@@ -101,7 +140,9 @@ class MongoDbStatementQuery extends MongoDbStatement<DbStatementQuery, Multi<DbR
         final MongoCollection<Document> mc = db()
                 .getCollection(mongoStmt.getCollection());
         final Document query = mongoStmt.getQuery();
-        final Document projection = mongoStmt.getProjection();
+        final Document projection = (mongoStmt.getProjection() == null && !columns.isEmpty())
+                ? projection(columns)
+                : mongoStmt.getProjection();
         LOGGER.fine(() -> String.format(
                 "Query: %s, Projection: %s", query.toString(), (projection != null ? projection : "N/A")));
         FindPublisher<Document> publisher = noTx()
@@ -110,6 +151,9 @@ class MongoDbStatementQuery extends MongoDbStatement<DbStatementQuery, Multi<DbR
         if (projection != null) {
             publisher = publisher.projection(projection);
         }
+        if (fetchSize > 0) {
+            publisher = publisher.batchSize(fetchSize);
+        }
 
         return Multi.create(new MongoDbRows<>(clientContext(),
                                             publisher,
@@ -119,4 +163,16 @@ class MongoDbStatementQuery extends MongoDbStatement<DbStatementQuery, Multi<DbR
                                             queryFuture)
                                   .publisher());
     }
+
+    private static Document projection(List<String> columns) {
+        Document projection = new Document();
+        for (String column : columns) {
+            projection.put(column, 1);
+        }
+        if (!projection.containsKey(ID_FIELD)) {
+            // _id is returned unless excluded
+            projection.put(ID_FIELD, 0);
+        }
+        return projection;
+    }
 }
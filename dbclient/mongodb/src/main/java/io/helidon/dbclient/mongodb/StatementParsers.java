@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,22 +17,39 @@ package io.helidon.dbclient.mongodb;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
+import io.helidon.common.configurable.LruCache;
+
 import jakarta.json.Json;
 
 /**
  * Statement parameter parsers.
+ * <p>
+ * A statement text is parsed once into a {@link StatementTemplate}, which is cached and filled with the parameters
+ * of each execution. Statements are usually defined in the configuration, so the same statement text is executed
+ * over and over again. The least recently used templates are removed when the cache is full.
  */
 final class StatementParsers {
 
     /** Local logger instance. */
     private static final Logger LOGGER = Logger.getLogger(StatementParsers.class.getName());
 
+    /**
+     * Maximal number of cached templates of each parameter type.
+     */
+    static final int MAX_TEMPLATES = 1024;
+
+    private static final LruCache<String, StatementTemplate> NAMED_TEMPLATES = templates();
+    private static final LruCache<String, StatementTemplate> INDEXED_TEMPLATES = templates();
+
     static String toJson(Object value) {
         if ((value instanceof Integer)  || (value instanceof Short)  || (value instanceof Byte)){
             return Json.createValue(((Number) value).intValue()).toString();
@@ -64,11 +81,32 @@ final class StatementParsers {
     }
 
     static StatementParser indexedParser(String statement, List<Object> indexedParams) {
-        return new IndexedParser(statement, indexedParams);
+        return () -> {
+            String converted = template(INDEXED_TEMPLATES, statement, it -> new IndexedParser(it).parse())
+                    .fill(indexedParams);
+            LOGGER.fine(() -> String.format("Indexed Statement %s", converted));
+            return converted;
+        };
+    }
+
+    static StatementParser namedParser(String statement, Map<String, Object> namedParams) {
+        return () -> {
+            String converted = template(NAMED_TEMPLATES, statement, it -> new NamedParser(it).parse())
+                    .fill(namedParams);
+            LOGGER.fine(() -> String.format("Named Statement %s", converted));
+            return converted;
+        };
     }
 
-    static StatementParser namedParser(String statement, Map<String, Object> indexedParams) {
-        return new NamedParser(statement, indexedParams);
+    private static LruCache<String, StatementTemplate> templates() {
+        return LruCache.<String, StatementTemplate>builder().capacity(MAX_TEMPLATES).build();
+    }
+
+    private static StatementTemplate template(LruCache<String, StatementTemplate> templates,
+                                              String statement,
+                                              Function<String, StatementTemplate> parser) {
+        return templates.computeValue(statement, () -> Optional.of(parser.apply(statement)))
+                .orElseThrow();
     }
 
     @FunctionalInterface
@@ -76,6 +114,117 @@ final class StatementParsers {
         String convert();
     }
 
+    /**
+     * Statement text split around its parameters.
+     * A template does not depend on the parameter values, so it is shared by all the executions of a statement.
+     */
+    static final class StatementTemplate {
+
+        /** Statement parts between parameters, there is one more part than parameters. */
+        private final String[] parts;
+        /** Parameter names, {@code null} for indexed parameters. */
+        private final String[] names;
+        /** Length of the statement without parameters. */
+        private final int length;
+
+        private StatementTemplate(List<String> parts, List<String> names) {
+            this.parts = parts.toArray(new String[0]);
+            this.names = names.toArray(new String[0]);
+            int length = 0;
+            for (String part : this.parts) {
+                length += part.length();
+            }
+            this.length = length;
+        }
+
+        /**
+         * Number of parameters of the statement.
+         *
+         * @return number of parameters
+         */
+        int parameterCount() {
+            return names.length;
+        }
+
+        /**
+         * Replace named parameters with values from mappings.
+         * A parameter without a mapping is left in the statement as is.
+         *
+         * @param mappings parameter name to value mappings
+         * @return statement with parameter values
+         */
+        String fill(Map<String, ?> mappings) {
+            StringBuilder sb = new StringBuilder(length + 16 * names.length);
+            sb.append(parts[0]);
+            for (int i = 0; i < names.length; i++) {
+                String name = names[i];
+                if (mappings.containsKey(name)) {
+                    sb.append(toJson(mappings.get(name)));
+                } else {
+                    sb.append(NamedParser.PAR_BEG).append(name);
+                }
+                sb.append(parts[i + 1]);
+            }
+            return sb.toString();
+        }
+
+        /**
+         * Replace indexed parameters with values from a list, in order.
+         * Parameters without a value are left in the statement as is.
+         *
+         * @param parameters parameter values
+         * @return statement with parameter values
+         */
+        String fill(List<?> parameters) {
+            StringBuilder sb = new StringBuilder(length + 16 * names.length);
+            sb.append(parts[0]);
+            Iterator<?> it = parameters.iterator();
+            for (int i = 0; i < names.length; i++) {
+                if (it.hasNext()) {
+                    sb.append(toJson(it.next()));
+                } else {
+                    sb.append(IndexedParser.PAR_LT);
+                }
+                sb.append(parts[i + 1]);
+            }
+            return sb.toString();
+        }
+
+        /**
+         * Template being parsed.
+         */
+        private static final class Builder {
+
+            private final List<String> parts = new ArrayList<>();
+            private final List<String> names = new ArrayList<>();
+            private final StringBuilder part;
+
+            private Builder(int capacity) {
+                this.part = new StringBuilder(capacity);
+            }
+
+            /**
+             * Statement part being parsed, the builder is reused for the next part once a parameter is found.
+             *
+             * @return statement part
+             */
+            private StringBuilder part() {
+                return part;
+            }
+
+            private void param(String name) {
+                parts.add(part.toString());
+                part.setLength(0);
+                names.add(name);
+            }
+
+            private StatementTemplate build() {
+                parts.add(part.toString());
+                return new StatementTemplate(parts, names);
+            }
+        }
+    }
+
     // Slightly modified copy-paste from JDBC statement parser
     // Replaces "$name" named parameters with value from mappings if exists
     abstract static class Parser {
@@ -118,6 +267,10 @@ final class StatementParsers {
          * SQL statement to be parsed.
          */
         private final String statement;
+        /**
+         * Target statement template.
+         */
+        private final StatementTemplate.Builder template;
         /**
          * Target SQL statement builder.
          */
@@ -133,7 +286,8 @@ final class StatementParsers {
         private char c;
 
         private Parser(String statement) {
-            this.sb = new StringBuilder(statement.length());
+            this.template = new StatementTemplate.Builder(statement.length());
+            this.sb = template.part();
             this.nap = new StringBuilder(32);
             this.statement = statement;
             this.c = '\0';
@@ -143,6 +297,10 @@ final class StatementParsers {
             return statement;
         }
 
+        StatementTemplate.Builder template() {
+            return template;
+        }
+
         StringBuilder sb() {
             return sb;
         }
@@ -163,7 +321,7 @@ final class StatementParsers {
     /**
      * Mapping parser state machine.
      */
-    static final class NamedParser implements StatementParser {
+    static final class NamedParser {
 
         /**
          * First character of named parameter identifier.
@@ -350,42 +508,30 @@ final class StatementParsers {
 
         /**
          * Finish parameter processing and copy current character from input string to output.
-         * Parameter name is replaced by mapped value if mapping for given parameter exists.
-         * Otherwise parameter name is left in statement as is without replacing it.
+         * Parameter is added to the template, it is replaced by mapped value when the template is filled.
          *
          * @param parser  parser instance
          */
         private static void finishParamCopyCurrChar(NamedParser parser) {
-            String parName = parser.statement.substring(parser.paramBegPos + 1, parser.curPos);
-            if (parser.mappings.containsKey(parName)) {
-                parser.sb.append(toJson(parser.mappings.get(parName)));
-                parser.sb.append(parser.statement.charAt(parser.curPos));
-            } else {
-                parser.sb.append(parser.statement, parser.paramBegPos, parser.curPos + 1);
-            }
+            parser.template.param(parser.statement.substring(parser.paramBegPos + 1, parser.curPos));
+            parser.sb.append(parser.statement.charAt(parser.curPos));
         }
 
         /**
          * Finish parameter processing and store current character position into parser instance.
-         * Parameter name is replaced by mapped value if mapping for given parameter exists.
-         * Otherwise parameter name is left in statement as is without replacing it.
+         * Parameter is added to the template, it is replaced by mapped value when the template is filled.
          *
          * @param parser  parser instance
          */
         private static void finishParamStoreCharPos(NamedParser parser) {
-            String parName = parser.statement.substring(parser.paramBegPos + 1, parser.curPos);
-            if (parser.mappings.containsKey(parName)) {
-                parser.sb.append(toJson(parser.mappings.get(parName)));
-            } else {
-                parser.sb.append(parser.statement, parser.paramBegPos, parser.curPos);
-            }
+            parser.template.param(parser.statement.substring(parser.paramBegPos + 1, parser.curPos));
             parser.paramBegPos = parser.curPos;
         }
 
-        /** Parameter name to value mapping. */
-        private final Map<String, ? extends Object> mappings;
         /** SQL statement to be parsed. */
         private final String statement;
+        /** Target statement template. */
+        private final StatementTemplate.Builder template;
         /** Target SQL statement builder. */
         private final StringBuilder sb;
         /** Current position in the parsed String. */
@@ -398,15 +544,19 @@ final class StatementParsers {
          */
         private CharClass cl;
 
-        NamedParser(String statement, Map<String, ? extends Object> mappings) {
+        NamedParser(String statement) {
             this.statement = statement;
-            this.sb = new StringBuilder(statement.length());
-            this.mappings = mappings;
+            this.template = new StatementTemplate.Builder(statement.length());
+            this.sb = template.part();
             this.cl = null;
         }
 
-        @Override
-        public String convert() {
+        /**
+         * Parse the statement into a template.
+         *
+         * @return statement template
+         */
+        StatementTemplate parse() {
             State state = State.STATEMENT;  // Initial state: common statement processing
             final int len = statement.length();
             for (curPos = 0; curPos < len; curPos++) {
@@ -419,22 +569,16 @@ final class StatementParsers {
                     sb.append(statement, paramBegPos, len);
                     break;
                 case PARAMETER:
-                    String parName = statement.substring(paramBegPos + 1, len);
-                    if (mappings.containsKey(parName)) {
-                        sb.append(toJson(mappings.get(parName)));
-                    } else {
-                        sb.append(statement, paramBegPos, len);
-                    }
+                    template.param(statement.substring(paramBegPos + 1, len));
                     break;
                 default:
             }
-            LOGGER.fine(() -> String.format("Named Statement %s", sb.toString()));
-            return sb.toString();
+            return template.build();
         }
 
     }
 
-    static final class IndexedParser extends Parser implements StatementParser {
+    static final class IndexedParser extends Parser {
 
         /**
          * First character of named parameter identifier.
@@ -509,34 +653,31 @@ final class StatementParsers {
         };
 
         /**
-         * Append next parameter from parameters list.
+         * Add next parameter to the template, it is replaced by the next value from parameters list
+         * when the template is filled.
          *
          * @param parser parser instance
          */
         private static void nextParam(Parser parser) {
-            if (((IndexedParser) parser).parIt.hasNext()) {
-                parser.sb.append(toJson(((IndexedParser) parser).parIt.next()));
-            } else {
-                parser.sb.append(parser.c);
-            }
+            parser.template.param(null);
         }
 
-        private final List<Object> parameters;
-        private final ListIterator<Object> parIt;
         /**
          * Character class of character being currently processed.
          */
         private CharClass cl;
 
-        private IndexedParser(String statement, List<Object> parameters) {
+        IndexedParser(String statement) {
             super(statement);
-            this.parameters = parameters;
-            this.parIt = parameters.listIterator();
             this.cl = null;
         }
 
-        @Override
-        public String convert() {
+        /**
+         * Parse the statement into a template.
+         *
+         * @return statement template
+         */
+        StatementTemplate parse() {
             State state = State.STATEMENT;  // Initial state: common statement processing
             int len = statement().length();
             for (int i = 0; i < len; i++) {
@@ -545,8 +686,7 @@ final class StatementParsers {
                 ACTION[state.ordinal()][cl.ordinal()].process(this);
                 state = TRANSITION[state.ordinal()][cl.ordinal()];
             }
-            LOGGER.fine(() -> String.format("Indexed Statement %s", sb().toString()));
-            return sb().toString();
+            return template().build();
         }
 
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,17 +15,26 @@
  */
 package io.helidon.dbclient.mongodb;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 import io.helidon.common.reactive.Single;
+import io.helidon.dbclient.DbRow;
 
+import com.mongodb.reactivestreams.client.FindPublisher;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
+import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -85,4 +94,41 @@ public class MongoDbClientTest {
         });
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void testQueryFetchSizeAndColumns() {
+        MongoDatabase db = Mockito.mock(MongoDatabase.class);
+        MongoCollection<Document> collection = Mockito.mock(MongoCollection.class);
+        FindPublisher<Document> publisher = Mockito.mock(FindPublisher.class);
+        Mockito.when(db.getCollection("pokemons")).thenReturn(collection);
+        Mockito.when(collection.find(Mockito.any(Bson.class))).thenReturn(publisher);
+        Mockito.when(publisher.projection(Mockito.any())).thenReturn(publisher);
+        Mockito.when(publisher.batchSize(Mockito.anyInt())).thenReturn(publisher);
+        Mockito.doAnswer(invocation -> {
+            Subscriber<? super Document> subscriber = invocation.getArgument(0);
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    subscriber.onComplete();
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            return null;
+        }).when(publisher).subscribe(Mockito.any());
+
+        MongoDbClient dbClient = new MongoDbClient(new MongoDbClientProviderBuilder().fetchSize(100), CLIENT, db);
+        List<DbRow> rows = dbClient.execute(exec -> exec.createQuery("{\"collection\": \"pokemons\", \"query\": {}}")
+                        .columns("name", "type")
+                        .execute())
+                .collectList()
+                .await();
+
+        assertThat(rows, is(empty()));
+        Mockito.verify(publisher).batchSize(100);
+        Mockito.verify(publisher).projection(new Document("name", 1).append("type", 1).append("_id", 0));
+    }
+
 }
@@ -16,9 +16,12 @@
 package io.helidon.dbclient.mongodb;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import io.helidon.dbclient.mongodb.StatementParsers.IndexedParser;
 import io.helidon.dbclient.mongodb.StatementParsers.NamedParser;
+import io.helidon.dbclient.mongodb.StatementParsers.StatementTemplate;
 
 import org.junit.jupiter.api.Test;
 
@@ -36,15 +39,41 @@ public class StatementParsersTest {
     @Test
     void testStatementWithParameters() {
         String stmtIn = "{ id: { $gt: $idmin }, id: { $lt: $idmax } }";
-        Map<String, Integer> mapping = new HashMap<>(2);
+        Map<String, Object> mapping = new HashMap<>(2);
         mapping.put("idmin", 1);
         mapping.put("idmax", 7);
         String stmtExp = stmtIn
                 .replace("$idmin", String.valueOf(mapping.get("idmin")))
                 .replace("$idmax", String.valueOf(mapping.get("idmax")));
-        NamedParser parser = new NamedParser(stmtIn, mapping);
-        String stmtOut = parser.convert();
+        String stmtOut = StatementParsers.namedParser(stmtIn, mapping).convert();
         assertThat(stmtOut, is(stmtExp));
     }
 
+    /**
+     * Test that a template is filled with the parameters of each execution.
+     */
+    @Test
+    void testNamedTemplate() {
+        StatementTemplate template = new NamedParser("{ name: $name, \"$note\": $note, type: $type }").parse();
+        assertThat(template.parameterCount(), is(3));
+        assertThat(template.fill(Map.of("name", "Pikachu", "note", 1)),
+                   is("{ name: \"Pikachu\", \"$note\": 1, type: $type }"));
+        assertThat(template.fill(Map.of("name", "Raichu", "note", 2, "type", "electric")),
+                   is("{ name: \"Raichu\", \"$note\": 2, type: \"electric\" }"));
+    }
+
+    /**
+     * Test indexed parameters, a parameter without value is left in the statement.
+     */
+    @Test
+    void testIndexedTemplate() {
+        StatementTemplate template = new IndexedParser("{ id: { $gt: ? }, name: \"?\", level: ? }").parse();
+        assertThat(template.parameterCount(), is(2));
+        assertThat(template.fill(List.of(1, 12L)), is("{ id: { $gt: 1 }, name: \"?\", level: 12 }"));
+        assertThat(template.fill(List.of(2)), is("{ id: { $gt: 2 }, name: \"?\", level: ? }"));
+        assertThat(StatementParsers.indexedParser("{ id: ? }", List.of(3)).convert(), is("{ id: 3 }"));
+        // template from the cache
+        assertThat(StatementParsers.indexedParser("{ id: ? }", List.of(4)).convert(), is("{ id: 4 }"));
+    }
+
 }
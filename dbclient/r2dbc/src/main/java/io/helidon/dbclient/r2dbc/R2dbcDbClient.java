@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.r2dbc;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import io.helidon.common.reactive.Multi;
+import io.helidon.common.reactive.Single;
+import io.helidon.common.reactive.Subscribable;
+import io.helidon.dbclient.DbClient;
+import io.helidon.dbclient.DbExecute;
+import io.helidon.dbclient.DbStatementBatch;
+import io.helidon.dbclient.DbStatementDml;
+import io.helidon.dbclient.DbStatementGet;
+import io.helidon.dbclient.DbStatementQuery;
+import io.helidon.dbclient.DbStatementType;
+import io.helidon.dbclient.DbTransaction;
+import io.helidon.dbclient.common.AbstractDbExecute;
+import io.helidon.dbclient.common.DbClientContext;
+import io.helidon.dbclient.common.DbStatementContext;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+
+/**
+ * Helidon DB implementation for R2DBC drivers.
+ * No thread is blocked while statements are executed, the rows are read by the driver as they are requested.
+ */
+class R2dbcDbClient implements DbClient {
+
+    /** Local logger instance. */
+    private static final Logger LOGGER = Logger.getLogger(DbClient.class.getName());
+
+    private final DbClientContext clientContext;
+    private final ConnectionFactory connectionFactory;
+    private final String dbType;
+    private final R2dbcStatementCache statementCache;
+
+    R2dbcDbClient(R2dbcDbClientProviderBuilder builder) {
+        this.clientContext = DbClientContext.builder()
+                .dbMapperManager(builder.dbMapperManager())
+                .mapperManager(builder.mapperManager())
+                .clientServices(builder.clientServices())
+                .statements(builder.statements())
+                .build();
+        this.connectionFactory = builder.connectionFactory();
+        String databaseName = connectionFactory.getMetadata().getName();
+        this.dbType = R2dbcDbClientProvider.DB_TYPE + ":" + databaseName;
+        this.statementCache = R2dbcStatementCache.create(databaseName);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <U, T extends Subscribable<U>> T inTransaction(Function<DbTransaction, T> executor) {
+        R2dbcTxExecute execute = new R2dbcTxExecute(executeContext(true));
+
+        T result;
+        try {
+            result = executor.apply(execute);
+        } catch (RuntimeException e) {
+            execute.doRollback();
+            throw e;
+        }
+
+        if (result instanceof Multi) {
+            Multi<U> multi = (Multi<U>) result;
+
+            // if result completes without an exception, we attempt a commit and amend the result with its error
+            CompletableFuture<Multi<U>> commitFuture = new CompletableFuture<>();
+            multi = multi.onComplete(() -> execute.doCommit()
+                    .thenAccept(it -> commitFuture.complete(Multi.empty()))
+                    .exceptionally(it -> {
+                        commitFuture.complete(Multi.error(it));
+                        return null;
+                    }));
+            multi = multi.onCompleteResumeWith(Single.create(commitFuture).flatMap(Function.identity()));
+
+            // if result completes with an exception, or commit failed, we attempt a rollback
+            return (T) multi.onError(execute::rollbackFailed);
+        } else if (result instanceof Single) {
+            Single<U> single = (Single<U>) result;
+            return (T) single
+                    .flatMapSingle(it -> Single.create(execute.doCommit().thenApply(unused -> it)))
+                    .onError(execute::rollbackFailed);
+        } else {
+            execute.doRollback();
+            throw new IllegalStateException("You must return a Single or Multi instance to inTransaction, yet "
+                                                    + "you provided: " + result.getClass().getName());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <U, T extends Subscribable<U>> T execute(Function<DbExecute, T> executor) {
+        R2dbcExecute execute = new R2dbcExecute(executeContext(false));
+
+        Subscribable<U> result;
+        try {
+            result = executor.apply(execute);
+        } catch (RuntimeException e) {
+            execute.close();
+            throw e;
+        }
+
+        // the connection is released once the result is consumed, failed or cancelled
+        return (T) result.onTerminate(execute::close);
+    }
+
+    @Override
+    public String dbType() {
+        return dbType;
+    }
+
+    @Override
+    public <C> Single<C> unwrap(Class<C> cls) {
+        if (ConnectionFactory.class.isAssignableFrom(cls)) {
+            return Single.just(connectionFactory).map(cls::cast);
+        } else {
+            throw new UnsupportedOperationException(String.format("Class %s is not supported for unwrap", cls.getName()));
+        }
+    }
+
+    private R2dbcExecuteContext executeContext(boolean transaction) {
+        return new R2dbcExecuteContext(clientContext, connectionFactory, statementCache, dbType, transaction);
+    }
+
+    private static final class R2dbcTxExecute extends R2dbcExecute implements DbTransaction {
+
+        private volatile boolean setRollbackOnly = false;
+
+        private R2dbcTxExecute(R2dbcExecuteContext context) {
+            super(context);
+        }
+
+        @Override
+        public void rollback() {
+            setRollbackOnly = true;
+        }
+
+        private void rollbackFailed(Throwable throwable) {
+            LOGGER.log(Level.WARNING,
+                       throwable,
+                       () -> String.format("Transaction rollback: %s", throwable.getMessage()));
+            doRollback().exceptionally(t2 -> {
+                LOGGER.log(Level.WARNING,
+                           t2,
+                           () -> String.format("Transaction rollback failed: %s", t2.getMessage()));
+                return null;
+            });
+        }
+
+        private CompletionStage<Void> doRollback() {
+            return context().rollback()
+                    .whenComplete((nothing, throwable) -> close());
+        }
+
+        private CompletionStage<Void> doCommit() {
+            if (setRollbackOnly) {
+                return doRollback();
+            }
+            return context().commit()
+                    .whenComplete((nothing, throwable) -> close());
+        }
+    }
+
+    private static class R2dbcExecute extends AbstractDbExecute {
+
+        private final R2dbcExecuteContext context;
+
+        private R2dbcExecute(R2dbcExecuteContext context) {
+            super(context.clientContext().statements());
+            this.context = context;
+        }
+
+        @Override
+        public DbStatementQuery createNamedQuery(String statementName, String statement) {
+            return new R2dbcStatementQuery(context, statementContext(DbStatementType.QUERY, statementName, statement));
+        }
+
+        @Override
+        public DbStatementGet createNamedGet(String statementName, String statement) {
+            return new R2dbcStatementGet(context, statementContext(DbStatementType.GET, statementName, statement));
+        }
+
+        @Override
+        public DbStatementDml createNamedDmlStatement(String statementName, String statement) {
+            return new R2dbcStatementDml(context, statementContext(DbStatementType.DML, statementName, statement));
+        }
+
+        @Override
+        public DbStatementDml createNamedInsert(String statementName, String statement) {
+            return new R2dbcStatementDml(context, statementContext(DbStatementType.INSERT, statementName, statement));
+        }
+
+        @Override
+        public DbStatementDml createNamedUpdate(String statementName, String statement) {
+            return new R2dbcStatementDml(context, statementContext(DbStatementType.UPDATE, statementName, statement));
+        }
+
+        @Override
+        public DbStatementDml createNamedDelete(String statementName, String statement) {
+            return new R2dbcStatementDml(context, statementContext(DbStatementType.DELETE, statementName, statement));
+        }
+
+        @Override
+        public DbStatementBatch createNamedBatch(String statementName, String statement) {
+            return new R2dbcStatementBatch(context, statementContext(DbStatementType.DML, statementName, statement));
+        }
+
+        @Override
+        public <C> Single<C> unwrap(Class<C> cls) {
+            if (Connection.class.isAssignableFrom(cls)) {
+                return Single.create(context.connection()).map(cls::cast);
+            } else {
+                throw new UnsupportedOperationException(String.format("Class %s is not supported for unwrap", cls.getName()));
+            }
+        }
+
+        R2dbcExecuteContext context() {
+            return context;
+        }
+
+        void close() {
+            context.close().exceptionally(throwable -> {
+                LOGGER.log(Level.WARNING,
+                           throwable,
+                           () -> String.format("Failed to close a connection: %s", throwable.getMessage()));
+                return null;
+            });
+        }
+
+        private DbStatementContext statementContext(DbStatementType type, String statementName, String statement) {
+            return DbStatementContext.create(context.clientContext(), type, statementName, statement);
+        }
+    }
+}
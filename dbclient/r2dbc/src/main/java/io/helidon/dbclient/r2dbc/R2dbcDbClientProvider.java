@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.r2dbc;
+
+import io.helidon.dbclient.spi.DbClientProvider;
+
+/**
+ * Helidon DB Provider for R2DBC drivers.
+ *
+ * @see R2dbcDbClientProviderBuilder
+ */
+public class R2dbcDbClientProvider implements DbClientProvider {
+
+    static final String DB_TYPE = "r2dbc";
+
+    @Override
+    public String name() {
+        return DB_TYPE;
+    }
+
+    @Override
+    public R2dbcDbClientProviderBuilder builder() {
+        return new R2dbcDbClientProviderBuilder();
+    }
+
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.r2dbc;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.mapper.MapperManager;
+import io.helidon.config.Config;
+import io.helidon.dbclient.DbClient;
+import io.helidon.dbclient.DbClientException;
+import io.helidon.dbclient.DbClientService;
+import io.helidon.dbclient.DbMapper;
+import io.helidon.dbclient.DbMapperManager;
+import io.helidon.dbclient.DbStatements;
+import io.helidon.dbclient.spi.DbClientProviderBuilder;
+import io.helidon.dbclient.spi.DbMapperProvider;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+
+/**
+ * Builder for R2DBC database.
+ * <p>
+ * The connection factory is discovered by {@link io.r2dbc.spi.ConnectionFactories} from the connection URL,
+ * such as {@code r2dbc:h2:mem:///test}, or {@code r2dbc:pool:postgresql://localhost/test} to pool the connections
+ * when {@code r2dbc-pool} is on the classpath. Statements use the {@code :name} and {@code ?} parameters
+ * of the JDBC client, they are converted to the bind markers of PostgreSQL, H2, MySQL, MariaDB and SQL Server drivers.
+ * Statements of other drivers are executed as they are, with the bind markers of the driver.
+ */
+public final class R2dbcDbClientProviderBuilder implements DbClientProviderBuilder<R2dbcDbClientProviderBuilder> {
+
+    private final List<DbClientService> clientServices = new LinkedList<>();
+    private final DbMapperManager.Builder dbMapperBuilder = DbMapperManager.builder();
+
+    private String url;
+    private String username;
+    private String password;
+    private ConnectionFactory connectionFactory;
+    private DbStatements statements;
+    private MapperManager mapperManager;
+    private DbMapperManager dbMapperManager;
+
+    R2dbcDbClientProviderBuilder() {
+    }
+
+    @Override
+    public DbClient build() {
+        if (null == dbMapperManager) {
+            this.dbMapperManager = dbMapperBuilder.build();
+        }
+        if (null == mapperManager) {
+            this.mapperManager = MapperManager.create();
+        }
+        if (null == statements) {
+            this.statements = DbStatements.builder().build();
+        }
+        if (null == connectionFactory) {
+            if (null == url) {
+                throw new DbClientException("R2DBC connection URL or connection factory must be configured");
+            }
+            ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+            if (null != username) {
+                options.option(ConnectionFactoryOptions.USER, username);
+            }
+            if (null != password) {
+                options.option(ConnectionFactoryOptions.PASSWORD, password);
+            }
+            this.connectionFactory = ConnectionFactories.get(options.build());
+        }
+
+        return new R2dbcDbClient(this);
+    }
+
+    @Override
+    public R2dbcDbClientProviderBuilder config(Config config) {
+        config.get("connection").asNode().ifPresentOrElse(conn -> {
+            conn.get("url").asString().ifPresent(this::url);
+            conn.get("username").asString().ifPresent(this::username);
+            conn.get("password").asString().ifPresent(this::password);
+        }, () -> {
+            throw new DbClientException(String.format(
+                    "No database connection configuration (%s) was found",
+                    config.get("connection").key()));
+        });
+        statements = DbStatements.create(config.get("statements"));
+        return this;
+    }
+
+    @Override
+    public R2dbcDbClientProviderBuilder url(String url) {
+        this.url = url;
+        return this;
+    }
+
+    @Override
+    public R2dbcDbClientProviderBuilder username(String username) {
+        this.username = username;
+        return this;
+    }
+
+    @Override
+    public R2dbcDbClientProviderBuilder password(String password) {
+        this.password = password;
+        return this;
+    }
+
+    /**
+     * Connection factory to use instead of the one discovered from the connection URL.
+     *
+     * @param connectionFactory R2DBC connection factory
+     * @return updated builder instance
+     */
+    public R2dbcDbClientProviderBuilder connectionFactory(ConnectionFactory connectionFactory) {
+        this.connectionFactory = connectionFactory;
+        return this;
+    }
+
+    @Override
+    public R2dbcDbClientProviderBuilder statements(DbStatements statements) {
+        this.statements = statements;
+        return this;
+    }
+
+    @Override
+    public R2dbcDbClientProviderBuilder addService(DbClientService clientService) {
+        this.clientServices.add(clientService);
+        return this;
+    }
+
+    @Override
+    public <TYPE> R2dbcDbClientProviderBuilder addMapper(DbMapper<TYPE> dbMapper, Class<TYPE> mappedClass) {
+        this.dbMapperBuilder.addMapperProvider(new DbMapperProvider() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public <T> Optional<DbMapper<T>> mapper(Class<T> type) {
+                if (type.equals(mappedClass)) {
+                    return Optional.of((DbMapper<T>) dbMapper);
+                }
+                return Optional.empty();
+            }
+        });
+        return this;
+    }
+
+    @Override
+    public <TYPE> R2dbcDbClientProviderBuilder addMapper(DbMapper<TYPE> dbMapper, GenericType<TYPE> mappedType) {
+        this.dbMapperBuilder.addMapperProvider(new DbMapperProvider() {
+            @Override
+            public <T> Optional<DbMapper<T>> mapper(Class<T> type) {
+                return Optional.empty();
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public <T> Optional<DbMapper<T>> mapper(GenericType<T> type) {
+                if (type.equals(mappedType)) {
+                    return Optional.of((DbMapper<T>) dbMapper);
+                }
+                return Optional.empty();
+            }
+        });
+        return this;
+    }
+
+    @Override
+    public R2dbcDbClientProviderBuilder mapperManager(MapperManager manager) {
+        this.mapperManager = manager;
+        return this;
+    }
+
+    @Override
+    public R2dbcDbClientProviderBuilder addMapperProvider(DbMapperProvider provider) {
+        this.dbMapperBuilder.addMapperProvider(provider);
+        return this;
+    }
+
+    List<DbClientService> clientServices() {
+        return List.copyOf(clientServices);
+    }
+
+    DbStatements statements() {
+        return statements;
+    }
+
+    MapperManager mapperManager() {
+        return mapperManager;
+    }
+
+    DbMapperManager dbMapperManager() {
+        return dbMapperManager;
+    }
+
+    ConnectionFactory connectionFactory() {
+        return connectionFactory;
+    }
+}
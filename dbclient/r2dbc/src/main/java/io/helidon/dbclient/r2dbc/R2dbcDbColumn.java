@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.r2dbc;
+
+import java.util.Optional;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.mapper.MapperException;
+import io.helidon.common.mapper.MapperManager;
+import io.helidon.dbclient.DbColumn;
+
+import io.r2dbc.spi.ColumnMetadata;
+
+/**
+ * R2DBC specific column data and metadata.
+ */
+final class R2dbcDbColumn implements DbColumn {
+
+    private final MapperManager mapperManager;
+    private final ColumnMetadata metadata;
+    private final Object value;
+
+    R2dbcDbColumn(MapperManager mapperManager, ColumnMetadata metadata, Object value) {
+        this.mapperManager = mapperManager;
+        this.metadata = metadata;
+        this.value = value;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T as(Class<T> type) throws MapperException {
+        if (null == value) {
+            return null;
+        }
+        if (type.isAssignableFrom(value.getClass())) {
+            return (T) value;
+        }
+        return map(value, type);
+    }
+
+    @Override
+    public <T> T as(GenericType<T> type) throws MapperException {
+        return map(value, type);
+    }
+
+    @Override
+    public Object value() {
+        return value;
+    }
+
+    @Override
+    public Class<?> javaType() {
+        if (null != value) {
+            return value.getClass();
+        }
+        Class<?> javaType = metadata.getJavaType();
+        return (null == javaType) ? Object.class : javaType;
+    }
+
+    @Override
+    public String dbType() {
+        return metadata.getType().getName();
+    }
+
+    @Override
+    public String name() {
+        return metadata.getName();
+    }
+
+    @Override
+    public Optional<Integer> precision() {
+        return Optional.ofNullable(metadata.getPrecision());
+    }
+
+    @Override
+    public Optional<Integer> scale() {
+        return Optional.ofNullable(metadata.getScale());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <S, T> T map(S value, Class<T> targetType) {
+        Class<S> sourceType = (Class<S>) javaType();
+
+        try {
+            return mapperManager.map(value, sourceType, targetType);
+        } catch (MapperException e) {
+            if (targetType.equals(String.class)) {
+                return (T) String.valueOf(value);
+            }
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <S, T> T map(S value, GenericType<T> targetType) {
+        Class<S> sourceClass = (Class<S>) javaType();
+        GenericType<S> sourceType = GenericType.create(sourceClass);
+
+        return mapperManager.map(value, sourceType, targetType);
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.r2dbc;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import io.helidon.dbclient.DbClientException;
+import io.helidon.dbclient.common.DbClientContext;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+
+/**
+ * Context of an execution or a transaction, with the connection shared by its statements.
+ * The connection is only obtained from the connection factory when the first statement is executed.
+ */
+final class R2dbcExecuteContext {
+
+    private final DbClientContext clientContext;
+    private final ConnectionFactory connectionFactory;
+    private final R2dbcStatementCache statementCache;
+    private final String dbType;
+    private final boolean transaction;
+    private CompletableFuture<Connection> connection;
+
+    R2dbcExecuteContext(DbClientContext clientContext,
+                        ConnectionFactory connectionFactory,
+                        R2dbcStatementCache statementCache,
+                        String dbType,
+                        boolean transaction) {
+        this.clientContext = clientContext;
+        this.connectionFactory = connectionFactory;
+        this.statementCache = statementCache;
+        this.dbType = dbType;
+        this.transaction = transaction;
+    }
+
+    DbClientContext clientContext() {
+        return clientContext;
+    }
+
+    R2dbcStatementCache statementCache() {
+        return statementCache;
+    }
+
+    String dbType() {
+        return dbType;
+    }
+
+    /**
+     * Connection of this context, a transaction is begun on a new connection of a transaction context.
+     *
+     * @return future with the connection
+     */
+    synchronized CompletionStage<Connection> connection() {
+        if (connection == null) {
+            CompletionStage<Connection> created = R2dbcFlows.<Connection>multi(connectionFactory.create())
+                    .first()
+                    .toStage();
+            if (transaction) {
+                created = created.thenCompose(conn -> R2dbcFlows.completion(conn.beginTransaction())
+                        .handle((nothing, throwable) -> {
+                            if (throwable != null) {
+                                R2dbcFlows.completion(conn.close());
+                                throw new DbClientException("Failed to begin a transaction", throwable);
+                            }
+                            return conn;
+                        }));
+            }
+            connection = created.toCompletableFuture();
+        }
+        return connection;
+    }
+
+    /**
+     * Commit the transaction of this context, if a statement was executed.
+     *
+     * @return future completed once committed
+     */
+    CompletionStage<Void> commit() {
+        return whenConnected(conn -> R2dbcFlows.completion(conn.commitTransaction()));
+    }
+
+    /**
+     * Roll back the transaction of this context, if a statement was executed.
+     *
+     * @return future completed once rolled back
+     */
+    CompletionStage<Void> rollback() {
+        return whenConnected(conn -> R2dbcFlows.completion(conn.rollbackTransaction()));
+    }
+
+    /**
+     * Close the connection of this context, if a statement was executed.
+     *
+     * @return future completed once closed
+     */
+    CompletionStage<Void> close() {
+        return whenConnected(conn -> R2dbcFlows.completion(conn.close()));
+    }
+
+    private synchronized CompletionStage<Void> whenConnected(Function<Connection, CompletionStage<Void>> action) {
+        if (connection == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return connection.thenCompose(action);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.r2dbc;
+
+import java.util.concurrent.CompletionStage;
+
+import io.helidon.common.reactive.Multi;
+
+import org.reactivestreams.FlowAdapters;
+import org.reactivestreams.Publisher;
+
+/**
+ * Adapters of the Reactive Streams publishers of R2DBC drivers.
+ * Demand is passed to the driver, which reads the results as they are requested.
+ */
+final class R2dbcFlows {
+
+    private R2dbcFlows() {
+    }
+
+    /**
+     * Items of a publisher.
+     *
+     * @param publisher driver publisher
+     * @param <T> type of the items
+     * @return multi of the items
+     */
+    static <T> Multi<T> multi(Publisher<? extends T> publisher) {
+        return Multi.create(FlowAdapters.toFlowPublisher(publisher));
+    }
+
+    /**
+     * Completion of a publisher without items, such as the commit of a transaction.
+     *
+     * @param publisher driver publisher
+     * @return stage completed with {@code null} once the publisher completes
+     */
+    static CompletionStage<Void> completion(Publisher<Void> publisher) {
+        return multi(publisher).ignoreElements().toStage(true);
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.r2dbc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import io.helidon.common.reactive.Multi;
+import io.helidon.common.reactive.Single;
+import io.helidon.dbclient.DbClientException;
+import io.helidon.dbclient.DbClientServiceContext;
+import io.helidon.dbclient.DbStatement;
+import io.helidon.dbclient.common.AbstractStatement;
+import io.helidon.dbclient.common.DbStatementContext;
+import io.helidon.dbclient.r2dbc.R2dbcStatementCache.ConvertedStatement;
+
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+
+/**
+ * Common R2DBC statement, executed on the connection of its execution context.
+ *
+ * @param <S> subclass of this class
+ * @param <R> statement execution result type
+ */
+abstract class R2dbcStatement<S extends DbStatement<S, R>, R> extends AbstractStatement<S, R> {
+
+    private final R2dbcExecuteContext executeContext;
+
+    R2dbcStatement(R2dbcExecuteContext executeContext, DbStatementContext statementContext) {
+        super(statementContext);
+        this.executeContext = executeContext;
+    }
+
+    @Override
+    protected String dbType() {
+        return executeContext.dbType();
+    }
+
+    R2dbcExecuteContext executeContext() {
+        return executeContext;
+    }
+
+    /**
+     * Execute the statement and parameters of the context, as updated by client services.
+     *
+     * @param dbContext client service context
+     * @return results of the statement
+     */
+    Multi<Result> results(DbClientServiceContext dbContext) {
+        return Single.create(executeContext.connection())
+                .flatMap(connection -> {
+                    // parameters are replaced by the bind markers of the driver once per statement text
+                    ConvertedStatement converted = executeContext.statementCache().statement(dbContext.statement());
+                    Statement statement = connection.createStatement(converted.text());
+                    if (dbContext.isNamed()) {
+                        bind(statement, converted, dbContext.namedParameters().orElseGet(Map::of));
+                    } else {
+                        bind(statement, dbContext.indexedParameters().orElseGet(List::of));
+                    }
+                    configure(statement);
+                    return R2dbcFlows.multi(statement.execute());
+                });
+    }
+
+    /**
+     * Configure the statement before it is executed.
+     *
+     * @param statement statement with bound parameters
+     */
+    void configure(Statement statement) {
+    }
+
+    /**
+     * Bind indexed parameters to a statement.
+     *
+     * @param statement statement
+     * @param parameters indexed parameters
+     */
+    static void bind(Statement statement, List<?> parameters) {
+        int index = 0;
+        for (Object parameter : parameters) {
+            if (parameter == null) {
+                statement.bindNull(index, Object.class);
+            } else {
+                statement.bind(index, parameter);
+            }
+            index++;
+        }
+    }
+
+    /**
+     * Bind named parameters to a statement, by their index if the driver does not use named bind markers.
+     *
+     * @param statement statement
+     * @param converted statement converted to the bind markers of the driver
+     * @param parameters named parameters
+     */
+    static void bind(Statement statement, ConvertedStatement converted, Map<String, ?> parameters) {
+        List<String> namesOrder = converted.namesOrder().orElse(null);
+        if (namesOrder == null) {
+            parameters.forEach((name, parameter) -> {
+                if (parameter == null) {
+                    statement.bindNull(name, Object.class);
+                } else {
+                    statement.bind(name, parameter);
+                }
+            });
+            return;
+        }
+        List<Object> indexed = new ArrayList<>(namesOrder.size());
+        for (String name : namesOrder) {
+            if (!parameters.containsKey(name)) {
+                throw new DbClientException(String.format("Missing value of the named parameter %s of statement %s",
+                                                          name,
+                                                          converted.text()));
+            }
+            indexed.add(parameters.get(name));
+        }
+        bind(statement, indexed);
+    }
+
+    /**
+     * Number of rows updated by the results.
+     *
+     * @param results statement results
+     * @return number of updated rows
+     */
+    static Single<Long> rowsUpdated(Multi<Result> results) {
+        // the count is a Long since R2DBC 1.0, it was an Integer before
+        return results.flatMap(result -> R2dbcFlows.<Number>multi(result.getRowsUpdated()), 1, false, 1)
+                .reduce(() -> 0L, (sum, count) -> sum + count.longValue());
+    }
+}
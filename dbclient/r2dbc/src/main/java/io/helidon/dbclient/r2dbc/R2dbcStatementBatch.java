@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.r2dbc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.logging.Logger;
+
+import io.helidon.common.reactive.Multi;
+import io.helidon.dbclient.DbClientServiceContext;
+import io.helidon.dbclient.common.AbstractBatchStatement;
+import io.helidon.dbclient.common.DbStatementContext;
+import io.helidon.dbclient.common.ParamType;
+import io.helidon.dbclient.r2dbc.R2dbcStatementCache.ConvertedStatement;
+
+import io.r2dbc.spi.Statement;
+
+/**
+ * Batch DML statement for R2DBC.
+ * The parameter sets of each batch are bound to a single statement, separated by {@link Statement#add()},
+ * so the driver sends the batch at once.
+ */
+class R2dbcStatementBatch extends AbstractBatchStatement {
+
+    /** Local logger instance. */
+    private static final Logger LOGGER = Logger.getLogger(R2dbcStatementBatch.class.getName());
+
+    private final R2dbcExecuteContext executeContext;
+
+    R2dbcStatementBatch(R2dbcExecuteContext executeContext, DbStatementContext statementContext) {
+        super(statementContext);
+        this.executeContext = executeContext;
+    }
+
+    @Override
+    protected Multi<Long> doExecute(DbClientServiceContext dbContext, Multi<List<Object>> batches) {
+        // batches are executed one by one, the next batch is only requested once the previous one is written
+        return batches.flatMapCompletionStage(batch -> execute(dbContext.statement(), batch));
+    }
+
+    @Override
+    protected String dbType() {
+        return executeContext.dbType();
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletionStage<Long> execute(String sql, List<Object> batch) {
+        ConvertedStatement converted = executeContext.statementCache().statement(sql);
+        return executeContext.connection().thenCompose(connection -> {
+            Statement statement = connection.createStatement(converted.text());
+            boolean first = true;
+            for (Object parameters : batch) {
+                if (!first) {
+                    statement.add();
+                }
+                first = false;
+                if (paramType() == ParamType.NAMED) {
+                    R2dbcStatement.bind(statement, converted, (Map<String, Object>) parameters);
+                } else {
+                    R2dbcStatement.bind(statement, (List<Object>) parameters);
+                }
+            }
+            LOGGER.finest(() -> String.format("Executing batch of %d parameter sets of %s", batch.size(), statementName()));
+            return R2dbcStatement.rowsUpdated(R2dbcFlows.multi(statement.execute())).toStage();
+        });
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.r2dbc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import io.helidon.common.configurable.LruCache;
+
+/**
+ * Cache of the statements converted to the bind markers of the driver, shared by the statements of a client.
+ * <p>
+ * Statements use the same parameters as with the JDBC client, {@code :name} for named parameters
+ * and {@code ?} for indexed parameters. Each R2DBC driver has its own bind markers, so the parameters are replaced
+ * by the markers of the driver once per statement text:
+ * <ul>
+ *     <li>PostgreSQL and H2 use indexed markers {@code $1}, {@code $2}, a named parameter used more than once
+ *     keeps its index</li>
+ *     <li>MySQL and MariaDB use anonymous markers {@code ?}, one for each use of a named parameter</li>
+ *     <li>SQL Server uses named markers {@code @name}, indexed parameters are named {@code @P0}, {@code @P1}</li>
+ *     <li>statements of other drivers, such as Oracle which supports both {@code :name} and {@code ?}, are executed
+ *     as they are</li>
+ * </ul>
+ * The least recently used statements are removed when the cache is full.
+ */
+final class R2dbcStatementCache {
+
+    /** Local logger instance. */
+    private static final Logger LOGGER = Logger.getLogger(R2dbcStatementCache.class.getName());
+
+    /**
+     * Default maximal number of cached statements.
+     */
+    static final int DEFAULT_MAX_SIZE = 1024;
+
+    private final BindMarkers bindMarkers;
+    private final LruCache<String, ConvertedStatement> statements;
+
+    private R2dbcStatementCache(BindMarkers bindMarkers, int maxSize) {
+        this.bindMarkers = bindMarkers;
+        this.statements = LruCache.<String, ConvertedStatement>builder().capacity(maxSize).build();
+    }
+
+    /**
+     * Create a new cache with the default maximal size.
+     *
+     * @param databaseName name of the database, as provided by the connection factory metadata
+     * @return statement cache
+     */
+    static R2dbcStatementCache create(String databaseName) {
+        return new R2dbcStatementCache(BindMarkers.forDatabase(databaseName), DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Statement converted to the bind markers of the driver.
+     *
+     * @param statement statement text with {@code :name} or {@code ?} parameters
+     * @return converted statement
+     */
+    ConvertedStatement statement(String statement) {
+        if (bindMarkers == BindMarkers.NATIVE) {
+            return new ConvertedStatement(statement, null);
+        }
+        return statements.computeValue(statement, () -> {
+            ConvertedStatement converted = new Parser(statement, bindMarkers).convert();
+            LOGGER.finest(() -> String.format("Converted statement: %s", converted.text()));
+            return Optional.of(converted);
+        }).orElseThrow();
+    }
+
+    /**
+     * Bind markers of a driver.
+     */
+    enum BindMarkers {
+        /** Indexed markers {@code $1}, {@code $2}. */
+        INDEXED,
+        /** Anonymous markers {@code ?}. */
+        ANONYMOUS,
+        /** Named markers {@code @name}. */
+        NAMED,
+        /** Statements are executed as they are. */
+        NATIVE;
+
+        /**
+         * Bind markers of a database.
+         *
+         * @param databaseName name of the database, as provided by the connection factory metadata
+         * @return bind markers
+         */
+        static BindMarkers forDatabase(String databaseName) {
+            String name = databaseName.toLowerCase(Locale.ROOT);
+            if (name.contains("postgresql") || name.equals("h2")) {
+                return INDEXED;
+            }
+            if (name.contains("mysql") || name.contains("mariadb")) {
+                return ANONYMOUS;
+            }
+            if (name.contains("sql server")) {
+                return NAMED;
+            }
+            return NATIVE;
+        }
+    }
+
+    /**
+     * Statement converted to the bind markers of the driver.
+     */
+    static final class ConvertedStatement {
+
+        private final String text;
+        private final List<String> namesOrder;
+
+        private ConvertedStatement(String text, List<String> namesOrder) {
+            this.text = text;
+            this.namesOrder = namesOrder;
+        }
+
+        /**
+         * Statement text with the bind markers of the driver.
+         *
+         * @return statement text
+         */
+        String text() {
+            return text;
+        }
+
+        /**
+         * Names of the named parameters in the order of the indexes they are bound to, a name may be used more
+         * than once. Empty if named parameters are bound by their name.
+         *
+         * @return parameter names
+         */
+        Optional<List<String>> namesOrder() {
+            return Optional.ofNullable(namesOrder);
+        }
+    }
+
+    /**
+     * Replaces the parameters of a statement by bind markers.
+     * Parameters in string literals, quoted identifiers and comments are left as they are, as is the PostgreSQL
+     * {@code ::} cast operator.
+     */
+    static final class Parser {
+
+        private final String statement;
+        private final BindMarkers bindMarkers;
+        private final StringBuilder sb;
+        private final List<String> names = new ArrayList<>();
+        private int indexed;
+
+        Parser(String statement, BindMarkers bindMarkers) {
+            this.statement = statement;
+            this.bindMarkers = bindMarkers;
+            this.sb = new StringBuilder(statement.length() + 16);
+        }
+
+        /**
+         * Convert the statement.
+         *
+         * @return converted statement
+         */
+        ConvertedStatement convert() {
+            int length = statement.length();
+            int i = 0;
+            while (i < length) {
+                char c = statement.charAt(i);
+                if (c == '\'' || c == '"') {
+                    i = copyUntil(i, i + 1, String.valueOf(c));
+                } else if (c == '-' && statement.startsWith("--", i)) {
+                    i = copyUntil(i, i + 2, "\n");
+                } else if (c == '/' && statement.startsWith("/*", i)) {
+                    i = copyUntil(i, i + 2, "*/");
+                } else if (c == ':' && statement.startsWith("::", i)) {
+                    sb.append("::");
+                    i += 2;
+                } else if (c == ':' && i + 1 < length && Character.isJavaIdentifierStart(statement.charAt(i + 1))) {
+                    int end = i + 2;
+                    while (end < length && Character.isJavaIdentifierPart(statement.charAt(end))) {
+                        end++;
+                    }
+                    named(statement.substring(i + 1, end));
+                    i = end;
+                } else if (c == '?') {
+                    indexed();
+                    i++;
+                } else {
+                    sb.append(c);
+                    i++;
+                }
+            }
+            return new ConvertedStatement(sb.toString(), bindMarkers == BindMarkers.NAMED ? null : List.copyOf(names));
+        }
+
+        private int copyUntil(int start, int from, String terminator) {
+            int end = statement.indexOf(terminator, from);
+            end = end < 0 ? statement.length() : end + terminator.length();
+            sb.append(statement, start, end);
+            return end;
+        }
+
+        private void named(String name) {
+            switch (bindMarkers) {
+            case INDEXED:
+                // a name used more than once is bound once
+                int index = names.indexOf(name);
+                if (index < 0) {
+                    names.add(name);
+                    index = names.size() - 1;
+                }
+                sb.append('$').append(index + 1);
+                break;
+            case ANONYMOUS:
+                names.add(name);
+                sb.append('?');
+                break;
+            default:
+                sb.append('@').append(name);
+                break;
+            }
+        }
+
+        private void indexed() {
+            switch (bindMarkers) {
+            case INDEXED:
+                sb.append('$').append(++indexed);
+                break;
+            case NAMED:
+                sb.append("@P").append(indexed++);
+                break;
+            default:
+                sb.append('?');
+                break;
+            }
+        }
+    }
+}
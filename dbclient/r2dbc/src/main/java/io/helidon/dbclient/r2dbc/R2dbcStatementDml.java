@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.r2dbc;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+import io.helidon.common.reactive.Single;
+import io.helidon.dbclient.DbClientServiceContext;
+import io.helidon.dbclient.DbStatementDml;
+import io.helidon.dbclient.common.DbStatementContext;
+
+/**
+ * DML statement for R2DBC.
+ */
+class R2dbcStatementDml extends R2dbcStatement<DbStatementDml, Single<Long>> implements DbStatementDml {
+
+    /** Local logger instance. */
+    private static final Logger LOGGER = Logger.getLogger(R2dbcStatementDml.class.getName());
+
+    R2dbcStatementDml(R2dbcExecuteContext executeContext, DbStatementContext statementContext) {
+        super(executeContext, statementContext);
+    }
+
+    @Override
+    protected Single<Long> doExecute(Single<DbClientServiceContext> dbContextFuture,
+                                     CompletableFuture<Void> statementFuture,
+                                     CompletableFuture<Long> queryFuture) {
+        return dbContextFuture
+                .flatMapSingle(dbContext -> rowsUpdated(results(dbContext)))
+                .peek(count -> {
+                    LOGGER.finest(() -> String.format("DML %s execution succeeded", statementName()));
+                    statementFuture.complete(null);
+                    queryFuture.complete(count);
+                })
+                .onError(throwable -> {
+                    LOGGER.finest(() -> String.format("DML %s execution failed", statementName()));
+                    statementFuture.completeExceptionally(throwable);
+                    queryFuture.completeExceptionally(throwable);
+                });
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.r2dbc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import io.helidon.common.reactive.Single;
+import io.helidon.dbclient.DbRow;
+import io.helidon.dbclient.DbStatementGet;
+import io.helidon.dbclient.common.DbStatementContext;
+
+/**
+ * A R2DBC get implementation.
+ * Delegates to {@link R2dbcStatementQuery} and processes the result using a subscriber
+ * to read the first value.
+ */
+class R2dbcStatementGet implements DbStatementGet {
+
+    private final R2dbcStatementQuery query;
+
+    R2dbcStatementGet(R2dbcExecuteContext executeContext, DbStatementContext statementContext) {
+        this.query = new R2dbcStatementQuery(executeContext, statementContext);
+    }
+
+    @Override
+    public R2dbcStatementGet params(List<?> parameters) {
+        query.params(parameters);
+        return this;
+    }
+
+    @Override
+    public R2dbcStatementGet params(Map<String, ?> parameters) {
+        query.params(parameters);
+        return this;
+    }
+
+    @Override
+    public R2dbcStatementGet namedParam(Object parameters) {
+        query.namedParam(parameters);
+        return this;
+    }
+
+    @Override
+    public R2dbcStatementGet indexedParam(Object parameters) {
+        query.indexedParam(parameters);
+        return this;
+    }
+
+    @Override
+    public R2dbcStatementGet addParam(Object parameter) {
+        query.addParam(parameter);
+        return this;
+    }
+
+    @Override
+    public R2dbcStatementGet addParam(String name, Object parameter) {
+        query.addParam(name, parameter);
+        return this;
+    }
+
+    @Override
+    public Single<Optional<DbRow>> execute() {
+        return Single.create(query.execute())
+                .toOptionalSingle();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.r2dbc;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import io.helidon.common.reactive.Multi;
+import io.helidon.common.reactive.Single;
+import io.helidon.dbclient.DbClientServiceContext;
+import io.helidon.dbclient.DbRow;
+import io.helidon.dbclient.DbStatementQuery;
+import io.helidon.dbclient.common.DbStatementContext;
+
+import io.r2dbc.spi.ColumnMetadata;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import io.r2dbc.spi.Statement;
+
+/**
+ * Implementation of a query for R2DBC.
+ * Rows are read by the driver as they are requested.
+ */
+class R2dbcStatementQuery extends R2dbcStatement<DbStatementQuery, Multi<DbRow>> implements DbStatementQuery {
+
+    /** Local logger instance. */
+    private static final Logger LOGGER = Logger.getLogger(R2dbcStatementQuery.class.getName());
+
+    private int fetchSize;
+
+    R2dbcStatementQuery(R2dbcExecuteContext executeContext, DbStatementContext statementContext) {
+        super(executeContext, statementContext);
+    }
+
+    @Override
+    public DbStatementQuery fetchSize(int fetchSize) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("Fetch size must not be negative: " + fetchSize);
+        }
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
+    @Override
+    protected Multi<DbRow> doExecute(Single<DbClientServiceContext> dbContextFuture,
+                                     CompletableFuture<Void> statementFuture,
+                                     CompletableFuture<Long> queryFuture) {
+        AtomicLong count = new AtomicLong();
+        // results are read one after another to keep the order of their rows
+        return dbContextFuture
+                .flatMap(this::results)
+                .flatMap(result -> R2dbcFlows.<DbRow>multi(result.map(this::row)), 1, false, 1)
+                .peek(row -> count.incrementAndGet())
+                .onError(throwable -> {
+                    LOGGER.finest(() -> String.format("Query %s execution failed", statementName()));
+                    statementFuture.completeExceptionally(throwable);
+                    queryFuture.completeExceptionally(throwable);
+                })
+                .onComplete(() -> {
+                    LOGGER.finest(() -> String.format("Query %s execution succeeded", statementName()));
+                    statementFuture.complete(null);
+                    queryFuture.complete(count.get());
+                })
+                .onCancel(() -> {
+                    statementFuture.complete(null);
+                    queryFuture.complete(count.get());
+                });
+    }
+
+    @Override
+    void configure(Statement statement) {
+        if (fetchSize > 0) {
+            statement.fetchSize(fetchSize);
+        }
+    }
+
+    // values must be read in the mapping function, the row is not valid once it returns
+    private DbRow row(Row row, RowMetadata metadata) {
+        List<? extends ColumnMetadata> columns = metadata.getColumnMetadatas();
+        R2dbcDbRow dbRow = new R2dbcDbRow(dbMapperManager(), columns.size());
+        for (int i = 0; i < columns.size(); i++) {
+            ColumnMetadata column = columns.get(i);
+            dbRow.add(new R2dbcDbColumn(mapperManager(), column, row.get(i, Object.class)));
+        }
+        return dbRow;
+    }
+}
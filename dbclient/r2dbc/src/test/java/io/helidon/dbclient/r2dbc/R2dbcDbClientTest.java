@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.r2dbc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+
+import io.helidon.common.reactive.Multi;
+import io.helidon.common.reactive.Single;
+import io.helidon.dbclient.DbClient;
+import io.helidon.dbclient.DbRow;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * R2DBC DB client tests.
+ */
+public class R2dbcDbClientTest {
+
+    private final StandInDatabase database = new StandInDatabase();
+    private final DbClient dbClient = new R2dbcDbClientProvider().builder()
+            .connectionFactory(database.connectionFactory())
+            .build();
+
+    @AfterEach
+    void close() {
+        database.close();
+    }
+
+    @Test
+    void testQuery() {
+        database.insert(1, "Normal");
+        database.insert(2, "Fire");
+
+        List<String> names = dbClient.execute(exec -> exec.query("SELECT * FROM types"))
+                .map(row -> row.column("ID").as(Long.class) + ":" + row.column("NAME").as(String.class))
+                .collectList()
+                .await();
+
+        assertThat(names, contains("1:Normal", "2:Fire"));
+        assertThat(dbClient.dbType(), is("r2dbc:stand-in"));
+        assertThat(database.openConnections(), is(0));
+    }
+
+    @Test
+    void testQueryBackpressure() {
+        for (int i = 0; i < 1000; i++) {
+            database.insert(i, "Type" + i);
+        }
+
+        List<DbRow> rows = dbClient.execute(exec -> exec.query("SELECT * FROM types"))
+                .limit(10)
+                .collectList()
+                .await();
+
+        // rows are read as they are requested rather than all at once
+        assertThat(rows.size(), is(10));
+        assertThat(database.maxRequest(), lessThanOrEqualTo(10L));
+        assertThat(database.openConnections(), is(0));
+    }
+
+    @Test
+    void testGet() {
+        database.insert(1, "Normal");
+
+        DbRow row = dbClient.execute(exec -> exec.get("SELECT * FROM types WHERE id = $1", 1L))
+                .await()
+                .orElseThrow();
+
+        assertThat(row.column(2).name(), is("NAME"));
+        assertThat(row.column(2).dbType(), is("VARCHAR"));
+        assertThat(row.column(2).as(String.class), is("Normal"));
+    }
+
+    @Test
+    void testInsert() {
+        long count = dbClient.execute(exec -> exec.insert("INSERT INTO types VALUES ($1, $2)", 1L, "Normal"))
+                .await();
+
+        assertThat(count, is(1L));
+        assertThat(database.size(), is(1));
+        assertThat(database.events(), contains("close"));
+    }
+
+    @Test
+    void testBatch() {
+        List<Long> counts = dbClient.execute(exec -> exec.createBatch("INSERT INTO types VALUES ($1, $2)")
+                        .addParams(1L, "Normal")
+                        .addParams(2L, "Fire")
+                        .addParams(3L, "Water")
+                        .batchSize(2)
+                        .execute())
+                .collectList()
+                .await();
+
+        assertThat(counts, contains(2L, 1L));
+        assertThat(database.size(), is(3));
+    }
+
+    @Test
+    void testNamedParameters() {
+        try (StandInDatabase postgres = new StandInDatabase("PostgreSQL")) {
+            DbClient client = new R2dbcDbClientProvider().builder()
+                    .connectionFactory(postgres.connectionFactory())
+                    .build();
+
+            long count = client.execute(exec -> exec.createInsert("INSERT INTO types VALUES (:id, :name)")
+                            .params(Map.of("name", "Normal", "id", 1L))
+                            .execute())
+                    .await();
+            DbRow row = client.execute(exec -> exec.get("SELECT * FROM types WHERE id = ?", 1L))
+                    .await()
+                    .orElseThrow();
+
+            assertThat(count, is(1L));
+            assertThat(row.column("NAME").as(String.class), is("Normal"));
+            assertThat(postgres.statements(), contains("INSERT INTO types VALUES ($1, $2)",
+                                                       "SELECT * FROM types WHERE id = $1"));
+        }
+    }
+
+    @Test
+    void testNamedBatch() {
+        try (StandInDatabase postgres = new StandInDatabase("PostgreSQL")) {
+            DbClient client = new R2dbcDbClientProvider().builder()
+                    .connectionFactory(postgres.connectionFactory())
+                    .build();
+
+            List<Long> counts = client.execute(exec -> exec.createBatch("INSERT INTO types VALUES (:id, :name)")
+                            .addParams(Map.of("id", 1L, "name", "Normal"))
+                            .addParams(Map.of("id", 2L, "name", "Fire"))
+                            .execute())
+                    .collectList()
+                    .await();
+
+            assertThat(counts, contains(2L));
+            assertThat(postgres.size(), is(2));
+            assertThat(postgres.statements(), contains("INSERT INTO types VALUES ($1, $2)"));
+        }
+    }
+
+    @Test
+    void testTransactionCommit() {
+        long count = dbClient.inTransaction(tx -> tx.insert("INSERT INTO types VALUES ($1, $2)", 1L, "Normal")
+                        .flatMapSingle(it -> tx.insert("INSERT INTO types VALUES ($1, $2)", 2L, "Fire")))
+                .await();
+
+        assertThat(count, is(1L));
+        assertThat(database.events(), contains("begin", "commit", "close"));
+    }
+
+    @Test
+    void testTransactionRollback() {
+        Single<Long> result = dbClient.inTransaction(tx -> tx.insert("INSERT INTO types VALUES ($1, $2)", 1L, "Normal")
+                .flatMapSingle(it -> tx.dml("DELETE FROM types")));
+
+        assertThrows(CompletionException.class, result::await);
+        assertThat(database.events(), contains("begin", "rollback", "close"));
+    }
+
+    @Test
+    void testTransactionRollbackOnly() {
+        Multi<DbRow> result = dbClient.inTransaction(tx -> {
+            tx.rollback();
+            return tx.query("SELECT * FROM types");
+        });
+
+        assertThat(result.collectList().await(), is(List.of()));
+        assertThat(database.events(), contains("begin", "rollback", "close"));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.r2dbc;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.helidon.dbclient.r2dbc.R2dbcStatementCache.BindMarkers;
+import io.helidon.dbclient.r2dbc.R2dbcStatementCache.ConvertedStatement;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * R2DBC statement cache tests.
+ */
+public class R2dbcStatementCacheTest {
+
+    private static final String NAMED = "UPDATE types SET name = :name WHERE id = :id OR name = :name";
+
+    @Test
+    void testBindMarkers() {
+        assertThat(BindMarkers.forDatabase("PostgreSQL"), is(BindMarkers.INDEXED));
+        assertThat(BindMarkers.forDatabase("H2"), is(BindMarkers.INDEXED));
+        assertThat(BindMarkers.forDatabase("MySQL"), is(BindMarkers.ANONYMOUS));
+        assertThat(BindMarkers.forDatabase("MariaDB"), is(BindMarkers.ANONYMOUS));
+        assertThat(BindMarkers.forDatabase("Microsoft SQL Server"), is(BindMarkers.NAMED));
+        assertThat(BindMarkers.forDatabase("Oracle Database"), is(BindMarkers.NATIVE));
+    }
+
+    @Test
+    void testIndexedMarkers() {
+        ConvertedStatement named = convert(BindMarkers.INDEXED, NAMED);
+        assertThat(named.text(), is("UPDATE types SET name = $1 WHERE id = $2 OR name = $1"));
+        assertThat(named.namesOrder(), is(Optional.of(List.of("name", "id"))));
+
+        ConvertedStatement indexed = convert(BindMarkers.INDEXED, "SELECT * FROM types WHERE id = ? OR id = ?");
+        assertThat(indexed.text(), is("SELECT * FROM types WHERE id = $1 OR id = $2"));
+    }
+
+    @Test
+    void testAnonymousMarkers() {
+        ConvertedStatement named = convert(BindMarkers.ANONYMOUS, NAMED);
+        assertThat(named.text(), is("UPDATE types SET name = ? WHERE id = ? OR name = ?"));
+        assertThat(named.namesOrder(), is(Optional.of(List.of("name", "id", "name"))));
+    }
+
+    @Test
+    void testNamedMarkers() {
+        ConvertedStatement named = convert(BindMarkers.NAMED, NAMED);
+        assertThat(named.text(), is("UPDATE types SET name = @name WHERE id = @id OR name = @name"));
+        assertThat(named.namesOrder(), is(Optional.empty()));
+
+        ConvertedStatement indexed = convert(BindMarkers.NAMED, "SELECT * FROM types WHERE id = ? OR id = ?");
+        assertThat(indexed.text(), is("SELECT * FROM types WHERE id = @P0 OR id = @P1"));
+    }
+
+    @Test
+    void testIgnoredParameters() {
+        String statement = "SELECT id::text, ':text', \"?\" FROM types -- :comment ?\n"
+                + "WHERE /* :id */ id = :id";
+        ConvertedStatement converted = convert(BindMarkers.INDEXED, statement);
+
+        assertThat(converted.text(), is("SELECT id::text, ':text', \"?\" FROM types -- :comment ?\n"
+                                                + "WHERE /* :id */ id = $1"));
+        assertThat(converted.namesOrder(), is(Optional.of(List.of("id"))));
+    }
+
+    @Test
+    void testCache() {
+        R2dbcStatementCache cache = R2dbcStatementCache.create("PostgreSQL");
+        ConvertedStatement first = cache.statement(NAMED);
+
+        assertThat(cache.statement(NAMED), sameInstance(first));
+        assertThat(R2dbcStatementCache.create("Oracle Database").statement(NAMED).text(), is(NAMED));
+    }
+
+    private static ConvertedStatement convert(BindMarkers bindMarkers, String statement) {
+        return new R2dbcStatementCache.Parser(statement, bindMarkers).convert();
+    }
+}
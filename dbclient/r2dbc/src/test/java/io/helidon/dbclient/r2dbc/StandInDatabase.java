@@ -0,0 +1,379 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.r2dbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+import io.r2dbc.spi.ColumnMetadata;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import io.r2dbc.spi.Statement;
+import io.r2dbc.spi.Type;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * In-process stand-in of an R2DBC driver with a single table of {@code (ID, NAME)} rows.
+ * <p>
+ * Statements starting with {@code SELECT} return all the rows, statements starting with {@code INSERT} add a row
+ * of each set of bound parameters and any other statement fails. Rows are emitted as they are requested, each
+ * request and each statement completing after the configured latency, as over a network.
+ */
+public final class StandInDatabase implements AutoCloseable {
+
+    private static final Type LONG_TYPE = proxy(Type.class, (proxy, method, args) ->
+            "getName".equals(method.getName()) ? "BIGINT" : Long.class);
+    private static final Type STRING_TYPE = proxy(Type.class, (proxy, method, args) ->
+            "getName".equals(method.getName()) ? "VARCHAR" : String.class);
+    private static final RowMetadata METADATA = rowMetadata();
+
+    private final List<Object[]> rows = new CopyOnWriteArrayList<>();
+    private final List<String> events = new CopyOnWriteArrayList<>();
+    private final List<String> statements = new CopyOnWriteArrayList<>();
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private final AtomicLong maxRequest = new AtomicLong();
+    private final String name;
+    private final long latencyMicros;
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Create a stand-in database completing requests immediately.
+     */
+    public StandInDatabase() {
+        this(0);
+    }
+
+    /**
+     * Create a stand-in database completing requests immediately, with the name of a database.
+     * The client converts the statements to the bind markers of the database with this name.
+     *
+     * @param name database name
+     */
+    public StandInDatabase(String name) {
+        this(name, 0);
+    }
+
+    /**
+     * Create a stand-in database completing requests after a latency.
+     *
+     * @param latencyMicros latency of each request in microseconds
+     */
+    public StandInDatabase(long latencyMicros) {
+        this("stand-in", latencyMicros);
+    }
+
+    private StandInDatabase(String name, long latencyMicros) {
+        this.name = name;
+        this.latencyMicros = latencyMicros;
+        this.executor = latencyMicros > 0 ? Executors.newScheduledThreadPool(2) : null;
+    }
+
+    /**
+     * Add a row to the table.
+     *
+     * @param id row id
+     * @param name row name
+     */
+    public void insert(long id, String name) {
+        rows.add(new Object[] {id, name});
+    }
+
+    /**
+     * Connection factory of the database.
+     *
+     * @return connection factory
+     */
+    public ConnectionFactory connectionFactory() {
+        ConnectionFactoryMetadata metadata = () -> name;
+        return proxy(ConnectionFactory.class, (proxy, method, args) -> {
+            if ("getMetadata".equals(method.getName())) {
+                return metadata;
+            }
+            return new StandInPublisher<>(List.of(connection()));
+        });
+    }
+
+    /**
+     * Connection and transaction events, in order.
+     *
+     * @return events
+     */
+    public List<String> events() {
+        return events;
+    }
+
+    /**
+     * Texts of the executed statements, in order.
+     *
+     * @return statements
+     */
+    public List<String> statements() {
+        return statements;
+    }
+
+    /**
+     * Number of connections not closed.
+     *
+     * @return open connections
+     */
+    public int openConnections() {
+        return openConnections.get();
+    }
+
+    /**
+     * Largest number of rows requested at once from a result.
+     *
+     * @return requested rows
+     */
+    public long maxRequest() {
+        return maxRequest.get();
+    }
+
+    /**
+     * Number of rows in the table.
+     *
+     * @return row count
+     */
+    public int size() {
+        return rows.size();
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private Connection connection() {
+        openConnections.incrementAndGet();
+        return proxy(Connection.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+            case "createStatement":
+                return statement((String) args[0]);
+            case "isAutoCommit":
+                return false;
+            case "close":
+                openConnections.decrementAndGet();
+                events.add("close");
+                return new StandInPublisher<>(List.of());
+            case "beginTransaction":
+                events.add("begin");
+                return new StandInPublisher<>(List.of());
+            case "commitTransaction":
+                events.add("commit");
+                return new StandInPublisher<>(List.of());
+            case "rollbackTransaction":
+                events.add("rollback");
+                return new StandInPublisher<>(List.of());
+            default:
+                return new StandInPublisher<>(List.of());
+            }
+        });
+    }
+
+    private Statement statement(String sql) {
+        List<Map<Object, Object>> bindings = new ArrayList<>();
+        bindings.add(new HashMap<>());
+        return proxy(Statement.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+            case "add":
+                bindings.add(new HashMap<>());
+                return proxy;
+            case "bind":
+                bindings.get(bindings.size() - 1).put(args[0], args[1]);
+                return proxy;
+            case "bindNull":
+                bindings.get(bindings.size() - 1).put(args[0], null);
+                return proxy;
+            case "fetchSize":
+                return proxy;
+            case "execute":
+                return execute(sql, bindings);
+            default:
+                throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    private Publisher<Result> execute(String sql, List<Map<Object, Object>> bindings) {
+        statements.add(sql);
+        if (sql.startsWith("SELECT")) {
+            return new StandInPublisher<>(List.of(result(List.copyOf(rows), 0)));
+        }
+        if (sql.startsWith("INSERT")) {
+            List<Result> results = new ArrayList<>();
+            for (Map<Object, Object> binding : bindings) {
+                insert((Long) binding.get(0), (String) binding.get(1));
+                results.add(result(List.of(), 1));
+            }
+            return new StandInPublisher<>(results);
+        }
+        return new StandInPublisher<>(new IllegalStateException("Unsupported statement: " + sql));
+    }
+
+    private Result result(List<Object[]> resultRows, long rowsUpdated) {
+        return proxy(Result.class, (proxy, method, args) -> {
+            if ("getRowsUpdated".equals(method.getName())) {
+                return new StandInPublisher<>(List.of(rowsUpdated));
+            }
+            @SuppressWarnings("unchecked")
+            BiFunction<Row, RowMetadata, ?> mapper = (BiFunction<Row, RowMetadata, ?>) args[0];
+            // rows are mapped as they are emitted
+            return new StandInPublisher<>(new AbstractList<Object>() {
+                @Override
+                public Object get(int index) {
+                    return mapper.apply(row(resultRows.get(index)), METADATA);
+                }
+
+                @Override
+                public int size() {
+                    return resultRows.size();
+                }
+            }, null, true);
+        });
+    }
+
+    private static Row row(Object[] values) {
+        return proxy(Row.class, (proxy, method, args) -> {
+            if ("getMetadata".equals(method.getName())) {
+                return METADATA;
+            }
+            return values[(Integer) args[0]];
+        });
+    }
+
+    private static RowMetadata rowMetadata() {
+        List<ColumnMetadata> columns = List.of(column("ID", LONG_TYPE), column("NAME", STRING_TYPE));
+        return proxy(RowMetadata.class, (proxy, method, args) -> {
+            if ("getColumnMetadatas".equals(method.getName())) {
+                return columns;
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    private static ColumnMetadata column(String name, Type type) {
+        return proxy(ColumnMetadata.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+            case "getName":
+                return name;
+            case "getType":
+                return type;
+            case "getJavaType":
+                return type.getJavaType();
+            default:
+                return null;
+            }
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(StandInDatabase.class.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    /**
+     * Publisher emitting its items as they are requested.
+     *
+     * @param <T> item type
+     */
+    private final class StandInPublisher<T> implements Publisher<T> {
+
+        private final List<T> items;
+        private final Throwable error;
+        private final boolean rows;
+
+        private StandInPublisher(List<T> items) {
+            this(items, null, false);
+        }
+
+        private StandInPublisher(Throwable error) {
+            this(Collections.emptyList(), error, false);
+        }
+
+        private StandInPublisher(List<T> items, Throwable error, boolean rows) {
+            this.items = items;
+            this.error = error;
+            this.rows = rows;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super T> subscriber) {
+            Iterator<T> iterator = items.iterator();
+            AtomicLong demand = new AtomicLong();
+            AtomicBoolean done = new AtomicBoolean();
+            AtomicInteger wip = new AtomicInteger();
+            Runnable drain = () -> {
+                if (wip.getAndIncrement() != 0) {
+                    return;
+                }
+                do {
+                    while (demand.get() > 0 && iterator.hasNext() && !done.get()) {
+                        demand.decrementAndGet();
+                        subscriber.onNext(iterator.next());
+                    }
+                    if (!iterator.hasNext() && done.compareAndSet(false, true)) {
+                        if (error == null) {
+                            subscriber.onComplete();
+                        } else {
+                            subscriber.onError(error);
+                        }
+                    }
+                } while (wip.decrementAndGet() != 0);
+            };
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    if (rows) {
+                        maxRequest.accumulateAndGet(n, Math::max);
+                    }
+                    demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+                    if (executor == null) {
+                        drain.run();
+                    } else {
+                        executor.schedule(drain, latencyMicros, TimeUnit.MICROSECONDS);
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    done.set(true);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.r2dbc.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.helidon.dbclient.DbClient;
+import io.helidon.dbclient.r2dbc.R2dbcDbClientProvider;
+import io.helidon.dbclient.r2dbc.StandInDatabase;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Measures queries in flight at once against a stand-in database with a network latency,
+ * the benchmark thread waiting for all of them to complete.
+ */
+@State(Scope.Benchmark)
+public class R2dbcQueryJMH {
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(R2dbcQueryJMH.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Param({"1", "64"})
+    int inFlight;
+
+    @Param({"100"})
+    long latencyMicros;
+
+    StandInDatabase database;
+
+    DbClient dbClient;
+
+    @Setup
+    public void setup() {
+        database = new StandInDatabase(latencyMicros);
+        for (int i = 0; i < 10; i++) {
+            database.insert(i, "Type" + i);
+        }
+        dbClient = new R2dbcDbClientProvider().builder()
+                .connectionFactory(database.connectionFactory())
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public long query() {
+        List<CompletableFuture<Long>> queries = new ArrayList<>(inFlight);
+        for (int i = 0; i < inFlight; i++) {
+            queries.add(dbClient.execute(exec -> exec.query("SELECT * FROM types"))
+                                .map(row -> row.column(1).as(Long.class))
+                                .reduce(Long::sum)
+                                .toStage()
+                                .toCompletableFuture());
+        }
+        long sum = 0;
+        for (CompletableFuture<Long> query : queries) {
+            sum += query.join();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.mapper.processor;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import io.helidon.common.GenericType;
+import io.helidon.dbclient.DbColumn;
+import io.helidon.dbclient.DbMapper;
+import io.helidon.dbclient.DbRow;
+import io.helidon.dbclient.spi.DbMapperProvider;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+class DbMapperProcessorTest {
+    private static final String POKEMON = "package test;\n"
+            + "import io.helidon.dbclient.mapper.DbColumnName;\n"
+            + "import io.helidon.dbclient.mapper.DbMapped;\n"
+            + "@DbMapped\n"
+            + "public record Pokemon(@DbColumnName(\"ID\") int id, String name, Long level, boolean caught,"
+            + " java.util.List<String> moves) {\n"
+            + "}\n";
+
+    private static final String TRAINER = "package test;\n"
+            + "import io.helidon.dbclient.mapper.DbMapped;\n"
+            + "@DbMapped\n"
+            + "public class Trainer {\n"
+            + "    private String name;\n"
+            + "    int badges;\n"
+            + "    private transient Object ignored;\n"
+            + "    public String getName() { return name; }\n"
+            + "    public void setName(String name) { this.name = name; }\n"
+            + "}\n";
+
+    @Test
+    void testRecordMapper() throws Exception {
+        Compilation compilation = compile(Map.of("test/Pokemon.java", POKEMON));
+        assertThat(compilation.errors(), is(empty()));
+
+        try (URLClassLoader loader = compilation.classLoader()) {
+            Class<?> type = loader.loadClass("test.Pokemon");
+            DbMapper<Object> mapper = mapper(loader, type);
+            Object layout = new Object();
+            AtomicInteger resolved = new AtomicInteger();
+            List<String> names = List.of("name", "ID", "level", "caught");
+
+            Object pokemon = mapper.read(new TestRow(layout, resolved, names, List.of("Pikachu", 25, 12, 1)));
+            assertThat(pokemon.toString(), is("Pokemon[id=25, name=Pikachu, level=12, caught=true, moves=null]"));
+            assertThat(resolved.get(), is(5));
+            // the column indexes are resolved once for the layout
+            Object raichu = mapper.read(new TestRow(layout, resolved, names, List.of("Raichu", 26, 30L, 0)));
+            assertThat(raichu.toString(), is("Pokemon[id=26, name=Raichu, level=30, caught=false, moves=null]"));
+            assertThat(resolved.get(), is(5));
+
+            Map<String, ?> named = mapper.toNamedParameters(pokemon);
+            assertThat(named, hasEntry("ID", 25));
+            assertThat(named, hasEntry("name", "Pikachu"));
+            assertThat(named, hasEntry("level", 12L));
+            assertThat(mapper.toIndexedParameters(pokemon), Matchers.<Object>contains(25, "Pikachu", 12L, true, null));
+            assertThat(mapper.columnNames(), contains("ID", "name", "level", "caught", "moves"));
+        }
+    }
+
+    @Test
+    void testClassMapper() throws Exception {
+        Compilation compilation = compile(Map.of("test/Trainer.java", TRAINER));
+        assertThat(compilation.errors(), is(empty()));
+        assertThat(compilation.serviceFile(), is(List.of("test.TrainerDbMapper$Provider")));
+
+        try (URLClassLoader loader = compilation.classLoader()) {
+            Class<?> type = loader.loadClass("test.Trainer");
+            DbMapper<Object> mapper = mapper(loader, type);
+
+            Object trainer = mapper.read(new TestRow(new Object(),
+                                                     new AtomicInteger(),
+                                                     List.of("badges", "name"),
+                                                     List.of(8, "Ash")));
+            assertThat(type.getMethod("getName").invoke(trainer), is("Ash"));
+            assertThat(mapper.toIndexedParameters(trainer), Matchers.<Object>contains("Ash", 8));
+
+            trainer = mapper.read(new TestRow(new Object(), new AtomicInteger(), List.of("name"), List.of("Misty")));
+            assertThat(mapper.toNamedParameters(trainer), hasEntry("badges", 0));
+        }
+    }
+
+    @Test
+    void testInaccessibleField() throws Exception {
+        String source = "package test;\n"
+                + "@io.helidon.dbclient.mapper.DbMapped\n"
+                + "public class Gym {\n"
+                + "    private String city;\n"
+                + "}\n";
+        Compilation compilation = compile(Map.of("test/Gym.java", source));
+        assertThat(compilation.errors().size(), is(1));
+        assertThat(compilation.errors().get(0), containsString("city"));
+        assertThat(compilation.serviceFile(), is(nullValue()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static DbMapper<Object> mapper(ClassLoader loader, Class<?> type) {
+        for (DbMapperProvider provider : ServiceLoader.load(DbMapperProvider.class, loader)) {
+            var mapper = provider.mapper(type);
+            if (mapper.isPresent()) {
+                return (DbMapper<Object>) mapper.get();
+            }
+        }
+        throw new IllegalStateException("No mapper of " + type);
+    }
+
+    private static Compilation compile(Map<String, String> sources) throws IOException {
+        Path dir = Files.createTempDirectory("dbmapper");
+        Path sourceDir = dir.resolve("src");
+        Path classes = Files.createDirectories(dir.resolve("classes"));
+        List<Path> files = new ArrayList<>();
+        for (Map.Entry<String, String> entry : sources.entrySet()) {
+            Path file = sourceDir.resolve(entry.getKey());
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, entry.getValue());
+            files.add(file);
+        }
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null,
+                                                                 fileManager,
+                                                                 diagnostics,
+                                                                 List.of("-d", classes.toString(),
+                                                                         "-s", classes.toString(),
+                                                                         "-classpath", System.getProperty("java.class.path")),
+                                                                 null,
+                                                                 fileManager.getJavaFileObjectsFromPaths(files));
+            task.setProcessors(List.of(new DbMapperProcessor()));
+            task.call();
+        }
+        List<String> errors = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                errors.add(diagnostic.getMessage(null));
+            }
+        }
+        return new Compilation(classes, errors);
+    }
+
+    private static final class Compilation {
+        private final Path classes;
+        private final List<String> errors;
+
+        private Compilation(Path classes, List<String> errors) {
+            this.classes = classes;
+            this.errors = errors;
+        }
+
+        List<String> errors() {
+            return errors;
+        }
+
+        List<String> serviceFile() throws IOException {
+            Path file = classes.resolve("META-INF/services/" + DbMapperProvider.class.getName());
+            return Files.exists(file) ? Files.readAllLines(file) : null;
+        }
+
+        URLClassLoader classLoader() throws IOException {
+            return new URLClassLoader(new URL[] {classes.toUri().toURL()}, DbMapperProcessorTest.class.getClassLoader());
+        }
+    }
+
+    private static final class TestRow implements DbRow {
+        private final Object layout;
+        private final List<String> names;
+        private final List<?> values;
+        private final AtomicInteger resolved;
+
+        private TestRow(Object layout, AtomicInteger resolved, List<String> names, List<?> values) {
+            this.layout = layout;
+            this.resolved = resolved;
+            this.names = names;
+            this.values = values;
+        }
+
+        @Override
+        public DbColumn column(String name) {
+            int index = columnIndex(name);
+            return index < 0 ? null : column(index);
+        }
+
+        @Override
+        public DbColumn column(int index) {
+            return new TestColumn(names.get(index - 1), values.get(index - 1));
+        }
+
+        @Override
+        public int columnIndex(String name) {
+            resolved.incrementAndGet();
+            int index = names.indexOf(name);
+            return index < 0 ? -1 : index + 1;
+        }
+
+        @Override
+        public Object columnLayout() {
+            return layout;
+        }
+
+        @Override
+        public void forEach(Consumer<? super DbColumn> columnAction) {
+            for (int i = 1; i <= names.size(); i++) {
+                columnAction.accept(column(i));
+            }
+        }
+
+        @Override
+        public <T> T as(Class<T> type) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> T as(GenericType<T> type) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> T as(Function<DbRow, T> mapper) {
+            return mapper.apply(this);
+        }
+    }
+
+    private static final class TestColumn implements DbColumn {
+        private final String name;
+        private final Object value;
+
+        private TestColumn(String name, Object value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        @Override
+        public <T> T as(Class<T> type) {
+            return type.cast(value);
+        }
+
+        @Override
+        public <T> T as(GenericType<T> type) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Class<?> javaType() {
+            return value.getClass();
+        }
+
+        @Override
+        public String dbType() {
+            return javaType().getSimpleName();
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+    }
+}
@@ -26,6 +26,7 @@ import io.helidon.grpc.core.GrpcHelper;
 import io.helidon.grpc.core.InterceptorPriorities;
 import io.helidon.grpc.server.MethodDescriptor;
 import io.helidon.grpc.server.ServiceDescriptor;
+import io.helidon.metrics.api.MetricHandle;
 import io.helidon.metrics.api.RegistryFactory;
 
 import io.grpc.Context;
@@ -76,6 +77,12 @@ public class GrpcMetrics
             .withUnit(MetricUnits.NONE)
             .build();
 
+    /**
+     * The meter of all gRPC requests, bound once instead of looked up on each call.
+     */
+    private static final MetricHandle<Meter> GRPC_METER_HANDLE = MetricHandle.create(() ->
+            VENDOR_REGISTRY.get().meter(GRPC_METER));
+
     /**
      * The context key name to use to obtain rules to use when applying metrics.
      */
@@ -279,7 +286,7 @@ public class GrpcMetrics
                 serverCall = call;
         }
 
-        serverCall = new MeteredServerCall<>(VENDOR_REGISTRY.get().meter(GRPC_METER), serverCall);
+        serverCall = new MeteredServerCall<>(GRPC_METER_HANDLE.get(), serverCall);
 
         return next.startCall(serverCall, headers);
     }
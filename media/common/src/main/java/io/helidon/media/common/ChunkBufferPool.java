@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.common;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of the byte buffers that entities are serialized into.
+ * <p>
+ * Writers that encode entities straight into data chunks acquire buffers of {@value #BUFFER_SIZE} bytes from this
+ * pool and release them back from the release callback of the chunk, once the chunk has been written. The pool
+ * keeps a bounded number of buffers, buffers released above the limit are left to the garbage collector.
+ */
+public final class ChunkBufferPool {
+
+    /**
+     * Size of the pooled buffers.
+     */
+    public static final int BUFFER_SIZE = 8 * 1024;
+
+    private static final int MAX_POOLED_BUFFERS = 256;
+    private static final Queue<ByteBuffer> BUFFER_POOL = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger POOLED_BUFFERS = new AtomicInteger();
+
+    private ChunkBufferPool() {
+    }
+
+    /**
+     * Acquire a cleared buffer of {@value #BUFFER_SIZE} bytes, a new one is allocated if the pool is empty.
+     *
+     * @return buffer
+     */
+    public static ByteBuffer acquire() {
+        ByteBuffer buffer = BUFFER_POOL.poll();
+        if (buffer == null) {
+            return ByteBuffer.allocate(BUFFER_SIZE);
+        }
+        POOLED_BUFFERS.decrementAndGet();
+        return buffer;
+    }
+
+    /**
+     * Return a buffer acquired from this pool.
+     * The buffer must not be used by the caller afterwards.
+     *
+     * @param buffer buffer to return
+     */
+    public static void release(ByteBuffer buffer) {
+        if (buffer.capacity() != BUFFER_SIZE || buffer.isReadOnly()) {
+            return;
+        }
+        if (POOLED_BUFFERS.incrementAndGet() <= MAX_POOLED_BUFFERS) {
+            buffer.clear();
+            BUFFER_POOL.offer(buffer);
+        } else {
+            POOLED_BUFFERS.decrementAndGet();
+        }
+    }
+
+    /**
+     * Number of buffers currently held by the pool.
+     *
+     * @return pooled buffers
+     */
+    static int pooled() {
+        return POOLED_BUFFERS.get();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,14 +16,20 @@
 
 package io.helidon.media.common;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.net.URLDecoder;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow.Publisher;
+import java.util.function.Function;
 
 import io.helidon.common.http.DataChunk;
 import io.helidon.common.http.Reader;
@@ -57,6 +63,41 @@ public final class ContentReaders {
         return Multi.create(chunks).collect(new BytesCollector());
     }
 
+    /**
+     * Collect the {@link DataChunk} of the given publisher into an {@link InputStream}.
+     * <p>
+     * Unlike {@link #readBytes(Publisher)}, the content is not concatenated into a single array:
+     * each chunk is copied once as it arrives and released, and the returned stream reads through
+     * the copies in order. The stream never blocks, as it is provided once the whole content is received.
+     *
+     * @param chunks source publisher
+     * @return Single
+     */
+    public static Single<InputStream> readInputStream(Publisher<DataChunk> chunks) {
+        return Multi.create(chunks).collect(new InputStreamCollector());
+    }
+
+    /**
+     * Split the {@link DataChunk} of the given publisher into the top-level JSON values they contain.
+     * <p>
+     * If the content is a JSON array, each of its elements is emitted, otherwise each top-level value
+     * is emitted, which covers newline delimited JSON. Only the value being received is buffered and chunks
+     * are requested from the publisher as the values are requested downstream. The values are not validated,
+     * this is left to the parser of each value. The content must use an ASCII compatible encoding,
+     * such as {@code UTF-8}.
+     *
+     * @param chunks source publisher
+     * @return Multi emitting the bytes of each top-level JSON value
+     */
+    public static Multi<byte[]> readJsonValues(Publisher<DataChunk> chunks) {
+        return Multi.defer(() -> {
+            JsonValueSplitter splitter = new JsonValueSplitter();
+            return Multi.create(chunks)
+                    .flatMapIterable(splitter, 1)
+                    .onCompleteResumeWith(Multi.defer(() -> Multi.create(splitter.finish())));
+        });
+    }
+
     /**
      * Convert the given publisher of {@link DataChunk} into a {@link String}.
      * @param chunks source publisher
@@ -200,4 +241,168 @@ public final class ContentReaders {
             return baos.toByteArray();
         }
     }
+
+    /**
+     * Implementation of {@link Collector} that collects chunks into an {@link InputStream}
+     * without concatenating them.
+     */
+    private static final class InputStreamCollector implements Collector<DataChunk, InputStream> {
+
+        private final List<InputStream> segments = new ArrayList<>();
+
+        @Override
+        public void collect(DataChunk chunk) {
+            try {
+                for (ByteBuffer byteBuffer : chunk.data()) {
+                    if (byteBuffer.hasRemaining()) {
+                        byte[] bytes = new byte[byteBuffer.remaining()];
+                        byteBuffer.get(byteBuffer.position(), bytes);
+                        segments.add(new ByteArrayInputStream(bytes));
+                    }
+                }
+            } finally {
+                chunk.release();
+            }
+        }
+
+        @Override
+        public InputStream value() {
+            return new SequenceInputStream(Collections.enumeration(segments));
+        }
+    }
+
+    /**
+     * Splits chunks into the bytes of top-level JSON values, tracking only the nesting and string
+     * state needed to find where each value ends.
+     */
+    private static final class JsonValueSplitter implements Function<DataChunk, Iterable<byte[]>> {
+
+        private final ByteArrayOutputStream value = new ByteArrayOutputStream();
+        private boolean started;
+        private boolean array;
+        private boolean arrayEnded;
+        private boolean inValue;
+        private boolean scalar;
+        private boolean inString;
+        private boolean escaped;
+        private int depth;
+
+        @Override
+        public Iterable<byte[]> apply(DataChunk chunk) {
+            List<byte[]> values = new ArrayList<>();
+            try {
+                for (ByteBuffer byteBuffer : chunk.data()) {
+                    split(byteBuffer, values);
+                }
+            } finally {
+                chunk.release();
+            }
+            return values;
+        }
+
+        private void split(ByteBuffer buffer, List<byte[]> values) {
+            int limit = buffer.limit();
+            int valueStart = buffer.position();
+            for (int i = buffer.position(); i < limit; i++) {
+                byte b = buffer.get(i);
+                if (inValue) {
+                    if (inString) {
+                        if (escaped) {
+                            escaped = false;
+                        } else if (b == '\\') {
+                            escaped = true;
+                        } else if (b == '"') {
+                            inString = false;
+                            if (depth == 0) {
+                                append(buffer, valueStart, i + 1);
+                                values.add(complete());
+                            }
+                        }
+                        continue;
+                    }
+                    if (!scalar) {
+                        if (b == '"') {
+                            inString = true;
+                        } else if (b == '{' || b == '[') {
+                            depth++;
+                        } else if ((b == '}' || b == ']') && --depth == 0) {
+                            append(buffer, valueStart, i + 1);
+                            values.add(complete());
+                        }
+                        continue;
+                    }
+                    if (!isWhitespace(b) && b != ',' && b != ']' && b != '}') {
+                        continue;
+                    }
+                    // end of a number or a literal, the delimiter is processed below
+                    append(buffer, valueStart, i);
+                    values.add(complete());
+                }
+                if (isWhitespace(b)) {
+                    continue;
+                }
+                if (!started) {
+                    started = true;
+                    if (b == '[') {
+                        array = true;
+                        continue;
+                    }
+                }
+                if (array) {
+                    if (b == ',') {
+                        continue;
+                    }
+                    if (b == ']' && !arrayEnded) {
+                        arrayEnded = true;
+                        continue;
+                    }
+                    if (arrayEnded) {
+                        throw new IllegalStateException("Unexpected content after the end of JSON array");
+                    }
+                }
+                inValue = true;
+                valueStart = i;
+                if (b == '"') {
+                    inString = true;
+                } else if (b == '{' || b == '[') {
+                    depth = 1;
+                } else {
+                    scalar = true;
+                }
+            }
+            if (inValue) {
+                append(buffer, valueStart, limit);
+            }
+        }
+
+        private List<byte[]> finish() {
+            if ((inValue && !scalar) || (array && !arrayEnded)) {
+                throw new IllegalStateException("Unexpected end of JSON content");
+            }
+            return inValue ? List.of(complete()) : List.of();
+        }
+
+        private void append(ByteBuffer buffer, int from, int to) {
+            if (buffer.hasArray()) {
+                value.write(buffer.array(), buffer.arrayOffset() + from, to - from);
+            } else {
+                byte[] bytes = new byte[to - from];
+                buffer.get(from, bytes);
+                value.writeBytes(bytes);
+            }
+        }
+
+        private byte[] complete() {
+            byte[] bytes = value.toByteArray();
+            value.reset();
+            inValue = false;
+            scalar = false;
+            depth = 0;
+            return bytes;
+        }
+
+        private static boolean isWhitespace(byte b) {
+            return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+        }
+    }
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.common;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.MediaType;
+
+/**
+ * Least recently used cache of serialized entities, bounded by the total size of their bytes.
+ * An entity larger than the budget is never cached.
+ */
+final class EntityCache {
+
+    private final LinkedHashMap<Object, Entity> entities = new LinkedHashMap<>(16, 0.75f, true);
+    private final long maxBytes;
+    private long bytes;
+
+    EntityCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Get a cached entity, it becomes the most recently used one.
+     *
+     * @param key key of the entity
+     * @return entity or {@code null} if not cached
+     */
+    synchronized Entity get(Object key) {
+        return entities.get(key);
+    }
+
+    /**
+     * Cache an entity, the least recently used ones are removed until the cached bytes fit the budget.
+     *
+     * @param key key of the entity
+     * @param entity entity to cache
+     */
+    synchronized void put(Object key, Entity entity) {
+        if (entity.bytes.length > maxBytes) {
+            return;
+        }
+        Entity previous = entities.put(key, entity);
+        bytes += entity.bytes.length - (previous == null ? 0 : previous.bytes.length);
+        Iterator<Entity> iterator = entities.values().iterator();
+        // the new entity is the last one, it fits the budget on its own
+        while (bytes > maxBytes) {
+            bytes -= iterator.next().bytes.length;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Total size of the cached entities.
+     *
+     * @return number of cached bytes
+     */
+    synchronized long bytes() {
+        return bytes;
+    }
+
+    /**
+     * Serialized entity with its content type.
+     */
+    static final class Entity {
+
+        private final MediaType contentType;
+        private final byte[] bytes;
+
+        Entity(MediaType contentType, byte[] bytes) {
+            this.contentType = contentType;
+            this.bytes = bytes;
+        }
+
+        MediaType contentType() {
+            return contentType;
+        }
+
+        DataChunk chunk() {
+            // read-only, the bytes are shared by all the responses
+            return DataChunk.create(false, true, ByteBuffer.wrap(bytes));
+        }
+    }
+}
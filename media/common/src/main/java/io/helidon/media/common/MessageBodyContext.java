@@ -223,6 +223,15 @@ public abstract class MessageBodyContext implements MessageBodyFilters {
         return this;
     }
 
+    /**
+     * Test if any filter is registered in this context or the contexts it is created from.
+     *
+     * @return {@code true} if there is a filter
+     */
+    boolean hasFilters() {
+        return !filters.isEmpty();
+    }
+
     /**
      * Apply the filters on the given input publisher to form a publisher chain.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,6 +25,7 @@ import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import io.helidon.common.GenericType;
+import io.helidon.common.configurable.LruCache;
 
 /**
  * Thread-safe hierarchical registry of message body operators.
@@ -32,10 +33,14 @@ import io.helidon.common.GenericType;
  */
 final class MessageBodyOperators<T extends MessageBodyOperator<?>> implements Iterable<T>, AutoCloseable {
 
+    private static final int MAX_SELECTIONS = 256;
+
     private final LinkedList<T> operators;
     private final ReadWriteLock lock;
     private final AtomicBoolean readLocked;
+    private volatile LruCache<SelectionKey, Selection<T>> selections;
     private MessageBodyOperators<T> parent;
+    private volatile int version;
 
     /**
      * Create a new parented registry.
@@ -86,6 +91,8 @@ final class MessageBodyOperators<T extends MessageBodyOperator<?>> implements It
             } else {
                 operators.addLast(operator);
             }
+            // invalidates the selections cached by this registry and its descendants
+            version++;
         } finally {
             lock.writeLock().unlock();
         }
@@ -123,6 +130,81 @@ final class MessageBodyOperators<T extends MessageBodyOperator<?>> implements It
         return assignableOperator;
     }
 
+    /**
+     * Select an operator using {@link MessageBodyOperator#accept}, caching the selection.
+     * <p>
+     * The selection is cached by the closest registry of the hierarchy with operators, unless it is this registry.
+     * So registries of a single exchange without operators of their own share the selections of the registries
+     * they are created from, while operators registered for a single exchange are never cached. Registering an
+     * operator invalidates the cached selections. The least recently used selections are removed once
+     * {@value #MAX_SELECTIONS} are cached.
+     *
+     * @param type the type representation
+     * @param context the message body context
+     * @param contextKey key of the state of the context the operators depend on to accept the type,
+     * such as the content type, or {@code null} if the selection must not be cached
+     * @return operator, or {@code null} or no operator was found
+     */
+    <U extends MessageBodyOperator<V>, V extends MessageBodyContext> T select(GenericType<?> type,
+                                                                            V context,
+                                                                            Object contextKey) {
+        MessageBodyOperators<T> shared = this;
+        while (shared.version == 0 && shared.parent != null) {
+            shared = shared.parent;
+        }
+        if (contextKey == null || shared == this) {
+            return select(type, context);
+        }
+        SelectionKey key = new SelectionKey(type, contextKey);
+        int stamp = shared.stamp();
+        LruCache<SelectionKey, Selection<T>> selections = shared.selections();
+        Selection<T> selection = selections.get(key).orElse(null);
+        if (selection != null && selection.stamp == stamp) {
+            return selection.operator;
+        }
+        T operator = shared.<U, V>select(type, context);
+        selections.put(key, new Selection<>(stamp, operator));
+        return operator;
+    }
+
+    private LruCache<SelectionKey, Selection<T>> selections() {
+        // created on first use, the registries of single exchanges usually do not cache selections
+        LruCache<SelectionKey, Selection<T>> result = selections;
+        if (result == null) {
+            synchronized (this) {
+                result = selections;
+                if (result == null) {
+                    result = LruCache.<SelectionKey, Selection<T>>builder().capacity(MAX_SELECTIONS).build();
+                    selections = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Test if no operator is registered in this registry or its parents.
+     *
+     * @return {@code true} if there is no operator
+     */
+    boolean isEmpty() {
+        for (MessageBodyOperators<T> current = this; current != null; current = current.parent) {
+            // operators are never removed, a registry without registration has none
+            if (current.version != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int stamp() {
+        int stamp = 0;
+        for (MessageBodyOperators<T> current = this; current != null; current = current.parent) {
+            stamp = 31 * stamp + current.version;
+        }
+        return stamp;
+    }
+
     @Override
     public Iterator<T> iterator() {
         return new ParentedIterator<>(this);
@@ -135,6 +217,47 @@ final class MessageBodyOperators<T extends MessageBodyOperator<?>> implements It
         }
     }
 
+    private static final class SelectionKey {
+
+        private final GenericType<?> type;
+        private final Object contextKey;
+        private final int hash;
+
+        private SelectionKey(GenericType<?> type, Object contextKey) {
+            this.type = type;
+            this.contextKey = contextKey;
+            this.hash = 31 * type.hashCode() + contextKey.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof SelectionKey)) {
+                return false;
+            }
+            SelectionKey other = (SelectionKey) obj;
+            return hash == other.hash && type.equals(other.type) && contextKey.equals(other.contextKey);
+        }
+    }
+
+    private static final class Selection<T> {
+
+        private final int stamp;
+        private final T operator;
+
+        private Selection(int stamp, T operator) {
+            this.stamp = stamp;
+            this.operator = operator;
+        }
+    }
+
     /**
      * A thread-safe iterator implementation to iterate over a registry
      * hierarchy.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,7 @@
  */
 package io.helidon.media.common;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.IllegalCharsetNameException;
 import java.nio.charset.StandardCharsets;
@@ -51,10 +52,13 @@ public final class MessageBodyWriterContext extends MessageBodyContext implement
      */
     private static final Charset DEFAULT_CHARSET = StandardCharsets.UTF_8;
 
+    private static final long MAX_CACHED_BYTES = 16 * 1024 * 1024;
+
     private final Parameters headers;
     private final List<MediaType> acceptedTypes;
     private final MessageBodyOperators<MessageBodyWriter<?>> writers;
     private final MessageBodyOperators<MessageBodyStreamWriter<?>> swriters;
+    private final EntityCache cachedEntities;
     private boolean contentTypeCached;
     private Optional<MediaType> contentTypeCache;
     private boolean charsetCached;
@@ -77,9 +81,11 @@ public final class MessageBodyWriterContext extends MessageBodyContext implement
         if (parent != null) {
             this.writers = new MessageBodyOperators<>(parent.writers);
             this.swriters = new MessageBodyOperators<>(parent.swriters);
+            this.cachedEntities = parent.cachedEntities;
         } else {
             this.writers = new MessageBodyOperators<>();
             this.swriters = new MessageBodyOperators<>();
+            this.cachedEntities = new EntityCache(MAX_CACHED_BYTES);
         }
     }
 
@@ -93,6 +99,7 @@ public final class MessageBodyWriterContext extends MessageBodyContext implement
         this.headers = headers;
         this.writers = new MessageBodyOperators<>();
         this.swriters = new MessageBodyOperators<>();
+        this.cachedEntities = new EntityCache(MAX_CACHED_BYTES);
         this.acceptedTypes = List.of();
     }
 
@@ -104,6 +111,7 @@ public final class MessageBodyWriterContext extends MessageBodyContext implement
         this.headers = ReadOnlyParameters.empty();
         this.writers = new MessageBodyOperators<>();
         this.swriters = new MessageBodyOperators<>();
+        this.cachedEntities = new EntityCache(MAX_CACHED_BYTES);
         this.acceptedTypes = List.of();
         this.contentTypeCache = Optional.empty();
         this.contentTypeCached = true;
@@ -117,6 +125,7 @@ public final class MessageBodyWriterContext extends MessageBodyContext implement
         this.headers = headers;
         this.writers = new MessageBodyOperators<>(writerContext.writers);
         this.swriters = new MessageBodyOperators<>(writerContext.swriters);
+        this.cachedEntities = writerContext.cachedEntities;
         this.acceptedTypes = writerContext.acceptedTypes;
         this.contentTypeCache = writerContext.contentTypeCache;
         this.contentTypeCached = writerContext.contentTypeCached;
@@ -303,7 +312,7 @@ public final class MessageBodyWriterContext extends MessageBodyContext implement
                                                         + ".");
             }
 
-            MessageBodyWriter<T> writer = (MessageBodyWriter<T>) writers.select(type, this);
+            MessageBodyWriter<T> writer = (MessageBodyWriter<T>) writers.select(type, this, selectionKey());
             if (writer == null) {
                 throw new IllegalStateException("No writer found for type: " + type
                         + ". This usually occurs when the appropriate MediaSupport has not been added.");
@@ -314,6 +323,112 @@ public final class MessageBodyWriterContext extends MessageBodyContext implement
         }
     }
 
+    /**
+     * Convert a given immutable entity into HTTP payload, serializing it only the first time.
+     * <p>
+     * The serialized bytes are cached by the context this context is created from (such as the one of the
+     * {@link MediaContext}), together with the content type set by the writer, and reused for the same key, entity
+     * type, {@code Content-Type} and accepted types. The key must change when the entity changes, such as by including
+     * a version of the entity. Filters are applied to the cached bytes each time. The least recently used entities
+     * are removed once the cached bytes exceed 16 MiB.
+     *
+     * @param <T> entity type parameter
+     * @param key key of the entity, such as its identifier and version
+     * @param content entity, must not be modified once cached
+     * @param type actual representation of the entity type
+     * @return publisher, never {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Publisher<DataChunk> marshallCached(Object key, T content, GenericType<T> type) {
+        Objects.requireNonNull(key, "key is null!");
+        if (content == null || byte[].class.equals(type.rawType())) {
+            return marshall(content == null ? null : Single.just(content), type);
+        }
+        try {
+            EntityKey entityKey = new EntityKey(key, type, contentType(), acceptedTypes);
+            EntityCache.Entity cached = cachedEntities.get(entityKey);
+            if (cached != null) {
+                contentType(cached.contentType());
+                return applyFilters(Multi.just(cached.chunk()));
+            }
+            MessageBodyWriter<T> writer = (MessageBodyWriter<T>) writers.select(type, this, selectionKey());
+            if (writer == null) {
+                throw new IllegalStateException("No writer found for type: " + type
+                        + ". This usually occurs when the appropriate MediaSupport has not been added.");
+            }
+            Publisher<DataChunk> payload = writer.write(Single.just(content), type, this);
+            // the writer sets the content type when called
+            MediaType writtenType = headers.first(Http.Header.CONTENT_TYPE).map(MediaType::parse).orElse(null);
+            return applyFilters(ContentReaders.readBytes(payload)
+                                        .map(bytes -> {
+                                            EntityCache.Entity entity = new EntityCache.Entity(writtenType, bytes);
+                                            cachedEntities.put(entityKey, entity);
+                                            return entity.chunk();
+                                        }));
+        } catch (Throwable ex) {
+            throw new IllegalStateException("Transformation failed!", ex);
+        }
+    }
+
+    /**
+     * Convert a given entity of a known size into a single data chunk, without subscribing a publisher chain.
+     * <p>
+     * This is possible for a {@code byte[]} entity and for a {@link CharSequence} entity written by the default writer,
+     * as long as no filter is registered. Otherwise, an empty optional is returned and the entity must be converted
+     * with {@link #marshall(Single, GenericType)}. No event is sent to the event listener of this context.
+     *
+     * @param <T> entity type parameter
+     * @param content entity
+     * @param type actual representation of the entity type
+     * @return data chunk with the whole payload, or empty if the entity cannot be converted directly
+     */
+    public <T> Optional<DataChunk> marshallDirect(T content, GenericType<T> type) {
+        if (content == null || hasFilters()) {
+            return Optional.empty();
+        }
+        try {
+            if (byte[].class.equals(type.rawType())) {
+                return Optional.of(DataChunk.create(ByteBuffer.wrap((byte[]) content)));
+            }
+            if (content instanceof CharSequence
+                    && writers.select(type, this, selectionKey()) instanceof CharSequenceBodyWriter) {
+                // same as the writer, without its single and the encoder of Charset.encode
+                contentType(MediaType.TEXT_PLAIN);
+                byte[] bytes = content.toString().getBytes(charset());
+                return Optional.of(DataChunk.create(ByteBuffer.wrap(bytes)));
+            }
+            return Optional.empty();
+        } catch (Throwable ex) {
+            throw new IllegalStateException("Transformation failed!", ex);
+        }
+    }
+
+    /**
+     * Get the payload of an entity already serialized by {@link #marshallCached(Object, Object, GenericType)}
+     * as a single data chunk, without subscribing a publisher chain.
+     * <p>
+     * An empty optional is returned if the entity is not cached yet or if a filter is registered, then the entity
+     * must be converted with {@link #marshallCached(Object, Object, GenericType)}. No event is sent to the event
+     * listener of this context.
+     *
+     * @param <T> entity type parameter
+     * @param key key of the entity, such as its identifier and version
+     * @param type actual representation of the entity type
+     * @return data chunk with the whole payload, or empty if the entity is not cached
+     */
+    public <T> Optional<DataChunk> marshallCachedDirect(Object key, GenericType<T> type) {
+        Objects.requireNonNull(key, "key is null!");
+        if (type == null || hasFilters()) {
+            return Optional.empty();
+        }
+        EntityCache.Entity cached = cachedEntities.get(new EntityKey(key, type, contentType(), acceptedTypes));
+        if (cached == null) {
+            return Optional.empty();
+        }
+        contentType(cached.contentType());
+        return Optional.of(cached.chunk());
+    }
+
     /**
      * Convert a given input publisher into HTTP payload by selecting a
      * writer with the specified class.
@@ -351,7 +466,7 @@ public final class MessageBodyWriterContext extends MessageBodyContext implement
             if (content == null) {
                 return applyFilters(Multi.empty());
             }
-            MessageBodyStreamWriter<T> writer = (MessageBodyStreamWriter<T>) swriters.select(type, this);
+            MessageBodyStreamWriter<T> writer = (MessageBodyStreamWriter<T>) swriters.select(type, this, selectionKey());
             if (writer == null) {
                 throw new IllegalStateException("No stream writer found for type: " + type
                         + ". This usually occurs when the appropriate MediaSupport has not been added.");
@@ -385,6 +500,15 @@ public final class MessageBodyWriterContext extends MessageBodyContext implement
         }
     }
 
+    /**
+     * Key of the state writers depend on to accept a type.
+     *
+     * @return selection key
+     */
+    private Object selectionKey() {
+        return List.of(contentType(), acceptedTypes);
+    }
+
     /**
      * Get the underlying headers.
      *
@@ -582,6 +706,8 @@ public final class MessageBodyWriterContext extends MessageBodyContext implement
         public Publisher<DataChunk> write(Single<? extends T> single,
                                           GenericType<? extends T> type,
                                           MessageBodyWriterContext context) {
+            // also set when selected, as the selection may be cached
+            context.contentType(contentType);
             return single.flatMap(function);
         }
     }
@@ -597,4 +723,45 @@ public final class MessageBodyWriterContext extends MessageBodyContext implement
             return ContentWriters.writeBytes(item, false);
         }
     }
+
+    /**
+     * Key of a cached entity.
+     */
+    private static final class EntityKey {
+
+        private final Object key;
+        private final GenericType<?> type;
+        private final Optional<MediaType> contentType;
+        private final List<MediaType> acceptedTypes;
+        private final int hash;
+
+        private EntityKey(Object key, GenericType<?> type, Optional<MediaType> contentType, List<MediaType> acceptedTypes) {
+            this.key = key;
+            this.type = type;
+            this.contentType = contentType;
+            this.acceptedTypes = acceptedTypes;
+            this.hash = Objects.hash(key, type, contentType, acceptedTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof EntityKey)) {
+                return false;
+            }
+            EntityKey other = (EntityKey) obj;
+            return hash == other.hash
+                    && key.equals(other.key)
+                    && type.equals(other.type)
+                    && contentType.equals(other.contentType)
+                    && acceptedTypes.equals(other.acceptedTypes);
+        }
+    }
 }
@@ -27,6 +27,7 @@ module io.helidon.media.common {
     requires io.helidon.common.mapper;
     requires io.helidon.common.reactive;
     requires io.helidon.common.http;
+    requires io.helidon.common.configurable;
     requires io.helidon.config;
 
     requires static io.helidon.config.metadata;
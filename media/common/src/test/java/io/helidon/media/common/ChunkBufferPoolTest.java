@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.common;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+class ChunkBufferPoolTest {
+
+    @Test
+    void testReleasedBufferReused() {
+        ByteBuffer buffer = ChunkBufferPool.acquire();
+        assertThat(buffer.capacity(), is(ChunkBufferPool.BUFFER_SIZE));
+        buffer.put((byte) 1);
+        ChunkBufferPool.release(buffer);
+
+        ByteBuffer reused = ChunkBufferPool.acquire();
+        assertThat(reused, is(sameInstance(buffer)));
+        assertThat(reused.position(), is(0));
+        assertThat(reused.remaining(), is(ChunkBufferPool.BUFFER_SIZE));
+    }
+
+    @Test
+    void testForeignBufferNotPooled() {
+        int pooled = ChunkBufferPool.pooled();
+        ChunkBufferPool.release(ByteBuffer.allocate(16));
+        ChunkBufferPool.release(ByteBuffer.allocate(ChunkBufferPool.BUFFER_SIZE).asReadOnlyBuffer());
+        assertThat(ChunkBufferPool.pooled(), is(pooled));
+    }
+
+    @Test
+    void testPoolBounded() {
+        ByteBuffer[] buffers = new ByteBuffer[300];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = ChunkBufferPool.acquire();
+        }
+        for (ByteBuffer buffer : buffers) {
+            ChunkBufferPool.release(buffer);
+        }
+        assertThat(ChunkBufferPool.pooled(), is(256));
+    }
+}
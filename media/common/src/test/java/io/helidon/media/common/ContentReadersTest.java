@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,8 +20,11 @@ import java.io.InputStream;
 import java.net.URLEncoder;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.helidon.common.http.DataChunk;
 import io.helidon.common.reactive.Multi;
@@ -30,6 +33,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * Unit test for {@link ContentReaders}.
@@ -90,4 +94,57 @@ class ContentReadersTest {
         String s = future.get(10, TimeUnit.SECONDS);
         assertThat(s, is(original));
     }
+
+    @Test
+    void testReadInputStream() throws Exception {
+        InputStream inputStream = ContentReaders.readInputStream(chunks("Popo", "", "katepetl"))
+                .get(10, TimeUnit.SECONDS);
+
+        assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8), is("Popokatepetl"));
+    }
+
+    @Test
+    void testReadJsonArrayValues() throws Exception {
+        List<String> values = readJsonValues(chunks(" [ {\"a\": [1, {\"b\"", ": \"x]\\\"}\"}]}, ", "12", ".5 ,\"s\\",
+                                                    "\\\",true]\n"));
+
+        assertThat(values, is(List.of("{\"a\": [1, {\"b\": \"x]\\\"}\"}]}", "12.5", "\"s\\\\\"", "true")));
+    }
+
+    @Test
+    void testReadNdJsonValues() throws Exception {
+        List<String> values = readJsonValues(chunks("{\"a\":1}\n{\"a\"", ":2}\r\n", "null\n[3]\n4"));
+
+        assertThat(values, is(List.of("{\"a\":1}", "{\"a\":2}", "null", "[3]", "4")));
+    }
+
+    @Test
+    void testReadJsonValuesIncomplete() {
+        assertThrows(ExecutionException.class, () -> readJsonValues(chunks("[{\"a\":1}, {\"a\"")));
+        assertThrows(ExecutionException.class, () -> readJsonValues(chunks("[1, 2")));
+        assertThrows(ExecutionException.class, () -> readJsonValues(chunks("[1, 2] 3")));
+    }
+
+    @Test
+    void testReadJsonValuesIsLazy() throws Exception {
+        AtomicInteger received = new AtomicInteger();
+        Multi<DataChunk> chunks = chunks("[{\"a\":1},", "{\"a\":2},", "{\"a\":3},", "{\"a\":4},", "{\"a\":5}]")
+                .peek(chunk -> received.incrementAndGet());
+
+        byte[] first = ContentReaders.readJsonValues(chunks).first().get(10, TimeUnit.SECONDS);
+
+        assertThat(new String(first, StandardCharsets.UTF_8), is("{\"a\":1}"));
+        assertThat(received.get() <= 2, is(true));
+    }
+
+    private static Multi<DataChunk> chunks(String... parts) {
+        return Multi.just(parts).map(part -> DataChunk.create(part.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static List<String> readJsonValues(Multi<DataChunk> chunks) throws Exception {
+        return ContentReaders.readJsonValues(chunks)
+                .map(bytes -> new String(bytes, StandardCharsets.UTF_8))
+                .collectList()
+                .get(10, TimeUnit.SECONDS);
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.common;
+
+import io.helidon.common.http.MediaType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+class EntityCacheTest {
+
+    @Test
+    void testLeastRecentlyUsedRemoved() {
+        EntityCache cache = new EntityCache(30);
+        cache.put("a", entity(10));
+        cache.put("b", entity(10));
+        cache.put("c", entity(10));
+        // a becomes the most recently used
+        assertThat(cache.get("a"), is(notNullValue()));
+
+        cache.put("d", entity(10));
+        assertThat(cache.get("b"), is(nullValue()));
+        assertThat(cache.get("a"), is(notNullValue()));
+        assertThat(cache.get("c"), is(notNullValue()));
+        assertThat(cache.get("d"), is(notNullValue()));
+        assertThat(cache.bytes(), is(30L));
+    }
+
+    @Test
+    void testLargeEntityRemovesSeveral() {
+        EntityCache cache = new EntityCache(30);
+        cache.put("a", entity(10));
+        cache.put("b", entity(10));
+        cache.put("c", entity(10));
+
+        cache.put("d", entity(25));
+        assertThat(cache.get("a"), is(nullValue()));
+        assertThat(cache.get("b"), is(nullValue()));
+        assertThat(cache.get("c"), is(nullValue()));
+        assertThat(cache.bytes(), is(25L));
+    }
+
+    @Test
+    void testReplacedEntityAccounted() {
+        EntityCache cache = new EntityCache(30);
+        cache.put("a", entity(10));
+        cache.put("a", entity(20));
+        assertThat(cache.bytes(), is(20L));
+    }
+
+    @Test
+    void testEntityOverBudgetNotCached() {
+        EntityCache cache = new EntityCache(30);
+        cache.put("a", entity(10));
+        cache.put("b", entity(31));
+        assertThat(cache.get("b"), is(nullValue()));
+        assertThat(cache.get("a"), is(notNullValue()));
+        assertThat(cache.bytes(), is(10L));
+    }
+
+    private static EntityCache.Entity entity(int size) {
+        return new EntityCache.Entity(MediaType.TEXT_PLAIN, new byte[size]);
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.HashParameters;
+import io.helidon.common.http.Http;
+import io.helidon.common.http.MediaType;
+import io.helidon.common.reactive.Single;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Test writer selection and entity caching of {@link MessageBodyWriterContext}.
+ */
+public class MessageBodyWriterContextTest {
+
+    private static final MediaType APPLICATION_GREETING = MediaType.create("application", "greeting");
+    private static final GenericType<Greeting> TYPE = GenericType.create(Greeting.class);
+
+    @Test
+    public void testSelectionCached() {
+        GreetingWriter writer = new GreetingWriter();
+        MediaContext mediaContext = MediaContext.builder().addWriter(writer).build();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(write(exchangeContext(mediaContext, APPLICATION_GREETING), "hello"), is("hello"));
+        }
+        assertThat(writer.accepted.get(), is(1));
+
+        // other accepted types are selected again
+        assertThat(write(exchangeContext(mediaContext, MediaType.WILDCARD), "hello"), is("hello"));
+        assertThat(writer.accepted.get(), is(2));
+
+        // registered writers invalidate the selection
+        GreetingWriter other = new GreetingWriter();
+        mediaContext.writerContext().registerWriter(other);
+        write(exchangeContext(mediaContext, APPLICATION_GREETING), "hello");
+        write(exchangeContext(mediaContext, APPLICATION_GREETING), "hello");
+        assertThat(other.accepted.get(), is(1));
+        assertThat(other.written.get(), is(2));
+    }
+
+    @Test
+    public void testExchangeWritersNotCached() {
+        MediaContext mediaContext = MediaContext.builder().addWriter(new GreetingWriter()).build();
+        GreetingWriter writer = new GreetingWriter();
+
+        for (int i = 0; i < 3; i++) {
+            MessageBodyWriterContext context = exchangeContext(mediaContext, APPLICATION_GREETING);
+            context.registerWriter(writer);
+            write(context, "hello");
+        }
+        assertThat(writer.accepted.get(), is(3));
+    }
+
+    @Test
+    public void testMarshallCached() {
+        GreetingWriter writer = new GreetingWriter();
+        MediaContext mediaContext = MediaContext.builder().addWriter(writer).build();
+
+        for (int i = 0; i < 3; i++) {
+            MessageBodyWriterContext context = exchangeContext(mediaContext, APPLICATION_GREETING);
+            String text = read(context.marshallCached("greeting", new Greeting("hello"), TYPE));
+            assertThat(text, is("hello"));
+            assertThat(context.headers().first(Http.Header.CONTENT_TYPE), is(Optional.of("application/greeting")));
+        }
+        assertThat(writer.written.get(), is(1));
+
+        // a new key serializes the entity again
+        String text = read(exchangeContext(mediaContext, APPLICATION_GREETING)
+                                   .marshallCached("greeting-2", new Greeting("hi"), TYPE));
+        assertThat(text, is("hi"));
+        assertThat(writer.written.get(), is(2));
+    }
+
+    @Test
+    public void testMarshallDirect() {
+        MediaContext mediaContext = MediaContext.builder().addWriter(new GreetingWriter()).build();
+
+        MessageBodyWriterContext context = exchangeContext(mediaContext, MediaType.WILDCARD);
+        Optional<DataChunk> chunk = context.marshallDirect("hello", GenericType.create(String.class));
+        assertThat(chunk.map(MessageBodyWriterContextTest::text), is(Optional.of("hello")));
+        assertThat(context.headers().first(Http.Header.CONTENT_TYPE), is(Optional.of(MediaType.TEXT_PLAIN.toString())));
+
+        byte[] bytes = "hi".getBytes(StandardCharsets.UTF_8);
+        chunk = exchangeContext(mediaContext, MediaType.WILDCARD).marshallDirect(bytes, GenericType.create(byte[].class));
+        assertThat(chunk.map(MessageBodyWriterContextTest::text), is(Optional.of("hi")));
+
+        // other writers and filters need the publisher chain
+        assertThat(exchangeContext(mediaContext, APPLICATION_GREETING).marshallDirect(new Greeting("hello"), TYPE)
+                           .isPresent(), is(false));
+        context = exchangeContext(mediaContext, MediaType.WILDCARD);
+        context.registerFilter(publisher -> publisher);
+        assertThat(context.marshallDirect("hello", GenericType.create(String.class)).isPresent(), is(false));
+    }
+
+    @Test
+    public void testMarshallCachedDirect() {
+        MediaContext mediaContext = MediaContext.builder().addWriter(new GreetingWriter()).build();
+
+        MessageBodyWriterContext context = exchangeContext(mediaContext, APPLICATION_GREETING);
+        assertThat(context.marshallCachedDirect("greeting", TYPE).isPresent(), is(false));
+        read(context.marshallCached("greeting", new Greeting("hello"), TYPE));
+
+        context = exchangeContext(mediaContext, APPLICATION_GREETING);
+        Optional<DataChunk> chunk = context.marshallCachedDirect("greeting", TYPE);
+        assertThat(chunk.map(MessageBodyWriterContextTest::text), is(Optional.of("hello")));
+        assertThat(context.headers().first(Http.Header.CONTENT_TYPE), is(Optional.of("application/greeting")));
+    }
+
+    private static MessageBodyWriterContext exchangeContext(MediaContext mediaContext, MediaType accepted) {
+        return MessageBodyWriterContext.create(mediaContext, null, HashParameters.create(), List.of(accepted));
+    }
+
+    private static String write(MessageBodyWriterContext context, String greeting) {
+        return read(context.marshall(Single.just(new Greeting(greeting)), TYPE));
+    }
+
+    private static String read(Publisher<DataChunk> chunks) {
+        return ContentReaders.readString(chunks, StandardCharsets.UTF_8).await();
+    }
+
+    private static String text(DataChunk chunk) {
+        return new String(chunk.bytes(), StandardCharsets.UTF_8);
+    }
+
+    static final class Greeting {
+
+        private final String text;
+
+        Greeting(String text) {
+            this.text = text;
+        }
+
+        String text() {
+            return text;
+        }
+    }
+
+    private static final class GreetingWriter implements MessageBodyWriter<Greeting> {
+
+        private final AtomicInteger accepted = new AtomicInteger();
+        private final AtomicInteger written = new AtomicInteger();
+
+        @Override
+        public PredicateResult accept(GenericType<?> type, MessageBodyWriterContext context) {
+            accepted.incrementAndGet();
+            return PredicateResult.supports(Greeting.class, type);
+        }
+
+        @Override
+        public Publisher<DataChunk> write(Single<? extends Greeting> content,
+                                          GenericType<? extends Greeting> type,
+                                          MessageBodyWriterContext context) {
+            written.incrementAndGet();
+            context.contentType(APPLICATION_GREETING);
+            return content.map(greeting -> DataChunk.create(greeting.text().getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+}
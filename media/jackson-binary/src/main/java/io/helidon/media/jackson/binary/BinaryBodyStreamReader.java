@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.jackson.binary;
+
+import java.util.concurrent.Flow.Publisher;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Multi;
+import io.helidon.media.common.MessageBodyReaderContext;
+import io.helidon.media.common.MessageBodyStreamReader;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Message body stream reader binding a sequence of top-level values of a Jackson binary format.
+ */
+final class BinaryBodyStreamReader implements MessageBodyStreamReader<Object> {
+
+    private final BinaryFormat format;
+
+    private BinaryBodyStreamReader(BinaryFormat format) {
+        this.format = format;
+    }
+
+    static BinaryBodyStreamReader create(BinaryFormat format) {
+        return new BinaryBodyStreamReader(format);
+    }
+
+    @Override
+    public PredicateResult accept(GenericType<?> type, MessageBodyReaderContext context) {
+        ObjectMapper objectMapper = format.objectMapper();
+        return context.contentType().map(format::matches).orElse(false)
+                && BinaryFormat.bindable(type.rawType())
+                && objectMapper.canDeserialize(objectMapper.constructType(type.type()))
+                ? PredicateResult.SUPPORTED
+                : PredicateResult.NOT_SUPPORTED;
+    }
+
+    @Override
+    public <U> Multi<U> read(Publisher<DataChunk> publisher, GenericType<U> type, MessageBodyReaderContext context) {
+        return ChunksToValues.read(format.objectMapper(), publisher, type);
+    }
+}
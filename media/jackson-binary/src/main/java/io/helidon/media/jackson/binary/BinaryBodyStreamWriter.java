@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.jackson.binary;
+
+import java.util.concurrent.Flow.Publisher;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Multi;
+import io.helidon.media.common.MessageBodyStreamWriter;
+import io.helidon.media.common.MessageBodyWriterContext;
+
+/**
+ * Message body stream writer binding objects to a sequence of top-level values of a Jackson binary format.
+ * Unlike JSON, binary formats need no separators between the values, each value is written as it is received.
+ */
+final class BinaryBodyStreamWriter implements MessageBodyStreamWriter<Object> {
+
+    private final BinaryFormat format;
+
+    private BinaryBodyStreamWriter(BinaryFormat format) {
+        this.format = format;
+    }
+
+    static BinaryBodyStreamWriter create(BinaryFormat format) {
+        return new BinaryBodyStreamWriter(format);
+    }
+
+    @Override
+    public PredicateResult accept(GenericType<?> type, MessageBodyWriterContext context) {
+        return format.selected(context) && BinaryFormat.bindable(type.rawType())
+                ? PredicateResult.SUPPORTED
+                : PredicateResult.NOT_SUPPORTED;
+    }
+
+    @Override
+    public Multi<DataChunk> write(Publisher<?> publisher, GenericType<?> type, MessageBodyWriterContext context) {
+        context.contentType(format.mediaType());
+        return Multi.create(publisher)
+                .flatMap(new ValueToChunks(format.objectMapper()));
+    }
+}
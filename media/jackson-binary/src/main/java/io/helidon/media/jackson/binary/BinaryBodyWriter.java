@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.jackson.binary;
+
+import java.util.concurrent.Flow.Publisher;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Single;
+import io.helidon.media.common.MessageBodyWriter;
+import io.helidon.media.common.MessageBodyWriterContext;
+
+/**
+ * Message body writer binding objects to a Jackson binary format.
+ */
+final class BinaryBodyWriter implements MessageBodyWriter<Object> {
+
+    private final BinaryFormat format;
+
+    private BinaryBodyWriter(BinaryFormat format) {
+        this.format = format;
+    }
+
+    static BinaryBodyWriter create(BinaryFormat format) {
+        return new BinaryBodyWriter(format);
+    }
+
+    @Override
+    public PredicateResult accept(GenericType<?> type, MessageBodyWriterContext context) {
+        return format.selected(context)
+                && BinaryFormat.bindable(type.rawType())
+                && format.objectMapper().canSerialize(type.rawType())
+                ? PredicateResult.SUPPORTED
+                : PredicateResult.NOT_SUPPORTED;
+    }
+
+    @Override
+    public Publisher<DataChunk> write(Single<?> content, GenericType<?> type, MessageBodyWriterContext context) {
+        context.contentType(format.mediaType());
+        return content.flatMap(new ValueToChunks(format.objectMapper()));
+    }
+}
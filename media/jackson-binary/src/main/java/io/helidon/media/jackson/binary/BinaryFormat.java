@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.jackson.binary;
+
+import java.io.InputStream;
+import java.util.List;
+
+import io.helidon.common.http.MediaType;
+import io.helidon.media.common.MessageBodyWriterContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * A binary format with its media type.
+ */
+final class BinaryFormat {
+
+    private final MediaType mediaType;
+    private final ObjectMapper objectMapper;
+
+    BinaryFormat(MediaType mediaType, ObjectMapper objectMapper) {
+        this.mediaType = MediaType.create(mediaType.type(), mediaType.subtype());
+        this.objectMapper = objectMapper;
+    }
+
+    MediaType mediaType() {
+        return mediaType;
+    }
+
+    ObjectMapper objectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * Whether the media type is the one of this format, parameters are ignored.
+     *
+     * @param other media type to test
+     * @return {@code true} if the media type is the one of this format
+     */
+    boolean matches(MediaType other) {
+        return mediaType.type().equalsIgnoreCase(other.type())
+                && mediaType.subtype().equalsIgnoreCase(other.subtype());
+    }
+
+    /**
+     * Whether an entity should be written with this format: the {@code Content-Type} is already set to this format,
+     * or it is not set and this format is explicitly accepted with a non-zero quality factor that is not lower than
+     * the one of JSON. When both are accepted with the same quality factor, the one listed first wins.
+     *
+     * @param context writer context
+     * @return {@code true} if this format is selected
+     */
+    boolean selected(MessageBodyWriterContext context) {
+        return context.contentType()
+                .map(this::matches)
+                .orElseGet(() -> accepted(context.acceptedTypes()));
+    }
+
+    private boolean accepted(List<MediaType> acceptedTypes) {
+        double formatQuality = 0;
+        double jsonQuality = 0;
+        boolean jsonFirst = false;
+        for (MediaType acceptedType : acceptedTypes) {
+            double quality = acceptedType.qualityFactor();
+            if (matches(acceptedType)) {
+                formatQuality = Math.max(formatQuality, quality);
+            } else if (json(acceptedType) && quality > jsonQuality) {
+                jsonQuality = quality;
+                jsonFirst = formatQuality < quality;
+            }
+        }
+        return formatQuality > 0 && (formatQuality > jsonQuality || (formatQuality == jsonQuality && !jsonFirst));
+    }
+
+    private static boolean json(MediaType mediaType) {
+        // wildcards do not prefer JSON over this format
+        return !mediaType.isWildcardType()
+                && !mediaType.isWildcardSubtype()
+                && MediaType.JSON_PREDICATE.test(mediaType);
+    }
+
+    /**
+     * Whether instances of the type are bound with an object mapper rather than read or written as is.
+     *
+     * @param type entity type
+     * @return {@code true} for types bound with an object mapper
+     */
+    static boolean bindable(Class<?> type) {
+        return !CharSequence.class.isAssignableFrom(type)
+                && !byte[].class.equals(type)
+                && !InputStream.class.isAssignableFrom(type);
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.jackson.binary;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow.Publisher;
+import java.util.function.Function;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Multi;
+import io.helidon.media.common.ContentReaders;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * Binds the top-level values of binary content.
+ * <p>
+ * Formats with a non-blocking parser (such as Smile) are parsed as the chunks arrive, the chunks are released as soon
+ * as they are parsed and only the tokens of the value being currently received are retained. Other formats (such as
+ * CBOR) are parsed once the whole content is received, from a stream over copies of the chunks.
+ *
+ * @param <T> type of the bound values
+ */
+final class ChunksToValues<T> implements Function<DataChunk, Iterable<T>> {
+
+    private final ObjectReader objectReader;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private TokenBuffer tokens;
+    private int depth;
+
+    private ChunksToValues(ObjectReader objectReader, JsonParser parser) {
+        this.objectReader = objectReader;
+        this.parser = parser;
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * Read the top-level values of the content, {@code null} values are skipped.
+     *
+     * @param objectMapper object mapper of the format
+     * @param publisher    content
+     * @param type         requested type of the values
+     * @param <T>          requested type of the values
+     * @return multi with the values
+     */
+    static <T> Multi<T> read(ObjectMapper objectMapper, Publisher<DataChunk> publisher, GenericType<T> type) {
+        ObjectReader objectReader = objectMapper.readerFor(objectMapper.getTypeFactory().constructType(type.type()));
+        if (!objectMapper.getFactory().canParseAsync()) {
+            return ContentReaders.readInputStream(publisher)
+                    .flatMapIterable(in -> readAll(objectReader, in));
+        }
+        return Multi.defer(() -> {
+            ChunksToValues<T> decoder = new ChunksToValues<>(objectReader, createParser(objectMapper));
+            // prefetch of one, so the upstream is not asked for more chunks than the downstream can take
+            return Multi.create(publisher)
+                    .flatMapIterable(decoder, 1)
+                    .onCompleteResumeWith(Multi.defer(() -> Multi.create(decoder.finish())));
+        });
+    }
+
+    @Override
+    public Iterable<T> apply(DataChunk chunk) {
+        List<T> values = new ArrayList<>();
+        try {
+            for (ByteBuffer buffer : chunk.data()) {
+                if (!buffer.hasRemaining()) {
+                    continue;
+                }
+                if (buffer.hasArray()) {
+                    int offset = buffer.arrayOffset();
+                    feeder.feedInput(buffer.array(), offset + buffer.position(), offset + buffer.limit());
+                } else {
+                    byte[] bytes = new byte[buffer.remaining()];
+                    buffer.get(buffer.position(), bytes);
+                    feeder.feedInput(bytes, 0, bytes.length);
+                }
+                // the feeder only accepts new input once the previous one was fully parsed
+                drain(values);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            chunk.release();
+        }
+        return values;
+    }
+
+    private static JsonParser createParser(ObjectMapper objectMapper) {
+        try {
+            return objectMapper.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <T> List<T> readAll(ObjectReader objectReader, InputStream in) {
+        List<T> values = new ArrayList<>();
+        try (in; JsonParser parser = objectReader.createParser(in)) {
+            while (parser.nextToken() != null) {
+                T value = objectReader.readValue(parser);
+                if (value != null) {
+                    values.add(value);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return values;
+    }
+
+    private List<T> finish() {
+        List<T> values = new ArrayList<>(1);
+        try {
+            feeder.endOfInput();
+            drain(values);
+            parser.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (depth != 0) {
+            throw new UncheckedIOException(new IOException("Unexpected end-of-input"));
+        }
+        return values;
+    }
+
+    private void drain(List<T> values) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (depth == 0) {
+                tokens = new TokenBuffer(parser);
+            }
+            tokens.copyCurrentEvent(parser);
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+            if (depth == 0) {
+                T bound;
+                try (JsonParser tokensParser = tokens.asParser()) {
+                    bound = objectReader.readValue(tokensParser);
+                }
+                tokens = null;
+                // reactive streams cannot carry null, null values are skipped
+                if (bound != null) {
+                    values.add(bound);
+                }
+            }
+        }
+    }
+}
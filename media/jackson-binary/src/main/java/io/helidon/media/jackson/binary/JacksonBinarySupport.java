@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.jackson.binary;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import io.helidon.common.LazyValue;
+import io.helidon.common.http.MediaType;
+import io.helidon.media.common.MediaSupport;
+import io.helidon.media.common.MessageBodyReader;
+import io.helidon.media.common.MessageBodyStreamReader;
+import io.helidon.media.common.MessageBodyStreamWriter;
+import io.helidon.media.common.MessageBodyWriter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+/**
+ * Support for binary formats of Jackson, such as CBOR, Smile or MessagePack.
+ * <p>
+ * Each format is bound to its media type: entities are read with a format when the {@code Content-Type} of the
+ * content is its media type, and written with a format when the {@code Content-Type} is set to its media type
+ * or, if not set, when the media type is among the accepted types. So the same support can be registered next to
+ * a JSON support, which is still used for requests and responses that do not use a binary format.
+ * <p>
+ * Any Jackson binary format can be added with its {@link ObjectMapper}, for example MessagePack:
+ * <pre>{@code
+ * JacksonBinarySupport.builder()
+ *         .addFormat(JacksonBinarySupport.APPLICATION_MSGPACK, new ObjectMapper(new MessagePackFactory()))
+ *         .build();
+ * }</pre>
+ *
+ * For usage examples navigate to the {@link MediaSupport}.
+ */
+public final class JacksonBinarySupport implements MediaSupport {
+
+    /**
+     * CBOR media type.
+     */
+    public static final MediaType APPLICATION_CBOR = MediaType.create("application", "cbor");
+
+    /**
+     * Smile media type.
+     */
+    public static final MediaType APPLICATION_SMILE = MediaType.create("application", "x-jackson-smile");
+
+    /**
+     * MessagePack media type.
+     */
+    public static final MediaType APPLICATION_MSGPACK = MediaType.create("application", "msgpack");
+
+    private static final LazyValue<JacksonBinarySupport> DEFAULT = LazyValue.create(() -> builder()
+            .addFormat(APPLICATION_CBOR, new CBORMapper())
+            .addFormat(APPLICATION_SMILE, new SmileMapper())
+            .build());
+
+    private final List<MessageBodyReader<?>> readers;
+    private final List<MessageBodyStreamReader<?>> streamReaders;
+    private final List<MessageBodyWriter<?>> writers;
+    private final List<MessageBodyStreamWriter<?>> streamWriters;
+
+    private JacksonBinarySupport(Builder builder) {
+        this.readers = List.copyOf(builder.readers);
+        this.streamReaders = List.copyOf(builder.streamReaders);
+        this.writers = List.copyOf(builder.writers);
+        this.streamWriters = List.copyOf(builder.streamWriters);
+    }
+
+    /**
+     * Creates a new {@link JacksonBinarySupport} for CBOR and Smile.
+     *
+     * @return a new {@link JacksonBinarySupport}
+     */
+    public static JacksonBinarySupport create() {
+        return DEFAULT.get();
+    }
+
+    /**
+     * Creates a new {@link JacksonBinarySupport} for a single format.
+     *
+     * @param mediaType    media type of the format
+     * @param objectMapper object mapper of the format
+     * @return a new {@link JacksonBinarySupport}
+     */
+    public static JacksonBinarySupport create(MediaType mediaType, ObjectMapper objectMapper) {
+        return builder().addFormat(mediaType, objectMapper).build();
+    }
+
+    /**
+     * Creates a new builder of {@link JacksonBinarySupport}.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public Collection<MessageBodyReader<?>> readers() {
+        return readers;
+    }
+
+    @Override
+    public Collection<MessageBodyStreamReader<?>> streamReaders() {
+        return streamReaders;
+    }
+
+    @Override
+    public Collection<MessageBodyWriter<?>> writers() {
+        return writers;
+    }
+
+    @Override
+    public Collection<MessageBodyStreamWriter<?>> streamWriters() {
+        return streamWriters;
+    }
+
+    /**
+     * Fluent API builder of {@link JacksonBinarySupport}.
+     */
+    public static final class Builder implements io.helidon.common.Builder<Builder, JacksonBinarySupport> {
+
+        private final List<MessageBodyReader<?>> readers = new ArrayList<>();
+        private final List<MessageBodyStreamReader<?>> streamReaders = new ArrayList<>();
+        private final List<MessageBodyWriter<?>> writers = new ArrayList<>();
+        private final List<MessageBodyStreamWriter<?>> streamWriters = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        @Override
+        public JacksonBinarySupport build() {
+            return new JacksonBinarySupport(this);
+        }
+
+        /**
+         * Add a binary format.
+         *
+         * @param mediaType    media type of the format, such as {@link #APPLICATION_CBOR}
+         * @param objectMapper object mapper of the format, such as {@code new CBORMapper()}
+         * @return updated builder instance
+         */
+        public Builder addFormat(MediaType mediaType, ObjectMapper objectMapper) {
+            Objects.requireNonNull(mediaType, "mediaType is null");
+            Objects.requireNonNull(objectMapper, "objectMapper is null");
+            BinaryFormat format = new BinaryFormat(mediaType, objectMapper);
+            readers.add(BinaryBodyReader.create(format));
+            streamReaders.add(BinaryBodyStreamReader.create(format));
+            writers.add(BinaryBodyWriter.create(format));
+            streamWriters.add(BinaryBodyStreamWriter.create(format));
+            return this;
+        }
+    }
+}
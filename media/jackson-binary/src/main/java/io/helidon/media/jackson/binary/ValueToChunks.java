@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.jackson.binary;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Multi;
+import io.helidon.media.common.ChunkBufferPool;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Serializes a value directly into data chunks.
+ * <p>
+ * The value is written into buffers of the {@link ChunkBufferPool}, each filled buffer becomes a chunk without
+ * copying the serialized bytes to a single array first. The buffers return to the pool once the webserver has
+ * written them.
+ */
+final class ValueToChunks implements Function<Object, Multi<DataChunk>> {
+
+    private final ObjectWriter objectWriter;
+
+    ValueToChunks(ObjectMapper objectMapper) {
+        this.objectWriter = objectMapper.writer();
+    }
+
+    @Override
+    public Multi<DataChunk> apply(Object value) {
+        ChunkOutputStream out = new ChunkOutputStream();
+        try {
+            objectWriter.writeValue(out, value);
+        } catch (IOException e) {
+            out.discard();
+            return Multi.error(new UncheckedIOException(e));
+        } catch (RuntimeException e) {
+            out.discard();
+            return Multi.error(e);
+        }
+        return Multi.create(out.chunks());
+    }
+
+    /**
+     * Output stream writing into pooled buffers.
+     */
+    private static final class ChunkOutputStream extends OutputStream {
+
+        private final List<ByteBuffer> buffers = new ArrayList<>(2);
+        private ByteBuffer current;
+
+        @Override
+        public void write(int b) {
+            buffer().put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            while (length > 0) {
+                ByteBuffer buffer = buffer();
+                int count = Math.min(length, buffer.remaining());
+                buffer.put(bytes, offset, count);
+                offset += count;
+                length -= count;
+            }
+        }
+
+        private ByteBuffer buffer() {
+            if (current == null || !current.hasRemaining()) {
+                current = ChunkBufferPool.acquire();
+                buffers.add(current);
+            }
+            return current;
+        }
+
+        List<DataChunk> chunks() {
+            List<DataChunk> chunks = new ArrayList<>(buffers.size());
+            for (ByteBuffer buffer : buffers) {
+                buffer.flip();
+                chunks.add(DataChunk.create(false, () -> ChunkBufferPool.release(buffer), buffer));
+            }
+            return chunks;
+        }
+
+        void discard() {
+            buffers.forEach(ChunkBufferPool::release);
+            buffers.clear();
+        }
+    }
+}
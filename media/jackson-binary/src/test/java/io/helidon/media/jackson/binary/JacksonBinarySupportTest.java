@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.jackson.binary;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Flow.Publisher;
+import java.util.stream.Collectors;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.HashParameters;
+import io.helidon.common.http.Http;
+import io.helidon.common.http.MediaType;
+import io.helidon.common.http.ReadOnlyParameters;
+import io.helidon.common.reactive.Multi;
+import io.helidon.common.reactive.Single;
+import io.helidon.media.common.ContentReaders;
+import io.helidon.media.common.MediaContext;
+import io.helidon.media.common.MessageBodyOperator;
+import io.helidon.media.common.MessageBodyReaderContext;
+import io.helidon.media.common.MessageBodyWriter;
+import io.helidon.media.common.MessageBodyWriterContext;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+public class JacksonBinarySupportTest {
+
+    private static final MediaContext MEDIA_CONTEXT = MediaContext.builder()
+            .addMediaSupport(JacksonBinarySupport.create())
+            .build();
+
+    @Test
+    void testCborRoundTrip() throws Exception {
+        MessageBodyWriterContext writerContext = writerContext(JacksonBinarySupport.APPLICATION_CBOR);
+        byte[] bytes = bytes(writerContext.marshall(Single.just(new Book("The Stand")), GenericType.create(Book.class)));
+
+        assertThat(writerContext.headers().first(Http.Header.CONTENT_TYPE), is(Optional.of("application/cbor")));
+
+        Book book = readerContext(JacksonBinarySupport.APPLICATION_CBOR)
+                .unmarshall(Multi.just(DataChunk.create(bytes)), GenericType.create(Book.class))
+                .get();
+        assertThat(book.getTitle(), is("The Stand"));
+    }
+
+    @Test
+    void testSmileStreamRoundTrip() throws Exception {
+        MessageBodyWriterContext writerContext = writerContext(JacksonBinarySupport.APPLICATION_SMILE);
+        byte[] bytes = bytes(writerContext.marshallStream(Multi.just(new Book("The Stand"), new Book("It")),
+                                                          GenericType.create(Book.class)));
+
+        assertThat(writerContext.headers().first(Http.Header.CONTENT_TYPE), is(Optional.of("application/x-jackson-smile")));
+
+        // one byte per chunk, values are parsed as the chunks arrive
+        Multi<DataChunk> chunks = Multi.range(0, bytes.length)
+                .map(i -> DataChunk.create(new byte[] {bytes[i]}));
+        List<String> titles = Multi.create(readerContext(JacksonBinarySupport.APPLICATION_SMILE)
+                                                   .unmarshallStream(chunks, GenericType.create(Book.class)))
+                .map(Book::getTitle)
+                .collectList()
+                .get();
+        assertThat(titles, contains("The Stand", "It"));
+    }
+
+    @Test
+    void testCborStreamRead() throws Exception {
+        MessageBodyWriterContext writerContext = writerContext(JacksonBinarySupport.APPLICATION_CBOR);
+        byte[] bytes = bytes(writerContext.marshallStream(Multi.just(new Book("The Stand"), new Book("It")),
+                                                          GenericType.create(Book.class)));
+
+        List<String> titles = Multi.create(readerContext(JacksonBinarySupport.APPLICATION_CBOR)
+                                                   .unmarshallStream(Multi.just(DataChunk.create(bytes)),
+                                                                     GenericType.create(Book.class)))
+                .map(Book::getTitle)
+                .collectList()
+                .get();
+        assertThat(titles, contains("The Stand", "It"));
+    }
+
+    @Test
+    void testLargeValueSpansChunks() throws Exception {
+        String title = "x".repeat(100_000);
+        MessageBodyWriterContext writerContext = writerContext(JacksonBinarySupport.APPLICATION_SMILE);
+        List<DataChunk> chunks = Multi.create(writerContext.marshall(Single.just(new Book(title)),
+                                                                     GenericType.create(Book.class)))
+                .collectList()
+                .get();
+
+        assertThat(chunks.size() > 1, is(true));
+        Book book = readerContext(JacksonBinarySupport.APPLICATION_SMILE)
+                .unmarshall(Multi.create(chunks), GenericType.create(Book.class))
+                .get();
+        assertThat(book.getTitle(), is(title));
+    }
+
+    @Test
+    void testNotSelectedWithoutBinaryType() throws Exception {
+        MessageBodyWriterContext writerContext = writerContext(MediaType.APPLICATION_JSON);
+
+        for (MessageBodyWriter<?> writer : JacksonBinarySupport.create().writers()) {
+            assertThat(writer.accept(GenericType.create(Book.class), writerContext),
+                       is(MessageBodyOperator.PredicateResult.NOT_SUPPORTED));
+        }
+
+        // an explicit content type selects the format even if not accepted
+        HashParameters headers = HashParameters.create();
+        headers.add(Http.Header.CONTENT_TYPE, JacksonBinarySupport.APPLICATION_CBOR.toString());
+        writerContext = MessageBodyWriterContext.create(MEDIA_CONTEXT, null, headers, List.of(MediaType.APPLICATION_JSON));
+        byte[] bytes = bytes(writerContext.marshall(Single.just(new Book("It")), GenericType.create(Book.class)));
+        Book book = readerContext(JacksonBinarySupport.APPLICATION_CBOR)
+                .unmarshall(Multi.just(DataChunk.create(bytes)), GenericType.create(Book.class))
+                .get();
+        assertThat(book.getTitle(), is("It"));
+    }
+
+    @Test
+    void testQualityFactors() {
+        // excluded
+        assertThat(selected("application/cbor;q=0"), is(false));
+        // JSON preferred
+        assertThat(selected("application/json", "application/cbor;q=0.5"), is(false));
+        assertThat(selected("application/cbor;q=0.5", "application/problem+json"), is(false));
+        // same quality, the first one wins
+        assertThat(selected("application/json", "application/cbor"), is(false));
+        assertThat(selected("application/cbor", "application/json"), is(true));
+        // binary format preferred
+        assertThat(selected("application/json;q=0.5", "application/cbor"), is(true));
+        assertThat(selected("*/*", "application/cbor;q=0.1"), is(true));
+    }
+
+    private static boolean selected(String... accepted) {
+        List<MediaType> acceptedTypes = Arrays.stream(accepted).map(MediaType::parse).collect(Collectors.toList());
+        MessageBodyWriterContext writerContext = MessageBodyWriterContext.create(MEDIA_CONTEXT,
+                                                                                 null,
+                                                                                 HashParameters.create(),
+                                                                                 acceptedTypes);
+        return JacksonBinarySupport.create().writers().stream()
+                .anyMatch(writer -> writer.accept(GenericType.create(Book.class), writerContext)
+                        != MessageBodyOperator.PredicateResult.NOT_SUPPORTED);
+    }
+
+    private static MessageBodyWriterContext writerContext(MediaType accepted) {
+        return MessageBodyWriterContext.create(MEDIA_CONTEXT, null, HashParameters.create(), List.of(accepted));
+    }
+
+    private static MessageBodyReaderContext readerContext(MediaType contentType) {
+        return MessageBodyReaderContext.create(MEDIA_CONTEXT, null, ReadOnlyParameters.empty(), Optional.of(contentType));
+    }
+
+    private static byte[] bytes(Publisher<DataChunk> chunks) throws Exception {
+        return ContentReaders.readBytes(chunks).get();
+    }
+
+    public static class Book {
+        private String title;
+
+        public Book() {
+        }
+
+        Book(String title) {
+            this.title = title;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.jackson;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow.Publisher;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Multi;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * Feeds data chunks to a non-blocking Jackson parser as they arrive and binds the parsed values.
+ * <p>
+ * Chunks are released as soon as they are parsed, only the tokens of the value being currently
+ * received are retained.
+ *
+ * @param <T> type of the bound values
+ */
+final class ChunksToObjects<T> implements Function<DataChunk, Iterable<T>> {
+
+    private final ObjectReader objectReader;
+    private final boolean unwrap;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private TokenBuffer tokens;
+    private int depth;
+    private boolean started;
+    private boolean array;
+    private boolean arrayEnded;
+    private boolean hasValue;
+    private T value;
+
+    private ChunksToObjects(ObjectMapper objectMapper, GenericType<T> type, boolean unwrap) {
+        this.objectReader = objectMapper.readerFor(objectMapper.getTypeFactory().constructType(type.type()));
+        this.unwrap = unwrap;
+        try {
+            this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new JacksonRuntimeException(e.getMessage(), e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * Read the content as a single value.
+     *
+     * @param objectMapper object mapper to use
+     * @param publisher    content
+     * @param type         requested type
+     * @param <T>          requested type
+     * @return multi with at most one value
+     */
+    static <T> Multi<T> readValue(ObjectMapper objectMapper, Publisher<DataChunk> publisher, GenericType<T> type) {
+        return read(publisher, () -> new ChunksToObjects<>(objectMapper, type, false));
+    }
+
+    /**
+     * Read the content as a stream of values, each element of a top-level array or each top-level value
+     * (such as lines of newline delimited JSON) is emitted as soon as it is received.
+     *
+     * @param objectMapper object mapper to use
+     * @param publisher    content
+     * @param type         requested type of the values
+     * @param <T>          requested type of the values
+     * @return multi with the values
+     */
+    static <T> Multi<T> readValues(ObjectMapper objectMapper, Publisher<DataChunk> publisher, GenericType<T> type) {
+        return read(publisher, () -> new ChunksToObjects<>(objectMapper, type, true));
+    }
+
+    private static <T> Multi<T> read(Publisher<DataChunk> publisher, Supplier<ChunksToObjects<T>> supplier) {
+        return Multi.defer(() -> {
+            ChunksToObjects<T> decoder = supplier.get();
+            // prefetch of one, so the upstream is not asked for more chunks than the downstream can take
+            return Multi.create(publisher)
+                    .flatMapIterable(decoder, 1)
+                    .onCompleteResumeWith(Multi.defer(() -> Multi.create(decoder.finish())));
+        });
+    }
+
+    @Override
+    public Iterable<T> apply(DataChunk chunk) {
+        List<T> values = new ArrayList<>();
+        try {
+            for (ByteBuffer buffer : chunk.data()) {
+                if (!buffer.hasRemaining()) {
+                    continue;
+                }
+                if (buffer.hasArray()) {
+                    int offset = buffer.arrayOffset();
+                    feeder.feedInput(buffer.array(), offset + buffer.position(), offset + buffer.limit());
+                } else {
+                    byte[] bytes = new byte[buffer.remaining()];
+                    buffer.get(buffer.position(), bytes);
+                    feeder.feedInput(bytes, 0, bytes.length);
+                }
+                // the feeder only accepts new input once the previous one was fully parsed
+                drain(values);
+            }
+        } catch (IOException e) {
+            throw new JacksonRuntimeException(e.getMessage(), e);
+        } finally {
+            chunk.release();
+        }
+        return values;
+    }
+
+    private List<T> finish() {
+        List<T> values = new ArrayList<>(1);
+        try {
+            feeder.endOfInput();
+            drain(values);
+            parser.close();
+        } catch (IOException e) {
+            throw new JacksonRuntimeException(e.getMessage(), e);
+        }
+        if (depth != 0 || (array && !arrayEnded)) {
+            throw new JacksonRuntimeException("Unexpected end-of-input");
+        }
+        if (unwrap) {
+            return values;
+        }
+        if (!hasValue) {
+            throw new JacksonRuntimeException("No content to map due to end-of-input");
+        }
+        return value == null ? List.of() : List.of(value);
+    }
+
+    private void drain(List<T> values) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (depth == 0) {
+                if (arrayEnded) {
+                    throw new JacksonRuntimeException("Unexpected content after the end of the top-level array");
+                }
+                if (unwrap && !started && token == JsonToken.START_ARRAY) {
+                    started = true;
+                    array = true;
+                    continue;
+                }
+                started = true;
+                if (array && token == JsonToken.END_ARRAY) {
+                    arrayEnded = true;
+                    continue;
+                }
+                // trailing values of a single value content are ignored, same as when reading from bytes
+                tokens = unwrap || !hasValue ? new TokenBuffer(parser) : null;
+            }
+            if (tokens != null) {
+                tokens.copyCurrentEvent(parser);
+            }
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+            if (depth == 0 && tokens != null) {
+                bind(values);
+            }
+        }
+    }
+
+    private void bind(List<T> values) throws IOException {
+        T bound;
+        try (JsonParser tokensParser = tokens.asParser()) {
+            bound = objectReader.readValue(tokensParser);
+        }
+        tokens = null;
+        if (unwrap) {
+            // reactive streams cannot carry null, JSON null elements are skipped
+            if (bound != null) {
+                values.add(bound);
+            }
+        } else {
+            hasValue = true;
+            value = bound;
+        }
+    }
+}
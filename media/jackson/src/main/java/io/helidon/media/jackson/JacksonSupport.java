@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ import java.util.Objects;
 import io.helidon.common.LazyValue;
 import io.helidon.media.common.MediaSupport;
 import io.helidon.media.common.MessageBodyReader;
+import io.helidon.media.common.MessageBodyStreamReader;
 import io.helidon.media.common.MessageBodyStreamWriter;
 import io.helidon.media.common.MessageBodyWriter;
 
@@ -44,6 +45,7 @@ public final class JacksonSupport implements MediaSupport {
     private static final LazyValue<JacksonSupport> DEFAULT = LazyValue.create(() -> new JacksonSupport(MAPPER));
 
     private final JacksonBodyReader reader;
+    private final JacksonBodyStreamReader streamReader;
     private final JacksonBodyWriter writer;
     private final JacksonBodyStreamWriter streamWriter;
     private final JacksonEsBodyStreamWriter esStreamWriter;
@@ -51,6 +53,7 @@ public final class JacksonSupport implements MediaSupport {
 
     private JacksonSupport(final ObjectMapper objectMapper) {
         this.reader = JacksonBodyReader.create(objectMapper);
+        this.streamReader = JacksonBodyStreamReader.create(objectMapper);
         this.writer = JacksonBodyWriter.create(objectMapper);
         this.streamWriter = JacksonBodyStreamWriter.create(objectMapper);
         this.esStreamWriter = JacksonEsBodyStreamWriter.create(objectMapper);
@@ -97,6 +100,28 @@ public final class JacksonSupport implements MediaSupport {
         return JacksonBodyReader.create(objectMapper);
     }
 
+    /**
+     * Return a default Jackson entity stream reader.
+     * The reader emits the elements of a top-level JSON array, or each top-level JSON value
+     * (such as {@link io.helidon.common.http.MediaType#APPLICATION_X_NDJSON} content), as they are received.
+     *
+     * @return default Jackson body stream reader instance
+     */
+    public static MessageBodyStreamReader<Object> streamReader() {
+        return DEFAULT.get().streamReader;
+    }
+
+    /**
+     * Create a new Jackson entity stream reader based on {@link ObjectMapper} instance.
+     *
+     * @param objectMapper object mapper instance
+     * @return new Jackson body stream reader instance
+     */
+    public static MessageBodyStreamReader<Object> streamReader(ObjectMapper objectMapper) {
+        Objects.requireNonNull(objectMapper);
+        return JacksonBodyStreamReader.create(objectMapper);
+    }
+
     /**
      * Return a default Jackson entity writer.
      *
@@ -190,6 +215,15 @@ public final class JacksonSupport implements MediaSupport {
         return reader;
     }
 
+    /**
+     * Return Jackson stream reader instance.
+     *
+     * @return Jackson stream reader instance
+     */
+    public MessageBodyStreamReader<Object> streamReaderInstance() {
+        return streamReader;
+    }
+
     /**
      * Return Jackson writer instance.
      *
@@ -231,6 +265,11 @@ public final class JacksonSupport implements MediaSupport {
         return List.of(reader);
     }
 
+    @Override
+    public Collection<MessageBodyStreamReader<?>> streamReaders() {
+        return List.of(streamReader);
+    }
+
     @Override
     public Collection<MessageBodyWriter<?>> writers() {
         return List.of(writer);
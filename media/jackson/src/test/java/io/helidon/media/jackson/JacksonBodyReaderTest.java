@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,9 +17,11 @@ package io.helidon.media.jackson;
 
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 import io.helidon.common.GenericType;
 import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Multi;
 import io.helidon.common.reactive.Single;
 import io.helidon.media.common.MessageBodyReaderContext;
 
@@ -27,8 +29,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class JacksonBodyReaderTest {
 
@@ -44,6 +48,28 @@ public class JacksonBodyReaderTest {
         assertThat(books.get(0), notNullValue());
     }
 
+    @Test
+    void testDeserializeChunked() throws Exception {
+        JacksonBodyReader reader = JacksonBodyReader.create(new ObjectMapper());
+        Multi<DataChunk> chunks = Multi.just("{\"tit", "le\":\"The ", "Stand\"}")
+                .map(it -> DataChunk.create(it.getBytes(StandardCharsets.UTF_8)));
+        Book book = reader.read(chunks, GenericType.create(Book.class), MessageBodyReaderContext.create())
+                .get();
+
+        assertThat(book.getTitle(), is("The Stand"));
+    }
+
+    @Test
+    void testDeserializeEmpty() {
+        JacksonBodyReader reader = JacksonBodyReader.create(new ObjectMapper());
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                                             () -> reader.read(Multi.empty(), GenericType.create(Book.class),
+                                                               MessageBodyReaderContext.create())
+                                                     .get());
+
+        assertThat(ex.getCause(), instanceOf(JacksonRuntimeException.class));
+    }
+
     public static class Book {
         private String title;
 
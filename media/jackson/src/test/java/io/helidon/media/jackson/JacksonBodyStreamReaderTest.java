@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.jackson;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Multi;
+import io.helidon.media.common.MessageBodyReaderContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JacksonBodyStreamReaderTest {
+
+    private static final JacksonBodyStreamReader READER = JacksonBodyStreamReader.create(new ObjectMapper());
+
+    @Test
+    void testArrayElements() throws Exception {
+        List<String> titles = read(chunks("[{\"title\":\"The ", "Stand\"}, {\"ti", "tle\":\"It\"}", "]"));
+
+        assertThat(titles, is(List.of("The Stand", "It")));
+    }
+
+    @Test
+    void testNdJson() throws Exception {
+        List<String> titles = read(chunks("{\"title\":\"Carrie\"}\n{\"title\":", "\"Misery\"}\n"));
+
+        assertThat(titles, is(List.of("Carrie", "Misery")));
+    }
+
+    @Test
+    void testScalarElements() throws Exception {
+        List<Integer> numbers = READER.read(chunks("[1, 2", "3, null, 4]"), GenericType.create(Integer.class),
+                                            MessageBodyReaderContext.create())
+                .collectList()
+                .get();
+
+        assertThat(numbers, is(List.of(1, 23, 4)));
+    }
+
+    @Test
+    void testIncompleteArray() {
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> read(chunks("[{\"title\":\"It\"}")));
+
+        assertThat(ex.getCause(), instanceOf(JacksonRuntimeException.class));
+    }
+
+    @Test
+    void testBackpressure() throws Exception {
+        AtomicInteger received = new AtomicInteger();
+        Multi<DataChunk> chunks = chunks("[{\"title\":\"1\"},", "{\"title\":\"2\"},", "{\"title\":\"3\"},", "{\"title\":\"4\"}]")
+                .peek(chunk -> received.incrementAndGet());
+
+        JacksonBodyReaderTest.Book book = READER.read(chunks,
+                                                      GenericType.create(JacksonBodyReaderTest.Book.class),
+                                                      MessageBodyReaderContext.create())
+                .first()
+                .get();
+
+        assertThat(book.getTitle(), is("1"));
+        assertThat(received.get(), is(lessThanOrEqualTo(2)));
+    }
+
+    private static List<String> read(Multi<DataChunk> chunks) throws Exception {
+        return READER.read(chunks, GenericType.create(JacksonBodyReaderTest.Book.class), MessageBodyReaderContext.create())
+                .collectList()
+                .get()
+                .stream()
+                .map(JacksonBodyReaderTest.Book::getTitle)
+                .collect(Collectors.toList());
+    }
+
+    private static Multi<DataChunk> chunks(String... parts) {
+        return Multi.just(parts).map(it -> DataChunk.create(it.getBytes(StandardCharsets.UTF_8)));
+    }
+}
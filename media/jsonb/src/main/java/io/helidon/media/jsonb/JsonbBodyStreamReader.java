@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.jsonb;
+
+import java.io.ByteArrayInputStream;
+import java.util.Objects;
+import java.util.concurrent.Flow.Publisher;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Multi;
+import io.helidon.media.common.ContentReaders;
+import io.helidon.media.common.MessageBodyReaderContext;
+import io.helidon.media.common.MessageBodyStreamReader;
+
+import jakarta.json.bind.Jsonb;
+
+/**
+ * Message body stream reader supporting object binding with JSON-B.
+ * <p>
+ * Emits the elements of a top-level JSON array, or each top-level JSON value such as the lines
+ * of {@link io.helidon.common.http.MediaType#APPLICATION_X_NDJSON} content, as soon as they are received.
+ */
+class JsonbBodyStreamReader implements MessageBodyStreamReader<Object> {
+
+    private final Jsonb jsonb;
+
+    private JsonbBodyStreamReader(Jsonb jsonb) {
+        this.jsonb = Objects.requireNonNull(jsonb);
+    }
+
+    static JsonbBodyStreamReader create(Jsonb jsonb) {
+        return new JsonbBodyStreamReader(jsonb);
+    }
+
+    @Override
+    public PredicateResult accept(GenericType<?> type, MessageBodyReaderContext context) {
+        return !CharSequence.class.isAssignableFrom(type.rawType())
+                ? PredicateResult.COMPATIBLE
+                : PredicateResult.NOT_SUPPORTED;
+    }
+
+    @Override
+    public <U> Multi<U> read(Publisher<DataChunk> publisher, GenericType<U> type, MessageBodyReaderContext context) {
+        return ContentReaders.readJsonValues(publisher)
+                .map(bytes -> jsonb.fromJson(new ByteArrayInputStream(bytes), type.type()));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ import java.util.Objects;
 import io.helidon.common.LazyValue;
 import io.helidon.media.common.MediaSupport;
 import io.helidon.media.common.MessageBodyReader;
+import io.helidon.media.common.MessageBodyStreamReader;
 import io.helidon.media.common.MessageBodyStreamWriter;
 import io.helidon.media.common.MessageBodyWriter;
 
@@ -41,6 +42,7 @@ public final class JsonbSupport implements MediaSupport {
     private static final LazyValue<JsonbSupport> DEFAULT = LazyValue.create(() -> new JsonbSupport(JSON_B));
 
     private final JsonbBodyReader reader;
+    private final JsonbBodyStreamReader streamReader;
     private final JsonbBodyWriter writer;
     private final JsonbBodyStreamWriter streamWriter;
     private final JsonbEsBodyStreamWriter esStreamWriter;
@@ -48,6 +50,7 @@ public final class JsonbSupport implements MediaSupport {
 
     private JsonbSupport(Jsonb jsonb) {
         this.reader = JsonbBodyReader.create(jsonb);
+        this.streamReader = JsonbBodyStreamReader.create(jsonb);
         this.writer = JsonbBodyWriter.create(jsonb);
         this.streamWriter = JsonbBodyStreamWriter.create(jsonb);
         this.esStreamWriter = JsonbEsBodyStreamWriter.create(jsonb);
@@ -98,6 +101,28 @@ public final class JsonbSupport implements MediaSupport {
         return JsonbBodyReader.create(jsonb);
     }
 
+    /**
+     * Return a default JSON-B entity stream reader.
+     * The reader emits the elements of a top-level JSON array, or each top-level JSON value
+     * (such as {@link io.helidon.common.http.MediaType#APPLICATION_X_NDJSON} content), as they are received.
+     *
+     * @return default JSON-B body stream reader instance
+     */
+    public static MessageBodyStreamReader<Object> streamReader() {
+        return DEFAULT.get().streamReader;
+    }
+
+    /**
+     * Create a new JSON-B entity stream reader based on {@link Jsonb} instance.
+     *
+     * @param jsonb jsonb instance
+     * @return new JSON-B body stream reader instance
+     */
+    public static MessageBodyStreamReader<Object> streamReader(Jsonb jsonb) {
+        Objects.requireNonNull(jsonb);
+        return JsonbBodyStreamReader.create(jsonb);
+    }
+
     /**
      * Return a default JSON-B entity writer.
      *
@@ -191,6 +216,15 @@ public final class JsonbSupport implements MediaSupport {
         return reader;
     }
 
+    /**
+     * Return JSON-B stream reader instance.
+     *
+     * @return JSON-B stream reader instance
+     */
+    public MessageBodyStreamReader<Object> streamReaderInstance() {
+        return streamReader;
+    }
+
     /**
      * Return JSON-B writer instance.
      *
@@ -233,6 +267,11 @@ public final class JsonbSupport implements MediaSupport {
         return List.of(reader);
     }
 
+    @Override
+    public Collection<MessageBodyStreamReader<?>> streamReaders() {
+        return List.of(streamReader);
+    }
+
     @Override
     public Collection<MessageBodyWriter<?>> writers() {
         return List.of(writer);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,7 +15,6 @@
  */
 package io.helidon.media.jsonp;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.util.Objects;
@@ -55,17 +54,17 @@ final class JsonpBodyReader implements MessageBodyReader<JsonStructure> {
     public <U extends JsonStructure> Single<U> read(Publisher<DataChunk> publisher, GenericType<U> type,
             MessageBodyReaderContext context) {
 
-        return ContentReaders.readBytes(publisher)
-                .map(new BytesToJsonStructure<>(jsonFactory, type, context.charset()));
+        return ContentReaders.readInputStream(publisher)
+                .map(new InputStreamToJsonStructure<>(jsonFactory, type, context.charset()));
     }
 
-    private static final class BytesToJsonStructure<T extends JsonStructure> implements Mapper<byte[], T> {
+    private static final class InputStreamToJsonStructure<T extends JsonStructure> implements Mapper<InputStream, T> {
 
         private final JsonReaderFactory jsonFactory;
         private final GenericType<T> type;
         private final Charset charset;
 
-        BytesToJsonStructure(JsonReaderFactory jsonFactory, GenericType<T> type, Charset charset) {
+        InputStreamToJsonStructure(JsonReaderFactory jsonFactory, GenericType<T> type, Charset charset) {
             this.jsonFactory = jsonFactory;
             this.type = type;
             this.charset = charset;
@@ -73,8 +72,7 @@ final class JsonpBodyReader implements MessageBodyReader<JsonStructure> {
 
         @Override
         @SuppressWarnings("unchecked")
-        public T map(byte[] bytes) {
-            InputStream is = new ByteArrayInputStream(bytes);
+        public T map(InputStream is) {
             JsonReader reader = jsonFactory.createReader(is, charset);
             JsonStructure json = reader.read();
             if (!type.rawType().isAssignableFrom(json.getClass())) {
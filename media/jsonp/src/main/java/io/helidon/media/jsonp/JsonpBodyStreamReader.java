@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.jsonp;
+
+import java.io.ByteArrayInputStream;
+import java.util.Objects;
+import java.util.concurrent.Flow.Publisher;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Multi;
+import io.helidon.media.common.ContentReaders;
+import io.helidon.media.common.MessageBodyReaderContext;
+import io.helidon.media.common.MessageBodyStreamReader;
+
+import jakarta.json.JsonException;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
+import jakarta.json.JsonStructure;
+
+/**
+ * Message body stream reader for {@link JsonStructure} sub-classes (JSON-P).
+ * <p>
+ * Emits the elements of a top-level JSON array, or each top-level JSON value such as the lines
+ * of {@link io.helidon.common.http.MediaType#APPLICATION_X_NDJSON} content, as soon as they are received.
+ */
+final class JsonpBodyStreamReader implements MessageBodyStreamReader<JsonStructure> {
+
+    private final JsonReaderFactory jsonFactory;
+
+    JsonpBodyStreamReader(JsonReaderFactory jsonFactory) {
+        this.jsonFactory = Objects.requireNonNull(jsonFactory);
+    }
+
+    @Override
+    public PredicateResult accept(GenericType<?> type, MessageBodyReaderContext context) {
+        return PredicateResult.supports(JsonStructure.class, type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <U extends JsonStructure> Multi<U> read(Publisher<DataChunk> publisher, GenericType<U> type,
+                                                    MessageBodyReaderContext context) {
+
+        return ContentReaders.readJsonValues(publisher)
+                .map(bytes -> {
+                    try (JsonReader reader = jsonFactory.createReader(new ByteArrayInputStream(bytes), context.charset())) {
+                        JsonStructure json = reader.read();
+                        if (!type.rawType().isAssignableFrom(json.getClass())) {
+                            throw new JsonException("Unable to convert " + json.getClass() + " to " + type.rawType());
+                        }
+                        return (U) json;
+                    }
+                });
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.jsonp;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Multi;
+import io.helidon.media.common.MessageBodyReaderContext;
+import io.helidon.media.common.MessageBodyStreamReader;
+
+import jakarta.json.JsonObject;
+import jakarta.json.JsonStructure;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit test for {@link JsonpBodyStreamReader}.
+ */
+public class JsonpStreamReaderTest {
+
+    private static final MessageBodyReaderContext CONTEXT = MessageBodyReaderContext.create();
+
+    private static final MessageBodyStreamReader<JsonStructure> READER = JsonpSupport.streamReader();
+
+    @Test
+    public void arrayElements() throws Exception {
+        List<JsonObject> objects = readJsonObjects("[{ \"p\" : \"val", "1\" }, { \"p\" : \"val2\" }]");
+
+        assertThat(objects.size(), is(2));
+        assertThat(objects.get(0).getString("p"), is("val1"));
+        assertThat(objects.get(1).getString("p"), is("val2"));
+    }
+
+    @Test
+    public void ndJson() throws Exception {
+        List<JsonObject> objects = readJsonObjects("{ \"p\" : \"val1\" }\n{ \"p\" ", ": \"val2\" }\n");
+
+        assertThat(objects.size(), is(2));
+        assertThat(objects.get(1).getString("p"), is("val2"));
+    }
+
+    @Test
+    public void invalidJson() {
+        assertThrows(ExecutionException.class, () -> readJsonObjects("[{ \"p\" : \"val1\" }, { \"p\" : }]"));
+    }
+
+    private static List<JsonObject> readJsonObjects(String... parts) throws Exception {
+        Multi<DataChunk> chunks = Multi.just(parts).map(it -> DataChunk.create(it.getBytes(StandardCharsets.UTF_8)));
+        return Multi.create(READER.read(chunks, GenericType.create(JsonObject.class), CONTEXT))
+                .collectList()
+                .get();
+    }
+}
@@ -18,6 +18,7 @@ package io.helidon.media.multipart;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -294,14 +295,9 @@ final class MimeParser {
     private final int bl;
 
     /**
-     * BnM algorithm: Bad Character Shift table.
+     * BMH algorithm: shift of the search window for each byte value.
      */
-    private final int[] bcs = new int[128];
-
-    /**
-     * BnM algorithm : Good Suffix Shift table.
-     */
-    private final int[] gss;
+    private final int[] shifts = new int[256];
 
     /**
      * Read and process body partsList until we see the terminating boundary
@@ -340,7 +336,6 @@ final class MimeParser {
     MimeParser(String boundary) {
         bndbytes = getBytes("--" + boundary);
         bl = bndbytes.length;
-        gss = new int[bl];
         buf = new VirtualBuffer();
         compileBoundaryPattern();
     }
@@ -744,78 +739,45 @@ final class MimeParser {
     }
 
     /**
-     * Boyer-Moore search method.
-     * Copied from {@link java.util.regex.Pattern}
+     * Boyer-Moore-Horspool search method.
      * <p>
-     * Pre calculates arrays needed to generate the bad character shift and the
-     * good suffix shift. Only the last seven bits are used to see if chars
-     * match; This keeps the tables small and covers the heavily used ASCII
-     * range, but occasionally results in an aliased match for the bad character
-     * shift.
+     * Pre calculates the shift of the search window for each byte value: the
+     * distance from the last occurrence of the byte in the boundary (excluding
+     * its last byte) to the end of the boundary, or the boundary length if the
+     * byte does not occur in it. Body bytes that do not occur in the boundary
+     * skip the whole boundary length at once.
      */
     private void compileBoundaryPattern() {
-        int i;
-        int j;
-
-        // Precalculate part of the bad character shift
-        // It is a table for where in the pattern each
-        // lower 7-bit value occurs
-        for (i = 0; i < bndbytes.length; i++) {
-            bcs[bndbytes[i] & 0x7F] = i + 1;
-        }
-
-        // Precalculate the good suffix shift
-        // i is the shift amount being considered
-        NEXT:
-        for (i = bndbytes.length; i > 0; i--) {
-            // j is the beginning index of suffix being considered
-            for (j = bndbytes.length - 1; j >= i; j--) {
-                // Testing for good suffix
-                if (bndbytes[j] == bndbytes[j - i]) {
-                    // src[j..len] is a good suffix
-                    gss[j - 1] = i;
-                } else {
-                    // No match. The array has already been
-                    // filled up with correct values before.
-                    continue NEXT;
-                }
-            }
-            // This fills up the remaining of optoSft
-            // any suffix can not have larger shift amount
-            // then its sub-suffix. Why???
-            while (j > 0) {
-                gss[--j] = i;
-            }
+        Arrays.fill(shifts, bl);
+        for (int i = 0; i < bl - 1; i++) {
+            shifts[bndbytes[i] & 0xFF] = bl - 1 - i;
         }
-        // Set the guard value because of unicode compression
-        gss[bndbytes.length - 1] = 1;
     }
 
     /**
-     * Finds the boundary in the given buffer using Boyer-Moore algorithm.
-     * Copied from {@link java.util.regex.Pattern}
+     * Finds the boundary in the given buffer using Boyer-Moore-Horspool algorithm.
      *
      * @return -1 if there is no match or index where the match starts
      */
     private int match() {
-        int last = buf.length() - bndbytes.length;
+        int last = buf.length() - bl;
         int off = position;
 
         // Loop over all possible match positions in text
-        NEXT:
         while (off <= last) {
-            // Loop over pattern from right to left
-            for (int j = bndbytes.length - 1; j >= 0; j--) {
-                byte ch = buf.getByte(off + j);
-                if (ch != bndbytes[j]) {
-                    // Shift search to the right by the maximum of the
-                    // bad character shift and the good suffix shift
-                    off += Math.max(j + 1 - bcs[ch & 0x7F], gss[j]);
-                    continue NEXT;
+            byte ch = buf.getByte(off + bl - 1);
+            if (ch == bndbytes[bl - 1]) {
+                // Loop over the rest of the pattern from right to left
+                int j = bl - 2;
+                while (j >= 0 && buf.getByte(off + j) == bndbytes[j]) {
+                    j--;
+                }
+                if (j < 0) {
+                    // Entire pattern matched starting at off
+                    return off;
                 }
             }
-            // Entire pattern matched starting at off
-            return off;
+            off += shifts[ch & 0xFF];
         }
         return -1;
     }
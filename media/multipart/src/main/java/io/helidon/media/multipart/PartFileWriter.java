@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.multipart;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Single;
+
+/**
+ * Writes the content of body parts to files as it is received, such as to store uploaded files.
+ * <p>
+ * Each chunk of the part content is copied into a direct buffer and released right away, the next chunk is only
+ * requested once the buffer is written to the file. So at most one chunk of each part is held in memory whatever the
+ * size of the part, and the upload is slowed down to the speed of the disk rather than buffered. The copy replaces the
+ * one the JDK makes to a temporary direct buffer when a heap buffer is written to a file.
+ * <pre>{@code
+ * PartFileWriter writer = PartFileWriter.builder()
+ *         .directory(uploads)
+ *         .maxPartSize(500 * 1024 * 1024)
+ *         .build();
+ *
+ * request.content().asStream(ReadableBodyPart.class)
+ *         .forEach(part -> {
+ *             if ("file".equals(part.name())) {
+ *                 writer.write(part).thenAccept(file -> ...);
+ *             } else {
+ *                 part.drain();
+ *             }
+ *         });
+ * }</pre>
+ */
+public final class PartFileWriter {
+
+    private static final String FILE_PREFIX = "part-";
+
+    private final Path directory;
+    private final long maxPartSize;
+
+    private PartFileWriter(Builder builder) {
+        this.directory = builder.directory;
+        this.maxPartSize = builder.maxPartSize;
+    }
+
+    /**
+     * Create a new writer to the temporary directory, without a limit of the part size.
+     *
+     * @return PartFileWriter
+     */
+    public static PartFileWriter create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new builder of {@link PartFileWriter}.
+     *
+     * @return builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Write the content of the part to a new file in the directory of this writer.
+     * The name of the file is generated, the file name of the part sent by the client is not used.
+     *
+     * @param part part to write
+     * @return single completed with the written file, or with an error if the part could not be written
+     * or is larger than the maximum part size, in which case the file is deleted
+     */
+    public Single<Path> write(ReadableBodyPart part) {
+        Objects.requireNonNull(part, "part is null");
+        Path file;
+        try {
+            file = Files.createTempFile(directory, FILE_PREFIX, null);
+        } catch (IOException ex) {
+            part.drain();
+            return Single.error(ex);
+        }
+        return write(part, file);
+    }
+
+    /**
+     * Write the content of the part to the given file, the file is replaced if it exists.
+     *
+     * @param part part to write
+     * @param file file to write to
+     * @return single completed with the written file, or with an error if the part could not be written
+     * or is larger than the maximum part size, in which case the file is deleted
+     */
+    public Single<Path> write(ReadableBodyPart part, Path file) {
+        Objects.requireNonNull(part, "part is null");
+        Objects.requireNonNull(file, "file is null");
+        FileSubscriber subscriber = new FileSubscriber(file, maxPartSize);
+        part.content().subscribe(subscriber);
+        return Single.create(subscriber.result, true);
+    }
+
+    /**
+     * Fluent API builder of {@link PartFileWriter}.
+     */
+    public static final class Builder implements io.helidon.common.Builder<Builder, PartFileWriter> {
+
+        private Path directory = Path.of(System.getProperty("java.io.tmpdir"));
+        private long maxPartSize = Long.MAX_VALUE;
+
+        private Builder() {
+        }
+
+        @Override
+        public PartFileWriter build() {
+            return new PartFileWriter(this);
+        }
+
+        /**
+         * Directory in which the files of {@link #write(ReadableBodyPart)} are created,
+         * the temporary directory by default.
+         *
+         * @param directory directory
+         * @return updated builder instance
+         */
+        public Builder directory(Path directory) {
+            this.directory = Objects.requireNonNull(directory, "directory is null");
+            return this;
+        }
+
+        /**
+         * Maximum size of a written part in bytes, not limited by default.
+         * A larger part is not read further and its file is deleted.
+         *
+         * @param maxPartSize maximum part size
+         * @return updated builder instance
+         */
+        public Builder maxPartSize(long maxPartSize) {
+            if (maxPartSize < 0) {
+                throw new IllegalArgumentException("Negative max part size: " + maxPartSize);
+            }
+            this.maxPartSize = maxPartSize;
+            return this;
+        }
+    }
+
+    /**
+     * Writes each chunk before requesting the next one.
+     */
+    private static final class FileSubscriber implements Subscriber<DataChunk>, CompletionHandler<Integer, Void> {
+
+        private final CompletableFuture<Path> result = new CompletableFuture<>();
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private final Path file;
+        private final long maxPartSize;
+        private Subscription subscription;
+        private AsynchronousFileChannel channel;
+        private ByteBuffer buffer = ByteBuffer.allocateDirect(0);
+        private long position;
+        private volatile boolean writing;
+        private volatile boolean done;
+
+        private FileSubscriber(Path file, long maxPartSize) {
+            this.file = file;
+            this.maxPartSize = maxPartSize;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            try {
+                channel = AsynchronousFileChannel.open(file,
+                                                       StandardOpenOption.CREATE,
+                                                       StandardOpenOption.TRUNCATE_EXISTING,
+                                                       StandardOpenOption.WRITE);
+            } catch (IOException | RuntimeException ex) {
+                subscription.cancel();
+                fail(ex);
+                return;
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(DataChunk chunk) {
+            if (finished.get()) {
+                chunk.release();
+                return;
+            }
+            try {
+                int size = 0;
+                for (ByteBuffer data : chunk.data()) {
+                    size += data.remaining();
+                }
+                if (position + size > maxPartSize) {
+                    subscription.cancel();
+                    fail(new IllegalStateException("Part is larger than the maximum size of " + maxPartSize + " bytes"));
+                    return;
+                }
+                if (buffer.capacity() < size) {
+                    buffer = ByteBuffer.allocateDirect(Math.max(size, buffer.capacity() * 2));
+                }
+                buffer.clear();
+                for (ByteBuffer data : chunk.data()) {
+                    buffer.put(data.duplicate());
+                }
+                buffer.flip();
+            } finally {
+                // the chunk data is only valid until released, the copy is written
+                chunk.release();
+            }
+            writing = true;
+            channel.write(buffer, position, null, this);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            fail(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            if (!writing) {
+                finish();
+            }
+        }
+
+        @Override
+        public void completed(Integer written, Void attachment) {
+            position += written;
+            if (buffer.hasRemaining()) {
+                channel.write(buffer, position, null, this);
+                return;
+            }
+            writing = false;
+            if (done) {
+                finish();
+            } else {
+                subscription.request(1);
+            }
+        }
+
+        @Override
+        public void failed(Throwable throwable, Void attachment) {
+            subscription.cancel();
+            fail(throwable);
+        }
+
+        private void finish() {
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                channel.close();
+                result.complete(file);
+            } catch (IOException ex) {
+                delete();
+                result.completeExceptionally(ex);
+            }
+        }
+
+        private void fail(Throwable throwable) {
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+            if (channel != null) {
+                try {
+                    // a pending write fails once the channel is closed
+                    channel.close();
+                } catch (IOException ex) {
+                    throwable.addSuppressed(ex);
+                }
+            }
+            delete();
+            result.completeExceptionally(throwable);
+        }
+
+        private void delete() {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // the write already failed, nothing else can be done about the file
+            }
+        }
+    }
+}
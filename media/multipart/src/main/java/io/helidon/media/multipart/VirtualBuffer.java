@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -44,6 +44,9 @@ final class VirtualBuffer {
     private int voffset;
     private int vlength;
     private int nextId;
+    // last buffer accessed by getByte and its absolute start position, sequential reads do not walk the buffers
+    private int cachedIndex = -1;
+    private int cachedPos;
 
     /**
      * Create a new virtual buffer.
@@ -95,6 +98,7 @@ final class VirtualBuffer {
         count = 0;
         startIndex = 0;
         endIndex = 0;
+        cachedIndex = -1;
     }
 
     /**
@@ -121,6 +125,7 @@ final class VirtualBuffer {
         }
         count++;
         endIndex = nextBufferIndex(endIndex);
+        cachedIndex = -1;
         vlength = vlength + buffer.limit() - newOffset;
         int pos = 0; // absolute position for current buffer start
         int off = voffset + newOffset; // new absolute offset with current buffers
@@ -157,12 +162,26 @@ final class VirtualBuffer {
         if (index < 0 || index >= vlength) {
             throw new IndexOutOfBoundsException("Invalid index: " + index);
         }
-        int pos = 0; // absolute position for current buffer start
         int off = voffset + index; // actual offset
-        for (int i = startIndex; isBufferIndex(i); i = nextBufferIndex(i)) {
+        if (cachedIndex != -1) {
+            int cachedOff = off - cachedPos;
+            if (cachedOff >= 0 && cachedOff < buffers[cachedIndex].limit()) {
+                return buffers[cachedIndex].get(cachedOff);
+            }
+        }
+        int pos = 0; // absolute position for current buffer start
+        int i = startIndex;
+        if (cachedIndex != -1 && off >= cachedPos) {
+            // the index is past the cached buffer, resume the walk from there
+            pos = cachedPos;
+            i = cachedIndex;
+        }
+        for (; isBufferIndex(i); i = nextBufferIndex(i)) {
             ByteBuffer buffer = buffers[i];
             int nextPos = pos + buffer.limit();
             if (nextPos > off) {
+                cachedIndex = i;
+                cachedPos = pos;
                 return buffer.get(off - pos);
             }
             pos = nextPos;
@@ -292,6 +311,7 @@ final class VirtualBuffer {
         System.arraycopy(bufferIds, 0, newIds, count1, count2);
         buffers = newBuffers;
         bufferIds = newIds;
+        cachedIndex = -1;
         startIndex = 0;
         endIndex = count - 1;
     }
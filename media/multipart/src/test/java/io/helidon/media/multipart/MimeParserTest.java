@@ -17,6 +17,7 @@ package io.helidon.media.multipart;
 
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -673,6 +674,28 @@ public class MimeParserTest {
         assertThat(new String(part1.content), is(equalTo("part1")));
     }
 
+    @Test
+    public void testBodyWithNonAsciiBytes() {
+        String boundary = "boundary";
+        // bytes that differ from the boundary characters only in their highest bit
+        byte[] body = new byte[256];
+        for (int i = 0; i < body.length; i++) {
+            body[i] = (byte) ("--" + boundary).charAt(i % (boundary.length() + 2));
+            if (i % 3 == 0) {
+                body[i] |= (byte) 0x80;
+            }
+        }
+        final byte[] chunk1 = concat(("--" + boundary + "\n"
+                + "Content-Id: part1\n"
+                + "\n").getBytes(),
+                body,
+                ("\n--" + boundary + "--").getBytes());
+
+        List<MimePart> parts = parse(boundary, List.of(chunk1)).parts;
+        assertThat(parts.size(), is(equalTo(1)));
+        assertThat(Arrays.equals(parts.get(0).content, body), is(true));
+    }
+
     @Test
     public void testParserClosed() {
         try {
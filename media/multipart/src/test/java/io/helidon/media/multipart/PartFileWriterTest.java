@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.multipart;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static io.helidon.media.multipart.BodyPartTest.readableContent;
+import static io.helidon.media.multipart.MultiPartDecoderTest.chunksPublisher;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests {@link PartFileWriter}.
+ */
+public class PartFileWriterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testWriteToDirectory() throws IOException {
+        PartFileWriter writer = PartFileWriter.builder()
+                .directory(directory)
+                .build();
+
+        Path file = writer.write(part("abc", "def", "ghi")).await(10, TimeUnit.SECONDS);
+
+        assertThat(file.getParent(), is(directory));
+        assertThat(Files.readString(file), is("abcdefghi"));
+    }
+
+    @Test
+    public void testWriteToFile() throws IOException {
+        Path file = directory.resolve("part.txt");
+        Files.writeString(file, "previous content that is longer");
+
+        Path written = PartFileWriter.create().write(part("abc", "def"), file).await(10, TimeUnit.SECONDS);
+
+        assertThat(written, is(file));
+        assertThat(Files.readString(file), is("abcdef"));
+    }
+
+    @Test
+    public void testMaxPartSize() {
+        Path file = directory.resolve("part.txt");
+        PartFileWriter writer = PartFileWriter.builder()
+                .maxPartSize(5)
+                .build();
+
+        CompletionException ex = assertThrows(CompletionException.class,
+                                              () -> writer.write(part("abc", "def"), file).await(10, TimeUnit.SECONDS));
+
+        assertThat(ex.getCause(), is(instanceOf(IllegalStateException.class)));
+        assertThat("File of a too large part exists", Files.exists(file), is(false));
+    }
+
+    private static ReadableBodyPart part(String... chunks) {
+        List<byte[]> data = new ArrayList<>();
+        for (String chunk : chunks) {
+            data.add(chunk.getBytes(StandardCharsets.UTF_8));
+        }
+        return ReadableBodyPart.builder()
+                .content(readableContent(chunksPublisher(data)))
+                .build();
+    }
+}
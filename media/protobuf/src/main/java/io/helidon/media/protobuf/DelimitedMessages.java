@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.protobuf;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow.Publisher;
+import java.util.function.Function;
+
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Multi;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Parser;
+import com.google.protobuf.UnsafeByteOperations;
+
+/**
+ * Parses length-delimited messages as the chunks arrive.
+ * <p>
+ * Complete messages are parsed straight from the data of the chunk, only the bytes of a message split between
+ * chunks are copied and retained until the message is complete. Chunks are released as soon as they are parsed.
+ *
+ * @param <T> type of the messages
+ */
+final class DelimitedMessages<T> implements Function<DataChunk, Iterable<T>> {
+
+    private static final int MAX_VARINT_SIZE = 5;
+
+    private final Parser<T> parser;
+    private final ExtensionRegistryLite extensionRegistry;
+    private final int maxMessageSize;
+    private ByteString pending = ByteString.EMPTY;
+
+    private DelimitedMessages(Parser<T> parser, ExtensionRegistryLite extensionRegistry, int maxMessageSize) {
+        this.parser = parser;
+        this.extensionRegistry = extensionRegistry;
+        this.maxMessageSize = maxMessageSize;
+    }
+
+    /**
+     * Read the length-delimited messages of the content.
+     *
+     * @param publisher         content
+     * @param parser            parser of the messages
+     * @param extensionRegistry extensions to parse
+     * @param maxMessageSize    maximal size of a message, larger messages fail the stream before they are buffered
+     * @param <T>               type of the messages
+     * @return multi with the messages
+     */
+    static <T> Multi<T> read(Publisher<DataChunk> publisher,
+                             Parser<T> parser,
+                             ExtensionRegistryLite extensionRegistry,
+                             int maxMessageSize) {
+        return Multi.defer(() -> {
+            DelimitedMessages<T> decoder = new DelimitedMessages<>(parser, extensionRegistry, maxMessageSize);
+            // prefetch of one, so the upstream is not asked for more chunks than the downstream can take
+            return Multi.create(publisher)
+                    .flatMapIterable(decoder, 1)
+                    .onCompleteResumeWith(Multi.defer(decoder::finish));
+        });
+    }
+
+    @Override
+    public Iterable<T> apply(DataChunk chunk) {
+        List<T> messages = new ArrayList<>();
+        try {
+            for (ByteBuffer buffer : chunk.data()) {
+                if (!buffer.hasRemaining()) {
+                    continue;
+                }
+                if (pending.isEmpty()) {
+                    ByteString data = UnsafeByteOperations.unsafeWrap(buffer.duplicate());
+                    int offset = parse(data, messages);
+                    // the rest is copied, as the chunk is released
+                    pending = ByteString.copyFrom(data.substring(offset).asReadOnlyByteBuffer());
+                } else {
+                    pending = pending.concat(ByteString.copyFrom(buffer.duplicate()));
+                    pending = pending.substring(parse(pending, messages));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            chunk.release();
+        }
+        return messages;
+    }
+
+    private Multi<T> finish() {
+        if (pending.isEmpty()) {
+            return Multi.empty();
+        }
+        return Multi.error(new UncheckedIOException(new InvalidProtocolBufferException("Truncated length-delimited message")));
+    }
+
+    /**
+     * Parse the complete messages of the data.
+     *
+     * @return number of bytes parsed
+     */
+    private int parse(ByteString data, List<T> messages) throws InvalidProtocolBufferException {
+        int offset = 0;
+        int available = data.size();
+        while (offset < available) {
+            int size = 0;
+            int position = offset;
+            boolean complete = false;
+            for (int shift = 0; position < available; shift += 7) {
+                if (position - offset == MAX_VARINT_SIZE) {
+                    throw new InvalidProtocolBufferException("Malformed message size");
+                }
+                byte b = data.byteAt(position++);
+                size |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    complete = true;
+                    break;
+                }
+            }
+            if (!complete) {
+                break;
+            }
+            if (size < 0) {
+                throw new InvalidProtocolBufferException("Negative message size");
+            }
+            if (size > maxMessageSize) {
+                // failed before the rest of the message is buffered
+                throw new InvalidProtocolBufferException("Message size " + size + " exceeds the maximal size "
+                                                                 + maxMessageSize);
+            }
+            if (available - position < size) {
+                break;
+            }
+            messages.add(parser.parseFrom(data.substring(position, position + size), extensionRegistry));
+            offset = position + size;
+        }
+        return offset;
+    }
+}
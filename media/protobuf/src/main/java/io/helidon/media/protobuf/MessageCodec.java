@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.protobuf;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+
+import io.helidon.common.http.DataChunk;
+import io.helidon.media.common.ChunkBufferPool;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+
+/**
+ * Looks up the parsers of message types and encodes messages into data chunks.
+ * <p>
+ * Messages are encoded with {@link CodedOutputStream} straight into the buffer of their chunk, sized from the
+ * serialized size of the message, so there is no intermediate byte array. Messages that fit a buffer of the
+ * {@link ChunkBufferPool} are encoded into a pooled buffer, returned to the pool once the webserver has written it.
+ */
+final class MessageCodec {
+
+    private static final ClassValue<Parser<?>> PARSERS = new ClassValue<>() {
+        @Override
+        protected Parser<?> computeValue(Class<?> type) {
+            try {
+                MessageLite instance = (MessageLite) type.getMethod("getDefaultInstance").invoke(null);
+                return instance.getParserForType();
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                throw new IllegalArgumentException("Class " + type.getName() + " is not a generated protobuf message", e);
+            }
+        }
+    };
+
+    private MessageCodec() {
+    }
+
+    /**
+     * Whether the type is a concrete message type.
+     *
+     * @param type entity type
+     * @return {@code true} if the type is a generated message type
+     */
+    static boolean isMessage(Class<?> type) {
+        return MessageLite.class.isAssignableFrom(type)
+                && !type.isInterface()
+                && !Modifier.isAbstract(type.getModifiers());
+    }
+
+    /**
+     * Parser of the message type, looked up once per type.
+     *
+     * @param type message type
+     * @param <T>  message type
+     * @return parser
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Parser<T> parser(Class<T> type) {
+        return (Parser<T>) PARSERS.get(type);
+    }
+
+    /**
+     * Encode a message into a new chunk.
+     *
+     * @param message   message to encode
+     * @param delimited whether the message is preceded by its size, to be written in a stream of messages
+     * @return data chunk
+     */
+    static DataChunk encode(MessageLite message, boolean delimited) {
+        int size = message.getSerializedSize();
+        int length = delimited ? CodedOutputStream.computeUInt32SizeNoTag(size) + size : size;
+        boolean pooled = length <= ChunkBufferPool.BUFFER_SIZE;
+        ByteBuffer buffer = pooled ? ChunkBufferPool.acquire() : ByteBuffer.allocate(length);
+        try {
+            CodedOutputStream out = CodedOutputStream.newInstance(buffer);
+            if (delimited) {
+                out.writeUInt32NoTag(size);
+            }
+            message.writeTo(out);
+            // updates the position of the buffer
+            out.flush();
+        } catch (IOException e) {
+            if (pooled) {
+                ChunkBufferPool.release(buffer);
+            }
+            throw new UncheckedIOException(e);
+        }
+        buffer.flip();
+        return pooled
+                ? DataChunk.create(false, () -> ChunkBufferPool.release(buffer), buffer)
+                : DataChunk.create(false, buffer);
+    }
+}
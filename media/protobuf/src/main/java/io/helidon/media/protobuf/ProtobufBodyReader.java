@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.protobuf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.Flow.Publisher;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Single;
+import io.helidon.media.common.ContentReaders;
+import io.helidon.media.common.MessageBodyReader;
+import io.helidon.media.common.MessageBodyReaderContext;
+
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.Parser;
+
+/**
+ * Message body reader parsing a Protocol Buffers message.
+ */
+final class ProtobufBodyReader implements MessageBodyReader<Object> {
+
+    private final ExtensionRegistryLite extensionRegistry;
+
+    private ProtobufBodyReader(ExtensionRegistryLite extensionRegistry) {
+        this.extensionRegistry = extensionRegistry;
+    }
+
+    static ProtobufBodyReader create(ExtensionRegistryLite extensionRegistry) {
+        return new ProtobufBodyReader(extensionRegistry);
+    }
+
+    @Override
+    public PredicateResult accept(GenericType<?> type, MessageBodyReaderContext context) {
+        return MessageCodec.isMessage(type.rawType()) && ProtobufSupport.readable(context)
+                ? PredicateResult.SUPPORTED
+                : PredicateResult.NOT_SUPPORTED;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <U> Single<U> read(Publisher<DataChunk> publisher, GenericType<U> type, MessageBodyReaderContext context) {
+        Parser<U> parser = MessageCodec.parser((Class<U>) type.rawType());
+        return ContentReaders.readInputStream(publisher)
+                .map(in -> parse(parser, in));
+    }
+
+    private <U> U parse(Parser<U> parser, InputStream in) {
+        try (in) {
+            return parser.parseFrom(in, extensionRegistry);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.protobuf;
+
+import java.util.concurrent.Flow.Publisher;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Multi;
+import io.helidon.media.common.MessageBodyReaderContext;
+import io.helidon.media.common.MessageBodyStreamReader;
+
+import com.google.protobuf.ExtensionRegistryLite;
+
+/**
+ * Message body stream reader parsing length-delimited Protocol Buffers messages.
+ */
+final class ProtobufBodyStreamReader implements MessageBodyStreamReader<Object> {
+
+    private final ExtensionRegistryLite extensionRegistry;
+    private final int maxMessageSize;
+
+    private ProtobufBodyStreamReader(ExtensionRegistryLite extensionRegistry, int maxMessageSize) {
+        this.extensionRegistry = extensionRegistry;
+        this.maxMessageSize = maxMessageSize;
+    }
+
+    static ProtobufBodyStreamReader create(ExtensionRegistryLite extensionRegistry, int maxMessageSize) {
+        return new ProtobufBodyStreamReader(extensionRegistry, maxMessageSize);
+    }
+
+    @Override
+    public PredicateResult accept(GenericType<?> type, MessageBodyReaderContext context) {
+        return MessageCodec.isMessage(type.rawType()) && ProtobufSupport.readable(context)
+                ? PredicateResult.SUPPORTED
+                : PredicateResult.NOT_SUPPORTED;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <U> Multi<U> read(Publisher<DataChunk> publisher, GenericType<U> type, MessageBodyReaderContext context) {
+        return DelimitedMessages.read(publisher,
+                                      MessageCodec.parser((Class<U>) type.rawType()),
+                                      extensionRegistry,
+                                      maxMessageSize);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.protobuf;
+
+import java.util.concurrent.Flow.Publisher;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Single;
+import io.helidon.media.common.MessageBodyWriter;
+import io.helidon.media.common.MessageBodyWriterContext;
+
+import com.google.protobuf.MessageLite;
+
+/**
+ * Message body writer encoding a Protocol Buffers message.
+ */
+final class ProtobufBodyWriter implements MessageBodyWriter<Object> {
+
+    private ProtobufBodyWriter() {
+    }
+
+    static ProtobufBodyWriter create() {
+        return new ProtobufBodyWriter();
+    }
+
+    @Override
+    public PredicateResult accept(GenericType<?> type, MessageBodyWriterContext context) {
+        return MessageCodec.isMessage(type.rawType()) && ProtobufSupport.writable(context)
+                ? PredicateResult.SUPPORTED
+                : PredicateResult.NOT_SUPPORTED;
+    }
+
+    @Override
+    public Publisher<DataChunk> write(Single<?> content, GenericType<?> type, MessageBodyWriterContext context) {
+        context.contentType(ProtobufSupport.APPLICATION_X_PROTOBUF);
+        return content.map(message -> MessageCodec.encode((MessageLite) message, false));
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.protobuf;
+
+import io.helidon.config.Config;
+import io.helidon.media.common.MediaSupport;
+import io.helidon.media.common.spi.MediaSupportProvider;
+
+/**
+ * Protocol Buffers media support provider.
+ */
+public class ProtobufProvider implements MediaSupportProvider {
+
+    private static final String PROTOBUF = "protobuf";
+
+    @Override
+    public MediaSupport create(Config config) {
+        return ProtobufSupport.builder().config(config).build();
+    }
+
+    @Override
+    public String configKey() {
+        return PROTOBUF;
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.protobuf;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import io.helidon.common.LazyValue;
+import io.helidon.common.http.MediaType;
+import io.helidon.config.Config;
+import io.helidon.media.common.MediaSupport;
+import io.helidon.media.common.MessageBodyReader;
+import io.helidon.media.common.MessageBodyReaderContext;
+import io.helidon.media.common.MessageBodyStreamReader;
+import io.helidon.media.common.MessageBodyStreamWriter;
+import io.helidon.media.common.MessageBodyWriter;
+import io.helidon.media.common.MessageBodyWriterContext;
+
+import com.google.protobuf.ExtensionRegistryLite;
+
+/**
+ * Support for Protocol Buffers messages.
+ * <p>
+ * Generated message types (any {@link com.google.protobuf.MessageLite}) are read from content with the
+ * {@code application/x-protobuf} (or {@code application/protobuf}) {@code Content-Type}, and written as
+ * {@code application/x-protobuf} unless the {@code Content-Type} is already set to another type or the accepted
+ * types do not include it.
+ * <p>
+ * A single entity is the message itself. A stream of entities is a sequence of length-delimited messages, each
+ * message preceded by its size as a varint, the same as written by
+ * {@link com.google.protobuf.MessageLite#writeDelimitedTo(java.io.OutputStream)}. A message of a stream larger than
+ * the {@link Builder#maxMessageSize(int) maximal message size} fails the stream as soon as its size is read.
+ *
+ * For usage examples navigate to the {@link MediaSupport}.
+ */
+public final class ProtobufSupport implements MediaSupport {
+
+    /**
+     * Protocol Buffers media type.
+     */
+    public static final MediaType APPLICATION_X_PROTOBUF = MediaType.create("application", "x-protobuf");
+
+    /**
+     * Protocol Buffers media type without the {@code x-} prefix, accepted when reading.
+     */
+    public static final MediaType APPLICATION_PROTOBUF = MediaType.create("application", "protobuf");
+
+    /**
+     * Default maximal size of a message of a stream, the same as the default maximal message size of gRPC.
+     */
+    public static final int DEFAULT_MAX_MESSAGE_SIZE = 4 * 1024 * 1024;
+
+    private static final LazyValue<ProtobufSupport> DEFAULT =
+            LazyValue.create(() -> new ProtobufSupport(ExtensionRegistryLite.getEmptyRegistry(),
+                                                       DEFAULT_MAX_MESSAGE_SIZE));
+
+    private final ProtobufBodyReader reader;
+    private final ProtobufBodyStreamReader streamReader;
+    private final ProtobufBodyWriter writer;
+    private final ProtobufBodyStreamWriter streamWriter;
+
+    private ProtobufSupport(ExtensionRegistryLite extensionRegistry, int maxMessageSize) {
+        this.reader = ProtobufBodyReader.create(extensionRegistry);
+        this.streamReader = ProtobufBodyStreamReader.create(extensionRegistry, maxMessageSize);
+        this.writer = ProtobufBodyWriter.create();
+        this.streamWriter = ProtobufBodyStreamWriter.create();
+    }
+
+    /**
+     * Creates a new {@link ProtobufSupport}.
+     *
+     * @return a new {@link ProtobufSupport}
+     */
+    public static ProtobufSupport create() {
+        return DEFAULT.get();
+    }
+
+    /**
+     * Creates a new {@link ProtobufSupport} parsing extensions of the messages.
+     *
+     * @param extensionRegistry registry of the extensions to parse
+     * @return a new {@link ProtobufSupport}
+     */
+    public static ProtobufSupport create(ExtensionRegistryLite extensionRegistry) {
+        return builder().extensionRegistry(extensionRegistry).build();
+    }
+
+    /**
+     * Fluent API builder to create instances of {@link ProtobufSupport}.
+     *
+     * @return a new builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Return a default Protocol Buffers entity reader.
+     *
+     * @return default reader instance
+     */
+    public static MessageBodyReader<Object> reader() {
+        return DEFAULT.get().reader;
+    }
+
+    /**
+     * Return a default Protocol Buffers entity stream reader.
+     *
+     * @return default stream reader instance
+     */
+    public static MessageBodyStreamReader<Object> streamReader() {
+        return DEFAULT.get().streamReader;
+    }
+
+    /**
+     * Return a default Protocol Buffers entity writer.
+     *
+     * @return default writer instance
+     */
+    public static MessageBodyWriter<Object> writer() {
+        return DEFAULT.get().writer;
+    }
+
+    /**
+     * Return a default Protocol Buffers entity stream writer.
+     *
+     * @return default stream writer instance
+     */
+    public static MessageBodyStreamWriter<Object> streamWriter() {
+        return DEFAULT.get().streamWriter;
+    }
+
+    @Override
+    public Collection<MessageBodyReader<?>> readers() {
+        return List.of(reader);
+    }
+
+    @Override
+    public Collection<MessageBodyStreamReader<?>> streamReaders() {
+        return List.of(streamReader);
+    }
+
+    @Override
+    public Collection<MessageBodyWriter<?>> writers() {
+        return List.of(writer);
+    }
+
+    @Override
+    public Collection<MessageBodyStreamWriter<?>> streamWriters() {
+        return List.of(streamWriter);
+    }
+
+    /**
+     * Whether the content is Protocol Buffers, parameters of the {@code Content-Type} are ignored.
+     *
+     * @param context reader context
+     * @return {@code true} if the content type is a Protocol Buffers media type
+     */
+    static boolean readable(MessageBodyReaderContext context) {
+        return context.contentType()
+                .map(type -> matches(APPLICATION_X_PROTOBUF, type) || matches(APPLICATION_PROTOBUF, type))
+                .orElse(false);
+    }
+
+    /**
+     * Whether an entity may be written as Protocol Buffers: the {@code Content-Type} is not set to another type,
+     * and the accepted types (if any) include {@code application/x-protobuf}.
+     *
+     * @param context writer context
+     * @return {@code true} if the entity may be written as Protocol Buffers
+     */
+    static boolean writable(MessageBodyWriterContext context) {
+        return context.contentType()
+                .map(type -> matches(APPLICATION_X_PROTOBUF, type) || matches(APPLICATION_PROTOBUF, type))
+                .orElseGet(() -> context.acceptedTypes().isEmpty()
+                        || context.acceptedTypes().stream().anyMatch(APPLICATION_X_PROTOBUF));
+    }
+
+    private static boolean matches(MediaType mediaType, MediaType other) {
+        return mediaType.type().equalsIgnoreCase(other.type())
+                && mediaType.subtype().equalsIgnoreCase(other.subtype());
+    }
+
+    /**
+     * Fluent-API builder for {@link ProtobufSupport}.
+     */
+    public static final class Builder implements io.helidon.common.Builder<Builder, ProtobufSupport> {
+
+        private ExtensionRegistryLite extensionRegistry = ExtensionRegistryLite.getEmptyRegistry();
+        private int maxMessageSize = DEFAULT_MAX_MESSAGE_SIZE;
+
+        private Builder() {
+        }
+
+        @Override
+        public ProtobufSupport build() {
+            return new ProtobufSupport(extensionRegistry, maxMessageSize);
+        }
+
+        /**
+         * Update this builder from configuration.
+         * The {@code max-message-size} key sets the {@link #maxMessageSize(int) maximal message size}.
+         *
+         * @param config configuration of the Protocol Buffers support
+         * @return updated builder instance
+         */
+        public Builder config(Config config) {
+            config.get("max-message-size").asInt().ifPresent(this::maxMessageSize);
+            return this;
+        }
+
+        /**
+         * Registry of the extensions to parse.
+         *
+         * @param extensionRegistry registry of the extensions
+         * @return updated builder instance
+         */
+        public Builder extensionRegistry(ExtensionRegistryLite extensionRegistry) {
+            this.extensionRegistry = Objects.requireNonNull(extensionRegistry);
+            return this;
+        }
+
+        /**
+         * Maximal size in bytes of a length-delimited message of a stream.
+         * A stream declaring a larger message fails with {@link com.google.protobuf.InvalidProtocolBufferException}
+         * before any byte of the message is buffered.
+         * Defaults to {@value ProtobufSupport#DEFAULT_MAX_MESSAGE_SIZE}.
+         *
+         * @param maxMessageSize maximal size of a message
+         * @return updated builder instance
+         */
+        public Builder maxMessageSize(int maxMessageSize) {
+            if (maxMessageSize < 0) {
+                throw new IllegalArgumentException("Max message size must not be negative: " + maxMessageSize);
+            }
+            this.maxMessageSize = maxMessageSize;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.protobuf;
+
+import java.io.ByteArrayOutputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow.Publisher;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.HashParameters;
+import io.helidon.common.http.Http;
+import io.helidon.common.http.MediaType;
+import io.helidon.common.http.ReadOnlyParameters;
+import io.helidon.common.reactive.Multi;
+import io.helidon.common.reactive.Single;
+import io.helidon.media.common.ContentReaders;
+import io.helidon.media.common.MediaContext;
+import io.helidon.media.common.MessageBodyOperator;
+import io.helidon.media.common.MessageBodyReaderContext;
+import io.helidon.media.common.MessageBodyWriterContext;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.StringValue;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ProtobufSupportTest {
+
+    private static final MediaContext MEDIA_CONTEXT = MediaContext.builder()
+            .addMediaSupport(ProtobufSupport.create())
+            .build();
+    private static final GenericType<StringValue> TYPE = GenericType.create(StringValue.class);
+
+    @Test
+    void testRoundTrip() throws Exception {
+        StringValue message = value("The Stand");
+        MessageBodyWriterContext writerContext = writerContext(ProtobufSupport.APPLICATION_X_PROTOBUF);
+        byte[] bytes = bytes(writerContext.marshall(Single.just(message), TYPE));
+
+        assertThat(writerContext.headers().first(Http.Header.CONTENT_TYPE), is(Optional.of("application/x-protobuf")));
+        assertThat(Arrays.equals(bytes, message.toByteArray()), is(true));
+
+        StringValue read = readerContext().unmarshall(Multi.just(DataChunk.create(bytes)), TYPE).get();
+        assertThat(read, is(message));
+    }
+
+    @Test
+    void testStreamRoundTrip() throws Exception {
+        List<StringValue> messages = List.of(value("The Stand"), value(""), value("x".repeat(20_000)), value("It"));
+        byte[] bytes = bytes(writerContext(ProtobufSupport.APPLICATION_X_PROTOBUF)
+                                     .marshallStream(Multi.create(messages), TYPE));
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        for (StringValue message : messages) {
+            message.writeDelimitedTo(expected);
+        }
+        assertThat(Arrays.equals(bytes, expected.toByteArray()), is(true));
+
+        // messages split between chunks of every size
+        for (int chunkSize : new int[] {1, 2, 7, 4096, bytes.length}) {
+            List<StringValue> read = Multi.create(readerContext().unmarshallStream(chunks(bytes, chunkSize), TYPE))
+                    .collectList()
+                    .get();
+            assertThat("Chunk size " + chunkSize, read, is(messages));
+        }
+    }
+
+    @Test
+    void testTruncatedStream() {
+        byte[] bytes = value("The Stand").toByteArray();
+        byte[] delimited = new byte[bytes.length];
+        delimited[0] = (byte) bytes.length;
+        System.arraycopy(bytes, 0, delimited, 1, bytes.length - 1);
+
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                                             () -> Multi.create(readerContext()
+                                                                        .unmarshallStream(chunks(delimited, 3), TYPE))
+                                                     .collectList()
+                                                     .get());
+        assertThat(ex.getCause(), instanceOf(UncheckedIOException.class));
+    }
+
+    @Test
+    void testMessageTooLarge() {
+        MediaContext mediaContext = MediaContext.builder()
+                .addMediaSupport(ProtobufSupport.builder().maxMessageSize(100).build())
+                .build();
+        // only the size of a huge message is sent, the stream fails without waiting for its bytes
+        byte[] size = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0x07};
+        MessageBodyReaderContext readerContext =
+                MessageBodyReaderContext.create(mediaContext, null, ReadOnlyParameters.empty(),
+                                                Optional.of(ProtobufSupport.APPLICATION_X_PROTOBUF));
+
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                                             () -> Multi.create(readerContext.unmarshallStream(chunks(size, 5), TYPE))
+                                                     .collectList()
+                                                     .get());
+        assertThat(ex.getCause(), instanceOf(UncheckedIOException.class));
+        assertThat(ex.getCause().getCause(), instanceOf(InvalidProtocolBufferException.class));
+    }
+
+    @Test
+    void testNotAccepted() {
+        MessageBodyWriterContext writerContext = writerContext(MediaType.APPLICATION_JSON);
+
+        assertThat(ProtobufSupport.writer().accept(TYPE, writerContext), is(MessageBodyOperator.PredicateResult.NOT_SUPPORTED));
+        assertThat(ProtobufSupport.streamWriter().accept(TYPE, writerContext),
+                   is(MessageBodyOperator.PredicateResult.NOT_SUPPORTED));
+        assertThat(ProtobufSupport.writer().accept(GenericType.create(String.class),
+                                                   writerContext(ProtobufSupport.APPLICATION_X_PROTOBUF)),
+                   is(MessageBodyOperator.PredicateResult.NOT_SUPPORTED));
+    }
+
+    private static StringValue value(String value) {
+        return StringValue.newBuilder().setValue(value).build();
+    }
+
+    private static Multi<DataChunk> chunks(byte[] bytes, int chunkSize) {
+        return Multi.range(0, (bytes.length + chunkSize - 1) / chunkSize)
+                .map(i -> DataChunk.create(Arrays.copyOfRange(bytes, i * chunkSize,
+                                                              Math.min(bytes.length, (i + 1) * chunkSize))));
+    }
+
+    private static MessageBodyWriterContext writerContext(MediaType accepted) {
+        return MessageBodyWriterContext.create(MEDIA_CONTEXT, null, HashParameters.create(), List.of(accepted));
+    }
+
+    private static MessageBodyReaderContext readerContext() {
+        return MessageBodyReaderContext.create(MEDIA_CONTEXT, null, ReadOnlyParameters.empty(),
+                                               Optional.of(ProtobufSupport.APPLICATION_X_PROTOBUF));
+    }
+
+    private static byte[] bytes(Publisher<DataChunk> chunks) throws Exception {
+        return ContentReaders.readBytes(chunks).get();
+    }
+}
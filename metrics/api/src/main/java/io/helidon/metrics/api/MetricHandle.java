@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.metrics.api;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.metrics.Metric;
+
+/**
+ * A metric bound once at the call site, so updating it does not look it up in its registry each time.
+ * <p>
+ *     The handle looks the metric up on first use and keeps it. The metric is looked up again only if it has been
+ *     removed from its registry, in which case the lookup registers a new one.
+ * </p>
+ * <pre>{@code
+ * private static final MetricHandle<Counter> REQUESTS = MetricHandle.create(() -> registry.counter("requests"));
+ * ...
+ * REQUESTS.get().inc();
+ * }</pre>
+ *
+ * @param <T> type of the metric
+ */
+public final class MetricHandle<T extends Metric> implements Supplier<T> {
+
+    private final Supplier<T> lookup;
+    private volatile T metric;
+
+    private MetricHandle(Supplier<T> lookup) {
+        this.lookup = lookup;
+    }
+
+    /**
+     * Create a new handle.
+     *
+     * @param lookup looks up (registering if needed) the metric in its registry, such as
+     *               {@code () -> registry.counter(metadata, tags)}
+     * @param <T> type of the metric
+     * @return a new handle
+     */
+    public static <T extends Metric> MetricHandle<T> create(Supplier<T> lookup) {
+        return new MetricHandle<>(Objects.requireNonNull(lookup, "lookup is null"));
+    }
+
+    /**
+     * The bound metric.
+     *
+     * @return metric
+     */
+    @Override
+    public T get() {
+        T result = metric;
+        if (result == null || HelidonMetric.isMarkedAsDeleted(result)) {
+            // concurrent callers may both look the metric up, the registry returns the same one to both
+            result = lookup.get();
+            metric = result;
+        }
+        return result;
+    }
+}
@@ -32,9 +32,9 @@ import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -58,10 +58,15 @@ import org.eclipse.microprofile.metrics.Tag;
  *     metrics, and metric IDs, there is a bewildering set of method signatures that can update or query the data structures
  *     holding all this information. That, plus the type generality, makes for quite the class here.
  * </p>
+ * <p>
+ *     Lookups do not lock: the maps are concurrent and the lists of metric IDs by name are copy-on-write, so a metric which
+ *     is already registered is found without contention. Only registrations and removals, which update several structures
+ *     together, are serialized.
+ * </p>
  */
 class MetricStore<M extends HelidonMetric> {
 
-    private final ReadWriteLock lock = new ReentrantReadWriteLock(true);
+    private final Lock lock = new ReentrantLock();
 
     private final Map<MetricID, M> allMetrics = new ConcurrentHashMap<>();
     private final Map<String, List<MetricID>> allMetricIDsByName = new ConcurrentHashMap<>();
@@ -121,6 +126,10 @@ class MetricStore<M extends HelidonMetric> {
     }
 
     <U extends Metric> U getOrRegisterMetric(String metricName, Class<U> clazz, Tag... tags) {
+        M metric = allMetrics.get(new MetricID(metricName, tags));
+        if (metric != null) {
+            return toType(metric, clazz);
+        }
         return getOrRegisterMetric(metricName,
                                    clazz,
                                    () -> getMetricLocked(metricName, tags),
@@ -129,6 +138,11 @@ class MetricStore<M extends HelidonMetric> {
     }
 
     <U extends Metric> U getOrRegisterMetric(Metadata newMetadata, Class<U> clazz, Tag... tags) {
+        M existing = allMetrics.get(new MetricID(newMetadata.getName(), tags));
+        if (existing != null) {
+            enforceConsistentMetadata(existing.metadata(), newMetadata);
+            return toType(existing, clazz);
+        }
         return writeAccess(() -> {
             M metric = getMetricLocked(newMetadata.getName(), tags);
             if (metric == null) {
@@ -206,6 +220,10 @@ class MetricStore<M extends HelidonMetric> {
                                                            Supplier<Metadata> metadataFinder,
                                                            Supplier<MetricID> metricIDSupplier,
                                                            Function<Metadata, Gauge<R>> gaugeFactory) {
+        M existing = metricFinder.get();
+        if (existing != null) {
+            return (Gauge<R>) existing;
+        }
         return writeAccess(() -> {
             M metric = metricFinder.get();
             if (metric == null) {
@@ -309,14 +327,11 @@ class MetricStore<M extends HelidonMetric> {
     }
 
     Map.Entry<Metadata, List<MetricID>> metadataWithIDs(String metricName) {
-        return readAccess(() -> {
-                              Metadata metadata = allMetadata.get(metricName);
-                              List<MetricID> metricIDs = allMetricIDsByName.get(metricName);
-                              return (metadata == null || metricIDs == null || metricIDs.isEmpty())
-                                      ? null
-                                      : new AbstractMap.SimpleEntry<>(metadata, metricIDs);
-                          }
-        );
+        Metadata metadata = allMetadata.get(metricName);
+        List<MetricID> metricIDs = allMetricIDsByName.get(metricName);
+        return (metadata == null || metricIDs == null || metricIDs.isEmpty())
+                ? null
+                : new AbstractMap.SimpleEntry<>(metadata, metricIDs);
     }
 
     M metric(MetricID metricID) {
@@ -343,33 +358,29 @@ class MetricStore<M extends HelidonMetric> {
      * @return matching metric; null if no metric is registered with the specified name
      */
     Map.Entry<MetricID, M> untaggedOrFirstMetricWithID(String metricName) {
-        return readAccess(() -> {
-            List<MetricID> metricIDs = allMetricIDsByName.get(metricName);
-            if (metricIDs == null || metricIDs.isEmpty()) {
-                return null;
-            }
-            MetricID metricID = null;
-            for (MetricID candidate : metricIDs) {
-                if (metricID == null || candidate.getTags().isEmpty()) {
-                    metricID = candidate;
-                }
+        List<MetricID> metricIDs = allMetricIDsByName.get(metricName);
+        if (metricIDs == null || metricIDs.isEmpty()) {
+            return null;
+        }
+        MetricID metricID = null;
+        for (MetricID candidate : metricIDs) {
+            if (metricID == null || candidate.getTags().isEmpty()) {
+                metricID = candidate;
             }
-            return new AbstractMap.SimpleImmutableEntry<>(metricID, allMetrics.get(metricID));
-        });
+        }
+        return new AbstractMap.SimpleImmutableEntry<>(metricID, allMetrics.get(metricID));
     }
 
     List<Map.Entry<MetricID, M>> metricsWithIDs(String metricName) {
-        return readAccess(() -> {
-            List<MetricID> metricIDs = allMetricIDsByName.get(metricName);
-            if (metricIDs == null) {
-                return Collections.emptyList();
-            }
-            List<Map.Entry<MetricID, M>> result = new ArrayList<>();
-            for (MetricID metricID : metricIDs) {
-                result.add(new AbstractMap.SimpleImmutableEntry<>(metricID, allMetrics.get(metricID)));
-            }
-            return result;
-        });
+        List<MetricID> metricIDs = allMetricIDsByName.get(metricName);
+        if (metricIDs == null) {
+            return Collections.emptyList();
+        }
+        List<Map.Entry<MetricID, M>> result = new ArrayList<>();
+        for (MetricID metricID : metricIDs) {
+            result.add(new AbstractMap.SimpleImmutableEntry<>(metricID, allMetrics.get(metricID)));
+        }
+        return result;
     }
 
     List<MetricID> metricIDs(String metricName) {
@@ -389,6 +400,10 @@ class MetricStore<M extends HelidonMetric> {
                                                      Supplier<M> metricFactory,
                                                      Supplier<MetricID> metricIDFactory,
                                                      Supplier<Metadata> metadataFactory) {
+        M existing = metricFactory.get();
+        if (existing != null) {
+            return toType(existing, clazz);
+        }
         return writeAccess(() -> {
             M metric = metricFactory.get();
             if (metric == null) {
@@ -424,7 +439,7 @@ class MetricStore<M extends HelidonMetric> {
     private <T extends M> T registerMetricLocked(MetricID metricID, T metric) {
         allMetrics.put(metricID, metric);
         allMetricIDsByName
-                .computeIfAbsent(metricID.getName(), k -> new ArrayList<>())
+                .computeIfAbsent(metricID.getName(), k -> new CopyOnWriteArrayList<>())
                 .add(metricID);
         return metric;
     }
@@ -535,15 +550,7 @@ class MetricStore<M extends HelidonMetric> {
         return (Class<? extends Metric>) clazz;
     }
 
-    private <S> S readAccess(Callable<S> action) {
-        return access(lock.readLock(), action);
-    }
-
     private <S> S writeAccess(Callable<S> action) {
-        return access(lock.writeLock(), action);
-    }
-
-    private <S> S access(Lock lock, Callable<S> action) {
         lock.lock();
         try {
             return action.call();
@@ -15,6 +15,8 @@
  */
 package io.helidon.metrics.api;
 
+import java.time.Duration;
+import java.util.Locale;
 import java.util.Map;
 
 import io.helidon.config.Config;
@@ -121,6 +123,64 @@ public interface MetricsSettings {
      */
     String appTagValue();
 
+    /**
+     * Returns the kind of reservoir histograms and timers use to compute their snapshots.
+     *
+     * @return histogram reservoir kind
+     */
+    HistogramReservoir histogramReservoir();
+
+    /**
+     * Returns the precision of the buckets of {@link HistogramReservoir#LOG_LINEAR log-linear} histogram reservoirs.
+     *
+     * @return number of bits of precision
+     */
+    int histogramPrecision();
+
+    /**
+     * Returns the minimum time an exemplar is kept before it can be replaced by a newer one.
+     *
+     * @return minimum exemplar interval
+     */
+    Duration exemplarInterval();
+
+    /**
+     * Kinds of reservoirs histograms and timers can use to compute their snapshots (percentiles, mean, and so on).
+     */
+    enum HistogramReservoir {
+
+        /**
+         * Random sample of the recorded values, exponentially biased towards the last few minutes.
+         * <p>
+         * Updates allocate and take a shared lock, so this reservoir is best suited to moderately updated metrics.
+         * This is the default.
+         * </p>
+         */
+        EXPONENTIALLY_DECAYING,
+
+        /**
+         * Counts of all the recorded values in log-linear buckets.
+         * <p>
+         * Updates neither lock nor allocate and the memory used is constant. Percentiles are accurate within about
+         * 1.6% of the value with the default {@link Builder#histogramPrecision(int) precision}, but reflect all values
+         * recorded since the metric was created rather than recent ones.
+         * </p>
+         */
+        LOG_LINEAR;
+
+        /**
+         * Finds the reservoir kind for a config value, either the constant name or its lower-case, dash-separated form
+         * (such as {@code log-linear}).
+         *
+         * @param value config value
+         * @return matching reservoir kind
+         * @throws IllegalArgumentException if no kind matches the value
+         */
+        public static HistogramReservoir parse(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+    }
+
     /**
      * Builder for {@code MetricsSettings}.
      */
@@ -162,6 +222,21 @@ public interface MetricsSettings {
          */
         String APP_TAG_CONFIG_KEY = "appName";
 
+        /**
+         * Config key for the kind of reservoir used by histograms and timers.
+         */
+        String HISTOGRAM_RESERVOIR_CONFIG_KEY = "histogram-reservoir";
+
+        /**
+         * Config key for the precision of the buckets of log-linear histogram reservoirs.
+         */
+        String HISTOGRAM_PRECISION_CONFIG_KEY = "histogram-precision";
+
+        /**
+         * Config key for the minimum time an exemplar is kept before it can be replaced by a newer one.
+         */
+        String EXEMPLAR_INTERVAL_CONFIG_KEY = "exemplar-interval";
+
         /**
          * Constructs a {@code MetricsSettings} object from the builder.
          *
@@ -236,5 +311,48 @@ public interface MetricsSettings {
          */
         @ConfiguredOption(key = APP_TAG_CONFIG_KEY)
         Builder appTagValue(String appTag);
+
+        /**
+         * Sets the kind of reservoir histograms and timers use to compute their snapshots.
+         *
+         * @param histogramReservoir histogram reservoir kind
+         * @return updated builder
+         */
+        @ConfiguredOption(key = HISTOGRAM_RESERVOIR_CONFIG_KEY,
+                          value = "EXPONENTIALLY_DECAYING")
+        Builder histogramReservoir(HistogramReservoir histogramReservoir);
+
+        /**
+         * Sets the precision of the buckets of {@link HistogramReservoir#LOG_LINEAR log-linear} histogram reservoirs.
+         * <p>
+         *     With {@code p} bits of precision, each power of two range of values is split into {@code 2^p} buckets,
+         *     so percentiles are accurate within {@code 1/2^p} of the value. Each log-linear histogram and timer keeps
+         *     {@code 2^p * (64 - p)} counts: with the default of 6 bits, 3712 counts or about 30 KB per metric (and
+         *     about twice that again for exemplars of metrics updated within a trace). Lower precision saves memory when
+         *     there are many histograms or timers, for example 4 bits use about 7 KB per metric and are accurate within
+         *     about 6%.
+         * </p>
+         *
+         * @param histogramPrecision number of bits of precision, from 1 to 10
+         * @return updated builder
+         */
+        @ConfiguredOption(key = HISTOGRAM_PRECISION_CONFIG_KEY,
+                          value = "6")
+        Builder histogramPrecision(int histogramPrecision);
+
+        /**
+         * Sets the minimum time an exemplar is kept before it can be replaced by a newer one.
+         * <p>
+         *     Each metric keeps a bounded number of exemplars (for histograms and timers, one per bucket), and the
+         *     exemplar label (such as the current trace ID) is only looked up when an exemplar can be replaced, so a
+         *     longer interval makes updating metrics cheaper when exemplar support is present.
+         * </p>
+         *
+         * @param exemplarInterval minimum exemplar interval, zero to replace exemplars on every update
+         * @return updated builder
+         */
+        @ConfiguredOption(key = EXEMPLAR_INTERVAL_CONFIG_KEY,
+                          value = "PT1S")
+        Builder exemplarInterval(Duration exemplarInterval);
     }
 }
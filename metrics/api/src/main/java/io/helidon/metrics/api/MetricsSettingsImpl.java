@@ -15,6 +15,7 @@
  */
 package io.helidon.metrics.api;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumMap;
@@ -22,6 +23,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 
 import io.helidon.config.Config;
 import io.helidon.config.ConfigValue;
@@ -31,6 +33,9 @@ import org.eclipse.microprofile.metrics.MetricRegistry;
 class MetricsSettingsImpl implements MetricsSettings {
 
     private static final RegistrySettings DEFAULT_REGISTRY_SETTINGS = RegistrySettings.create();
+    private static final int DEFAULT_HISTOGRAM_PRECISION = 6;
+    private static final int MAX_HISTOGRAM_PRECISION = 10;
+    private static final Duration DEFAULT_EXEMPLAR_INTERVAL = Duration.ofSeconds(1);
 
     private final boolean isEnabled;
     private final KeyPerformanceIndicatorMetricsSettings kpiMetricsSettings;
@@ -38,6 +43,9 @@ class MetricsSettingsImpl implements MetricsSettings {
     private final EnumMap<MetricRegistry.Type, RegistrySettings> registrySettings;
     private final Map<String, String> globalTags;
     private final String appTagValue;
+    private final HistogramReservoir histogramReservoir;
+    private final int histogramPrecision;
+    private final Duration exemplarInterval;
 
     private MetricsSettingsImpl(MetricsSettingsImpl.Builder builder) {
         isEnabled = builder.isEnabled;
@@ -46,6 +54,9 @@ class MetricsSettingsImpl implements MetricsSettings {
         registrySettings = builder.registrySettings;
         globalTags = builder.globalTags;
         appTagValue = builder.appTagValue;
+        histogramReservoir = builder.histogramReservoir;
+        histogramPrecision = builder.histogramPrecision;
+        exemplarInterval = builder.exemplarInterval;
     }
 
     @Override
@@ -87,6 +98,21 @@ class MetricsSettingsImpl implements MetricsSettings {
         return appTagValue;
     }
 
+    @Override
+    public HistogramReservoir histogramReservoir() {
+        return histogramReservoir;
+    }
+
+    @Override
+    public int histogramPrecision() {
+        return histogramPrecision;
+    }
+
+    @Override
+    public Duration exemplarInterval() {
+        return exemplarInterval;
+    }
+
     // For testing and within-package use only
     Map<MetricRegistry.Type, RegistrySettings> registrySettings() {
         return registrySettings;
@@ -101,6 +127,9 @@ class MetricsSettingsImpl implements MetricsSettings {
         private final EnumMap<MetricRegistry.Type, RegistrySettings> registrySettings = prepareRegistrySettings();
         private Map<String, String> globalTags = Collections.emptyMap();
         private String appTagValue;
+        private HistogramReservoir histogramReservoir = HistogramReservoir.EXPONENTIALLY_DECAYING;
+        private int histogramPrecision = DEFAULT_HISTOGRAM_PRECISION;
+        private Duration exemplarInterval = DEFAULT_EXEMPLAR_INTERVAL;
 
         private static EnumMap<MetricRegistry.Type, RegistrySettings> prepareRegistrySettings() {
             EnumMap<MetricRegistry.Type, RegistrySettings> result = new EnumMap<>(MetricRegistry.Type.class);
@@ -123,6 +152,9 @@ class MetricsSettingsImpl implements MetricsSettings {
                 registrySettings.put(metricRegistryType,
                                      ((MetricsSettingsImpl) serviceSettings).registrySettings().get(metricRegistryType));
             }
+            histogramReservoir = serviceSettings.histogramReservoir();
+            histogramPrecision = serviceSettings.histogramPrecision();
+            exemplarInterval = serviceSettings.exemplarInterval();
         }
 
         @Override
@@ -163,6 +195,19 @@ class MetricsSettingsImpl implements MetricsSettings {
             metricsSettingsConfig.get(APP_TAG_CONFIG_KEY)
                     .asString()
                     .ifPresent(this::appTagValue);
+
+            metricsSettingsConfig.get(HISTOGRAM_RESERVOIR_CONFIG_KEY)
+                    .asString()
+                    .map(HistogramReservoir::parse)
+                    .ifPresent(this::histogramReservoir);
+
+            metricsSettingsConfig.get(HISTOGRAM_PRECISION_CONFIG_KEY)
+                    .asInt()
+                    .ifPresent(this::histogramPrecision);
+
+            metricsSettingsConfig.get(EXEMPLAR_INTERVAL_CONFIG_KEY)
+                    .as(Duration.class)
+                    .ifPresent(this::exemplarInterval);
             return this;
         }
 
@@ -191,6 +236,32 @@ class MetricsSettingsImpl implements MetricsSettings {
             return this;
         }
 
+        @Override
+        public MetricsSettings.Builder histogramReservoir(HistogramReservoir histogramReservoir) {
+            this.histogramReservoir = Objects.requireNonNull(histogramReservoir, "histogramReservoir");
+            return this;
+        }
+
+        @Override
+        public MetricsSettings.Builder histogramPrecision(int histogramPrecision) {
+            if (histogramPrecision < 1 || histogramPrecision > MAX_HISTOGRAM_PRECISION) {
+                throw new IllegalArgumentException("Histogram precision must be from 1 to " + MAX_HISTOGRAM_PRECISION
+                                                           + " bits: " + histogramPrecision);
+            }
+            this.histogramPrecision = histogramPrecision;
+            return this;
+        }
+
+        @Override
+        public MetricsSettings.Builder exemplarInterval(Duration exemplarInterval) {
+            Objects.requireNonNull(exemplarInterval, "exemplarInterval");
+            if (exemplarInterval.isNegative()) {
+                throw new IllegalArgumentException("Exemplar interval must not be negative: " + exemplarInterval);
+            }
+            this.exemplarInterval = exemplarInterval;
+            return this;
+        }
+
         private void addAllTypedRegistrySettings(List<TypedRegistrySettingsImpl> typedRegistrySettingsList) {
             for (TypedRegistrySettingsImpl typedRegistrySettings : typedRegistrySettingsList) {
                 registrySettings.put(typedRegistrySettings.registryType, typedRegistrySettings);
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.metrics.api;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+class TestMetricHandle {
+
+    @Test
+    void testBoundOnce() {
+        MetricRegistry registry = NoOpMetricRegistry.create(MetricRegistry.Type.APPLICATION);
+        AtomicInteger lookups = new AtomicInteger();
+        MetricHandle<Counter> handle = MetricHandle.create(() -> {
+            lookups.incrementAndGet();
+            return registry.counter("boundCounter");
+        });
+
+        Counter counter = handle.get();
+        assertThat("Same metric from the handle", handle.get(), is(sameInstance(counter)));
+        assertThat("Same metric from the registry", registry.counter("boundCounter"), is(sameInstance(counter)));
+        assertThat("Lookups", lookups.get(), is(1));
+    }
+
+    @Test
+    void testRemovedMetricIsLookedUpAgain() {
+        MetricRegistry registry = NoOpMetricRegistry.create(MetricRegistry.Type.APPLICATION);
+        MetricHandle<Counter> handle = MetricHandle.create(() -> registry.counter("removedCounter"));
+
+        Counter counter = handle.get();
+        registry.remove("removedCounter");
+
+        Counter replacement = handle.get();
+        assertThat("Metric after removal", replacement, is(not(sameInstance(counter))));
+        assertThat("Replacement is registered", registry.counter("removedCounter"), is(sameInstance(replacement)));
+    }
+
+    @Test
+    void testLookupIgnoresTagOrder() {
+        MetricRegistry registry = NoOpMetricRegistry.create(MetricRegistry.Type.APPLICATION);
+        Counter counter = registry.counter("taggedCounter", new Tag("a", "1"), new Tag("b", "2"));
+
+        assertThat("Same metric with tags in another order",
+                   registry.counter("taggedCounter", new Tag("b", "2"), new Tag("a", "1")),
+                   is(sameInstance(counter)));
+    }
+}
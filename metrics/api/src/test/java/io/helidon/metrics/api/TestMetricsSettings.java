@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -32,6 +32,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.StringReader;
+import java.time.Duration;
 import java.util.Set;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -54,6 +55,7 @@ public class TestMetricsSettings {
     private static Config withTwoRegistrySettings;
     private static Config registrySettingsWithBadFilterSyntax;
     private static Config withSimpleFilter;
+    private static Config withLogLinearReservoir;
 
     @BeforeAll
     static void loadConfig() throws IOException {
@@ -67,6 +69,7 @@ public class TestMetricsSettings {
         withTwoRegistrySettings = all.get("withTwoRegistrySettings").get("metrics");
         registrySettingsWithBadFilterSyntax = all.get("registrySettingsWithBadFilterSyntax").get("metrics");
         withSimpleFilter = all.get("withSimpleFilter").get("metrics");
+        withLogLinearReservoir = all.get("withLogLinearReservoir").get("metrics");
     }
 
     @Test
@@ -190,4 +193,40 @@ public class TestMetricsSettings {
                    metricsSettings.isMetricEnabled(MetricRegistry.Type.APPLICATION, "app.no.please"),
                    is(false));
     }
+
+    @Test
+    void testHistogramReservoir() {
+        assertThat("Default histogram reservoir",
+                   MetricsSettings.create().histogramReservoir(),
+                   is(MetricsSettings.HistogramReservoir.EXPONENTIALLY_DECAYING));
+        assertThat("Configured histogram reservoir",
+                   MetricsSettings.builder().config(withLogLinearReservoir).build().histogramReservoir(),
+                   is(MetricsSettings.HistogramReservoir.LOG_LINEAR));
+    }
+
+    @Test
+    void testHistogramPrecision() {
+        assertThat("Default histogram precision",
+                   MetricsSettings.create().histogramPrecision(),
+                   is(6));
+        assertThat("Configured histogram precision",
+                   MetricsSettings.builder().config(withLogLinearReservoir).build().histogramPrecision(),
+                   is(4));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> MetricsSettings.builder().histogramPrecision(0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> MetricsSettings.builder().histogramPrecision(11));
+    }
+
+    @Test
+    void testExemplarInterval() {
+        assertThat("Default exemplar interval",
+                   MetricsSettings.create().exemplarInterval(),
+                   is(Duration.ofSeconds(1)));
+        assertThat("Configured exemplar interval",
+                   MetricsSettings.builder().config(withLogLinearReservoir).build().exemplarInterval(),
+                   is(Duration.ofSeconds(5)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> MetricsSettings.builder().exemplarInterval(Duration.ofSeconds(-1)));
+    }
 }
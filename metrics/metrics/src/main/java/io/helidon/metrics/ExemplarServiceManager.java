@@ -38,7 +38,9 @@ class ExemplarServiceManager {
 
     static final String INACTIVE_LABEL = "";
 
-    private static final Supplier<String> EXEMPLAR_SUPPLIER = () -> EXEMPLAR_SERVICES.stream()
+    private static final Supplier<String> EXEMPLAR_SUPPLIER = EXEMPLAR_SERVICES.size() == 1
+            ? singleServiceSupplier(EXEMPLAR_SERVICES.get(0))
+            : () -> EXEMPLAR_SERVICES.stream()
                         .map(ExemplarService::label)
                         .filter(Predicate.not(String::isBlank))
                         .collect(ExemplarServiceManager::labelsStringJoiner, StringJoiner::add, StringJoiner::merge)
@@ -47,6 +49,14 @@ class ExemplarServiceManager {
     private ExemplarServiceManager() {
     }
 
+    // the usual case of a single service does not need a stream and a joiner for each label
+    private static Supplier<String> singleServiceSupplier(ExemplarService exemplarService) {
+        return () -> {
+            String label = exemplarService.label();
+            return label.isBlank() ? INACTIVE_LABEL : "{" + label + "}";
+        };
+    }
+
     private static StringJoiner labelsStringJoiner() {
         // A StringJoiner that suppresses the prefix and suffix if no strings were added
         return new StringJoiner(",", "{", "}").setEmptyValue("");
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+import io.helidon.metrics.Sample.Labeled;
+
+/**
+ * Keeps at most one exemplar in each of a fixed number of slots (such as the buckets of a histogram), so the memory
+ * used by exemplars does not depend on the number of recorded values.
+ * <p>
+ * Looking up the exemplar label (such as the current trace ID) is the costly part of capturing an exemplar, so
+ * the label is looked up at most once per slot and exemplar interval, whether the value is recorded within a trace
+ * or not. Other offers just compare two timestamps, neither locking nor allocating.
+ * <p>
+ * The slots are only allocated once a value is recorded within a trace, so metrics never updated within a trace do
+ * not pay for them. Until then, the label is looked up at most once per exemplar interval for all slots.
+ */
+final class ExemplarSlots {
+
+    private final int size;
+    private final long intervalMillis;
+    private final Supplier<String> labels;
+    private final AtomicReference<Slots> slots = new AtomicReference<>();
+    private final AtomicLong untracedLookup = new AtomicLong();
+
+    // for testing and within-class use only
+    ExemplarSlots(int size, Duration interval, Supplier<String> labels) {
+        this.size = size;
+        this.intervalMillis = interval.toMillis();
+        this.labels = labels;
+    }
+
+    /**
+     * Creates new exemplar slots.
+     *
+     * @param size     number of slots
+     * @param interval minimum time an exemplar is kept before it can be replaced
+     * @return new slots, or {@code null} if exemplar support is not present
+     */
+    static ExemplarSlots create(int size, Duration interval) {
+        return Sample.IS_EXEMPLAR_HANDLING_ACTIVE
+                ? new ExemplarSlots(size, interval, ExemplarServiceManager::exemplarLabel)
+                : null;
+    }
+
+    /**
+     * Offers a recorded value as the exemplar of a slot.
+     *
+     * @param slot  index of the slot
+     * @param value recorded value
+     */
+    void offer(int slot, long value) {
+        long now = System.currentTimeMillis();
+        Slots current = slots.get();
+        if (current == null) {
+            offerUntraced(slot, value, now);
+            return;
+        }
+        long lastLookup = current.lookups.get(slot);
+        // only one of concurrent offers looks the label up
+        if (now - lastLookup < intervalMillis || !current.lookups.compareAndSet(slot, lastLookup, now)) {
+            return;
+        }
+        String label = labels.get();
+        // a value recorded outside of a trace does not replace a labeled one
+        if (!label.isEmpty()) {
+            current.exemplars.lazySet(slot, new Labeled.Impl(value, label, now));
+        }
+    }
+
+    /**
+     * Returns the exemplar of a slot.
+     *
+     * @param slot index of the slot
+     * @return exemplar, {@code null} if none was captured
+     */
+    Labeled get(int slot) {
+        Slots current = slots.get();
+        return current == null ? null : current.exemplars.get(slot);
+    }
+
+    /**
+     * Number of slots.
+     *
+     * @return number of slots
+     */
+    int size() {
+        return size;
+    }
+
+    private void offerUntraced(int slot, long value, long now) {
+        long lastLookup = untracedLookup.get();
+        if (now - lastLookup < intervalMillis || !untracedLookup.compareAndSet(lastLookup, now)) {
+            return;
+        }
+        String label = labels.get();
+        if (label.isEmpty()) {
+            return;
+        }
+        // concurrent first traced values may both allocate, only one of the allocations is kept
+        slots.compareAndSet(null, new Slots(size));
+        Slots current = slots.get();
+        current.lookups.set(slot, now);
+        current.exemplars.lazySet(slot, new Labeled.Impl(value, label, now));
+    }
+
+    private static final class Slots {
+
+        private final AtomicReferenceArray<Labeled> exemplars;
+        private final AtomicLongArray lookups;
+
+        private Slots(int size) {
+            this.exemplars = new AtomicReferenceArray<>(size);
+            this.lookups = new AtomicLongArray(size);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -50,7 +50,7 @@ import static java.lang.Math.min;
  * the current time, so we cannot share a single static value for the current time across all instances. So each instance
  * registers its own {@code Runnable} which updates its own value, and the single executor invokes all of them when it runs.
  */
-class ExponentiallyDecayingReservoir {
+class ExponentiallyDecayingReservoir implements Reservoir {
 
     private static final int DEFAULT_SIZE = 1028;
     private static final double DEFAULT_ALPHA = 0.015;
@@ -99,8 +99,9 @@ class ExponentiallyDecayingReservoir {
         return (int) min(size, count.get());
     }
 
-    public void update(long value, String label) {
-        update(value, currentTimeInSeconds, label);
+    @Override
+    public void update(long value) {
+        update(value, currentTimeInSeconds);
     }
 
     /**
@@ -108,22 +109,21 @@ class ExponentiallyDecayingReservoir {
      *
      * @param value     the value to be added
      * @param timestamp the epoch timestamp of {@code value} in seconds
-     * @param label     the optional label associated with the sample
      */
-    public void update(long value, long timestamp, String label) {
+    @Override
+    public void update(long value, long timestamp) {
         rescaleIfNeeded();
         lockForRegularUsage();
         try {
             final double itemWeight = weight(timestamp - startTime);
-            final WeightedSnapshot.WeightedSample sample = new WeightedSnapshot.WeightedSample(value, itemWeight, label);
             final double priority = itemWeight / ThreadLocalRandom.current().nextDouble();
 
             final long newCount = count.incrementAndGet();
             if (newCount <= size) {
-                values.put(priority, sample);
+                values.put(priority, sample(value, itemWeight));
             } else {
                 Double first = values.firstKey();
-                if ((first < priority) && (values.putIfAbsent(priority, sample) == null)) {
+                if ((first < priority) && (values.putIfAbsent(priority, sample(value, itemWeight)) == null)) {
                     // ensure we always remove an item
                     while (values.remove(first) == null) {
                         first = values.firstKey();
@@ -135,6 +135,11 @@ class ExponentiallyDecayingReservoir {
         }
     }
 
+    // the exemplar label is only looked up for the values kept in the reservoir
+    private static WeightedSnapshot.WeightedSample sample(long value, double itemWeight) {
+        return new WeightedSnapshot.WeightedSample(value, itemWeight, ExemplarServiceManager.exemplarLabel());
+    }
+
     private void rescaleIfNeeded() {
         final long now = clock.nanoTick();
         final long next = nextScaleTime.get();
@@ -143,6 +148,7 @@ class ExponentiallyDecayingReservoir {
         }
     }
 
+    @Override
     public WeightedSnapshot getSnapshot() {
         rescaleIfNeeded();
         lockForRegularUsage();
@@ -16,9 +16,12 @@
 
 package io.helidon.metrics;
 
+import java.time.Duration;
 import java.util.Objects;
 import java.util.concurrent.atomic.LongAdder;
 
+import io.helidon.metrics.api.MetricsSettings;
+
 import jakarta.json.JsonObjectBuilder;
 import org.eclipse.microprofile.metrics.Counter;
 import org.eclipse.microprofile.metrics.Metadata;
@@ -37,7 +40,11 @@ final class HelidonCounter extends MetricImpl implements Counter {
     }
 
     static HelidonCounter create(String registryType, Metadata metadata) {
-        return create(registryType, metadata, new CounterImpl());
+        return create(registryType, metadata, MetricsSettings.builder().build());
+    }
+
+    static HelidonCounter create(String registryType, Metadata metadata, MetricsSettings metricsSettings) {
+        return create(registryType, metadata, new CounterImpl(metricsSettings.exemplarInterval()));
     }
 
     static HelidonCounter create(String registryType, Metadata metadata, Counter metric) {
@@ -80,7 +87,8 @@ final class HelidonCounter extends MetricImpl implements Counter {
                 .append(" ")
                 .append(prometheusValue());
         if (delegate instanceof CounterImpl) {
-            Sample.Labeled sample = ((CounterImpl) delegate).sample;
+            ExemplarSlots exemplar = ((CounterImpl) delegate).exemplar;
+            Sample.Labeled sample = exemplar == null ? null : exemplar.get(0);
             if (sample != null) {
                 sb.append(prometheusExemplar(sample));
             }
@@ -101,7 +109,11 @@ final class HelidonCounter extends MetricImpl implements Counter {
     private static class CounterImpl implements Counter {
         private final LongAdder adder = new LongAdder();
 
-        private Sample.Labeled sample = null;
+        private final ExemplarSlots exemplar;
+
+        private CounterImpl(Duration exemplarInterval) {
+            exemplar = ExemplarSlots.create(1, exemplarInterval);
+        }
 
         @Override
         public void inc() {
@@ -111,7 +123,9 @@ final class HelidonCounter extends MetricImpl implements Counter {
         @Override
         public void inc(long n) {
             adder.add(n);
-            sample = Sample.labeled(n);
+            if (exemplar != null) {
+                exemplar.offer(0, n);
+            }
         }
 
         @Override
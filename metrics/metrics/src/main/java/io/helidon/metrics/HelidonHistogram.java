@@ -19,6 +19,8 @@ package io.helidon.metrics;
 import java.util.Objects;
 import java.util.concurrent.atomic.LongAdder;
 
+import io.helidon.metrics.api.MetricsSettings;
+
 import jakarta.json.JsonObjectBuilder;
 import org.eclipse.microprofile.metrics.Histogram;
 import org.eclipse.microprofile.metrics.Metadata;
@@ -41,7 +43,15 @@ final class HelidonHistogram extends MetricImpl implements Histogram {
     }
 
     static HelidonHistogram create(String type, Metadata metadata, Clock clock) {
-        return new HelidonHistogram(type, metadata, new HistogramImpl(clock));
+        return create(type, metadata, clock, MetricsSettings.builder().build());
+    }
+
+    static HelidonHistogram create(String type, Metadata metadata, MetricsSettings metricsSettings) {
+        return create(type, metadata, Clock.system(), metricsSettings);
+    }
+
+    static HelidonHistogram create(String type, Metadata metadata, Clock clock, MetricsSettings metricsSettings) {
+        return new HelidonHistogram(type, metadata, new HistogramImpl(Reservoir.create(metricsSettings, clock)));
     }
 
     static HelidonHistogram create(String type, Metadata metadata, Histogram delegate) {
@@ -123,10 +133,10 @@ final class HelidonHistogram extends MetricImpl implements Histogram {
     static final class HistogramImpl implements Histogram {
         private final LongAdder counter = new LongAdder();
         private final LongAdder sum = new LongAdder();
-        private final ExponentiallyDecayingReservoir reservoir;
+        private final Reservoir reservoir;
 
-        private HistogramImpl(Clock clock) {
-            this.reservoir = new ExponentiallyDecayingReservoir(clock);
+        private HistogramImpl(Reservoir reservoir) {
+            this.reservoir = reservoir;
         }
 
         public void update(int value) {
@@ -142,13 +152,13 @@ final class HelidonHistogram extends MetricImpl implements Histogram {
         public void update(long value) {
             counter.increment();
             sum.add(value);
-            reservoir.update(value, ExemplarServiceManager.exemplarLabel());
+            reservoir.update(value);
         }
 
         public void update(long value, long timestamp) {
             counter.increment();
             sum.add(value);
-            reservoir.update(value, timestamp, ExemplarServiceManager.exemplarLabel());
+            reservoir.update(value, timestamp);
         }
 
         @Override
@@ -161,7 +171,7 @@ final class HelidonHistogram extends MetricImpl implements Histogram {
             return reservoir.getSnapshot();
         }
 
-        WeightedSnapshot snapshot() {
+        LabeledSnapshot snapshot() {
             return reservoir.getSnapshot();
         }
 
@@ -23,6 +23,8 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import io.helidon.metrics.api.MetricsSettings;
+
 import jakarta.json.JsonObjectBuilder;
 import org.eclipse.microprofile.metrics.Metadata;
 import org.eclipse.microprofile.metrics.MetricID;
@@ -46,7 +48,15 @@ final class HelidonSimpleTimer extends MetricImpl implements SimpleTimer {
     }
 
     static HelidonSimpleTimer create(String repoType, Metadata metadata, Clock clock) {
-        return create(repoType, metadata, new SimpleTimerImpl(repoType, metadata.getName(), clock));
+        return create(repoType, metadata, clock, MetricsSettings.builder().build());
+    }
+
+    static HelidonSimpleTimer create(String repoType, Metadata metadata, MetricsSettings metricsSettings) {
+        return create(repoType, metadata, Clock.system(), metricsSettings);
+    }
+
+    static HelidonSimpleTimer create(String repoType, Metadata metadata, Clock clock, MetricsSettings metricsSettings) {
+        return create(repoType, metadata, new SimpleTimerImpl(repoType, metadata.getName(), clock, metricsSettings));
     }
 
     static HelidonSimpleTimer create(String repoType, Metadata metadata, SimpleTimer metric) {
@@ -236,11 +246,11 @@ final class HelidonSimpleTimer extends MetricImpl implements SimpleTimer {
 
         private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
 
-        SimpleTimerImpl(String repoType, String name, Clock clock) {
+        SimpleTimerImpl(String repoType, String name, Clock clock, MetricsSettings metricsSettings) {
             counter =  HelidonCounter.create(repoType, Metadata.builder()
                     .withName(name)
                     .withType(MetricType.COUNTER)
-                    .build());
+                    .build(), metricsSettings);
             this.clock = clock;
             lastMinute = currentTimeMinute();
         }
@@ -21,6 +21,8 @@ import java.util.Objects;
 import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import io.helidon.metrics.api.MetricsSettings;
+
 import jakarta.json.JsonObjectBuilder;
 import org.eclipse.microprofile.metrics.Metadata;
 import org.eclipse.microprofile.metrics.Meter;
@@ -45,7 +47,15 @@ final class HelidonTimer extends MetricImpl implements Timer {
     }
 
     static HelidonTimer create(String repoType, Metadata metadata, Clock clock) {
-        return create(repoType, metadata, new TimerImpl(repoType, metadata.getName(), clock));
+        return create(repoType, metadata, clock, MetricsSettings.builder().build());
+    }
+
+    static HelidonTimer create(String repoType, Metadata metadata, MetricsSettings metricsSettings) {
+        return create(repoType, metadata, Clock.system(), metricsSettings);
+    }
+
+    static HelidonTimer create(String repoType, Metadata metadata, Clock clock, MetricsSettings metricsSettings) {
+        return create(repoType, metadata, new TimerImpl(repoType, metadata.getName(), clock, metricsSettings));
     }
 
     static HelidonTimer create(String repoType, Metadata metadata, Timer metric) {
@@ -212,7 +222,7 @@ final class HelidonTimer extends MetricImpl implements Timer {
         private final Clock clock;
         private long elapsedTimeNanos;
 
-        TimerImpl(String repoType, String name, Clock clock) {
+        TimerImpl(String repoType, String name, Clock clock, MetricsSettings metricsSettings) {
             this.meter = HelidonMeter.create(repoType, Metadata.builder()
                     .withName(name)
                     .withType(MetricType.METERED)
@@ -220,7 +230,7 @@ final class HelidonTimer extends MetricImpl implements Timer {
             this.histogram = HelidonHistogram.create(repoType, Metadata.builder()
                     .withName(name)
                     .withType(MetricType.HISTOGRAM)
-                    .build(), clock);
+                    .build(), clock, metricsSettings);
             this.clock = clock;
         }
 
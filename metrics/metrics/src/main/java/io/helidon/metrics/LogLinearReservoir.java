@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.metrics;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.helidon.metrics.Sample.Labeled;
+
+/**
+ * Reservoir counting every recorded value in log-linear buckets, in the style of HdrHistogram.
+ * <p>
+ * With a precision of {@code p} bits, values below {@code 2^p} each have their own bucket and each larger power of two
+ * range is split into {@code 2^p} buckets of equal width, so the value reported for a bucket is within {@code 1/2^p}
+ * of any value counted in it. Recording a value is a few arithmetic operations and an atomic increment: it neither
+ * locks nor allocates and the memory used does not depend on the number of recorded values.
+ * <p>
+ * The memory used does depend on the precision: each reservoir keeps {@code 2^p * (64 - p)} counts, that is 3712 counts
+ * or about 30 KB for each histogram or timer with the default precision of 6 bits, and about 7 KB with 4 bits. When
+ * exemplar support is present, each bucket also keeps one exemplar in {@link ExemplarSlots}, replaced at most once per
+ * exemplar interval. The exemplar slots are only allocated once a value is recorded within a trace and then take about
+ * twice the memory of the counts.
+ * <p>
+ * Unlike {@link ExponentiallyDecayingReservoir}, the counts are never decayed, snapshots reflect all values recorded
+ * since the reservoir was created. Negative values are counted in the bucket of {@code 0}.
+ */
+final class LogLinearReservoir implements Reservoir {
+
+    /**
+     * Number of non-empty buckets a snapshot has room for before growing, most histograms have fewer.
+     */
+    private static final int INITIAL_SNAPSHOT_SIZE = 32;
+
+    private final int subBucketBits;
+    private final AtomicLongArray counts;
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+    private final ExemplarSlots exemplars;
+
+    /**
+     * Creates a new reservoir.
+     *
+     * @param subBucketBits    precision of the buckets in bits, each power of two range is split into
+     *                         {@code 2^subBucketBits} buckets
+     * @param exemplarInterval minimum time the exemplar of a bucket is kept before it can be replaced
+     */
+    LogLinearReservoir(int subBucketBits, Duration exemplarInterval) {
+        this.subBucketBits = subBucketBits;
+        this.counts = new AtomicLongArray(bucketCount());
+        this.exemplars = ExemplarSlots.create(bucketCount(), exemplarInterval);
+    }
+
+    @Override
+    public void update(long value) {
+        int index = bucketIndex(value);
+        counts.getAndIncrement(index);
+        sum.add(value);
+        min.accumulate(value);
+        max.accumulate(value);
+        if (exemplars != null) {
+            exemplars.offer(index, value);
+        }
+    }
+
+    @Override
+    public void update(long value, long timestamp) {
+        // counts are not decayed, so the time of the value does not matter
+        update(value);
+    }
+
+    @Override
+    public LogLinearSnapshot getSnapshot() {
+        // only the non-empty buckets are copied, usually a small fraction of them
+        long[] values = new long[INITIAL_SNAPSHOT_SIZE];
+        long[] bucketCounts = new long[INITIAL_SNAPSHOT_SIZE];
+        Labeled[] bucketExemplars = new Labeled[INITIAL_SNAPSHOT_SIZE];
+        int size = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            long count = counts.get(i);
+            if (count == 0) {
+                continue;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+                bucketCounts = Arrays.copyOf(bucketCounts, size * 2);
+                bucketExemplars = Arrays.copyOf(bucketExemplars, size * 2);
+            }
+            values[size] = bucketLowerBound(i) + (bucketWidth(i) >>> 1);
+            bucketCounts[size] = count;
+            bucketExemplars[size] = exemplars == null ? null : exemplars.get(i);
+            size++;
+        }
+        return new LogLinearSnapshot(Arrays.copyOf(values, size),
+                                     Arrays.copyOf(bucketCounts, size),
+                                     Arrays.copyOf(bucketExemplars, size),
+                                     min.get(),
+                                     max.get(),
+                                     sum.sum());
+    }
+
+    /**
+     * Number of buckets needed to count values up to {@link Long#MAX_VALUE}.
+     *
+     * @return number of buckets
+     */
+    int bucketCount() {
+        return (1 << subBucketBits) * (Long.SIZE - subBucketBits);
+    }
+
+    /**
+     * Index of the bucket counting the value.
+     *
+     * @param value recorded value
+     * @return bucket index
+     */
+    int bucketIndex(long value) {
+        if (value < 1L << subBucketBits) {
+            return value < 0 ? 0 : (int) value;
+        }
+        // keep the subBucketBits + 1 most significant bits, the highest one selects the second half of the range
+        int shift = Long.SIZE - subBucketBits - 1 - Long.numberOfLeadingZeros(value);
+        return (shift << subBucketBits) + (int) (value >>> shift);
+    }
+
+    /**
+     * Lowest value counted in a bucket.
+     *
+     * @param index bucket index
+     * @return lowest value of the bucket
+     */
+    long bucketLowerBound(int index) {
+        int shift = bucketShift(index);
+        return (long) (index - (shift << subBucketBits)) << shift;
+    }
+
+    /**
+     * Number of distinct values counted in a bucket.
+     *
+     * @param index bucket index
+     * @return width of the bucket
+     */
+    long bucketWidth(int index) {
+        return 1L << bucketShift(index);
+    }
+
+    private int bucketShift(int index) {
+        return Math.max(0, (index >>> subBucketBits) - 1);
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.metrics;
+
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+
+import io.helidon.metrics.Sample.Derived;
+import io.helidon.metrics.Sample.Labeled;
+
+import static io.helidon.metrics.Sample.derived;
+
+/**
+ * A statistical snapshot of a {@link LogLinearReservoir}.
+ * <p>
+ * Each non-empty bucket is represented by the value in its middle, bounded by the lowest and highest recorded values.
+ * The mean is exact, the other statistics are computed from the bucket values.
+ */
+class LogLinearSnapshot extends LabeledSnapshot {
+
+    private final long[] values;
+    private final long[] counts;
+    private final Labeled[] exemplars;
+    private final long count;
+    private final long min;
+    private final long max;
+    private final double mean;
+
+    /**
+     * Creates a new snapshot of the non-empty buckets of a reservoir.
+     *
+     * @param values    value in the middle of each non-empty bucket, in ascending order
+     * @param counts    number of values counted in each of the buckets
+     * @param exemplars exemplar of each of the buckets, {@code null} for buckets without one
+     * @param min       lowest recorded value
+     * @param max       highest recorded value
+     * @param sum       sum of the recorded values
+     */
+    LogLinearSnapshot(long[] values, long[] counts, Labeled[] exemplars, long min, long max, long sum) {
+        long total = 0;
+        for (long bucketCount : counts) {
+            total += bucketCount;
+        }
+        this.values = values;
+        this.counts = counts;
+        this.exemplars = exemplars;
+        this.count = total;
+        // min and max are read after the counts, so they may include values recorded since
+        this.min = total == 0 ? 0 : min;
+        this.max = total == 0 ? 0 : max;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.min(this.max, Math.max(this.min, values[i]));
+        }
+        this.mean = total == 0 ? 0 : (double) sum / total;
+    }
+
+    /**
+     * Returns the value at the given quantile.
+     *
+     * @param quantile a given quantile, in {@code [0..1]}
+     * @return the value in the distribution at {@code quantile}
+     */
+    @Override
+    public double getValue(double quantile) {
+        return value(quantile).value();
+    }
+
+    @Override
+    public Derived value(double quantile) {
+        if ((quantile < 0.0) || (quantile > 1.0) || Double.isNaN(quantile)) {
+            throw new IllegalArgumentException(quantile + " is not in [0..1]");
+        }
+        if (count == 0) {
+            return Derived.ZERO;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < values.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return derived(values[i], exemplars[i]);
+            }
+        }
+        return derived(values[values.length - 1], exemplars[values.length - 1]);
+    }
+
+    /**
+     * Returns the number of distinct bucket values in the snapshot.
+     *
+     * @return the number of values
+     */
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Returns the value of each non-empty bucket, in ascending order.
+     *
+     * @return the bucket values
+     */
+    @Override
+    public long[] getValues() {
+        return values.clone();
+    }
+
+    @Override
+    public Derived median() {
+        return value(0.5);
+    }
+
+    @Override
+    public Derived sample75thPercentile() {
+        return value(0.75);
+    }
+
+    @Override
+    public Derived sample95thPercentile() {
+        return value(0.95);
+    }
+
+    @Override
+    public Derived sample98thPercentile() {
+        return value(0.98);
+    }
+
+    @Override
+    public Derived sample99thPercentile() {
+        return value(0.99);
+    }
+
+    @Override
+    public Derived sample999thPercentile() {
+        return value(0.999);
+    }
+
+    @Override
+    public long getMax() {
+        return max;
+    }
+
+    @Override
+    public Labeled max() {
+        return labeled(max, values.length - 1);
+    }
+
+    @Override
+    public long getMin() {
+        return min;
+    }
+
+    @Override
+    public Labeled min() {
+        return labeled(min, 0);
+    }
+
+    @Override
+    public double getMean() {
+        return mean;
+    }
+
+    @Override
+    public Derived mean() {
+        return count == 0 ? Derived.ZERO : derived(mean, nearestExemplar(mean));
+    }
+
+    @Override
+    public double getStdDev() {
+        return stdDev().value();
+    }
+
+    @Override
+    public Derived stdDev() {
+        if (count <= 1) {
+            return Derived.ZERO;
+        }
+        double variance = 0;
+        for (int i = 0; i < values.length; i++) {
+            double diff = values[i] - mean;
+            variance += counts[i] * diff * diff;
+        }
+        return derived(Math.sqrt(variance / count));
+    }
+
+    /**
+     * Writes the value and the count of each non-empty bucket to the given stream.
+     *
+     * @param output an output stream
+     */
+    @Override
+    public void dump(OutputStream output) {
+        try (PrintWriter out = new PrintWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8))) {
+            for (int i = 0; i < values.length; i++) {
+                out.printf("%d,%d%n", values[i], counts[i]);
+            }
+        }
+    }
+
+    private Labeled labeled(long value, int slot) {
+        Labeled exemplar = slot >= 0 && slot < exemplars.length ? exemplars[slot] : null;
+        return exemplar != null && exemplar.value() == value
+                ? exemplar
+                : new Labeled.Impl(value, ExemplarServiceManager.INACTIVE_LABEL, 0);
+    }
+
+    private Labeled nearestExemplar(double value) {
+        Labeled nearest = null;
+        for (Labeled exemplar : exemplars) {
+            if (exemplar != null
+                    && (nearest == null || Math.abs(exemplar.value() - value) < Math.abs(nearest.value() - value))) {
+                nearest = exemplar;
+            }
+        }
+        return nearest;
+    }
+}
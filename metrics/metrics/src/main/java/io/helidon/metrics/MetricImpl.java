@@ -58,8 +58,6 @@ abstract class MetricImpl extends AbstractMetric implements HelidonMetric {
 
     private static final int EXEMPLAR_MAX_LENGTH = 128;
 
-    private static final Pattern DOUBLE_UNDERSCORE = Pattern.compile("__");
-    private static final Pattern COLON_UNDERSCORE = Pattern.compile(":_");
     private static final Pattern CAMEL_CASE = Pattern.compile("(.)(\\p{Upper})");
     private static final Map<String, Units> PROMETHEUS_CONVERTERS = new HashMap<>();
     private static final long KILOBITS = 1000 / 8;
@@ -129,6 +127,10 @@ abstract class MetricImpl extends AbstractMetric implements HelidonMetric {
     // Efficient check from interceptors to see if the metric is still valid
     private boolean isDeleted;
 
+    // Prometheus encodings of the name and of the tags are computed once, not on each scrape
+    private volatile String prometheusName;
+    private volatile PrometheusTags prometheusTags;
+
     MetricImpl(String registryType, Metadata metadata) {
         super(registryType, metadata);
     }
@@ -467,36 +469,59 @@ abstract class MetricImpl extends AbstractMetric implements HelidonMetric {
     }
 
     final String prometheusName(String name) {
-        return prometheusClean(name, registryType() + "_");
+        if (!name.equals(getName())) {
+            return prometheusClean(name, registryType() + "_");
+        }
+        String result = prometheusName;
+        if (result == null) {
+            result = prometheusClean(name, registryType() + "_");
+            prometheusName = result;
+        }
+        return result;
     }
 
     static String prometheusClean(String name, String prefix) {
-        name = name.replaceAll("[^a-zA-Z0-9_]", "_");
-
         //Scope is always specified at the start of the metric name.
         //Scope and name are separated by underscore (_) as of
         // metrics 2.0 (OpenMetrics).
-        name = prefix + name;
-
-        String orig;
-        do {
-            orig = name;
-            //Double underscore is translated to single underscore
-            name = DOUBLE_UNDERSCORE.matcher(name).replaceAll("_");
-        } while (!orig.equals(name));
-
-        do {
-            orig = name;
-            //Colon-underscore (:_) is translated to single colon
-            name = COLON_UNDERSCORE.matcher(name).replaceAll(":");
-        } while (!orig.equals(name));
+        StringBuilder result = new StringBuilder(prefix.length() + name.length());
+        for (int i = 0; i < prefix.length(); i++) {
+            appendPrometheusChar(result, prefix.charAt(i));
+        }
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            boolean valid = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+            appendPrometheusChar(result, valid ? c : '_');
+        }
+        return result.toString();
+    }
 
-        return name;
+    private static void appendPrometheusChar(StringBuilder result, char c) {
+        //Double underscore is translated to single underscore
+        //Colon-underscore (:_) is translated to single colon
+        if (c == '_' && result.length() > 0) {
+            char previous = result.charAt(result.length() - 1);
+            if (previous == '_' || previous == ':') {
+                return;
+            }
+        }
+        result.append(c);
     }
+
     final String prometheusTags(Map<String, String> tags) {
+        SystemTagsManager systemTagsManager = SystemTagsManager.instance();
+        PrometheusTags cached = prometheusTags;
+        if (cached != null && cached.systemTagsManager == systemTagsManager && cached.tags.equals(tags)) {
+            return cached.encoded;
+        }
+        String encoded = encodePrometheusTags(systemTagsManager, tags);
+        prometheusTags = new PrometheusTags(systemTagsManager, tags, encoded);
+        return encoded;
+    }
 
+    private static String encodePrometheusTags(SystemTagsManager systemTagsManager, Map<String, String> tags) {
         StringJoiner sj = new StringJoiner(",", "{", "}").setEmptyValue("");
-        SystemTagsManager.instance().allTags(tags).forEach(entry -> {
+        systemTagsManager.allTags(tags).forEach(entry -> {
             if (entry.getKey() != null) {
                 sj.add(String.format("%s=\"%s\"",
                                      prometheusClean(entry.getKey(), ""),
@@ -506,7 +531,7 @@ abstract class MetricImpl extends AbstractMetric implements HelidonMetric {
         return sj.toString();
     }
 
-    private String prometheusTagValue(String value) {
+    private static String prometheusTagValue(String value) {
         value = value.replace("\\", "\\\\");
         value = value.replace("\"", "\\\"");
         value = value.replace("\n", "\\n");
@@ -538,6 +563,21 @@ abstract class MetricImpl extends AbstractMetric implements HelidonMetric {
         }
     }
 
+    /**
+     * Prometheus encoding of the tags of a metric ID, valid as long as the system tags do not change.
+     */
+    private static final class PrometheusTags {
+        private final SystemTagsManager systemTagsManager;
+        private final Map<String, String> tags;
+        private final String encoded;
+
+        private PrometheusTags(SystemTagsManager systemTagsManager, Map<String, String> tags, String encoded) {
+            this.systemTagsManager = systemTagsManager;
+            this.tags = tags;
+            this.encoded = encoded;
+        }
+    }
+
     private static final class LengthUnits extends Units {
         private LengthUnits(String metricUnit, double ratio) {
             super(metricUnit, "meters", o -> ((Number) o).doubleValue() * ratio);
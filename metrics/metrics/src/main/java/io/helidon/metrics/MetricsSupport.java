@@ -22,7 +22,6 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -30,9 +29,9 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import io.helidon.common.http.Http;
@@ -104,6 +103,7 @@ public final class MetricsSupport extends HelidonRestServiceSupport
 
     private static final JsonBuilderFactory JSON = Json.createBuilderFactory(Collections.emptyMap());
     private static final String SERVICE_NAME = "Metrics";
+    private static final String NAME_QUERY_PARAM = "name[]";
 
     private static final MessageBodyWriter<JsonStructure> JSONP_WRITER = JsonpSupport.writer();
 
@@ -224,7 +224,7 @@ public final class MetricsSupport extends HelidonRestServiceSupport
         if (matches(mediaType, MediaType.APPLICATION_JSON)) {
             sendJson(res, toJsonData(registry));
         } else if (matches(mediaType, MediaType.TEXT_PLAIN, MediaType.APPLICATION_OPENMETRICS)) {
-            sendPrometheus(res, toPrometheusData(registry), mediaType);
+            sendPrometheus(res, PrometheusExporter.create(nameFilter(req), registry), mediaType);
         } else {
             res.status(Http.Status.NOT_ACCEPTABLE_406);
             res.send();
@@ -249,27 +249,11 @@ public final class MetricsSupport extends HelidonRestServiceSupport
     }
 
     static String toPrometheusData(Registry... registries) {
-        return Arrays.stream(registries)
-                .filter(r -> !r.empty())
-                .map(MetricsSupport::toPrometheusData)
-                .collect(Collectors.joining());
+        return PrometheusExporter.create(registries).text();
     }
 
     static String toPrometheusData(Registry registry) {
-        StringBuilder builder = new StringBuilder();
-        Set<String> serialized = new HashSet<>();
-        registry.stream()
-                .sorted(Map.Entry.comparingByKey())
-                .forEach(entry -> {
-                    String name = entry.getKey().getName();
-                    if (!serialized.contains(name)) {
-                        toPrometheusData(builder, entry.getKey(), entry.getValue(), true);
-                        serialized.add(name);
-                    } else {
-                        toPrometheusData(builder, entry.getKey(), entry.getValue(), false);
-                    }
-                });
-        return builder.toString();
+        return PrometheusExporter.create(registry).text();
     }
 
     /**
@@ -529,7 +513,7 @@ public final class MetricsSupport extends HelidonRestServiceSupport
                     if (matches(mediaType, MediaType.APPLICATION_JSON)) {
                         sendJson(res, jsonDataByName(registry, metricName));
                     } else if (matches(mediaType, MediaType.TEXT_PLAIN, MediaType.APPLICATION_OPENMETRICS)) {
-                        sendPrometheus(res, prometheusDataByName(registry, metricName), mediaType);
+                        sendPrometheus(res, PrometheusExporter.create(metricName, registry), mediaType);
                     } else {
                         res.status(Http.Status.NOT_ACCEPTABLE_406);
                         res.send();
@@ -552,16 +536,7 @@ public final class MetricsSupport extends HelidonRestServiceSupport
     }
 
     static String prometheusDataByName(Registry registry, String metricName) {
-        final StringBuilder sb = new StringBuilder();
-        boolean isFirst = true;
-        for (Map.Entry<MetricID, HelidonMetric> metricEntry : registry.getMetricsByName(metricName)) {
-            HelidonMetric metric = metricEntry.getValue();
-            if (registry.isMetricEnabled(metricName)) {
-                metric.prometheusData(sb, metricEntry.getKey(), isFirst);
-            }
-            isFirst = false;
-        }
-        return sb.toString();
+        return PrometheusExporter.create(metricName, registry).text();
     }
 
     private static void sendJson(ServerResponse res, JsonObject object) {
@@ -574,7 +549,7 @@ public final class MetricsSupport extends HelidonRestServiceSupport
         if (matches(mediaType, MediaType.APPLICATION_JSON)) {
             sendJson(res, toJsonData(registries));
         } else if (matches(mediaType, MediaType.TEXT_PLAIN, MediaType.APPLICATION_OPENMETRICS)) {
-            sendPrometheus(res, toPrometheusData(registries), mediaType);
+            sendPrometheus(res, PrometheusExporter.create(nameFilter(req), registries), mediaType);
         } else {
             res.status(Http.Status.NOT_ACCEPTABLE_406);
             res.send();
@@ -622,7 +597,23 @@ public final class MetricsSupport extends HelidonRestServiceSupport
                 });
     }
 
-    private static void sendPrometheus(ServerResponse res, String formattedOutput, MediaType requestedMediaType) {
+    /**
+     * Selects the metrics to export by the {@value #NAME_QUERY_PARAM} query parameters, same as the Prometheus exporters.
+     * All metrics are selected if there is no such parameter.
+     *
+     * @param req request
+     * @return filter of metric names
+     */
+    private static Predicate<String> nameFilter(ServerRequest req) {
+        List<String> names = req.queryParams().all(NAME_QUERY_PARAM);
+        if (names.isEmpty()) {
+            return name -> true;
+        }
+        Set<String> selected = Set.copyOf(names);
+        return selected::contains;
+    }
+
+    private static void sendPrometheus(ServerResponse res, PrometheusExporter exporter, MediaType requestedMediaType) {
         MediaType.Builder responseMediaTypeBuilder = MediaType.builder()
                 .type(requestedMediaType.type())
                 .subtype(requestedMediaType.subtype())
@@ -634,7 +625,7 @@ public final class MetricsSupport extends HelidonRestServiceSupport
             responseMediaTypeBuilder.addParameter("version", "0.0.4");
         }
         res.addHeader("Content-Type", responseMediaTypeBuilder.build().toString());
-        res.send(formattedOutput + "# EOF\n");
+        res.send(exporter.chunks());
     }
 
     /**
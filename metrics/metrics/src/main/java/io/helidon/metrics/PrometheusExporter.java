@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.metrics;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Multi;
+import io.helidon.media.common.ChunkBufferPool;
+
+import org.eclipse.microprofile.metrics.MetricID;
+
+/**
+ * Writes metrics of registries in the Prometheus (OpenMetrics) text format.
+ * <p>
+ * The output is produced lazily as a stream of data chunks: metrics are formatted one by one into a buffer that is
+ * encoded into a chunk as soon as it reaches {@value #CHUNK_SIZE} characters, so the exposition of all registries is
+ * never held in memory at once. The byte buffers of the chunks come from the {@link ChunkBufferPool} and return to
+ * it once the webserver has written them.
+ */
+final class PrometheusExporter {
+
+    private static final int CHUNK_SIZE = 16 * 1024;
+    private static final String EOF = "# EOF\n";
+
+    private final Function<Registry, Iterator<Map.Entry<MetricID, HelidonMetric>>> metricsOf;
+    private final Registry[] registries;
+
+    private PrometheusExporter(Function<Registry, Iterator<Map.Entry<MetricID, HelidonMetric>>> metricsOf,
+                               Registry[] registries) {
+        this.metricsOf = metricsOf;
+        this.registries = registries;
+    }
+
+    /**
+     * Create a new exporter of all metrics of the registries.
+     *
+     * @param registries registries to export, in order
+     * @return a new exporter
+     */
+    static PrometheusExporter create(Registry... registries) {
+        return create(name -> true, registries);
+    }
+
+    /**
+     * Create a new exporter of the metrics of the registries with a name accepted by the filter.
+     * The filter is applied before any metric is formatted.
+     *
+     * @param nameFilter filter of the metric names to export
+     * @param registries registries to export, in order
+     * @return a new exporter
+     */
+    static PrometheusExporter create(Predicate<String> nameFilter, Registry... registries) {
+        // only the entries are sorted, the output is formatted lazily
+        return new PrometheusExporter(registry -> registry.stream()
+                .filter(entry -> nameFilter.test(entry.getKey().getName()))
+                .sorted(Map.Entry.comparingByKey())
+                .iterator(), registries);
+    }
+
+    /**
+     * Create a new exporter of the metrics with the given name, looked up by name in the registry.
+     * Nothing is exported if the metric is disabled.
+     *
+     * @param metricName name of the metrics to export
+     * @param registry   registry of the metrics
+     * @return a new exporter
+     */
+    static PrometheusExporter create(String metricName, Registry registry) {
+        return new PrometheusExporter(it -> it.isMetricEnabled(metricName)
+                ? it.getMetricsByName(metricName).iterator()
+                : Collections.emptyIterator(), new Registry[] {registry});
+    }
+
+    /**
+     * Exported metrics as data chunks, terminated by the {@code # EOF} marker.
+     * Metrics are read when the chunks are requested, each subscription exports their current values.
+     *
+     * @return publisher of the exposition
+     */
+    Multi<DataChunk> chunks() {
+        Iterable<DataChunk> chunks = ChunkIterator::new;
+        return Multi.create(chunks);
+    }
+
+    /**
+     * Exported metrics as a string, without the {@code # EOF} marker.
+     *
+     * @return exposition text
+     */
+    String text() {
+        StringBuilder builder = new StringBuilder();
+        MetricCursor cursor = new MetricCursor();
+        while (cursor.writeNext(builder)) {
+            // all metrics are written to the builder
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Walks the metrics of the registries, each registry sorted by metric ID so the metrics with the same name
+     * are adjacent and share one HELP and TYPE.
+     */
+    private final class MetricCursor {
+
+        private int registryIndex;
+        private Iterator<Map.Entry<MetricID, HelidonMetric>> metrics = Collections.emptyIterator();
+        private String previousName;
+
+        boolean writeNext(StringBuilder builder) {
+            while (!metrics.hasNext()) {
+                if (registryIndex == registries.length) {
+                    return false;
+                }
+                Registry registry = registries[registryIndex++];
+                if (!registry.empty()) {
+                    metrics = metricsOf.apply(registry);
+                }
+                previousName = null;
+            }
+            Map.Entry<MetricID, HelidonMetric> entry = metrics.next();
+            String name = entry.getKey().getName();
+            MetricsSupport.toPrometheusData(builder, entry.getKey(), entry.getValue(), !name.equals(previousName));
+            previousName = name;
+            return true;
+        }
+    }
+
+    private final class ChunkIterator implements Iterator<DataChunk> {
+
+        private final MetricCursor cursor = new MetricCursor();
+        private final StringBuilder text = new StringBuilder(CHUNK_SIZE);
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private boolean done;
+
+        @Override
+        public boolean hasNext() {
+            return !done;
+        }
+
+        @Override
+        public DataChunk next() {
+            if (done) {
+                throw new NoSuchElementException();
+            }
+            while (text.length() < CHUNK_SIZE && cursor.writeNext(text)) {
+                // fill the chunk
+            }
+            if (text.length() < CHUNK_SIZE) {
+                text.append(EOF);
+                done = true;
+            }
+            DataChunk chunk = encode();
+            text.setLength(0);
+            return chunk;
+        }
+
+        private DataChunk encode() {
+            List<ByteBuffer> buffers = new ArrayList<>(2);
+            CharBuffer chars = CharBuffer.wrap(text);
+            ByteBuffer buffer = ChunkBufferPool.acquire();
+            buffers.add(buffer);
+            encoder.reset();
+            CoderResult result = encoder.encode(chars, buffer, true);
+            // the last metric may overflow the chunk
+            while (result.isOverflow()) {
+                buffer = ChunkBufferPool.acquire();
+                buffers.add(buffer);
+                result = encoder.encode(chars, buffer, true);
+            }
+            while (encoder.flush(buffer).isOverflow()) {
+                buffer = ChunkBufferPool.acquire();
+                buffers.add(buffer);
+            }
+            buffers.forEach(ByteBuffer::flip);
+            return DataChunk.create(false,
+                                    () -> buffers.forEach(ChunkBufferPool::release),
+                                    buffers.toArray(new ByteBuffer[0]));
+        }
+    }
+}
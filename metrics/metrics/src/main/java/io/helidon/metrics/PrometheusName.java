@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -45,7 +45,7 @@ class PrometheusName {
         this.metricImpl = metricImpl;
         this.metricID = metricID;
         this.units = units;
-        prometheusName = MetricImpl.prometheusClean(metricID.getName(), metricImpl.registryType() + "_");
+        prometheusName = metricImpl.prometheusName(metricID.getName());
         this.prometheusTags = metricImpl.prometheusTags(metricID.getTags());
         prometheusNameWithUnits = nameUnits(units);
 
@@ -25,6 +25,7 @@ import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import io.helidon.metrics.api.AbstractRegistry;
+import io.helidon.metrics.api.MetricsSettings;
 import io.helidon.metrics.api.RegistrySettings;
 
 import org.eclipse.microprofile.metrics.ConcurrentGauge;
@@ -45,6 +46,7 @@ import org.eclipse.microprofile.metrics.Timer;
 public class Registry extends AbstractRegistry<HelidonMetric> {
 
     private final AtomicReference<RegistrySettings> registrySettings = new AtomicReference<>();
+    private volatile MetricsSettings metricsSettings = MetricsSettings.builder().build();
 
     /**
      * Create a registry of a certain type.
@@ -63,6 +65,15 @@ public class Registry extends AbstractRegistry<HelidonMetric> {
         this.registrySettings.set(registrySettings);
     }
 
+    /**
+     * Sets the metrics settings (such as the kind of histogram reservoir) used by metrics created from now on.
+     *
+     * @param metricsSettings metrics settings
+     */
+    void metricsSettings(MetricsSettings metricsSettings) {
+        this.metricsSettings = metricsSettings;
+    }
+
     @Override
     protected boolean isMetricEnabled(String metricName) {
         return registrySettings.get().isMetricEnabled(metricName);
@@ -126,11 +137,12 @@ public class Registry extends AbstractRegistry<HelidonMetric> {
     protected Map<MetricType, BiFunction<String, Metadata, HelidonMetric>> prepareMetricFactories() {
         // Omit gauge because creating a gauge requires an existing delegate instance.
         // These factory methods do not use delegates.
-        return Map.of(MetricType.COUNTER, HelidonCounter::create,
-                MetricType.HISTOGRAM, HelidonHistogram::create,
+        // Metrics read the metrics settings when created, as they may be updated after this registry is.
+        return Map.of(MetricType.COUNTER, (type, metadata) -> HelidonCounter.create(type, metadata, metricsSettings),
+                MetricType.HISTOGRAM, (type, metadata) -> HelidonHistogram.create(type, metadata, metricsSettings),
                 MetricType.METERED, HelidonMeter::create,
-                MetricType.TIMER, HelidonTimer::create,
-                MetricType.SIMPLE_TIMER, HelidonSimpleTimer::create,
+                MetricType.TIMER, (type, metadata) -> HelidonTimer.create(type, metadata, metricsSettings),
+                MetricType.SIMPLE_TIMER, (type, metadata) -> HelidonSimpleTimer.create(type, metadata, metricsSettings),
                 MetricType.CONCURRENT_GAUGE, HelidonConcurrentGauge::create);
     }
 
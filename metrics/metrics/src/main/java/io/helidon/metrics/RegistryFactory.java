@@ -60,6 +60,7 @@ public class RegistryFactory implements io.helidon.metrics.api.RegistryFactory {
         this.metricsSettings = metricsSettings;
         registries.put(Type.APPLICATION, appRegistry);
         registries.put(Type.VENDOR, vendorRegistry);
+        registries.values().forEach(registry -> registry.metricsSettings(metricsSettings));
     }
 
     private RegistryFactory(MetricsSettings metricsSettings) {
@@ -160,7 +161,10 @@ public class RegistryFactory implements io.helidon.metrics.api.RegistryFactory {
     public void update(MetricsSettings metricsSettings) {
         accessMetricsSettings(() -> {
             this.metricsSettings = metricsSettings;
-            registries.forEach((key, value) -> value.update(metricsSettings.registrySettings(key)));
+            registries.forEach((key, value) -> {
+                value.update(metricsSettings.registrySettings(key));
+                value.metricsSettings(metricsSettings);
+            });
         });
     }
 
@@ -168,6 +172,7 @@ public class RegistryFactory implements io.helidon.metrics.api.RegistryFactory {
         if (null == registries.get(Type.BASE)) {
             accessMetricsSettings(() -> {
                 Registry registry = BaseRegistry.create(metricsSettings);
+                registry.metricsSettings(metricsSettings);
                 registries.put(Type.BASE, registry);
             });
         }
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.metrics;
+
+import io.helidon.metrics.api.MetricsSettings;
+
+/**
+ * Keeps the values recorded by a histogram, from which its snapshots are computed.
+ */
+interface Reservoir {
+
+    /**
+     * Creates a new reservoir of the kind set in the metrics settings.
+     *
+     * @param metricsSettings metrics settings selecting the kind of the reservoir, its precision and exemplar interval
+     * @param clock clock to use for time-based behavior
+     * @return new reservoir
+     */
+    static Reservoir create(MetricsSettings metricsSettings, Clock clock) {
+        switch (metricsSettings.histogramReservoir()) {
+        case LOG_LINEAR:
+            return new LogLinearReservoir(metricsSettings.histogramPrecision(), metricsSettings.exemplarInterval());
+        case EXPONENTIALLY_DECAYING:
+        default:
+            return new ExponentiallyDecayingReservoir(clock);
+        }
+    }
+
+    /**
+     * Records a value. The reservoir looks up the exemplar label of the value, if it keeps one for it.
+     *
+     * @param value the value to record
+     */
+    void update(long value);
+
+    /**
+     * Records a value with a fixed timestamp.
+     *
+     * @param value     the value to record
+     * @param timestamp the epoch timestamp of {@code value} in seconds
+     */
+    void update(long value, long timestamp);
+
+    /**
+     * Computes a snapshot of the recorded values.
+     *
+     * @return snapshot
+     */
+    LabeledSnapshot getSnapshot();
+}
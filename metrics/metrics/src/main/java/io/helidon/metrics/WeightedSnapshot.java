@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -43,7 +43,7 @@ import static io.helidon.metrics.Sample.derived;
 /**
  * A statistical snapshot of a {@link WeightedSnapshot}.
  */
-class WeightedSnapshot extends Snapshot implements DisplayableLabeledSnapshot {
+class WeightedSnapshot extends LabeledSnapshot {
 
     private static final Charset UTF_8 = Charset.forName("UTF-8");
     private final WeightedSample[] copy;
@@ -18,6 +18,7 @@ package io.helidon.metrics;
 
 import java.io.BufferedReader;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
@@ -25,6 +26,7 @@ import java.util.Set;
 
 import io.helidon.config.Config;
 import io.helidon.config.ConfigSources;
+import io.helidon.media.common.ContentReaders;
 
 import jakarta.json.Json;
 import jakarta.json.JsonArray;
@@ -40,6 +42,7 @@ import org.eclipse.microprofile.metrics.Tag;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
@@ -107,6 +110,30 @@ class MetricsSupportTest {
         System.out.println(data);
     }
 
+    @Test
+    void testPrometheusChunks() {
+        PrometheusExporter exporter = PrometheusExporter.create(app, base);
+        String data = ContentReaders.readString(exporter.chunks(), StandardCharsets.UTF_8).await();
+        // values of the base registry keep changing, only the application registry output is stable
+        assertThat(data, containsString(MetricsSupport.toPrometheusData(app)));
+        assertThat(data.endsWith("# EOF\n"), is(true));
+    }
+
+    @Test
+    void testPrometheusNameFilter() {
+        String data = PrometheusExporter.create("appCounter"::equals, app, base).text();
+        assertThat(data, containsString("application_appCounter_total{"));
+        assertThat(data, not(containsString(CONCURRENT_GAUGE_NAME)));
+        assertThat(data, not(containsString("base_")));
+    }
+
+    @Test
+    void testPrometheusDataByName() {
+        String data = MetricsSupport.prometheusDataByName(app, "appCounter");
+        assertThat(data, containsString("application_appCounter_total{"));
+        assertThat(data, not(containsString(CONCURRENT_GAUGE_NAME)));
+    }
+
     @Test
     void testJsonDataAll() {
         JsonObject jsonObject = MetricsSupport.toJsonData(app);
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+class TestExemplarSlots {
+
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    @Test
+    void testLabelLookedUpOncePerInterval() {
+        ExemplarSlots slots = new ExemplarSlots(2, Duration.ofHours(1), () -> label("{trace_id=\"" + lookups.get() + "\"}"));
+
+        for (long value = 1; value <= 1000; value++) {
+            slots.offer(1, value);
+        }
+
+        assertThat("Label lookups", lookups.get(), is(1));
+        assertThat("Kept exemplar value", slots.get(1).value(), is(1L));
+        assertThat("Kept exemplar label", slots.get(1).label(), is("{trace_id=\"0\"}"));
+        assertThat("Exemplar of the other slot", slots.get(0), is(nullValue()));
+    }
+
+    @Test
+    void testReplacedAfterInterval() {
+        ExemplarSlots slots = new ExemplarSlots(1, Duration.ZERO, () -> label("{trace_id=\"abc\"}"));
+
+        slots.offer(0, 1);
+        slots.offer(0, 2);
+
+        assertThat("Label lookups", lookups.get(), is(2));
+        assertThat("Replaced exemplar value", slots.get(0).value(), is(2L));
+    }
+
+    @Test
+    void testUnlabeledValueKeepsExemplar() {
+        ExemplarSlots slots = new ExemplarSlots(1, Duration.ZERO, () -> label(lookups.get() == 0 ? "{trace_id=\"abc\"}" : ""));
+
+        slots.offer(0, 1);
+        slots.offer(0, 2);
+
+        assertThat("Kept exemplar value", slots.get(0).value(), is(1L));
+    }
+
+    @Test
+    void testUntracedValuesLookedUpOncePerInterval() {
+        ExemplarSlots slots = new ExemplarSlots(1, Duration.ofHours(1), () -> label(""));
+
+        for (long value = 1; value <= 1000; value++) {
+            slots.offer(0, value);
+        }
+
+        assertThat("Label lookups", lookups.get(), is(1));
+        assertThat("Exemplar", slots.get(0), is(nullValue()));
+    }
+
+    @Test
+    void testUntracedSlotsShareLookups() {
+        ExemplarSlots slots = new ExemplarSlots(3, Duration.ofHours(1), () -> label(""));
+
+        for (int slot = 0; slot < 3; slot++) {
+            slots.offer(slot, slot);
+        }
+
+        // no slot is allocated before a traced value, so the lookups are limited for all slots together
+        assertThat("Label lookups", lookups.get(), is(1));
+        assertThat("Size", slots.size(), is(3));
+    }
+
+    @Test
+    void testIntervalPerInstance() {
+        ExemplarSlots everyUpdate = new ExemplarSlots(1, Duration.ZERO, () -> label("{trace_id=\"abc\"}"));
+        ExemplarSlots hourly = new ExemplarSlots(1, Duration.ofHours(1), () -> label("{trace_id=\"abc\"}"));
+
+        everyUpdate.offer(0, 1);
+        hourly.offer(0, 1);
+        everyUpdate.offer(0, 2);
+        hourly.offer(0, 2);
+
+        assertThat("Replaced exemplar value", everyUpdate.get(0).value(), is(2L));
+        assertThat("Kept exemplar value", hourly.get(0).value(), is(1L));
+    }
+
+    private String label(String label) {
+        lookups.incrementAndGet();
+        return label;
+    }
+}
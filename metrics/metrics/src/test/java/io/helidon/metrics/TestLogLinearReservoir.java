@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import io.helidon.metrics.api.MetricsSettings;
+
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.Snapshot;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+
+class TestLogLinearReservoir {
+
+    private static final int PRECISION = 6;
+    private static final Duration EXEMPLAR_INTERVAL = Duration.ofSeconds(1);
+
+    @Test
+    void testBucketBounds() {
+        for (int precision : new int[] {1, 4, PRECISION, 10}) {
+            LogLinearReservoir reservoir = new LogLinearReservoir(precision, EXEMPLAR_INTERVAL);
+            for (long value : new long[] {0, 1, 63, 64, 65, 127, 128, 129, 1000, 123_456_789L, Long.MAX_VALUE}) {
+                int index = reservoir.bucketIndex(value);
+                long lowerBound = reservoir.bucketLowerBound(index);
+                assertThat("Bucket of " + value + " starts at or below it", lowerBound <= value, is(true));
+                assertThat("Bucket of " + value + " ends above it",
+                           value - lowerBound < reservoir.bucketWidth(index),
+                           is(true));
+                assertThat("Bucket index of " + value + " in range", index < reservoir.bucketCount(), is(true));
+            }
+            assertThat("Bucket of a negative value", reservoir.bucketIndex(-5), is(0));
+        }
+    }
+
+    @Test
+    void testAdjacentBucketsAreContiguous() {
+        for (int precision : new int[] {1, 4, PRECISION, 10}) {
+            LogLinearReservoir reservoir = new LogLinearReservoir(precision, EXEMPLAR_INTERVAL);
+            for (int index = 1; index < reservoir.bucketCount(); index++) {
+                assertThat("Bucket " + index + " starts where the previous one ends",
+                           reservoir.bucketLowerBound(index),
+                           is(reservoir.bucketLowerBound(index - 1) + reservoir.bucketWidth(index - 1)));
+            }
+            assertThat("Last bucket ends at the highest value",
+                       reservoir.bucketIndex(Long.MAX_VALUE),
+                       is(reservoir.bucketCount() - 1));
+        }
+    }
+
+    @Test
+    void testBucketCount() {
+        assertThat("Buckets with the default precision",
+                   new LogLinearReservoir(PRECISION, EXEMPLAR_INTERVAL).bucketCount(),
+                   is(3712));
+        assertThat("Buckets with 4 bits", new LogLinearReservoir(4, EXEMPLAR_INTERVAL).bucketCount(), is(960));
+    }
+
+    @Test
+    void testSnapshot() {
+        LogLinearReservoir reservoir = new LogLinearReservoir(PRECISION, EXEMPLAR_INTERVAL);
+        for (long value = 1; value <= 10_000; value++) {
+            reservoir.update(value);
+        }
+        Snapshot snapshot = reservoir.getSnapshot();
+
+        assertThat("Min", snapshot.getMin(), is(1L));
+        assertThat("Max", snapshot.getMax(), is(10_000L));
+        assertThat("Mean", snapshot.getMean(), is(5000.5));
+        assertThat("Median", snapshot.getMedian(), closeTo(5000, 5000 / 64.0));
+        assertThat("99th percentile", snapshot.get99thPercentile(), closeTo(9900, 9900 / 64.0));
+        assertThat("Std dev", snapshot.getStdDev(), closeTo(2886.9, 2886.9 / 64.0));
+    }
+
+    @Test
+    void testLowerPrecision() {
+        LogLinearReservoir reservoir = new LogLinearReservoir(4, EXEMPLAR_INTERVAL);
+        for (long value = 1; value <= 10_000; value++) {
+            reservoir.update(value);
+        }
+        Snapshot snapshot = reservoir.getSnapshot();
+
+        assertThat("Mean", snapshot.getMean(), is(5000.5));
+        assertThat("Median", snapshot.getMedian(), closeTo(5000, 5000 / 16.0));
+        assertThat("99th percentile", snapshot.get99thPercentile(), closeTo(9900, 9900 / 16.0));
+    }
+
+    @Test
+    void testSnapshotOfManyBuckets() {
+        LogLinearReservoir reservoir = new LogLinearReservoir(PRECISION, EXEMPLAR_INTERVAL);
+        // more non-empty buckets than a snapshot initially has room for
+        for (long value = 0; value < 1000; value++) {
+            reservoir.update(value);
+        }
+        Snapshot snapshot = reservoir.getSnapshot();
+
+        // buckets of width 1 up to 127, then 64 buckets of width 2 and 4, and 61 buckets of width 8 up to 999
+        assertThat("Size", snapshot.size(), is(128 + 64 + 64 + 61));
+        assertThat("Lowest bucket value", snapshot.getValues()[0], is(0L));
+        assertThat("Highest bucket value", snapshot.getValues()[snapshot.size() - 1], is(996L));
+        assertThat("Mean", snapshot.getMean(), is(499.5));
+    }
+
+    @Test
+    void testEmptySnapshot() {
+        Snapshot snapshot = new LogLinearReservoir(PRECISION, EXEMPLAR_INTERVAL).getSnapshot();
+
+        assertThat("Size", snapshot.size(), is(0));
+        assertThat("Median", snapshot.getMedian(), is(0.0));
+        assertThat("Mean", snapshot.getMean(), is(0.0));
+    }
+
+    @Test
+    void testConcurrentUpdates() throws Exception {
+        LogLinearReservoir reservoir = new LogLinearReservoir(PRECISION, EXEMPLAR_INTERVAL);
+        int threads = 4;
+        int perThread = 100_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int value = 0; value < perThread; value++) {
+                        reservoir.update(value);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Snapshot snapshot = reservoir.getSnapshot();
+
+        // the mean is exact only if no update was lost
+        assertThat("Mean", snapshot.getMean(), is((perThread - 1) / 2.0));
+        assertThat("Min", snapshot.getMin(), is(0L));
+        assertThat("Max", snapshot.getMax(), is(perThread - 1L));
+    }
+
+    @Test
+    void testSelectedBySettings() {
+        HelidonHistogram histogram = HelidonHistogram.create("application",
+                                                             Metadata.builder()
+                                                                     .withName("logLinear")
+                                                                     .withType(MetricType.HISTOGRAM)
+                                                                     .build(),
+                                                             MetricsSettings.builder()
+                                                                     .histogramReservoir(
+                                                                             MetricsSettings.HistogramReservoir.LOG_LINEAR)
+                                                                     .build());
+        histogram.update(42);
+
+        assertThat("Snapshot type", histogram.getSnapshot(), instanceOf(LogLinearSnapshot.class));
+        assertThat("Count", histogram.getCount(), is(1L));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.metrics.jmh;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.helidon.metrics.api.MetricsSettings;
+import io.helidon.metrics.api.RegistryFactory;
+
+import org.eclipse.microprofile.metrics.Histogram;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Timer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Measures updates of a histogram and a timer shared by several threads, and taking a snapshot,
+ * for each kind of histogram reservoir.
+ */
+@State(Scope.Benchmark)
+public class HistogramReservoirJMH {
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(HistogramReservoirJMH.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Param({"EXPONENTIALLY_DECAYING", "LOG_LINEAR"})
+    MetricsSettings.HistogramReservoir reservoir;
+
+    Histogram histogram;
+
+    Timer timer;
+
+    @Setup
+    public void setup() {
+        MetricRegistry registry = RegistryFactory.create(MetricsSettings.builder()
+                                                                 .histogramReservoir(reservoir)
+                                                                 .build())
+                .getRegistry(MetricRegistry.Type.APPLICATION);
+        histogram = registry.histogram("jmhHistogram");
+        timer = registry.timer("jmhTimer");
+        for (int i = 0; i < 10_000; i++) {
+            histogram.update(ThreadLocalRandom.current().nextLong(1_000_000));
+        }
+    }
+
+    @Benchmark
+    public void histogramUpdate() {
+        histogram.update(ThreadLocalRandom.current().nextLong(1_000_000));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void histogramUpdateContended() {
+        histogram.update(ThreadLocalRandom.current().nextLong(1_000_000));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void timerUpdateContended() {
+        timer.update(Duration.ofNanos(ThreadLocalRandom.current().nextLong(1_000_000)));
+    }
+
+    @Benchmark
+    public void snapshot(Blackhole bh) {
+        bh.consume(histogram.getSnapshot().get99thPercentile());
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.tests.integration.webclient;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.Http;
+import io.helidon.common.reactive.Multi;
+import io.helidon.common.reactive.Single;
+import io.helidon.webclient.HttpCache;
+import io.helidon.webclient.WebClient;
+import io.helidon.webserver.Routing;
+import io.helidon.webserver.ServerRequest;
+import io.helidon.webserver.ServerResponse;
+import io.helidon.webserver.WebServer;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Tests of the {@link HttpCache} of the {@link WebClient} against a web server.
+ */
+class HttpCacheTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final String LARGE_BODY = "x".repeat(1000);
+    private static final Map<String, AtomicInteger> REQUESTS = new ConcurrentHashMap<>();
+    private static final Map<String, List<String>> VALIDATORS = new ConcurrentHashMap<>();
+
+    private static ScheduledExecutorService executor;
+    private static WebServer webServer;
+
+    @BeforeAll
+    static void startServer() {
+        executor = Executors.newSingleThreadScheduledExecutor();
+        webServer = WebServer.builder()
+                .addRouting(Routing.builder()
+                                    .get("/fresh", (req, res) -> cacheable(req, res, "max-age=60"))
+                                    .get("/etag", HttpCacheTest::etag)
+                                    .get("/swr", HttpCacheTest::staleWhileRevalidate)
+                                    .get("/slow", HttpCacheTest::slow)
+                                    .get("/item/{id}", (req, res) -> cacheable(req, res, "max-age=60"))
+                                    .get("/large", HttpCacheTest::large)
+                                    .get("/chunked/{size}", HttpCacheTest::chunked)
+                                    .get("/resource", (req, res) -> cacheable(req, res, "max-age=60"))
+                                    .post("/resource", (req, res) -> res.send("updated"))
+                                    .build())
+                .build()
+                .start()
+                .await(TIMEOUT);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        if (webServer != null) {
+            webServer.shutdown().await(TIMEOUT);
+        }
+        executor.shutdownNow();
+    }
+
+    @BeforeEach
+    void resetCounters() {
+        REQUESTS.clear();
+        VALIDATORS.clear();
+    }
+
+    @Test
+    void testFreshResponseServedFromCache() {
+        WebClient client = client(HttpCache.create());
+
+        assertThat(get(client, "/fresh"), is("/fresh 1"));
+        assertThat(get(client, "/fresh"), is("/fresh 1"));
+        assertThat(requests("/fresh"), is(1));
+    }
+
+    @Test
+    void testRevalidationWithNotModified() {
+        WebClient client = client(HttpCache.create());
+
+        assertThat(get(client, "/etag"), is("etag"));
+        assertThat(get(client, "/etag"), is("etag"));
+        assertThat(requests("/etag"), is(2));
+        assertThat(VALIDATORS.get("/etag"), contains("", "\"v1\""));
+    }
+
+    @Test
+    void testStaleWhileRevalidate() throws InterruptedException {
+        WebClient client = client(HttpCache.create());
+
+        assertThat(get(client, "/swr"), is("/swr 1"));
+        // served stale, revalidated in background with a separate conditional request
+        assertThat(get(client, "/swr"), is("/swr 1"));
+        awaitRequests("/swr", 2);
+        assertThat(VALIDATORS.get("/swr"), contains("", "\"swr\""));
+    }
+
+    @Test
+    void testConcurrentMissesCoalesced() {
+        WebClient client = client(HttpCache.create());
+
+        List<String> bodies = IntStream.range(0, 5)
+                .mapToObj(it -> client.get().path("/slow").request(String.class))
+                .collect(Collectors.toList())
+                .stream()
+                .map(single -> single.await(TIMEOUT))
+                .collect(Collectors.toList());
+
+        assertThat(bodies, everyItem(is("/slow 1")));
+        assertThat(requests("/slow"), is(1));
+    }
+
+    @Test
+    void testLeastRecentlyUsedEviction() {
+        WebClient client = client(HttpCache.builder().maxEntries(2).build());
+
+        get(client, "/item/1");
+        get(client, "/item/2");
+        get(client, "/item/1");
+        get(client, "/item/3");
+        get(client, "/item/1");
+        get(client, "/item/2");
+
+        assertThat(requests("/item/1"), is(1));
+        assertThat(requests("/item/2"), is(2));
+        assertThat(requests("/item/3"), is(1));
+    }
+
+    @Test
+    void testDiskTier() throws Exception {
+        Path directory = Files.createTempDirectory("http-cache");
+        try {
+            HttpCache cache = HttpCache.builder()
+                    .diskDirectory(directory)
+                    .diskThreshold(100)
+                    .build();
+            WebClient client = client(cache);
+
+            assertThat(get(client, "/large"), is(LARGE_BODY));
+            assertThat(get(client, "/large"), is(LARGE_BODY));
+            assertThat(requests("/large"), is(1));
+            try (Stream<Path> files = Files.list(directory)) {
+                assertThat(files.count(), is(1L));
+            }
+
+            cache.clear();
+            try (Stream<Path> files = Files.list(directory)) {
+                assertThat(files.count(), is(0L));
+            }
+        } finally {
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Test
+    void testChunkedBodies() {
+        WebClient client = client(HttpCache.builder().maxEntrySize(1024).build());
+
+        // bodies without a content length are cached up to the entry size, larger ones are streamed
+        assertThat(get(client, "/chunked/512"), is("c".repeat(512)));
+        assertThat(get(client, "/chunked/512"), is("c".repeat(512)));
+        assertThat(get(client, "/chunked/4096"), is("c".repeat(4096)));
+        assertThat(get(client, "/chunked/4096"), is("c".repeat(4096)));
+
+        assertThat(requests("/chunked/512"), is(1));
+        assertThat(requests("/chunked/4096"), is(2));
+    }
+
+    @Test
+    void testUnsafeMethodInvalidates() {
+        WebClient client = client(HttpCache.create());
+
+        get(client, "/resource");
+        client.post().path("/resource").submit("update", String.class).await(TIMEOUT);
+        get(client, "/resource");
+
+        assertThat(requests("/resource"), is(2));
+    }
+
+    private static WebClient client(HttpCache cache) {
+        return WebClient.builder()
+                .baseUri("http://localhost:" + webServer.port())
+                .httpCache(cache)
+                .build();
+    }
+
+    private static String get(WebClient client, String path) {
+        return client.get().path(path).request(String.class).await(TIMEOUT);
+    }
+
+    private static int requests(String path) {
+        AtomicInteger requests = REQUESTS.get(path);
+        return requests == null ? 0 : requests.get();
+    }
+
+    private static void awaitRequests(String path, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (requests(path) < count && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertThat(requests(path), is(count));
+    }
+
+    private static int received(ServerRequest req) {
+        String path = req.path().toString();
+        VALIDATORS.computeIfAbsent(path, it -> new CopyOnWriteArrayList<>())
+                .add(req.headers().first(Http.Header.IF_NONE_MATCH).orElse(""));
+        return REQUESTS.computeIfAbsent(path, it -> new AtomicInteger()).incrementAndGet();
+    }
+
+    private static void cacheable(ServerRequest req, ServerResponse res, String cacheControl) {
+        int count = received(req);
+        res.headers().add(Http.Header.CACHE_CONTROL, cacheControl);
+        res.send(req.path() + " " + count);
+    }
+
+    private static void etag(ServerRequest req, ServerResponse res) {
+        received(req);
+        res.headers().add(Http.Header.CACHE_CONTROL, "max-age=0");
+        res.headers().add(Http.Header.ETAG, "\"v1\"");
+        if (req.headers().first(Http.Header.IF_NONE_MATCH).isPresent()) {
+            res.status(Http.Status.NOT_MODIFIED_304).send();
+        } else {
+            res.send("etag");
+        }
+    }
+
+    private static void staleWhileRevalidate(ServerRequest req, ServerResponse res) {
+        int count = received(req);
+        res.headers().add(Http.Header.CACHE_CONTROL, "max-age=0, stale-while-revalidate=60");
+        res.headers().add(Http.Header.ETAG, "\"swr\"");
+        if (req.headers().first(Http.Header.IF_NONE_MATCH).isPresent()) {
+            res.status(Http.Status.NOT_MODIFIED_304).send();
+        } else {
+            res.send(req.path() + " " + count);
+        }
+    }
+
+    private static void slow(ServerRequest req, ServerResponse res) {
+        int count = received(req);
+        Single.timer(500, TimeUnit.MILLISECONDS, executor)
+                .forSingle(it -> {
+                    res.headers().add(Http.Header.CACHE_CONTROL, "max-age=60");
+                    res.send(req.path() + " " + count);
+                });
+    }
+
+    private static void large(ServerRequest req, ServerResponse res) {
+        received(req);
+        res.headers().add(Http.Header.CACHE_CONTROL, "max-age=60");
+        res.send(LARGE_BODY);
+    }
+
+    private static void chunked(ServerRequest req, ServerResponse res) {
+        received(req);
+        int size = Integer.parseInt(req.path().param("size"));
+        res.headers().add(Http.Header.CACHE_CONTROL, "max-age=60");
+        res.send(Multi.range(0, size / 128)
+                         .map(it -> DataChunk.create("c".repeat(128).getBytes(StandardCharsets.UTF_8))));
+    }
+}
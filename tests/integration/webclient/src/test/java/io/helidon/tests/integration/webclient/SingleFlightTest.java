@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.tests.integration.webclient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.helidon.common.http.Http;
+import io.helidon.common.reactive.Single;
+import io.helidon.webclient.WebClient;
+import io.helidon.webclient.WebClientRequestBuilder;
+import io.helidon.webserver.Routing;
+import io.helidon.webserver.ServerRequest;
+import io.helidon.webserver.ServerResponse;
+import io.helidon.webserver.WebServer;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Tests of single flight of the {@link WebClient} against a web server.
+ */
+class SingleFlightTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final String LARGE_BODY = "x".repeat(1000);
+    private static final Map<String, AtomicInteger> REQUESTS = new ConcurrentHashMap<>();
+
+    private static ScheduledExecutorService executor;
+    private static WebServer webServer;
+
+    @BeforeAll
+    static void startServer() {
+        executor = Executors.newSingleThreadScheduledExecutor();
+        webServer = WebServer.builder()
+                .addRouting(Routing.builder()
+                                    .get("/slow", SingleFlightTest::slow)
+                                    .post("/slow", SingleFlightTest::slow)
+                                    .get("/large", SingleFlightTest::large)
+                                    .build())
+                .build()
+                .start()
+                .await(TIMEOUT);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        if (webServer != null) {
+            webServer.shutdown().await(TIMEOUT);
+        }
+        executor.shutdownNow();
+    }
+
+    @BeforeEach
+    void resetCounters() {
+        REQUESTS.clear();
+    }
+
+    @Test
+    void testIdenticalRequestsCoalesced() {
+        WebClient client = client(1024);
+
+        List<String> bodies = concurrently(5, it -> client.get().path("/slow"));
+
+        assertThat(bodies, everyItem(is("1:")));
+        assertThat(requests("/slow"), is(1));
+    }
+
+    @Test
+    void testDifferentAuthorizationNotCoalesced() {
+        WebClient client = client(1024);
+
+        List<String> bodies = concurrently(2, it -> client.get()
+                .path("/slow")
+                .addHeader(Http.Header.AUTHORIZATION, "Bearer user" + it));
+
+        // each caller receives the response to its own authorization
+        assertThat(bodies, containsInAnyOrder(endsWith(":Bearer user0"), endsWith(":Bearer user1")));
+        assertThat(requests("/slow"), is(2));
+    }
+
+    @Test
+    void testDifferentCookieNotCoalesced() {
+        WebClient client = client(1024);
+
+        concurrently(2, it -> client.get()
+                .path("/slow")
+                .addHeader(Http.Header.COOKIE, "session=" + it));
+
+        assertThat(requests("/slow"), is(2));
+    }
+
+    @Test
+    void testDifferentQueryNotCoalesced() {
+        WebClient client = client(1024);
+
+        List<String> bodies = concurrently(2, it -> client.get()
+                .path("/slow")
+                .queryParam("user", String.valueOf(it)));
+
+        assertThat(bodies.stream().distinct().count(), is(2L));
+        assertThat(requests("/slow"), is(2));
+    }
+
+    @Test
+    void testPostNotCoalesced() {
+        WebClient client = client(1024);
+
+        List<String> bodies = IntStream.range(0, 3)
+                .mapToObj(it -> client.post().path("/slow").submit("entity", String.class))
+                .collect(Collectors.toList())
+                .stream()
+                .map(single -> single.await(TIMEOUT))
+                .collect(Collectors.toList());
+
+        assertThat(bodies.size(), is(3));
+        assertThat(requests("/slow"), is(3));
+    }
+
+    @Test
+    void testLargeEntityNotShared() {
+        WebClient client = client(100);
+
+        List<String> bodies = concurrently(3, it -> client.get().path("/large"));
+
+        // the sender reads the streamed entity, the waiting callers send their own request
+        assertThat(bodies, everyItem(is(LARGE_BODY)));
+        assertThat(requests("/large"), is(3));
+    }
+
+    private static WebClient client(long maxSize) {
+        return WebClient.builder()
+                .baseUri("http://localhost:" + webServer.port())
+                .singleFlight(true)
+                .singleFlightMaxSize(maxSize)
+                .build();
+    }
+
+    private static List<String> concurrently(int count, Function<Integer, WebClientRequestBuilder> request) {
+        return IntStream.range(0, count)
+                .mapToObj(it -> request.apply(it).request(String.class))
+                .collect(Collectors.toList())
+                .stream()
+                .map(single -> single.await(TIMEOUT))
+                .collect(Collectors.toList());
+    }
+
+    private static int requests(String path) {
+        AtomicInteger requests = REQUESTS.get(path);
+        return requests == null ? 0 : requests.get();
+    }
+
+    private static int received(ServerRequest req) {
+        return REQUESTS.computeIfAbsent(req.path().toString(), it -> new AtomicInteger()).incrementAndGet();
+    }
+
+    private static void slow(ServerRequest req, ServerResponse res) {
+        int count = received(req);
+        String authorization = req.headers().first(Http.Header.AUTHORIZATION).orElse("");
+        // keep the request in flight, so that identical requests are sent while it is
+        Single.timer(500, TimeUnit.MILLISECONDS, executor)
+                .forSingle(it -> res.send(count + ":" + authorization));
+    }
+
+    private static void large(ServerRequest req, ServerResponse res) {
+        received(req);
+        Single.timer(500, TimeUnit.MILLISECONDS, executor)
+                .forSingle(it -> res.send(LARGE_BODY));
+    }
+}
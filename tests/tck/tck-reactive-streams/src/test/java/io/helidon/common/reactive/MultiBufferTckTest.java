@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.reactive;
+
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import org.reactivestreams.tck.TestEnvironment;
+import org.reactivestreams.tck.flow.FlowPublisherVerification;
+import org.testng.annotations.Test;
+
+@Test
+public class MultiBufferTckTest extends FlowPublisherVerification<List<Long>> {
+
+    public MultiBufferTckTest() {
+        super(new TestEnvironment(200));
+    }
+
+    @Override
+    public Flow.Publisher<List<Long>> createFlowPublisher(long l) {
+        return Multi.rangeLong(0, l * 2).buffer(2);
+    }
+
+    @Override
+    public Flow.Publisher<List<Long>> createFailedFlowPublisher() {
+        return Multi.<Long>error(new RuntimeException()).buffer(2);
+    }
+
+    @Override
+    public long maxElementsFromPublisher() {
+        return 10;
+    }
+}
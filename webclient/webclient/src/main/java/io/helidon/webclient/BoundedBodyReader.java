@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webclient;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Multi;
+import io.helidon.common.reactive.SubscriptionHelper;
+
+/**
+ * Reads a response body up to a size limit, such as for the {@link HttpCache} or a response shared by single flight.
+ * <p>
+ * Chunks are requested one by one and kept until the body completes, in which case it is provided as a single array.
+ * Once more bytes than the limit are received no more chunks are requested, and the body is provided by this
+ * publisher instead: it emits the kept chunks followed by the rest of the body, as requested by its subscriber.
+ */
+final class BoundedBodyReader implements Flow.Subscriber<DataChunk>, Flow.Publisher<DataChunk>, Flow.Subscription {
+
+    private final long limit;
+    private final CompletableFuture<Optional<byte[]>> body = new CompletableFuture<>();
+    private final Queue<DataChunk> chunks = new ArrayDeque<>();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+    private Flow.Subscription upstream;
+    private long size;
+    private volatile Flow.Subscriber<? super DataChunk> downstream;
+    private volatile boolean overflow;
+    private volatile boolean done;
+    private volatile boolean cancelled;
+    private Throwable error;
+
+    private BoundedBodyReader(long limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Start reading the body.
+     *
+     * @param publisher body of the response
+     * @param limit     maximal number of bytes to read into an array
+     * @return reader of the body
+     */
+    static BoundedBodyReader read(Flow.Publisher<DataChunk> publisher, long limit) {
+        BoundedBodyReader reader = new BoundedBodyReader(limit);
+        publisher.subscribe(reader);
+        return reader;
+    }
+
+    /**
+     * Completes with the bytes of the body, or with an empty optional if the body is larger than the limit,
+     * in which case the body must be read from this publisher, or discarded.
+     *
+     * @return completion stage of the body
+     */
+    CompletionStage<Optional<byte[]>> body() {
+        return body;
+    }
+
+    /**
+     * Release the body of a response larger than the limit, if not subscribed to.
+     */
+    void discard() {
+        if (subscribed.compareAndSet(false, true)) {
+            cancel();
+        }
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        SubscriptionHelper.validate(upstream, subscription);
+        upstream = subscription;
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(DataChunk chunk) {
+        if (overflow) {
+            if (cancelled) {
+                chunk.release();
+            } else {
+                downstream.onNext(chunk);
+            }
+            return;
+        }
+        chunks.add(chunk);
+        size += chunk.remaining();
+        if (size > limit) {
+            overflow = true;
+            body.complete(Optional.empty());
+        } else {
+            upstream.request(1);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        if (overflow) {
+            error = throwable;
+            done = true;
+            drain();
+        } else {
+            chunks.forEach(DataChunk::release);
+            chunks.clear();
+            body.completeExceptionally(throwable);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (overflow) {
+            done = true;
+            drain();
+            return;
+        }
+        byte[] bytes = new byte[(int) size];
+        int position = 0;
+        for (DataChunk chunk : chunks) {
+            for (ByteBuffer buffer : chunk.data()) {
+                int length = buffer.remaining();
+                buffer.duplicate().get(bytes, position, length);
+                position += length;
+            }
+            chunk.release();
+        }
+        chunks.clear();
+        body.complete(Optional.of(bytes));
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super DataChunk> subscriber) {
+        if (!overflow || !subscribed.compareAndSet(false, true)) {
+            Multi.<DataChunk>error(new IllegalStateException("Response body can be subscribed to only once"))
+                    .subscribe(subscriber);
+            return;
+        }
+        downstream = subscriber;
+        subscriber.onSubscribe(this);
+        drain();
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0L) {
+            cancel();
+            downstream.onError(new IllegalArgumentException("Rule §3.9 violated: non-positive requests are forbidden"));
+        } else {
+            SubscriptionHelper.addRequest(requested, n);
+            drain();
+        }
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+        upstream.cancel();
+        drain();
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            Flow.Subscriber<? super DataChunk> subscriber = downstream;
+            if (cancelled) {
+                chunks.forEach(DataChunk::release);
+                chunks.clear();
+            } else if (subscriber != null) {
+                long emitted = 0;
+                long demand = requested.get();
+                while (emitted != demand && !chunks.isEmpty()) {
+                    subscriber.onNext(chunks.poll());
+                    emitted++;
+                }
+                SubscriptionHelper.produced(requested, emitted);
+                if (chunks.isEmpty()) {
+                    if (done) {
+                        cancelled = true;
+                        if (error == null) {
+                            subscriber.onComplete();
+                        } else {
+                            subscriber.onError(error);
+                        }
+                    } else {
+                        // the kept chunks were emitted, the rest of the body is requested from upstream
+                        long n = requested.getAndSet(0);
+                        if (n > 0) {
+                            upstream.request(n);
+                        }
+                    }
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webclient;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.Http;
+import io.helidon.common.reactive.Multi;
+import io.helidon.common.reactive.Single;
+import io.helidon.media.common.MessageBodyReaderContext;
+
+/**
+ * Fully read response that can be replayed to any number of callers.
+ * <p>
+ * A response with an entity larger than the limit is not buffered, it is only
+ * {@link #streamed() streamed} to the caller that sent the request.
+ */
+final class BufferedResponse {
+
+    private final Http.ResponseStatus status;
+    private final Http.Version version;
+    private final Map<String, List<String>> headers;
+    private final ByteBuffer body;
+    private final URI lastEndpointUri;
+    private final WebClientResponse streamed;
+
+    private BufferedResponse(WebClientResponse response, byte[] body) {
+        this.status = response.status();
+        this.version = response.version();
+        this.headers = response.headers().toMap();
+        this.body = ByteBuffer.wrap(body).asReadOnlyBuffer();
+        this.lastEndpointUri = response.lastEndpointURI();
+        this.streamed = null;
+    }
+
+    private BufferedResponse(WebClientResponse streamed) {
+        this.status = null;
+        this.version = null;
+        this.headers = null;
+        this.body = null;
+        this.lastEndpointUri = null;
+        this.streamed = streamed;
+    }
+
+    /**
+     * Read the whole entity of the response, unless it is larger than the limit.
+     *
+     * @param response response to read
+     * @param maxSize  maximal size of the entity to buffer
+     * @return single with buffered response
+     */
+    static Single<BufferedResponse> create(WebClientResponse response, long maxSize) {
+        BoundedBodyReader reader = BoundedBodyReader.read(response.content(), maxSize);
+        return Single.create(reader.body())
+                .map(bytes -> bytes.map(it -> new BufferedResponse(response, it))
+                        .orElseGet(() -> new BufferedResponse(new StreamedResponse(response, reader))));
+    }
+
+    /**
+     * Whether the entity was buffered and the response can be replayed.
+     *
+     * @return {@code true} if the response can be replayed
+     */
+    boolean isBuffered() {
+        return streamed == null;
+    }
+
+    /**
+     * Response with an entity larger than the limit, to be read only by the caller that sent the request.
+     *
+     * @return streamed response
+     */
+    WebClientResponse streamed() {
+        return streamed;
+    }
+
+    /**
+     * Create a new response replaying the buffered status, headers and entity.
+     *
+     * @param readerContext reader context of the request
+     * @return a new response
+     */
+    WebClientResponse toResponse(MessageBodyReaderContext readerContext) {
+        WebClientResponseImpl.Builder builder = WebClientResponseImpl.builder()
+                .contentPublisher(Multi.singleton(DataChunk.create(false, true, body.duplicate())))
+                .readerContext(readerContext)
+                .status(status)
+                .httpVersion(version)
+                .lastEndpointURI(lastEndpointUri);
+        headers.forEach(builder::addHeader);
+        return builder.build();
+    }
+}
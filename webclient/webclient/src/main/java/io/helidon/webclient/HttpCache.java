@@ -0,0 +1,1079 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webclient;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.Http;
+import io.helidon.common.http.Parameters;
+import io.helidon.common.reactive.Multi;
+import io.helidon.config.Config;
+import io.helidon.config.metadata.Configured;
+import io.helidon.config.metadata.ConfiguredOption;
+import io.helidon.media.common.MessageBodyReaderContext;
+
+/**
+ * Client side HTTP cache of the {@link WebClient}.
+ * <p>
+ * Responses to {@code GET} requests are stored and reused according to the freshness rules of
+ * <a href="https://www.rfc-editor.org/rfc/rfc7234">RFC 7234</a>. Stale responses with a validator
+ * ({@code ETag} or {@code Last-Modified}) are revalidated with a conditional request, {@code Vary} is honored
+ * by storing one variant per combination of the selecting request headers, and responses with
+ * {@code stale-while-revalidate} are served stale while a single background revalidation runs.
+ * Concurrent misses of the same resource wait for the first exchange to fill the cache instead of
+ * all going over the network.
+ * <p>
+ * Entries are kept in memory with least recently used eviction, bounded by the number of entries,
+ * by the total size of the bodies kept on heap and by the total size of the bodies stored on disk.
+ * If a disk directory is configured, bodies larger than the disk threshold are written to a file and memory mapped
+ * instead of being kept on heap. Such a body is still read into a heap buffer before it is written to its file, so
+ * the disk tier lowers the heap retained by the cache, not the peak heap use of a single exchange.
+ */
+public final class HttpCache {
+
+    private static final Logger LOGGER = Logger.getLogger(HttpCache.class.getName());
+
+    private static final Set<Integer> CACHEABLE_BY_DEFAULT = Set.of(200, 203, 204, 300, 301, 404, 405, 410, 414, 501);
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+    private static final Set<String> NOT_UPDATED_ON_REVALIDATION = Set.of(Http.Header.CONTENT_LENGTH.toLowerCase(Locale.ROOT),
+                                                                         Http.Header.TRANSFER_ENCODING.toLowerCase(Locale.ROOT));
+    private static final long HEURISTIC_MAX_MILLIS = Duration.ofDays(1).toMillis();
+    private static final String BODY_DIRECTORY_PREFIX = "helidon-http-cache";
+    private static final String BODY_FILE_PREFIX = "body";
+    private static final String BODY_FILE_SUFFIX = ".body";
+    private static final String LOCK_FILE = "cache.lock";
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, List<Entry>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final long maxMemorySize;
+    private final long maxEntrySize;
+    private final BodyDirectory bodyDirectory;
+    private final long diskThreshold;
+    private final long maxDiskSize;
+    private final Clock clock;
+
+    private int entryCount;
+    private long memorySize;
+    private long diskSize;
+
+    private HttpCache(Builder builder) {
+        this.maxEntries = builder.maxEntries;
+        this.maxMemorySize = builder.maxMemorySize;
+        this.maxEntrySize = builder.maxEntrySize;
+        this.diskThreshold = builder.diskThreshold;
+        this.maxDiskSize = builder.maxDiskSize;
+        this.clock = builder.clock;
+        if (builder.diskDirectory == null) {
+            this.bodyDirectory = null;
+        } else {
+            this.bodyDirectory = BodyDirectory.create(builder.diskDirectory);
+            BodyDirectory.deleteAbandoned(builder.diskDirectory, bodyDirectory);
+        }
+    }
+
+    /**
+     * Create a new cache with default configuration.
+     *
+     * @return a new cache
+     */
+    public static HttpCache create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new cache from configuration.
+     *
+     * @param config configuration of the cache
+     * @return a new cache
+     */
+    public static HttpCache create(Config config) {
+        return builder().config(config).build();
+    }
+
+    /**
+     * Fluent API builder for {@link HttpCache}.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Remove all entries from this cache.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            entries.values().forEach(variants -> variants.forEach(this::release));
+            entries.clear();
+            entryCount = 0;
+            memorySize = 0;
+            diskSize = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of responses currently stored in this cache (each variant of a resource counts as one).
+     *
+     * @return number of stored responses
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return entryCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Executes the request either from this cache, or using the provided network exchange.
+     *
+     * @param request       service request after all client services were applied
+     * @param uri           final request uri
+     * @param readerContext reader context used to create content of the cached responses
+     * @param network       network exchange of the request, the provided headers (such as validators of a conditional
+     *                      request) are only added to the outgoing request, not to the headers of the caller
+     * @param revalidation  network exchange of a copy of the request with the provided validator headers,
+     *                      used to revalidate in background without modifying the request of the caller
+     * @return completion stage of the response
+     */
+    CompletionStage<WebClientResponse> exchange(WebClientServiceRequest request,
+                                                URI uri,
+                                                MessageBodyReaderContext readerContext,
+                                                Function<Map<String, String>, CompletionStage<WebClientResponse>> network,
+                                                Function<Map<String, String>, CompletionStage<WebClientResponse>> revalidation) {
+        String method = request.method().name();
+        if (!SAFE_METHODS.contains(method)) {
+            return network.apply(Map.of())
+                    .thenApply(response -> {
+                        invalidate(uri, response);
+                        return response;
+                    });
+        }
+        if (!Http.Method.GET.name().equals(method)) {
+            return network.apply(Map.of());
+        }
+        CacheControl requestControl = CacheControl.parse(request.headers().all(Http.Header.CACHE_CONTROL));
+        if (requestControl.noStore) {
+            return network.apply(Map.of());
+        }
+        Exchange exchange = new Exchange(request, uri, readerContext, network, revalidation, requestControl);
+        return exchange.lookup(true);
+    }
+
+    private Optional<Entry> find(String key, Parameters requestHeaders) {
+        lock.lock();
+        try {
+            List<Entry> variants = entries.get(key);
+            if (variants == null) {
+                return Optional.empty();
+            }
+            for (Entry entry : variants) {
+                if (entry.matches(requestHeaders)) {
+                    return Optional.of(entry);
+                }
+            }
+            return Optional.empty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void store(String key, Entry entry) {
+        lock.lock();
+        try {
+            List<Entry> variants = entries.computeIfAbsent(key, it -> new ArrayList<>(1));
+            Iterator<Entry> iterator = variants.iterator();
+            while (iterator.hasNext()) {
+                Entry existing = iterator.next();
+                if (existing.sameVariant(entry)) {
+                    iterator.remove();
+                    entryCount--;
+                    memorySize -= existing.body.memorySize();
+                    diskSize -= existing.body.diskSize();
+                    if (existing.body != entry.body) {
+                        // revalidated entries share the body with the entry they replace
+                        release(existing);
+                    }
+                }
+            }
+            variants.add(entry);
+            entryCount++;
+            memorySize += entry.body.memorySize();
+            diskSize += entry.body.diskSize();
+            evict();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<String, List<Entry>>> iterator = entries.entrySet().iterator();
+        while ((entryCount > maxEntries || memorySize > maxMemorySize || diskSize > maxDiskSize) && iterator.hasNext()) {
+            Map.Entry<String, List<Entry>> eldest = iterator.next();
+            iterator.remove();
+            eldest.getValue().forEach(this::removed);
+            LOGGER.finest(() -> "Evicted cached responses of " + eldest.getKey());
+        }
+    }
+
+    private void invalidate(URI uri, WebClientResponse response) {
+        int code = response.status().code();
+        if (code < 200 || code >= 400) {
+            return;
+        }
+        remove(uri);
+        response.headers().location().ifPresent(location -> remove(uri.resolve(location)));
+        response.headers()
+                .first(Http.Header.CONTENT_LOCATION)
+                .ifPresent(location -> remove(uri.resolve(location)));
+    }
+
+    private void remove(URI uri) {
+        lock.lock();
+        try {
+            List<Entry> variants = entries.remove(uri.toString());
+            if (variants != null) {
+                variants.forEach(this::removed);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void removed(Entry entry) {
+        entryCount--;
+        memorySize -= entry.body.memorySize();
+        diskSize -= entry.body.diskSize();
+        release(entry);
+    }
+
+    private void release(Entry entry) {
+        entry.body.file.ifPresent(file -> {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, e, () -> "Failed to delete cached response body " + file);
+            }
+        });
+    }
+
+    /**
+     * Body of a response to store. The bytes were already buffered on heap, bodies larger than the disk threshold
+     * are written to a file of the disk directory, so that the heap buffer is not retained by the cache.
+     */
+    private Body body(byte[] bytes) {
+        if (bodyDirectory == null || !bodyDirectory.usable() || bytes.length <= diskThreshold || bytes.length > maxDiskSize) {
+            return new Body(ByteBuffer.wrap(bytes).asReadOnlyBuffer(), null);
+        }
+        try {
+            Path file = Files.createTempFile(bodyDirectory.path, BODY_FILE_PREFIX, BODY_FILE_SUFFIX);
+            Files.write(file, bytes);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                return new Body(channel.map(FileChannel.MapMode.READ_ONLY, 0, bytes.length), file);
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, e, () -> "Failed to store response body in " + bodyDirectory.path
+                    + ", keeping it in memory");
+            return new Body(ByteBuffer.wrap(bytes).asReadOnlyBuffer(), null);
+        }
+    }
+
+    private static boolean hasUserValidators(Parameters headers) {
+        return headers.first(Http.Header.IF_NONE_MATCH).isPresent()
+                || headers.first(Http.Header.IF_MODIFIED_SINCE).isPresent();
+    }
+
+    private static long parseDate(Optional<String> value, long defaultValue) {
+        try {
+            return value.map(Http.DateTime::parse)
+                    .map(date -> date.toInstant().toEpochMilli())
+                    .orElse(defaultValue);
+        } catch (DateTimeException e) {
+            return defaultValue;
+        }
+    }
+
+    private static long parseSeconds(String value) {
+        try {
+            return Math.max(0, Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Single request handled by the cache.
+     */
+    /**
+     * Directory of the response bodies stored by a single cache, created in the configured disk directory.
+     * Bodies are only referenced by the memory of a running cache, so the directory holds a lock file that is
+     * locked as long as the cache is in use. Directories whose lock is free were left behind by a cache that is
+     * no longer in use (such as when the JVM was not stopped gracefully) and are deleted by the next cache created
+     * with the same disk directory, in this or another process.
+     */
+    private static final class BodyDirectory {
+
+        private final Path path;
+        // references its channel, the lock is held as long as the channel is open
+        private final FileLock lock;
+
+        private BodyDirectory(Path path, FileLock lock) {
+            this.path = path;
+            this.lock = lock;
+        }
+
+        /**
+         * Whether bodies can be stored, once the lock is released the directory may be deleted by another cache.
+         */
+        private boolean usable() {
+            return lock.isValid();
+        }
+
+        private static BodyDirectory create(Path diskDirectory) {
+            FileChannel lockChannel = null;
+            try {
+                Files.createDirectories(diskDirectory);
+                Path path = Files.createTempDirectory(diskDirectory, BODY_DIRECTORY_PREFIX);
+                Path lockFile = path.resolve(LOCK_FILE);
+                lockChannel = FileChannel.open(lockFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                // another cache may have taken the lock and deleted the directory before it was locked
+                FileLock lock = lockChannel.tryLock();
+                if (lock == null || !Files.isRegularFile(lockFile)) {
+                    throw new IOException("Directory " + path + " was deleted by another cache");
+                }
+                return new BodyDirectory(path, lock);
+            } catch (IOException | OverlappingFileLockException e) {
+                close(lockChannel);
+                LOGGER.log(Level.FINE, e, () -> "Failed to create a directory for response bodies in " + diskDirectory
+                        + ", keeping them in memory");
+                return null;
+            }
+        }
+
+        private static void deleteAbandoned(Path diskDirectory, BodyDirectory own) {
+            if (!Files.isDirectory(diskDirectory)) {
+                return;
+            }
+            try (DirectoryStream<Path> directories = Files.newDirectoryStream(diskDirectory, BODY_DIRECTORY_PREFIX + "*")) {
+                for (Path directory : directories) {
+                    // a directory without a lock file may be one another cache is creating
+                    if ((own == null || !directory.equals(own.path)) && Files.isRegularFile(directory.resolve(LOCK_FILE))) {
+                        deleteIfAbandoned(directory);
+                    }
+                }
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, e, () -> "Failed to list abandoned cached response bodies in " + diskDirectory);
+            }
+        }
+
+        private static void deleteIfAbandoned(Path directory) {
+            try (FileChannel channel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.WRITE);
+                    FileLock lock = channel.tryLock()) {
+                if (lock == null) {
+                    // in use by a cache of another process
+                    return;
+                }
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+                    for (Path file : files) {
+                        Files.deleteIfExists(file);
+                    }
+                }
+                Files.deleteIfExists(directory);
+            } catch (OverlappingFileLockException e) {
+                // in use by another cache of this process
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, e, () -> "Failed to delete abandoned cached response bodies in " + directory);
+            }
+        }
+
+        private static void close(FileChannel channel) {
+            if (channel == null) {
+                return;
+            }
+            try {
+                channel.close();
+            } catch (IOException e) {
+                LOGGER.log(Level.FINEST, e, () -> "Failed to close lock file channel");
+            }
+        }
+    }
+
+    private final class Exchange {
+
+        private final WebClientServiceRequest request;
+        private final URI uri;
+        private final MessageBodyReaderContext readerContext;
+        private final Function<Map<String, String>, CompletionStage<WebClientResponse>> network;
+        private final Function<Map<String, String>, CompletionStage<WebClientResponse>> revalidation;
+        private final CacheControl requestControl;
+        private final String key;
+
+        private Exchange(WebClientServiceRequest request,
+                         URI uri,
+                         MessageBodyReaderContext readerContext,
+                         Function<Map<String, String>, CompletionStage<WebClientResponse>> network,
+                         Function<Map<String, String>, CompletionStage<WebClientResponse>> revalidation,
+                         CacheControl requestControl) {
+            this.request = request;
+            this.uri = uri;
+            this.readerContext = readerContext;
+            this.network = network;
+            this.revalidation = revalidation;
+            this.requestControl = requestControl;
+            this.key = uri.toString();
+        }
+
+        private CompletionStage<WebClientResponse> lookup(boolean coalesce) {
+            Optional<Entry> found = find(key, request.headers());
+            long now = clock.millis();
+            if (found.isPresent()) {
+                Entry entry = found.get();
+                long age = entry.currentAge(now);
+                if (mayServeWithoutValidation(entry)) {
+                    if (isFresh(entry, age)) {
+                        return CompletableFuture.completedFuture(entry.toResponse(uri, readerContext, age));
+                    }
+                    if (isAcceptablyStale(entry, age)) {
+                        return CompletableFuture.completedFuture(entry.toResponse(uri, readerContext, age));
+                    }
+                    if (entry.inStaleWhileRevalidate(age)) {
+                        if (entry.revalidating.compareAndSet(false, true)) {
+                            revalidate(entry);
+                        }
+                        return CompletableFuture.completedFuture(entry.toResponse(uri, readerContext, age));
+                    }
+                }
+            }
+            if (requestControl.onlyIfCached) {
+                return CompletableFuture.completedFuture(gatewayTimeout());
+            }
+            if (!coalesce) {
+                return fetch(found);
+            }
+            CompletableFuture<Void> mine = new CompletableFuture<>();
+            CompletableFuture<Void> existing = inFlight.putIfAbsent(key, mine);
+            if (existing != null) {
+                // the same resource is already being fetched, let the first exchange fill the cache
+                return existing.thenCompose(it -> lookup(false));
+            }
+            return fetch(found)
+                    .whenComplete((response, throwable) -> {
+                        inFlight.remove(key, mine);
+                        mine.complete(null);
+                    });
+        }
+
+        private boolean mayServeWithoutValidation(Entry entry) {
+            return !requestControl.noCache
+                    && !entry.control.noCache
+                    && !request.headers().all(Http.Header.PRAGMA).contains("no-cache");
+        }
+
+        private boolean isFresh(Entry entry, long age) {
+            if (requestControl.maxAge >= 0 && age > requestControl.maxAge * 1000) {
+                return false;
+            }
+            long minFresh = Math.max(0, requestControl.minFresh) * 1000;
+            return entry.freshnessLifetime - age > minFresh;
+        }
+
+        private boolean isAcceptablyStale(Entry entry, long age) {
+            if (requestControl.maxStale < 0 || entry.control.mustRevalidate) {
+                return false;
+            }
+            if (requestControl.maxAge >= 0 && age > requestControl.maxAge * 1000) {
+                return false;
+            }
+            return requestControl.maxStale == Long.MAX_VALUE
+                    || age - entry.freshnessLifetime <= requestControl.maxStale * 1000;
+        }
+
+        private CompletionStage<WebClientResponse> fetch(Optional<Entry> cached) {
+            // validators are only sent with the outgoing request, the headers of the caller are not modified
+            Map<String, String> validators = Map.of();
+            if (cached.isPresent() && !hasUserValidators(request.headers())) {
+                validators = cached.get().validators();
+            }
+            boolean revalidation = !validators.isEmpty();
+            long requestTime = clock.millis();
+            return network.apply(validators)
+                    .thenCompose(response -> received(cached, revalidation, response, requestTime));
+        }
+
+        /**
+         * Revalidate the entry in background with a separate conditional request, the caller is served the entry.
+         * Responses that are not stored are closed.
+         */
+        private void revalidate(Entry entry) {
+            Map<String, String> validators = entry.validators();
+            long requestTime = clock.millis();
+            CompletionStage<WebClientResponse> response;
+            try {
+                response = revalidation.apply(validators);
+            } catch (RuntimeException e) {
+                response = CompletableFuture.failedFuture(e);
+            }
+            response.thenCompose(it -> received(Optional.of(entry), !validators.isEmpty(), it, requestTime))
+                    .thenAccept(WebClientResponse::close)
+                    .whenComplete((it, throwable) -> {
+                        entry.revalidating.set(false);
+                        if (throwable != null) {
+                            LOGGER.log(Level.FINE, throwable, () -> "Failed to revalidate cached response of " + key);
+                        }
+                    });
+        }
+
+        private CompletionStage<WebClientResponse> received(Optional<Entry> cached,
+                                                            boolean revalidation,
+                                                            WebClientResponse response,
+                                                            long requestTime) {
+            long responseTime = clock.millis();
+            if (revalidation && response.status().code() == Http.Status.NOT_MODIFIED_304.code()) {
+                response.close();
+                Entry updated = cached.get().revalidated(response.headers(), requestTime, responseTime);
+                store(key, updated);
+                LOGGER.finest(() -> "Revalidated cached response of " + key);
+                WebClientResponse cachedResponse = updated.toResponse(uri, readerContext, updated.currentAge(responseTime));
+                return CompletableFuture.completedFuture(cachedResponse);
+            }
+            if (!isStorable(response)) {
+                return CompletableFuture.completedFuture(response);
+            }
+            Optional<Long> contentLength = response.headers().contentLength();
+            if (contentLength.isPresent() && contentLength.get() > maxEntrySize) {
+                return CompletableFuture.completedFuture(response);
+            }
+            // without a content length, only the first bytes up to the limit are buffered
+            BoundedBodyReader reader = BoundedBodyReader.read(response.content(), maxEntrySize);
+            return reader.body()
+                    .thenApply(bytes -> {
+                        if (bytes.isEmpty()) {
+                            LOGGER.finest(() -> "Response of " + key + " is too large to be cached");
+                            return new StreamedResponse(response, reader);
+                        }
+                        Entry entry = new Entry(response.status(),
+                                                response.headers().toMap(),
+                                                body(bytes.get()),
+                                                request.headers(),
+                                                requestTime,
+                                                responseTime);
+                        store(key, entry);
+                        return entry.toResponse(uri, readerContext, entry.currentAge(responseTime));
+                    });
+        }
+
+        private boolean isStorable(WebClientResponse response) {
+            if (!CACHEABLE_BY_DEFAULT.contains(response.status().code())) {
+                return false;
+            }
+            WebClientResponseHeaders headers = response.headers();
+            CacheControl control = CacheControl.parse(headers.all(Http.Header.CACHE_CONTROL));
+            if (control.noStore) {
+                return false;
+            }
+            if (request.headers().first(Http.Header.AUTHORIZATION).isPresent()
+                    && !(control.isPublic || control.mustRevalidate || control.sMaxAge >= 0)) {
+                return false;
+            }
+            if (headers.all(Http.Header.VARY).stream().anyMatch(vary -> vary.trim().equals("*"))) {
+                return false;
+            }
+            return control.maxAge >= 0
+                    || headers.first(Http.Header.EXPIRES).isPresent()
+                    || headers.first(Http.Header.ETAG).isPresent()
+                    || headers.first(Http.Header.LAST_MODIFIED).isPresent();
+        }
+
+        private WebClientResponse gatewayTimeout() {
+            return WebClientResponseImpl.builder()
+                    .contentPublisher(Multi.empty())
+                    .readerContext(readerContext)
+                    .status(Http.Status.GATEWAY_TIMEOUT_504)
+                    .lastEndpointURI(uri)
+                    .build();
+        }
+    }
+
+    /**
+     * Cached response.
+     */
+    static final class Entry {
+
+        private final Http.ResponseStatus status;
+        private final Map<String, List<String>> headers;
+        private final Body body;
+        private final Map<String, List<String>> selectingHeaders;
+        private final CacheControl control;
+        private final long responseTime;
+        private final long correctedInitialAge;
+        private final long freshnessLifetime;
+        private final AtomicBoolean revalidating = new AtomicBoolean();
+
+        Entry(Http.ResponseStatus status,
+              Map<String, List<String>> headers,
+              Body body,
+              Parameters requestHeaders,
+              long requestTime,
+              long responseTime) {
+            this(status, headers, body, selectingHeaders(headers, requestHeaders), requestTime, responseTime);
+        }
+
+        private Entry(Http.ResponseStatus status,
+                      Map<String, List<String>> headers,
+                      Body body,
+                      Map<String, List<String>> selectingHeaders,
+                      long requestTime,
+                      long responseTime) {
+            this.status = status;
+            this.headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            this.headers.putAll(headers);
+            this.body = body;
+            this.selectingHeaders = selectingHeaders;
+            this.responseTime = responseTime;
+            this.control = CacheControl.parse(all(Http.Header.CACHE_CONTROL));
+
+            // RFC 7234, section 4.2.3
+            long date = parseDate(header(Http.Header.DATE), responseTime);
+            long ageValue = header(Http.Header.AGE).map(HttpCache::parseSeconds).orElse(0L);
+            long apparentAge = Math.max(0, responseTime - date);
+            long correctedAge = Math.max(0, ageValue) * 1000 + (responseTime - requestTime);
+            this.correctedInitialAge = Math.max(apparentAge, correctedAge);
+            this.freshnessLifetime = freshnessLifetime(date);
+        }
+
+        Optional<String> header(String name) {
+            return all(name).stream().findFirst();
+        }
+
+        Map<String, String> validators() {
+            Map<String, String> validators = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            header(Http.Header.ETAG).ifPresent(value -> validators.put(Http.Header.IF_NONE_MATCH, value));
+            header(Http.Header.LAST_MODIFIED).ifPresent(value -> validators.put(Http.Header.IF_MODIFIED_SINCE, value));
+            return validators;
+        }
+
+        long currentAge(long now) {
+            return correctedInitialAge + Math.max(0, now - responseTime);
+        }
+
+        long freshnessLifetime() {
+            return freshnessLifetime;
+        }
+
+        boolean inStaleWhileRevalidate(long age) {
+            return !control.mustRevalidate
+                    && control.staleWhileRevalidate >= 0
+                    && age - freshnessLifetime <= control.staleWhileRevalidate * 1000;
+        }
+
+        boolean matches(Parameters requestHeaders) {
+            for (Map.Entry<String, List<String>> selecting : selectingHeaders.entrySet()) {
+                if (!selecting.getValue().equals(requestHeaders.all(selecting.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean sameVariant(Entry other) {
+            return selectingHeaders.equals(other.selectingHeaders);
+        }
+
+        Entry revalidated(WebClientResponseHeaders notModifiedHeaders, long requestTime, long responseTime) {
+            Map<String, List<String>> updated = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            updated.putAll(headers);
+            notModifiedHeaders.toMap().forEach((name, values) -> {
+                if (!NOT_UPDATED_ON_REVALIDATION.contains(name.toLowerCase(Locale.ROOT))) {
+                    updated.put(name, values);
+                }
+            });
+            return new Entry(status, updated, body, selectingHeaders, requestTime, responseTime);
+        }
+
+        WebClientResponse toResponse(URI uri, MessageBodyReaderContext readerContext, long age) {
+            WebClientResponseImpl.Builder builder = WebClientResponseImpl.builder()
+                    .contentPublisher(Multi.singleton(DataChunk.create(false, true, body.buffer.duplicate())))
+                    .readerContext(readerContext)
+                    .status(status)
+                    .lastEndpointURI(uri);
+            headers.forEach(builder::addHeader);
+            builder.addHeader(Http.Header.AGE, List.of(String.valueOf(age / 1000)));
+            return builder.build();
+        }
+
+        private static Map<String, List<String>> selectingHeaders(Map<String, List<String>> headers,
+                                                                  Parameters requestHeaders) {
+            Map<String, List<String>> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            headers.forEach((name, values) -> {
+                if (Http.Header.VARY.equalsIgnoreCase(name)) {
+                    for (String vary : values) {
+                        for (String selecting : vary.split(",")) {
+                            String trimmed = selecting.trim();
+                            if (!trimmed.isEmpty()) {
+                                result.put(trimmed, requestHeaders.all(trimmed));
+                            }
+                        }
+                    }
+                }
+            });
+            return result;
+        }
+
+        private List<String> all(String name) {
+            List<String> values = headers.get(name);
+            return values == null ? List.of() : values;
+        }
+
+        private long freshnessLifetime(long date) {
+            if (control.maxAge >= 0) {
+                return control.maxAge * 1000;
+            }
+            Optional<String> expires = header(Http.Header.EXPIRES);
+            if (expires.isPresent()) {
+                // invalid dates (such as "0") represent a time in the past
+                return Math.max(0, parseDate(expires, date) - date);
+            }
+            Optional<String> lastModified = header(Http.Header.LAST_MODIFIED);
+            if (lastModified.isPresent() && CACHEABLE_BY_DEFAULT.contains(status.code())) {
+                // heuristic freshness, RFC 7234, section 4.2.2
+                long modified = parseDate(lastModified, date);
+                return Math.min(HEURISTIC_MAX_MILLIS, Math.max(0, date - modified) / 10);
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * Body of a cached response, either on heap or memory mapped from a file.
+     */
+    static final class Body {
+
+        private final ByteBuffer buffer;
+        private final Optional<Path> file;
+
+        Body(ByteBuffer buffer, Path file) {
+            this.buffer = buffer;
+            this.file = Optional.ofNullable(file);
+        }
+
+        long memorySize() {
+            return file.isPresent() ? 0 : buffer.capacity();
+        }
+
+        long diskSize() {
+            return file.isPresent() ? buffer.capacity() : 0;
+        }
+    }
+
+    /**
+     * Parsed {@code Cache-Control} directives. Absent numeric directives are represented by {@code -1}.
+     */
+    static final class CacheControl {
+
+        private boolean noStore;
+        private boolean noCache;
+        private boolean mustRevalidate;
+        private boolean isPublic;
+        private boolean onlyIfCached;
+        private long maxAge = -1;
+        private long sMaxAge = -1;
+        private long maxStale = -1;
+        private long minFresh = -1;
+        private long staleWhileRevalidate = -1;
+
+        private CacheControl() {
+        }
+
+        static CacheControl parse(List<String> values) {
+            CacheControl control = new CacheControl();
+            for (String value : values) {
+                for (String directive : value.split(",")) {
+                    control.directive(directive.trim());
+                }
+            }
+            return control;
+        }
+
+        boolean noStore() {
+            return noStore;
+        }
+
+        boolean noCache() {
+            return noCache;
+        }
+
+        long maxAge() {
+            return maxAge;
+        }
+
+        long maxStale() {
+            return maxStale;
+        }
+
+        long staleWhileRevalidate() {
+            return staleWhileRevalidate;
+        }
+
+        private void directive(String directive) {
+            String name = directive;
+            String argument = null;
+            int eq = directive.indexOf('=');
+            if (eq > 0) {
+                name = directive.substring(0, eq).trim();
+                argument = directive.substring(eq + 1).trim();
+                if (argument.length() > 1 && argument.startsWith("\"") && argument.endsWith("\"")) {
+                    argument = argument.substring(1, argument.length() - 1);
+                }
+            }
+            switch (name.toLowerCase(Locale.ROOT)) {
+            case "no-store":
+                noStore = true;
+                break;
+            case "no-cache":
+                noCache = true;
+                break;
+            case "must-revalidate":
+            case "proxy-revalidate":
+                mustRevalidate = true;
+                break;
+            case "public":
+                isPublic = true;
+                break;
+            case "only-if-cached":
+                onlyIfCached = true;
+                break;
+            case "max-age":
+                maxAge = argument == null ? -1 : parseSeconds(argument);
+                break;
+            case "s-maxage":
+                sMaxAge = argument == null ? -1 : parseSeconds(argument);
+                break;
+            case "max-stale":
+                maxStale = argument == null ? Long.MAX_VALUE : parseSeconds(argument);
+                break;
+            case "min-fresh":
+                minFresh = argument == null ? -1 : parseSeconds(argument);
+                break;
+            case "stale-while-revalidate":
+                staleWhileRevalidate = argument == null ? -1 : parseSeconds(argument);
+                break;
+            default:
+                // private, no-transform, immutable and extensions do not change behavior of a private cache
+                break;
+            }
+        }
+    }
+
+    /**
+     * Fluent API builder for {@link HttpCache}.
+     */
+    @Configured
+    public static final class Builder implements io.helidon.common.Builder<Builder, HttpCache> {
+
+        private int maxEntries = 1000;
+        private long maxMemorySize = 10 * 1024 * 1024;
+        private long maxEntrySize = 1024 * 1024;
+        private Path diskDirectory;
+        private long diskThreshold = 64 * 1024;
+        private long maxDiskSize = 100 * 1024 * 1024;
+        private Clock clock = Clock.systemUTC();
+
+        private Builder() {
+        }
+
+        @Override
+        public HttpCache build() {
+            return new HttpCache(this);
+        }
+
+        /**
+         * Update this builder from configuration.
+         * The following configuration keys are used:
+         * <table>
+         * <caption>HTTP cache configuration options</caption>
+         * <tr>
+         *     <th>key</th>
+         *     <th>default</th>
+         *     <th>description</th>
+         * </tr>
+         * <tr>
+         *     <td>max-entries</td>
+         *     <td>{@code 1000}</td>
+         *     <td>Maximal number of cached responses</td>
+         * </tr>
+         * <tr>
+         *     <td>max-memory-size</td>
+         *     <td>{@code 10485760}</td>
+         *     <td>Maximal size in bytes of all response bodies kept on heap</td>
+         * </tr>
+         * <tr>
+         *     <td>max-entry-size</td>
+         *     <td>{@code 1048576}</td>
+         *     <td>Maximal size in bytes of a single cached response body</td>
+         * </tr>
+         * <tr>
+         *     <td>disk-directory</td>
+         *     <td>{@code no default}</td>
+         *     <td>Directory used to store large bodies as memory mapped files</td>
+         * </tr>
+         * <tr>
+         *     <td>disk-threshold</td>
+         *     <td>{@code 65536}</td>
+         *     <td>Bodies larger than this size in bytes are stored in the disk directory</td>
+         * </tr>
+         * <tr>
+         *     <td>max-disk-size</td>
+         *     <td>{@code 104857600}</td>
+         *     <td>Maximal size in bytes of all response bodies stored in the disk directory</td>
+         * </tr>
+         * </table>
+         *
+         * @param config configuration of the cache
+         * @return updated builder instance
+         */
+        public Builder config(Config config) {
+            config.get("max-entries").asInt().ifPresent(this::maxEntries);
+            config.get("max-memory-size").asLong().ifPresent(this::maxMemorySize);
+            config.get("max-entry-size").asLong().ifPresent(this::maxEntrySize);
+            config.get("disk-directory").asString().map(Paths::get).ifPresent(this::diskDirectory);
+            config.get("disk-threshold").asLong().ifPresent(this::diskThreshold);
+            config.get("max-disk-size").asLong().ifPresent(this::maxDiskSize);
+            return this;
+        }
+
+        /**
+         * Maximal number of cached responses.
+         *
+         * @param maxEntries maximal number of entries
+         * @return updated builder instance
+         */
+        @ConfiguredOption("1000")
+        public Builder maxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Maximal size in bytes of all response bodies kept on heap.
+         *
+         * @param maxMemorySize maximal size in bytes
+         * @return updated builder instance
+         */
+        @ConfiguredOption("10485760")
+        public Builder maxMemorySize(long maxMemorySize) {
+            this.maxMemorySize = maxMemorySize;
+            return this;
+        }
+
+        /**
+         * Maximal size in bytes of a single cached response body. Larger responses are never cached.
+         *
+         * @param maxEntrySize maximal size in bytes
+         * @return updated builder instance
+         */
+        @ConfiguredOption("1048576")
+        public Builder maxEntrySize(long maxEntrySize) {
+            this.maxEntrySize = maxEntrySize;
+            return this;
+        }
+
+        /**
+         * Directory used to store large response bodies as memory mapped files.
+         * If not configured, all bodies are kept on heap.
+         * <p>
+         * Each cache stores its bodies in its own subdirectory, locked while the cache is in use, so the directory
+         * can be shared by several caches, also of other processes. Subdirectories left behind by caches that are
+         * no longer in use, such as when the JVM was not stopped gracefully, are deleted when a cache is created.
+         * A body is buffered on heap while it is received and only then written to its file.
+         *
+         * @param diskDirectory directory of the disk tier
+         * @return updated builder instance
+         */
+        @ConfiguredOption(type = String.class)
+        public Builder diskDirectory(Path diskDirectory) {
+            this.diskDirectory = diskDirectory;
+            return this;
+        }
+
+        /**
+         * Bodies larger than this size in bytes are stored in the {@link #diskDirectory(Path) disk directory}.
+         *
+         * @param diskThreshold size in bytes
+         * @return updated builder instance
+         */
+        @ConfiguredOption("65536")
+        public Builder diskThreshold(long diskThreshold) {
+            this.diskThreshold = diskThreshold;
+            return this;
+        }
+
+        /**
+         * Maximal size in bytes of all response bodies stored in the {@link #diskDirectory(Path) disk directory}.
+         * Least recently used responses are evicted once the bodies on disk exceed this size.
+         *
+         * @param maxDiskSize maximal size in bytes
+         * @return updated builder instance
+         */
+        @ConfiguredOption("104857600")
+        public Builder maxDiskSize(long maxDiskSize) {
+            this.maxDiskSize = maxDiskSize;
+            return this;
+        }
+
+        Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+    }
+}
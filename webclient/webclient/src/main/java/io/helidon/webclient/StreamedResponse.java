@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webclient;
+
+import java.net.URI;
+
+import io.helidon.common.http.Http;
+import io.helidon.common.reactive.Single;
+import io.helidon.media.common.MessageBodyReadableContent;
+
+/**
+ * Response with a body too large to be buffered, its content is read from the bytes already received followed by
+ * the rest of the body.
+ */
+final class StreamedResponse implements WebClientResponse {
+
+    private final WebClientResponse response;
+    private final BoundedBodyReader body;
+
+    StreamedResponse(WebClientResponse response, BoundedBodyReader body) {
+        this.response = response;
+        this.body = body;
+    }
+
+    @Override
+    public Http.ResponseStatus status() {
+        return response.status();
+    }
+
+    @Override
+    public MessageBodyReadableContent content() {
+        return MessageBodyReadableContent.create(body, response.content().readerContext());
+    }
+
+    @Override
+    public WebClientResponseHeaders headers() {
+        return response.headers();
+    }
+
+    @Override
+    public Http.Version version() {
+        return response.version();
+    }
+
+    @Override
+    public URI lastEndpointURI() {
+        return response.lastEndpointURI();
+    }
+
+    @Override
+    public Single<Void> close() {
+        body.discard();
+        return response.close();
+    }
+}
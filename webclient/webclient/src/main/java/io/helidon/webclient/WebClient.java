@@ -414,6 +414,56 @@ public interface WebClient {
             return this;
         }
 
+        /**
+         * Sets HTTP cache used to store and revalidate responses of {@code GET} requests.
+         *
+         * @param httpCache HTTP cache
+         * @return updated builder instance
+         */
+        public Builder httpCache(HttpCache httpCache) {
+            configuration.httpCache(httpCache);
+            return this;
+        }
+
+        /**
+         * Sets whether identical {@code GET} and {@code HEAD} requests in flight at the same time should share
+         * a single exchange with the server. The response entity is read fully and replayed to each caller,
+         * so this is intended for small responses of hot resources, see {@link #singleFlightMaxSize(long)}.
+         *
+         * @param singleFlight whether to coalesce identical requests
+         * @return updated builder instance
+         */
+        public Builder singleFlight(boolean singleFlight) {
+            configuration.singleFlight(singleFlight);
+            return this;
+        }
+
+        /**
+         * Add a request header that must have the same value for requests to be coalesced by single flight.
+         *
+         * @param header header name
+         * @return updated builder instance
+         * @see #singleFlight(boolean)
+         */
+        public Builder addSingleFlightHeader(String header) {
+            configuration.addSingleFlightHeader(header);
+            return this;
+        }
+
+        /**
+         * Sets the maximal size of a response entity shared by single flight, {@code 1 MiB} by default.
+         * A larger entity is streamed to the caller that sent the request, the other callers waiting for it send
+         * their own request.
+         *
+         * @param maxSize maximal number of bytes of a shared entity
+         * @return updated builder instance
+         * @see #singleFlight(boolean)
+         */
+        public Builder singleFlightMaxSize(long maxSize) {
+            configuration.singleFlightMaxSize(maxSize);
+            return this;
+        }
+
 
         WebClientConfiguration configuration() {
             configuration.clientServices(services());
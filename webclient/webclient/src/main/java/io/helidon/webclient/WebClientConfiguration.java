@@ -28,12 +28,15 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLException;
 
 import io.helidon.common.LazyValue;
 import io.helidon.common.context.Context;
+import io.helidon.common.http.Http;
+import io.helidon.common.reactive.SingleFlight;
 import io.helidon.config.Config;
 import io.helidon.config.DeprecatedConfig;
 import io.helidon.config.metadata.Configured;
@@ -63,6 +66,23 @@ import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
  */
 class WebClientConfiguration {
 
+    /**
+     * Request headers always used to tell apart requests coalesced by single flight.
+     */
+    private static final Set<String> DEFAULT_SINGLE_FLIGHT_HEADERS = Set.of(Http.Header.ACCEPT,
+                                                                            Http.Header.ACCEPT_ENCODING,
+                                                                            Http.Header.ACCEPT_LANGUAGE,
+                                                                            Http.Header.AUTHORIZATION,
+                                                                            Http.Header.COOKIE,
+                                                                            Http.Header.RANGE,
+                                                                            Http.Header.IF_NONE_MATCH,
+                                                                            Http.Header.IF_MODIFIED_SINCE);
+
+    /**
+     * Default maximal size of a response entity shared by single flight.
+     */
+    static final long DEFAULT_SINGLE_FLIGHT_MAX_SIZE = 1024 * 1024;
+
     private final WebClientRequestHeaders clientHeaders;
     private final WebClientCookieManager cookieManager;
     private final CookiePolicy cookiePolicy;
@@ -84,6 +104,10 @@ class WebClientConfiguration {
     private final boolean validateHeaders;
     private final boolean relativeUris;
     private final DnsResolverType dnsResolverType;
+    private final HttpCache httpCache;
+    private final SingleFlight<String, BufferedResponse> singleFlight;
+    private final Set<String> singleFlightHeaders;
+    private final long singleFlightMaxSize;
 
     /**
      * Creates a new instance of client configuration.
@@ -115,6 +139,10 @@ class WebClientConfiguration {
         this.validateHeaders = builder.validateHeaders;
         this.relativeUris = builder.relativeUris;
         this.dnsResolverType = builder.dnsResolverType;
+        this.httpCache = builder.httpCache;
+        this.singleFlight = builder.singleFlight;
+        this.singleFlightHeaders = Set.copyOf(builder.singleFlightHeaders);
+        this.singleFlightMaxSize = builder.singleFlightMaxSize;
     }
 
     /**
@@ -291,6 +319,22 @@ class WebClientConfiguration {
         return dnsResolverType;
     }
 
+    Optional<HttpCache> httpCache() {
+        return Optional.ofNullable(httpCache);
+    }
+
+    Optional<SingleFlight<String, BufferedResponse>> singleFlight() {
+        return Optional.ofNullable(singleFlight);
+    }
+
+    Set<String> singleFlightHeaders() {
+        return singleFlightHeaders;
+    }
+
+    long singleFlightMaxSize() {
+        return singleFlightMaxSize;
+    }
+
     /**
      * A fluent API builder for {@link WebClientConfiguration}.
      */
@@ -303,6 +347,7 @@ class WebClientConfiguration {
         private final WebClientRequestHeaders clientHeaders;
         private final Map<String, String> defaultCookies;
         private final List<WebClientService> clientServices;
+        private final Set<String> singleFlightHeaders = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
 
         private Config config;
         private Context context;
@@ -323,6 +368,9 @@ class WebClientConfiguration {
         private boolean validateHeaders;
         private boolean relativeUris;
         private DnsResolverType dnsResolverType;
+        private HttpCache httpCache;
+        private SingleFlight<String, BufferedResponse> singleFlight;
+        private long singleFlightMaxSize = DEFAULT_SINGLE_FLIGHT_MAX_SIZE;
         @SuppressWarnings("unchecked")
         private B me = (B) this;
 
@@ -333,6 +381,7 @@ class WebClientConfiguration {
             clientHeaders = new WebClientRequestHeadersImpl();
             defaultCookies = new HashMap<>();
             clientServices = new ArrayList<>();
+            singleFlightHeaders.addAll(DEFAULT_SINGLE_FLIGHT_HEADERS);
         }
 
         @Override
@@ -560,6 +609,69 @@ class WebClientConfiguration {
             return me;
         }
 
+        /**
+         * HTTP cache used to store and revalidate responses.
+         *
+         * @param httpCache cache to use, {@code null} to disable caching
+         * @return updated builder instance
+         */
+        @ConfiguredOption(key = "cache")
+        public B httpCache(HttpCache httpCache) {
+            this.httpCache = httpCache;
+            return me;
+        }
+
+        /**
+         * Whether identical {@code GET} and {@code HEAD} requests in flight at the same time should share
+         * a single exchange with the server. The response is read fully and replayed to each caller, unless its
+         * entity is larger than the {@link #singleFlightMaxSize(long) maximal size}.
+         * Requests are identical if they have the same method, uri and values of the
+         * {@link #addSingleFlightHeader(String) single flight headers}.
+         *
+         * @param singleFlight whether to coalesce identical requests
+         * @return updated builder instance
+         */
+        @ConfiguredOption("false")
+        public B singleFlight(boolean singleFlight) {
+            if (!singleFlight) {
+                this.singleFlight = null;
+            } else if (this.singleFlight == null) {
+                this.singleFlight = SingleFlight.create();
+            }
+            return me;
+        }
+
+        /**
+         * Add a request header that must have the same value for requests to be coalesced by single flight.
+         * {@code Accept}, {@code Accept-Encoding}, {@code Accept-Language}, {@code Authorization}, {@code Cookie},
+         * {@code Range} and the conditional request headers are always used.
+         *
+         * @param header header name
+         * @return updated builder instance
+         */
+        @ConfiguredOption(key = "single-flight-headers", kind = ConfiguredOption.Kind.LIST)
+        public B addSingleFlightHeader(String header) {
+            this.singleFlightHeaders.add(header);
+            return me;
+        }
+
+        /**
+         * Maximal size of a response entity shared by single flight.
+         * A larger entity is streamed to the caller that sent the request, the other callers waiting for it send
+         * their own request.
+         *
+         * @param maxSize maximal number of bytes of a shared entity
+         * @return updated builder instance
+         */
+        @ConfiguredOption("1048576")
+        public B singleFlightMaxSize(long maxSize) {
+            if (maxSize < 0) {
+                throw new IllegalArgumentException("Single flight max size must not be negative: " + maxSize);
+            }
+            this.singleFlightMaxSize = maxSize;
+            return me;
+        }
+
         /**
          * Whether to validate header names.
          * Defaults to {@code true}.
@@ -692,6 +804,22 @@ class WebClientConfiguration {
          *     <td>proxy</td>
          *     <td>Proxy configuration. See {@link Proxy.Builder#config(Config)}</td>
          * </tr>
+         * <tr>
+         *     <td>cache</td>
+         *     <td>HTTP cache configuration. See {@link HttpCache.Builder#config(Config)}</td>
+         * </tr>
+         * <tr>
+         *     <td>single-flight</td>
+         *     <td>Whether identical requests in flight at the same time share one exchange</td>
+         * </tr>
+         * <tr>
+         *     <td>single-flight-headers</td>
+         *     <td>Additional request headers used to tell apart requests coalesced by single flight</td>
+         * </tr>
+         * <tr>
+         *     <td>single-flight-max-size</td>
+         *     <td>Maximal size of a response entity shared by single flight</td>
+         * </tr>
          * </table>
          *
          * @param config config
@@ -722,6 +850,14 @@ class WebClientConfiguration {
             config.get("dns-resolver-type").asString()
                     .map(s -> DnsResolverType.valueOf(s.toUpperCase()))
                     .ifPresent(this::dnsResolverType);
+            config.get("cache")
+                    .as(HttpCache.builder()::config)
+                    .map(HttpCache.Builder::build)
+                    .ifPresent(this::httpCache);
+            config.get("single-flight").asBoolean().ifPresent(this::singleFlight);
+            config.get("single-flight-headers").asList(String.class)
+                    .ifPresent(headers -> headers.forEach(this::addSingleFlightHeader));
+            config.get("single-flight-max-size").asLong().ifPresent(this::singleFlightMaxSize);
             return me;
         }
 
@@ -750,6 +886,10 @@ class WebClientConfiguration {
             keepAlive(configuration.keepAlive);
             validateHeaders(configuration.validateHeaders);
             dnsResolverType(configuration.dnsResolverType);
+            httpCache(configuration.httpCache);
+            this.singleFlight = configuration.singleFlight;
+            this.singleFlightHeaders.addAll(configuration.singleFlightHeaders);
+            this.singleFlightMaxSize = configuration.singleFlightMaxSize;
             configuration.cookieManager.defaultCookies().forEach(this::defaultCookie);
             config = configuration.config;
 
@@ -32,6 +32,7 @@ import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
@@ -54,6 +55,7 @@ import io.helidon.common.http.HttpRequest;
 import io.helidon.common.http.MediaType;
 import io.helidon.common.http.Parameters;
 import io.helidon.common.reactive.Single;
+import io.helidon.common.reactive.SingleFlight;
 import io.helidon.common.serviceloader.HelidonServiceLoader;
 import io.helidon.media.common.MessageBodyReadableContent;
 import io.helidon.media.common.MessageBodyReaderContext;
@@ -555,82 +557,198 @@ class WebClientRequestBuilderImpl implements WebClientRequestBuilder {
                     });
         }
 
-        Single<WebClientResponse> single =  Single.create(rcs.thenCompose(serviceRequest -> {
-            URI requestUri = relativizeNoProxy(finalUri, proxy, configuration.relativeUris());
-            requestId = serviceRequest.requestId();
-            HttpHeaders headers = toNettyHttpHeaders();
-            DefaultHttpRequest request = new DefaultHttpRequest(toNettyHttpVersion(httpVersion),
-                                                                toNettyMethod(method),
-                                                                requestUri.toASCIIString(),
-                                                                headers);
-            boolean keepAlive = HttpUtil.isKeepAlive(request);
-
-            requestConfiguration = RequestConfiguration.builder(finalUri)
-                    .update(configuration)
-                    .followRedirects(followRedirects)
-                    .clientServiceRequest(serviceRequest)
-                    .readerContext(readerContext)
-                    .writerContext(writerContext)
-                    .connectTimeout(connectTimeout)
-                    .readTimeout(readTimeout)
-                    .services(services)
-                    .context(context)
-                    .proxy(proxy)
-                    .keepAlive(keepAlive)
-                    .requestId(requestId)
-                    .build();
-            WebClientRequestImpl clientRequest = new WebClientRequestImpl(this);
-
-            CompletableFuture<WebClientResponse> result = new CompletableFuture<>();
-
-            Bootstrap bootstrap = new Bootstrap();
-            bootstrap.group(eventGroup)
-                    .channel(NioSocketChannel.class)
-                    .handler(new NettyClientInitializer(requestConfiguration))
-                    .option(ChannelOption.SO_KEEPALIVE, keepAlive)
-                    .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis());
-
-            if (dnsResolverType == DnsResolverType.ROUND_ROBIN) {
-                bootstrap.resolver(new RoundRobinDnsAddressResolverGroup(NioDatagramChannel.class,
-                                                                         DnsServerAddressStreamProviders.platformDefault()));
-            }
-
-            ChannelFuture channelFuture = keepAlive
-                    ? obtainChannelFuture(requestConfiguration, bootstrap)
-                    : bootstrap.connect(finalUri.getHost(), finalUri.getPort());
-
-            channelFuture.addListener((ChannelFutureListener) future -> {
-                if (LOGGER.isLoggable(Level.FINEST)) {
-                    LOGGER.finest(() -> "(client reqID: " + requestId + ") "
-                            + "Channel hashcode -> " + channelFuture.channel().hashCode());
-                }
-                channelFuture.channel().attr(REQUEST).set(clientRequest);
-                channelFuture.channel().attr(RESPONSE_RECEIVED).set(false);
-                channelFuture.channel().attr(RECEIVED).set(responseReceived);
-                channelFuture.channel().attr(COMPLETED).set(complete);
-                channelFuture.channel().attr(WILL_CLOSE).set(!keepAlive);
-                channelFuture.channel().attr(RESULT).set(result);
-                channelFuture.channel().attr(REQUEST_ID).set(requestId);
-                Throwable cause = future.cause();
-                if (null == cause) {
-                    RequestContentSubscriber requestContentSubscriber = new RequestContentSubscriber(request,
-                                                                                                     channelFuture.channel(),
-                                                                                                     result,
-                                                                                                     sent,
-                                                                                                     allowChunkedEncoding);
-                    requestEntity.subscribe(requestContentSubscriber);
-                } else {
-                    sent.completeExceptionally(cause);
-                    responseReceived.completeExceptionally(cause);
-                    complete.completeExceptionally(cause);
-                    result.completeExceptionally(new WebClientException(finalUri.toString(), cause));
+        Single<WebClientResponse> single = Single.create(rcs.thenCompose(serviceRequest -> {
+            Function<Map<String, String>, CompletionStage<WebClientResponse>> network = networkExchange(serviceRequest,
+                                                                                   requestEntity,
+                                                                                   sent,
+                                                                                   responseReceived,
+                                                                                   complete);
+            CompletionStage<WebClientResponse> response = configuration.httpCache()
+                    .map(httpCache -> httpCache.exchange(serviceRequest,
+                                                         finalUri,
+                                                         readerContext,
+                                                         network,
+                                                         this::detachedExchange))
+                    .orElseGet(() -> network.apply(Map.of()));
+            return response.thenApply(it -> {
+                if (!sent.isDone()) {
+                    // served from the cache or by a shared exchange, complete what our own exchange would have
+                    WebClientServiceResponse serviceResponse =
+                            new WebClientServiceResponseImpl(context, it.headers(), it.status());
+                    sent.complete(serviceRequest);
+                    responseReceived.complete(serviceResponse);
+                    complete.complete(serviceResponse);
                 }
+                return it;
             });
-            return result;
         }));
         return wrapWithContext(single);
     }
 
+    /**
+     * Network exchange of this request. The headers provided to the exchange (such as validators of the HTTP cache)
+     * are only added to the outgoing request, the headers of this builder are not modified.
+     */
+    private Function<Map<String, String>, CompletionStage<WebClientResponse>> networkExchange(
+            WebClientServiceRequest serviceRequest,
+            Flow.Publisher<DataChunk> requestEntity,
+            CompletableFuture<WebClientServiceRequest> sent,
+            CompletableFuture<WebClientServiceResponse> received,
+            CompletableFuture<WebClientServiceResponse> complete) {
+        Function<Map<String, String>, CompletionStage<WebClientResponse>> exchange =
+                additionalHeaders -> exchange(serviceRequest, requestEntity, additionalHeaders, sent, received, complete);
+        Optional<SingleFlight<String, BufferedResponse>> singleFlight = configuration.singleFlight();
+        boolean safe = Http.Method.GET.name().equals(method.name()) || Http.Method.HEAD.name().equals(method.name());
+        if (singleFlight.isEmpty() || !safe) {
+            return exchange;
+        }
+        long maxSize = configuration.singleFlightMaxSize();
+        // conditional headers of the HTTP cache are part of the key, as the response may be a 304
+        return additionalHeaders -> {
+            AtomicBoolean sender = new AtomicBoolean();
+            return singleFlight.get()
+                    .execute(singleFlightKey(serviceRequest, additionalHeaders), () -> {
+                        sender.set(true);
+                        return exchange.apply(additionalHeaders).thenCompose(it -> BufferedResponse.create(it, maxSize));
+                    })
+                    .flatMapSingle(buffered -> {
+                        if (buffered.isBuffered()) {
+                            return Single.just(buffered.toResponse(readerContext));
+                        }
+                        // too large to be shared, the other callers send their own request
+                        return sender.get()
+                                ? Single.just(buffered.streamed())
+                                : Single.create(exchange.apply(additionalHeaders));
+                    });
+        };
+    }
+
+    /**
+     * Exchange of a copy of this request with additional headers, such as a background revalidation of the HTTP cache.
+     * The copy is sent as is, client services are not applied again.
+     *
+     * @param additionalHeaders headers to add to the copy
+     * @return completion stage of the response
+     */
+    private CompletionStage<WebClientResponse> detachedExchange(Map<String, String> additionalHeaders) {
+        WebClientRequestBuilderImpl copy = new WebClientRequestBuilderImpl(eventGroup, configuration, method);
+        copy.headers(headers);
+        copy.queryParams(queryParams);
+        copy.uri = uri;
+        copy.finalUri = finalUri;
+        copy.httpVersion = httpVersion;
+        copy.proxy = proxy;
+        copy.fragment = fragment;
+        copy.path = path;
+        copy.context = context;
+        copy.services = List.of();
+        copy.readTimeout = readTimeout;
+        copy.connectTimeout = connectTimeout;
+        copy.keepAlive = keepAlive;
+        copy.skipUriEncoding = skipUriEncoding;
+        copy.requestId = REQUEST_NUMBER.incrementAndGet();
+        CompletableFuture<WebClientServiceRequest> sent = new CompletableFuture<>();
+        CompletableFuture<WebClientServiceResponse> responseReceived = new CompletableFuture<>();
+        CompletableFuture<WebClientServiceResponse> complete = new CompletableFuture<>();
+        WebClientServiceRequest serviceRequest = new WebClientServiceRequestImpl(copy, sent, responseReceived, complete);
+        return copy.exchange(serviceRequest, Single.empty(), additionalHeaders, sent, responseReceived, complete);
+    }
+
+    private String singleFlightKey(WebClientServiceRequest serviceRequest, Map<String, String> additionalHeaders) {
+        StringBuilder key = new StringBuilder(method.name())
+                .append(' ')
+                .append(finalUri);
+        for (String header : configuration.singleFlightHeaders()) {
+            List<String> values = serviceRequest.headers().all(header);
+            if (!values.isEmpty()) {
+                key.append('\n').append(header).append(": ").append(String.join(",", values));
+            }
+        }
+        new TreeMap<>(additionalHeaders)
+                .forEach((name, value) -> key.append('\n').append(name).append(": ").append(value));
+        return key.toString();
+    }
+
+    private CompletionStage<WebClientResponse> exchange(WebClientServiceRequest serviceRequest,
+                                                        Flow.Publisher<DataChunk> requestEntity,
+                                                        Map<String, String> additionalHeaders,
+                                                        CompletableFuture<WebClientServiceRequest> sent,
+                                                        CompletableFuture<WebClientServiceResponse> responseReceived,
+                                                        CompletableFuture<WebClientServiceResponse> complete) {
+        URI requestUri = relativizeNoProxy(finalUri, proxy, configuration.relativeUris());
+        requestId = serviceRequest.requestId();
+        HttpHeaders headers = toNettyHttpHeaders();
+        additionalHeaders.forEach(headers::set);
+        DefaultHttpRequest request = new DefaultHttpRequest(toNettyHttpVersion(httpVersion),
+                                                            toNettyMethod(method),
+                                                            requestUri.toASCIIString(),
+                                                            headers);
+        boolean keepAlive = HttpUtil.isKeepAlive(request);
+
+        requestConfiguration = RequestConfiguration.builder(finalUri)
+                .update(configuration)
+                .followRedirects(followRedirects)
+                .clientServiceRequest(serviceRequest)
+                .readerContext(readerContext)
+                .writerContext(writerContext)
+                .connectTimeout(connectTimeout)
+                .readTimeout(readTimeout)
+                .services(services)
+                .context(context)
+                .proxy(proxy)
+                .keepAlive(keepAlive)
+                .requestId(requestId)
+                .build();
+        WebClientRequestImpl clientRequest = new WebClientRequestImpl(this);
+
+        CompletableFuture<WebClientResponse> result = new CompletableFuture<>();
+
+        Bootstrap bootstrap = new Bootstrap();
+        bootstrap.group(eventGroup)
+                .channel(NioSocketChannel.class)
+                .handler(new NettyClientInitializer(requestConfiguration))
+                .option(ChannelOption.SO_KEEPALIVE, keepAlive)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis());
+
+        if (dnsResolverType == DnsResolverType.ROUND_ROBIN) {
+            bootstrap.resolver(new RoundRobinDnsAddressResolverGroup(NioDatagramChannel.class,
+                                                                     DnsServerAddressStreamProviders.platformDefault()));
+        }
+
+        ChannelFuture channelFuture = keepAlive
+                ? obtainChannelFuture(requestConfiguration, bootstrap)
+                : bootstrap.connect(finalUri.getHost(), finalUri.getPort());
+
+        channelFuture.addListener((ChannelFutureListener) future -> {
+            if (LOGGER.isLoggable(Level.FINEST)) {
+                LOGGER.finest(() -> "(client reqID: " + requestId + ") "
+                        + "Channel hashcode -> " + channelFuture.channel().hashCode());
+            }
+            channelFuture.channel().attr(REQUEST).set(clientRequest);
+            channelFuture.channel().attr(RESPONSE_RECEIVED).set(false);
+            channelFuture.channel().attr(RECEIVED).set(responseReceived);
+            channelFuture.channel().attr(COMPLETED).set(complete);
+            channelFuture.channel().attr(WILL_CLOSE).set(!keepAlive);
+            channelFuture.channel().attr(RESULT).set(result);
+            channelFuture.channel().attr(REQUEST_ID).set(requestId);
+            Throwable cause = future.cause();
+            if (null == cause) {
+                RequestContentSubscriber requestContentSubscriber = new RequestContentSubscriber(request,
+                                                                                                 channelFuture.channel(),
+                                                                                                 result,
+                                                                                                 sent,
+                                                                                                 allowChunkedEncoding);
+                requestEntity.subscribe(requestContentSubscriber);
+            } else {
+                sent.completeExceptionally(cause);
+                responseReceived.completeExceptionally(cause);
+                complete.completeExceptionally(cause);
+                result.completeExceptionally(new WebClientException(finalUri.toString(), cause));
+            }
+        });
+        return result;
+    }
+
     @SuppressWarnings(value = "unchecked")
     private void runInContext(Map<Class<?>, Object> data, Runnable command) {
         PROPAGATION_PROVIDERS.forEach(provider -> provider.propagateData(data.get(provider.getClass())));
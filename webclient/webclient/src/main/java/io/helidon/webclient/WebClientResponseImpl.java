@@ -81,6 +81,10 @@ final class WebClientResponseImpl implements WebClientResponse {
 
     @Override
     public Single<Void> close() {
+        if (responseCloser == null) {
+            // response not backed by a connection, such as a response served from the HTTP cache
+            return Single.empty();
+        }
         return responseCloser.close();
     }
 
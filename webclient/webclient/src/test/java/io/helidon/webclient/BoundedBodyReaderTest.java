@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webclient;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Multi;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit test for {@link BoundedBodyReader}.
+ */
+class BoundedBodyReaderTest {
+
+    private static final List<String> PARTS = List.of("aaaa", "bbbb", "cccc", "dddd", "eeee");
+
+    @Test
+    void testBodyWithinLimit() throws Exception {
+        BoundedBodyReader reader = BoundedBodyReader.read(chunks(), 20);
+
+        Optional<byte[]> body = reader.body().toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+        assertThat(body.map(bytes -> new String(bytes, StandardCharsets.UTF_8)), is(Optional.of(String.join("", PARTS))));
+    }
+
+    @Test
+    void testBodyOverLimitIsStreamed() throws Exception {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        BoundedBodyReader reader = BoundedBodyReader.read(chunks().onCancel(() -> cancelled.set(true)), 10);
+
+        Optional<byte[]> body = reader.body().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        assertThat(body.isPresent(), is(false));
+
+        List<String> streamed = Multi.create(reader)
+                .map(chunk -> new String(chunk.bytes(), StandardCharsets.UTF_8))
+                .collectList()
+                .await(10, TimeUnit.SECONDS);
+        assertThat(streamed, is(PARTS));
+        assertThat(cancelled.get(), is(false));
+
+        // the body can be read only once
+        CompletionException e = assertThrows(CompletionException.class,
+                                             () -> Multi.create(reader).collectList().await(10, TimeUnit.SECONDS));
+        assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+    }
+
+    @Test
+    void testStreamedBodyRequestedOnDemand() throws Exception {
+        BoundedBodyReader reader = BoundedBodyReader.read(chunks(), 6);
+        assertThat(reader.body().toCompletableFuture().get(10, TimeUnit.SECONDS).isPresent(), is(false));
+
+        String first = Multi.create(reader)
+                .limit(3)
+                .map(chunk -> new String(chunk.bytes(), StandardCharsets.UTF_8))
+                .collectList()
+                .await(10, TimeUnit.SECONDS)
+                .stream()
+                .collect(Collectors.joining());
+        assertThat(first, is("aaaabbbbcccc"));
+    }
+
+    @Test
+    void testDiscardCancelsBody() throws Exception {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        BoundedBodyReader reader = BoundedBodyReader.read(chunks().onCancel(() -> cancelled.set(true)), 1);
+        assertThat(reader.body().toCompletableFuture().get(10, TimeUnit.SECONDS).isPresent(), is(false));
+
+        reader.discard();
+
+        assertThat(cancelled.get(), is(true));
+    }
+
+    private static Multi<DataChunk> chunks() {
+        return Multi.create(PARTS)
+                .map(part -> DataChunk.create(part.getBytes(StandardCharsets.UTF_8)));
+    }
+}
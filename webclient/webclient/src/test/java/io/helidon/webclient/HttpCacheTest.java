@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webclient;
+
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import io.helidon.common.http.Http;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit test for {@link HttpCache} freshness and variant handling.
+ */
+class HttpCacheTest {
+
+    private static final long NOW = Instant.parse("2022-10-01T10:00:00Z").toEpochMilli();
+
+    @Test
+    void testCacheControlParsing() {
+        HttpCache.CacheControl control = HttpCache.CacheControl.parse(List.of("max-age=60, no-cache",
+                                                                              "stale-while-revalidate=\"30\""));
+        assertThat(control.maxAge(), is(60L));
+        assertThat(control.noCache(), is(true));
+        assertThat(control.noStore(), is(false));
+        assertThat(control.staleWhileRevalidate(), is(30L));
+        assertThat(control.maxStale(), is(-1L));
+
+        control = HttpCache.CacheControl.parse(List.of("max-stale, no-store"));
+        assertThat(control.maxStale(), is(Long.MAX_VALUE));
+        assertThat(control.noStore(), is(true));
+    }
+
+    @Test
+    void testMaxAgeFreshness() {
+        HttpCache.Entry entry = entry(Map.of(Http.Header.CACHE_CONTROL, List.of("max-age=60"),
+                                             Http.Header.DATE, List.of(date(NOW))),
+                                      new WebClientRequestHeadersImpl());
+
+        assertThat(entry.freshnessLifetime(), is(60_000L));
+        assertThat(entry.currentAge(NOW + 10_000), is(10_000L));
+    }
+
+    @Test
+    void testAgeHeaderIsAdded() {
+        HttpCache.Entry entry = entry(Map.of(Http.Header.CACHE_CONTROL, List.of("max-age=60"),
+                                             Http.Header.AGE, List.of("20")),
+                                      new WebClientRequestHeadersImpl());
+
+        assertThat(entry.currentAge(NOW + 5_000), is(25_000L));
+    }
+
+    @Test
+    void testExpiresAndHeuristicFreshness() {
+        HttpCache.Entry expires = entry(Map.of(Http.Header.DATE, List.of(date(NOW)),
+                                               Http.Header.EXPIRES, List.of(date(NOW + 120_000))),
+                                        new WebClientRequestHeadersImpl());
+        assertThat(expires.freshnessLifetime(), is(120_000L));
+
+        HttpCache.Entry invalidExpires = entry(Map.of(Http.Header.EXPIRES, List.of("0")),
+                                               new WebClientRequestHeadersImpl());
+        assertThat(invalidExpires.freshnessLifetime(), is(0L));
+
+        HttpCache.Entry heuristic = entry(Map.of(Http.Header.DATE, List.of(date(NOW)),
+                                                 Http.Header.LAST_MODIFIED, List.of(date(NOW - 100_000))),
+                                          new WebClientRequestHeadersImpl());
+        assertThat(heuristic.freshnessLifetime(), is(10_000L));
+    }
+
+    @Test
+    void testStaleWhileRevalidate() {
+        HttpCache.Entry entry = entry(Map.of(Http.Header.CACHE_CONTROL, List.of("max-age=10, stale-while-revalidate=20")),
+                                      new WebClientRequestHeadersImpl());
+
+        assertThat(entry.inStaleWhileRevalidate(entry.currentAge(NOW + 25_000)), is(true));
+        assertThat(entry.inStaleWhileRevalidate(entry.currentAge(NOW + 35_000)), is(false));
+    }
+
+    @Test
+    void testVaryMatching() {
+        WebClientRequestHeaders json = new WebClientRequestHeadersImpl();
+        json.put(Http.Header.ACCEPT, "application/json");
+        WebClientRequestHeaders xml = new WebClientRequestHeadersImpl();
+        xml.put(Http.Header.ACCEPT, "application/xml");
+
+        HttpCache.Entry entry = entry(Map.of(Http.Header.CACHE_CONTROL, List.of("max-age=60"),
+                                             Http.Header.VARY, List.of("Accept")),
+                                      json);
+
+        assertThat(entry.matches(json), is(true));
+        assertThat(entry.matches(xml), is(false));
+    }
+
+    @Test
+    void testBodySizes() {
+        HttpCache.Body heap = new HttpCache.Body(ByteBuffer.wrap(new byte[10]), null);
+        HttpCache.Body disk = new HttpCache.Body(ByteBuffer.wrap(new byte[20]), Path.of("body"));
+
+        assertThat(heap.memorySize(), is(10L));
+        assertThat(heap.diskSize(), is(0L));
+        assertThat(disk.memorySize(), is(0L));
+        assertThat(disk.diskSize(), is(20L));
+    }
+
+    @Test
+    void testAbandonedBodiesDeleted(@TempDir Path directory) throws Exception {
+        Path abandoned = Files.createDirectory(directory.resolve("helidon-http-cache1"));
+        Files.createFile(abandoned.resolve("cache.lock"));
+        Path abandonedBody = Files.createTempFile(abandoned, "body", ".body");
+        Path unrelated = Files.createTempFile(directory, "helidon-http-cache", ".body");
+
+        HttpCache inUse = HttpCache.builder()
+                .diskDirectory(directory)
+                .build();
+        List<Path> inUseDirectories = bodyDirectories(directory);
+        assertThat(inUseDirectories, hasSize(1));
+        Path inUseBody = Files.createTempFile(inUseDirectories.get(0), "body", ".body");
+
+        HttpCache.builder()
+                .diskDirectory(directory)
+                .build();
+
+        assertThat(Files.exists(abandonedBody), is(false));
+        assertThat(Files.exists(abandoned), is(false));
+        assertThat(Files.exists(unrelated), is(true));
+        // the directory of a cache in use is kept, even when it is shared with another cache
+        assertThat(Files.exists(inUseBody), is(true));
+        assertThat(bodyDirectories(directory), hasSize(2));
+        Reference.reachabilityFence(inUse);
+    }
+
+    private static List<Path> bodyDirectories(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(Files::isDirectory)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static HttpCache.Entry entry(Map<String, List<String>> headers, WebClientRequestHeaders requestHeaders) {
+        return new HttpCache.Entry(Http.Status.OK_200,
+                                   headers,
+                                   new HttpCache.Body(ByteBuffer.wrap(new byte[0]), null),
+                                   requestHeaders,
+                                   NOW,
+                                   NOW);
+    }
+
+    private static String date(long millis) {
+        return ZonedDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.of("GMT"))
+                .format(Http.DateTime.RFC_1123_DATE_TIME);
+    }
+}
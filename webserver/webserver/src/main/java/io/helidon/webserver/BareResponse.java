@@ -42,6 +42,27 @@ public interface BareResponse extends Flow.Subscriber<DataChunk> {
     void writeStatusAndHeaders(Http.ResponseStatus status, Map<String, List<String>> headers)
             throws SocketClosedException, NullPointerException;
 
+    /**
+     * Send response line, headers and the whole payload to the client, and complete this response.
+     * <p>
+     * This is the same as {@link #writeStatusAndHeaders(Http.ResponseStatus, Map)} followed by a publisher of the
+     * single chunk, but the length of the payload is known so the implementation may write it at once, with a
+     * {@code Content-Length} header. The chunk is released once written. No publisher is subscribed to this response
+     * afterwards.
+     *
+     * @param status  an HTTP status
+     * @param headers a Map of header names and values
+     * @param content the whole payload
+     * @throws SocketClosedException if headers were already send or response is closed
+     * @throws NullPointerException if {@code status} is {@code null}
+     */
+    default void writeStatusHeadersAndContent(Http.ResponseStatus status,
+                                              Map<String, List<String>> headers,
+                                              DataChunk content) throws SocketClosedException, NullPointerException {
+        writeStatusAndHeaders(status, headers);
+        Single.just(content).subscribe(this);
+    }
+
     /**
      * Returns a {@link Single} of headers part of this response. The stage is completed when all headers are sent to
      * the client.
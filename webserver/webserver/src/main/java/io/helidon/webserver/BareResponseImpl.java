@@ -36,9 +36,12 @@ import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultHttpResponse;
 import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.EmptyHttpHeaders;
+import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpHeaders;
@@ -163,6 +166,73 @@ class BareResponseImpl implements BareResponse {
 
     @Override
     public void writeStatusAndHeaders(Http.ResponseStatus status, Map<String, List<String>> headers) {
+        initResponse(status, headers);
+
+        // Set chunked if length not set, may switch to length later
+        boolean lengthSet = HttpUtil.isContentLengthSet(response);
+        if (!lengthSet) {
+            lengthOptimization = status.code() == Http.Status.OK_200.code()
+                    && !HttpUtil.isTransferEncodingChunked(response) && !isSseEventStream(headers);
+            HttpUtil.setTransferEncodingChunked(response, true);
+        }
+
+        initConnection(headers);
+
+        // Content length optimization attempt
+        if (!lengthOptimization) {
+            requestEntityAnalyzed = requestEntityAnalyzed.thenApply(listener -> {
+                if (LOGGER.isLoggable(Level.FINE)) {
+                    LOGGER.fine(() -> log("Writing headers %s", status));
+                }
+                requestContext.runInScope(() -> orderedWrite(this::initWriteResponse));
+                return listener;
+            });
+        }
+    }
+
+    @Override
+    public void writeStatusHeadersAndContent(Http.ResponseStatus status,
+                                             Map<String, List<String>> headers,
+                                             DataChunk content) {
+        Objects.requireNonNull(content, "Parameter 'content' was null!");
+        if (isChunked(headers) || isSseEventStream(headers)) {
+            // chunks requested explicitly
+            BareResponse.super.writeStatusHeadersAndContent(status, headers, content);
+            return;
+        }
+        initResponse(status, headers);
+        if (!internallyClosed.compareAndSet(false, true)) {
+            // already completed, such as by an error
+            content.release();
+            return;
+        }
+
+        // the whole content is known, written with its length in a single message
+        // a 204 has no length, the length of a 304 is the one of the representation, which is not known here
+        if (!HttpUtil.isContentLengthSet(response)
+                && status.code() != Http.Status.NO_CONTENT_204.code()
+                && status.code() != Http.Status.NOT_MODIFIED_304.code()) {
+            HttpUtil.setContentLength(response, content.remaining());
+        }
+
+        initConnection(headers);
+
+        requestEntityAnalyzed = requestEntityAnalyzed.thenApply(listener -> {
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.fine(() -> log("Writing headers %s and content", status));
+            }
+            requestContext.runInScope(() -> orderedWrite(() -> writeFullResponse(content, listener)));
+            return listener;
+        });
+    }
+
+    /**
+     * Create the response with its status and headers.
+     *
+     * @param status  an HTTP status
+     * @param headers a Map of header names and values
+     */
+    private void initResponse(Http.ResponseStatus status, Map<String, List<String>> headers) {
         Objects.requireNonNull(status, "Parameter 'statusCode' was null!");
         if (!statusHeadersSent.compareAndSet(false, true)) {
             throw new IllegalStateException("Status and headers were already sent");
@@ -185,15 +255,14 @@ class BareResponseImpl implements BareResponse {
         requestHeaders.names().stream()
                 .filter(header -> header.startsWith(HTTP_2_HEADER_PREFIX))
                 .forEach(header -> response.headers().add(header, requestHeaders.get(header)));
+    }
 
-        // Set chunked if length not set, may switch to length later
-        boolean lengthSet = HttpUtil.isContentLengthSet(response);
-        if (!lengthSet) {
-            lengthOptimization = status.code() == Http.Status.OK_200.code()
-                    && !HttpUtil.isTransferEncodingChunked(response) && !isSseEventStream(headers);
-            HttpUtil.setTransferEncodingChunked(response, true);
-        }
-
+    /**
+     * Set the connection header of the response and decide whether the connection is kept alive.
+     *
+     * @param headers a Map of header names and values
+     */
+    private void initConnection(Map<String, List<String>> headers) {
         // Add keep alive header as per:
         // http://www.w3.org/Protocols/HTTP/1.1/draft-ietf-http-v11-spec-01.html#Connection
         // if response Connection header is set explicitly to close, we can ignore the following
@@ -240,17 +309,15 @@ class BareResponseImpl implements BareResponse {
                 response.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.KEEP_ALIVE);
             }
         }
+    }
 
-        // Content length optimization attempt
-        if (!lengthOptimization) {
-            requestEntityAnalyzed = requestEntityAnalyzed.thenApply(listener -> {
-                if (LOGGER.isLoggable(Level.FINE)) {
-                    LOGGER.fine(() -> log("Writing headers %s", status));
-                }
-                requestContext.runInScope(() -> orderedWrite(this::initWriteResponse));
-                return listener;
-            });
+    private static boolean isChunked(Map<String, List<String>> headers) {
+        for (Map.Entry<String, List<String>> headerEntry : headers.entrySet()) {
+            if (HttpHeaderNames.TRANSFER_ENCODING.contentEqualsIgnoreCase(headerEntry.getKey())) {
+                return headerEntry.getValue().stream().anyMatch(HttpHeaderValues.CHUNKED::contentEqualsIgnoreCase);
+            }
         }
+        return false;
     }
 
     private boolean isSseEventStream(Map<String, List<String>> headers) {
@@ -458,6 +525,35 @@ class BareResponseImpl implements BareResponse {
         lengthOptimization = false;
     }
 
+    /**
+     * Writes the response with the whole content and completes this response. This method must be called
+     * inside an {@link #orderedWrite(Runnable)} runnable.
+     *
+     * @param data        the whole content.
+     * @param closeAction Close action listener.
+     */
+    private void writeFullResponse(DataChunk data, ChannelFutureListener closeAction) {
+        if (!ChannelFutureListener.CLOSE.equals(closeAction)) {
+            channel.read();
+        }
+        FullHttpResponse fullResponse = new DefaultFullHttpResponse(response.protocolVersion(),
+                                                                    response.status(),
+                                                                    byteBuf(data),
+                                                                    response.headers(),
+                                                                    EmptyHttpHeaders.INSTANCE);
+        response = null;
+        channel.write(true, fullResponse, f -> f
+                .addListener(future -> {
+                    NettyChannel.completeFuture(future, headersFuture, this);
+                    data.writeFuture()
+                            .ifPresent(writeFuture -> NettyChannel.completeFuture(future, writeFuture, data));
+                    data.release();
+                })
+                .addListener(completeOnFailureListener("An exception occurred when writing the response."))
+                .addListener(completeOnSuccessListener(null))
+                .addListener(closeAction));
+    }
+
     /**
      * Submits a data chunk for writing. This method must be called inside an
      * {@link #orderedWrite(Runnable)} runnable.
@@ -469,21 +565,7 @@ class BareResponseImpl implements BareResponse {
             LOGGER.finest(() -> log("Sending data chunk"));
         }
 
-        DefaultHttpContent httpContent;
-        if (data.isBackedBy(ByteBuf.class)) {
-            // DefaultHttpContent will call release, we retain to also call ours
-            ByteBuf[] byteBufs = data.data(ByteBuf.class);
-            if (byteBufs.length == 1) {
-                httpContent = new DefaultHttpContent(byteBufs[0].retain());
-            } else {
-                for (ByteBuf byteBuf : byteBufs) {
-                    byteBuf.retain();
-                }
-                httpContent = new DefaultHttpContent(Unpooled.wrappedBuffer(byteBufs));
-            }
-        } else {
-            httpContent = new DefaultHttpContent(Unpooled.wrappedBuffer(data.data()));
-        }
+        DefaultHttpContent httpContent = new DefaultHttpContent(byteBuf(data));
 
         int size = httpContent.content().capacity();
 
@@ -512,6 +594,26 @@ class BareResponseImpl implements BareResponse {
         });
     }
 
+    /**
+     * Wraps the data of a chunk in a buffer released by Netty once written.
+     *
+     * @param data the chunk.
+     * @return the buffer.
+     */
+    private static ByteBuf byteBuf(DataChunk data) {
+        if (data.isBackedBy(ByteBuf.class)) {
+            // Netty will call release, we retain to also call ours
+            ByteBuf[] byteBufs = data.data(ByteBuf.class);
+            if (byteBufs.length == 1) {
+                return byteBufs[0].retain();
+            }
+            for (ByteBuf byteBuf : byteBufs) {
+                byteBuf.retain();
+            }
+            return Unpooled.wrappedBuffer(byteBufs);
+        }
+        return Unpooled.wrappedBuffer(data.data());
+    }
 
     @Override
     public void onError(Throwable thr) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2022 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -38,6 +38,7 @@ import java.util.stream.Collectors;
 
 import io.helidon.common.LazyValue;
 import io.helidon.common.http.AlreadyCompletedException;
+import io.helidon.common.http.DataChunk;
 import io.helidon.common.http.HashParameters;
 import io.helidon.common.http.Http;
 import io.helidon.common.http.MediaType;
@@ -353,7 +354,7 @@ class HashResponseHeaders extends HashParameters implements ResponseHeaders {
 
     @Override
     public Single<ResponseHeaders> send() {
-        completable.doComplete(this);
+        completable.doComplete(this, null);
         return whenSent();
     }
 
@@ -365,7 +366,20 @@ class HashResponseHeaders extends HashParameters implements ResponseHeaders {
      * @return {@code true} if this method call completes headers. If {@code false} then headers were completed.
      */
     boolean sendNow() {
-        return completable.doComplete(this);
+        return completable.doComplete(this, null);
+    }
+
+    /**
+     * If not yet completed then completes, sending the whole content with the headers, and return {@code true},
+     * otherwise returns {@code false} and the content is not sent.
+     * <p>
+     * All possible exceptions are forwarded to {@link BareResponse#onError(Throwable)} method.
+     *
+     * @param content the whole content of the response
+     * @return {@code true} if this method call completes headers. If {@code false} then headers were completed.
+     */
+    boolean sendNow(DataChunk content) {
+        return completable.doComplete(this, content);
     }
 
     /**
@@ -465,9 +479,10 @@ class HashResponseHeaders extends HashParameters implements ResponseHeaders {
          * All possible exceptions are forwarded to {@link BareResponse#onError(Throwable)} method.
          *
          * @param headers headers which are completed
+         * @param content the whole content sent with the headers, or {@code null} if it is sent afterwards
          * @return {@code true} if this method call completes headers. If {@code false} then headers were completed.
          */
-        synchronized boolean doComplete(HashResponseHeaders headers) {
+        synchronized boolean doComplete(HashResponseHeaders headers, DataChunk content) {
             if (state != State.OPEN) {
                 return false;
             }
@@ -485,7 +500,11 @@ class HashResponseHeaders extends HashParameters implements ResponseHeaders {
                     Http.ResponseStatus status = (null == headers.httpStatus) ? Http.Status.OK_200 : headers.httpStatus;
                     status = (null == status) ?  Http.Status.OK_200 : status;
                     Map<String, List<String>> rawHeaders = filterSpecificHeaders(headers.toMap(), status);
-                    bareResponse.writeStatusAndHeaders(status, rawHeaders);
+                    if (content == null) {
+                        bareResponse.writeStatusAndHeaders(status, rawHeaders);
+                    } else {
+                        bareResponse.writeStatusHeadersAndContent(status, rawHeaders, content);
+                    }
                 } finally {
                     rwLock.writeLock().unlock();
                 }
@@ -175,8 +175,37 @@ abstract class Response implements ServerResponse {
         try {
             bareResponse.backpressureStrategy(BackpressureStrategy.UNBOUNDED);
             sendLockSupport.execute(() -> {
-                Publisher<DataChunk> sendPublisher = writerContext.marshall(
-                        Single.just(content), GenericType.create(content));
+                GenericType<T> type = GenericType.create(content);
+                Optional<DataChunk> payload = writerContext.marshallDirect(content, type);
+                if (payload.isPresent()) {
+                    sendLockSupport.contentSend = true;
+                    eventListener.sendWithHeaders(payload.get(), type);
+                    return;
+                }
+                Publisher<DataChunk> sendPublisher = writerContext.marshall(Single.just(content), type);
+                sendLockSupport.contentSend = true;
+                sendPublisher.subscribe(bareResponse);
+            }, content == null);
+            return whenSent();
+        } catch (RuntimeException | Error e) {
+            eventListener.finish();
+            throw e;
+        }
+    }
+
+    @Override
+    public <T> Single<ServerResponse> sendCached(Object key, T content) {
+        try {
+            bareResponse.backpressureStrategy(BackpressureStrategy.UNBOUNDED);
+            sendLockSupport.execute(() -> {
+                GenericType<T> type = content == null ? null : GenericType.create(content);
+                Optional<DataChunk> payload = writerContext.marshallCachedDirect(key, type);
+                if (payload.isPresent()) {
+                    sendLockSupport.contentSend = true;
+                    eventListener.sendWithHeaders(payload.get(), type);
+                    return;
+                }
+                Publisher<DataChunk> sendPublisher = writerContext.marshallCached(key, content, type);
                 sendLockSupport.contentSend = true;
                 sendPublisher.subscribe(bareResponse);
             }, content == null);
@@ -323,6 +352,26 @@ abstract class Response implements ServerResponse {
             }
         }
 
+        /**
+         * Send the headers together with the whole content, skipping the publisher chain and its events.
+         * If the headers were already sent, the content is published after them.
+         *
+         * @param content the whole content
+         * @param type    type of the entity
+         */
+        private synchronized void sendWithHeaders(DataChunk content, GenericType<?> type) {
+            span = createWriteSpan(type);
+            try {
+                boolean sendsHeaders = headers != null && !sent && headers.sendNow(content);
+                sent = true;
+                if (!sendsHeaders) {
+                    Single.just(content).subscribe(bareResponse);
+                }
+            } finally {
+                finish();
+            }
+        }
+
         void finish() {
             if (span != null) {
                 span.end();
@@ -225,6 +225,23 @@ public interface ServerResponse extends MessageBodyFilters, MessageBodyWriters {
      */
     <T> Single<ServerResponse> send(T content);
 
+    /**
+     * Send an immutable entity that is serialized only once, and close the response.
+     * <p>
+     * The serialized bytes are cached for the key and reused by later responses with the same key, entity type and
+     * negotiated content type, such as for configuration or catalog entities returned many times. Use a new key
+     * (such as one including a version) when the entity changes. Registered filters are still applied to each response.
+     *
+     * @param key     key of the entity
+     * @param content a response content to send, must not be modified once sent
+     * @param <T>     a type of the content
+     * @return a completion stage of the response - completed when response is transferred
+     * @throws IllegalArgumentException if there is no registered writer for a given type
+     * @throws IllegalStateException if any {@code send(...)} method was already called
+     * @see #send(Object)
+     */
+    <T> Single<ServerResponse> sendCached(Object key, T content);
+
     /**
      * Send a message with the given entity stream as content and close the response.
      * @param <T> entity type
@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webserver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.Http;
+import io.helidon.common.http.MediaType;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.EmptyHttpHeaders;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpVersion;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+
+/**
+ * Tests of small responses of a known size, that are written with their headers as a single full response.
+ */
+public class FullResponseTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final String PAYLOAD = "It works!";
+
+    private static final CompletableFuture<ServerResponse> SENT = new CompletableFuture<>();
+
+    private static WebServer webServer;
+
+    @BeforeAll
+    static void startServer() {
+        webServer = WebServer.builder()
+                .routing(r -> r
+                        .get("/string", (req, res) -> res.send(PAYLOAD))
+                        .head("/string", (req, res) -> res.send(PAYLOAD))
+                        .get("/bytes", (req, res) -> res.send(PAYLOAD.getBytes(StandardCharsets.UTF_8)))
+                        .get("/no-content", (req, res) -> res.status(Http.Status.NO_CONTENT_204).send(new byte[0]))
+                        .get("/not-modified", (req, res) -> {
+                            res.headers().add(Http.Header.ETAG, "\"v1\"");
+                            res.status(Http.Status.NOT_MODIFIED_304).send(new byte[0]);
+                        })
+                        .get("/chunked", (req, res) -> {
+                            res.headers().add(Http.Header.TRANSFER_ENCODING, "chunked");
+                            res.send(PAYLOAD);
+                        })
+                        .get("/sse", (req, res) -> {
+                            res.headers().contentType(MediaType.TEXT_EVENT_STREAM);
+                            res.send("data: event\n\n");
+                        })
+                        .get("/sent", (req, res) -> {
+                            res.whenSent().forSingle(SENT::complete);
+                            res.send(PAYLOAD);
+                        })
+                )
+                .build()
+                .start()
+                .await(TIMEOUT);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        if (webServer != null) {
+            webServer.shutdown().await(TIMEOUT);
+        }
+    }
+
+    @Test
+    void testStringAndBytesOnOneConnection() throws IOException {
+        try (RawClient client = new RawClient()) {
+            for (int i = 0; i < 3; i++) {
+                client.request("GET", "/string");
+                RawResponse string = client.response(true);
+                assertThat(string.status, is(200));
+                assertThat(string.headers, hasEntry("content-length", String.valueOf(PAYLOAD.length())));
+                assertThat(string.headers, not(hasKey("transfer-encoding")));
+                assertThat(string.body, is(PAYLOAD));
+
+                client.request("GET", "/bytes");
+                RawResponse bytes = client.response(true);
+                assertThat(bytes.status, is(200));
+                assertThat(bytes.headers, hasEntry("content-length", String.valueOf(PAYLOAD.length())));
+                assertThat(bytes.headers, hasEntry("connection", "keep-alive"));
+                assertThat(bytes.body, is(PAYLOAD));
+            }
+        }
+    }
+
+    @Test
+    void testResponsesWithoutBody() throws IOException {
+        try (RawClient client = new RawClient()) {
+            client.request("HEAD", "/string");
+            RawResponse head = client.response(false);
+            assertThat(head.status, is(200));
+            assertThat(head.headers, hasEntry("content-length", String.valueOf(PAYLOAD.length())));
+
+            client.request("GET", "/no-content");
+            RawResponse noContent = client.response(false);
+            assertThat(noContent.status, is(204));
+            assertThat(noContent.headers, not(hasKey("content-length")));
+            assertThat(noContent.headers, not(hasKey("transfer-encoding")));
+
+            client.request("GET", "/not-modified");
+            RawResponse notModified = client.response(false);
+            assertThat(notModified.status, is(304));
+            assertThat(notModified.headers, hasEntry("etag", "\"v1\""));
+            assertThat(notModified.headers, not(hasKey("content-length")));
+            assertThat(notModified.headers, not(hasKey("transfer-encoding")));
+
+            // no body was written for any of them, the next response is read from the start
+            client.request("GET", "/string");
+            assertThat(client.response(true).body, is(PAYLOAD));
+        }
+    }
+
+    @Test
+    void testExplicitChunked() throws IOException {
+        try (RawClient client = new RawClient()) {
+            client.request("GET", "/chunked");
+            RawResponse response = client.response(true);
+            assertThat(response.headers, hasEntry("transfer-encoding", "chunked"));
+            assertThat(response.headers, not(hasKey("content-length")));
+            assertThat(response.body, is(PAYLOAD));
+        }
+    }
+
+    @Test
+    void testEventStreamChunked() throws IOException {
+        try (RawClient client = new RawClient()) {
+            client.request("GET", "/sse");
+            RawResponse response = client.response(true);
+            assertThat(response.headers, hasEntry("transfer-encoding", "chunked"));
+            assertThat(response.body, is("data: event\n\n"));
+        }
+    }
+
+    @Test
+    void testWhenSentCompleted() throws Exception {
+        try (RawClient client = new RawClient()) {
+            client.request("GET", "/sent");
+            assertThat(client.response(true).body, is(PAYLOAD));
+        }
+        ServerResponse sent = SENT.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        assertThat(sent.status(), is(Http.Status.OK_200));
+    }
+
+    @Test
+    void testContentReleasedWhenAlreadyClosed() {
+        ChannelHandlerContext ctx = Mockito.mock(ChannelHandlerContext.class);
+        HttpRequest httpRequest = Mockito.mock(HttpRequest.class);
+        RequestContext requestContext = Mockito.mock(RequestContext.class);
+        Channel channel = Mockito.mock(Channel.class);
+        ChannelFuture channelFuture = Mockito.mock(ChannelFuture.class);
+
+        Mockito.when(httpRequest.headers()).thenReturn(EmptyHttpHeaders.INSTANCE);
+        Mockito.when(httpRequest.protocolVersion()).thenReturn(HttpVersion.HTTP_1_1);
+        Mockito.when(ctx.channel()).thenReturn(channel);
+        Mockito.when(channel.closeFuture()).thenReturn(channelFuture);
+
+        // writes of the previous request never complete, so nothing is written to the mocked channel
+        BareResponseImpl response = new BareResponseImpl(ctx,
+                                                         httpRequest,
+                                                         requestContext,
+                                                         new CompletableFuture<>(),
+                                                         CompletableFuture.completedFuture(ChannelFutureListener.CLOSE),
+                                                         100 * 1024,
+                                                         BackpressureStrategy.LINEAR,
+                                                         0L);
+        response.onError(new IllegalStateException("Test failure"));
+
+        DataChunk content = DataChunk.create(PAYLOAD.getBytes(StandardCharsets.UTF_8));
+        response.writeStatusHeadersAndContent(Http.Status.OK_200, Map.of(), content);
+
+        assertThat(content.isReleased(), is(true));
+    }
+
+    /**
+     * Reads responses byte by byte, so that several responses can be read from one connection.
+     */
+    private static final class RawClient implements AutoCloseable {
+
+        private final Socket socket;
+        private final InputStream in;
+        private final OutputStream out;
+
+        private RawClient() throws IOException {
+            socket = new Socket("localhost", webServer.port());
+            socket.setSoTimeout((int) TIMEOUT.toMillis());
+            in = socket.getInputStream();
+            out = socket.getOutputStream();
+        }
+
+        private void request(String method, String path) throws IOException {
+            String request = method + " " + path + " HTTP/1.1\r\nHost: localhost\r\n\r\n";
+            out.write(request.getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+        }
+
+        private RawResponse response(boolean hasBody) throws IOException {
+            String statusLine = line();
+            int status = Integer.parseInt(statusLine.split(" ")[1]);
+            Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            String line;
+            while (!(line = line()).isEmpty()) {
+                int colon = line.indexOf(':');
+                headers.put(line.substring(0, colon).trim().toLowerCase(), line.substring(colon + 1).trim());
+            }
+            if (!hasBody) {
+                return new RawResponse(status, headers, "");
+            }
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            if ("chunked".equals(headers.get("transfer-encoding"))) {
+                int size;
+                while ((size = Integer.parseInt(line(), 16)) > 0) {
+                    body.write(in.readNBytes(size));
+                    line();
+                }
+                line();
+            } else {
+                body.write(in.readNBytes(Integer.parseInt(headers.get("content-length"))));
+            }
+            return new RawResponse(status, headers, body.toString(StandardCharsets.UTF_8));
+        }
+
+        private String line() throws IOException {
+            StringBuilder line = new StringBuilder();
+            int c;
+            while ((c = in.read()) != '\n') {
+                if (c < 0) {
+                    throw new IOException("Connection closed, received so far: " + line);
+                }
+                if (c != '\r') {
+                    line.append((char) c);
+                }
+            }
+            return line.toString();
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+
+    private static final class RawResponse {
+
+        private final int status;
+        private final Map<String, String> headers;
+        private final String body;
+
+        private RawResponse(int status, Map<String, String> headers, String body) {
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+        }
+    }
+}
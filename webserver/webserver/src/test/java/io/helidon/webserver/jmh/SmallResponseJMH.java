@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webserver.jmh;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.http.MediaType;
+import io.helidon.webserver.WebServer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Requests of the plaintext and JSON tests of the TechEmpower benchmarks over keep-alive connections,
+ * with small bodies sent directly or through the publisher chain of the writers.
+ * <p>
+ * The chain is forced by a no-op filter, as filters need the publisher of the payload.
+ */
+@State(Scope.Benchmark)
+public class SmallResponseJMH {
+
+    private static final byte[] PLAINTEXT_REQUEST = request("/plaintext");
+    private static final byte[] JSON_REQUEST = request("/json");
+    private static final byte[] JSON = "{\"message\":\"Hello, World!\"}".getBytes(StandardCharsets.UTF_8);
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(SmallResponseJMH.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(2))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(2))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Param({"true", "false"})
+    boolean direct;
+
+    WebServer webServer;
+
+    @Setup
+    public void startServer() throws Exception {
+        webServer = WebServer.builder()
+                .defaultSocket(s -> s.host("localhost").port(0))
+                .routing(r -> {
+                    if (!direct) {
+                        r.any((req, res) -> {
+                            res.registerFilter(publisher -> publisher);
+                            req.next();
+                        });
+                    }
+                    r.get("/plaintext", (req, res) -> res.send("Hello, World!"))
+                            .get("/json", (req, res) -> {
+                                // pre-encoded
+                                res.headers().contentType(MediaType.APPLICATION_JSON);
+                                res.send(JSON);
+                            });
+                })
+                .build()
+                .start()
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+    }
+
+    @TearDown
+    public void stopServer() throws Exception {
+        webServer.shutdown().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int plaintext(Connection connection) throws IOException {
+        return connection.exchange(PLAINTEXT_REQUEST);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int json(Connection connection) throws IOException {
+        return connection.exchange(JSON_REQUEST);
+    }
+
+    private static byte[] request(String path) {
+        return ("GET " + path + " HTTP/1.1\r\nHost: localhost\r\nAccept: */*\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Keep-alive connection of a benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class Connection {
+
+        private final byte[] buffer = new byte[8192];
+        private Socket socket;
+        private InputStream in;
+        private OutputStream out;
+
+        @Setup(Level.Trial)
+        public void connect(SmallResponseJMH benchmark) throws IOException {
+            socket = new Socket("localhost", benchmark.webServer.port());
+            socket.setTcpNoDelay(true);
+            in = socket.getInputStream();
+            out = socket.getOutputStream();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws IOException {
+            socket.close();
+        }
+
+        /**
+         * Send the request and read the whole response.
+         *
+         * @param request request
+         * @return length of the response
+         * @throws IOException if the connection failed
+         */
+        int exchange(byte[] request) throws IOException {
+            out.write(request);
+            out.flush();
+            int length = 0;
+            int headersEnd = -1;
+            int contentLength = -1;
+            while (headersEnd < 0 || length < headersEnd + contentLength) {
+                int read = in.read(buffer, length, buffer.length - length);
+                if (read < 0) {
+                    throw new IOException("Connection closed");
+                }
+                length += read;
+                if (headersEnd < 0) {
+                    String head = new String(buffer, 0, length, StandardCharsets.US_ASCII);
+                    int end = head.indexOf("\r\n\r\n");
+                    if (end >= 0) {
+                        headersEnd = end + 4;
+                        contentLength = contentLength(head.substring(0, end));
+                    }
+                }
+            }
+            return length;
+        }
+
+        private static int contentLength(String head) throws IOException {
+            for (String line : head.split("\r\n")) {
+                int colon = line.indexOf(':');
+                if (colon > 0 && line.substring(0, colon).trim().equalsIgnoreCase("content-length")) {
+                    return Integer.parseInt(line.substring(colon + 1).trim());
+                }
+            }
+            // the chain of the writers sends the length of a single chunk as well
+            throw new IOException("No content length in the response: " + head);
+        }
+    }
+}